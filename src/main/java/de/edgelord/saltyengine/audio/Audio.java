@@ -52,6 +52,12 @@ public class Audio {
      */
     private float pan = 0f;
 
+    /**
+     * The controls of the {@link #clip}, which are looked up once instead of on every change.
+     */
+    private FloatControl gainControl = null;
+    private FloatControl panControl = null;
+
     /**
      * The only constructor taking in all necessary parameters.
      * As a user of this library, you normally never use this, use {@link AudioPlayer#loadNewAudio(String, String)} instead.
@@ -94,6 +100,8 @@ public class Audio {
      */
     public void setClip(final Clip clip) {
         this.clip = clip;
+        gainControl = null;
+        panControl = null;
     }
 
     /**
@@ -156,8 +164,14 @@ public class Audio {
     public void setVolume(float volume) {
 
         volume = GeneralUtil.clamp(volume, 0f, 2f);
-        final FloatControl gainControl = (FloatControl) getClip().getControl(FloatControl.Type.MASTER_GAIN);
-        gainControl.setValue(20f * (float) Math.log10(volume));
+        if (volume == this.volume && gainControl != null) {
+            return;
+        }
+
+        if (gainControl == null) {
+            gainControl = (FloatControl) getClip().getControl(FloatControl.Type.MASTER_GAIN);
+        }
+        gainControl.setValue(Math.max(gainControl.getMinimum(), 20f * (float) Math.log10(volume)));
         this.volume = volume;
     }
 
@@ -173,7 +187,13 @@ public class Audio {
     public void setPan(float pan) {
 
         pan = GeneralUtil.clamp(pan, -1f, 1f);
-        final FloatControl panControl = (FloatControl) getClip().getControl(FloatControl.Type.PAN);
+        if (pan == this.pan && panControl != null) {
+            return;
+        }
+
+        if (panControl == null) {
+            panControl = (FloatControl) getClip().getControl(FloatControl.Type.PAN);
+        }
         panControl.setValue(pan);
         this.pan = pan;
     }
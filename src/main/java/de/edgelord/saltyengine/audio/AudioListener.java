@@ -0,0 +1,266 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.audio;
+
+import de.edgelord.saltyengine.components.AudioSourceComponent;
+import de.edgelord.saltyengine.core.Game;
+import de.edgelord.saltyengine.core.camera.Camera2D;
+import de.edgelord.saltyengine.core.interfaces.FixedTickRoutine;
+import de.edgelord.saltyengine.utils.GeneralUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Listens to the {@link AudioSourceComponent}s that are playing from the centre of the {@link Game#getCamera() camera}.
+ * <p>
+ * Once per fixed tick, the volume and pan of all sources are computed from their distance to the listener and
+ * passed to the {@link AudioMixer} in one batch. The volume of a source decreases linearly from
+ * {@link #getReferenceDistance()} to {@link #getMaxDistance()}. Sources that are farther away than
+ * that are culled: they don't use a voice of the mixer until they get closer again, and if they don't
+ * loop they are not played at all.
+ * <p>
+ * The listener is updated by the {@link de.edgelord.saltyengine.scene.Scene} if it is set as
+ * {@link Game#setAudioListener(AudioListener) the listener of the game}, which
+ * {@link AudioPlayer#getAudioListener()} does.
+ */
+public class AudioListener implements FixedTickRoutine {
+
+    public static final float DEFAULT_REFERENCE_DISTANCE = 100f;
+    public static final float DEFAULT_MAX_DISTANCE = 1000f;
+
+    private final AudioMixer mixer;
+
+    /**
+     * The sources that are playing or waiting to be played.
+     */
+    private final List<AudioSourceComponent> sources = new ArrayList<>();
+
+    // reused for the batched update of the mixer
+    private int[] handles = new int[16];
+    private float[] volumes = new float[16];
+    private float[] pans = new float[16];
+    private AudioSourceComponent[] batch = new AudioSourceComponent[16];
+
+    private float referenceDistance = DEFAULT_REFERENCE_DISTANCE;
+    private float maxDistance = DEFAULT_MAX_DISTANCE;
+
+    /**
+     * The horizontal distance at which a source is panned completely to one side.
+     * If it is 0, half of the width of the camera is used.
+     */
+    private float panDistance = 0f;
+
+    public AudioListener(final AudioMixer mixer) {
+        this.mixer = mixer;
+    }
+
+    /**
+     * Starts playing the given source with the next update.
+     * This is called by {@link AudioSourceComponent#play()}.
+     *
+     * @param source the source to play
+     */
+    public void play(final AudioSourceComponent source) {
+        synchronized (sources) {
+            stopVoice(source);
+
+            if (!sources.contains(source)) {
+                sources.add(source);
+            }
+        }
+    }
+
+    /**
+     * Stops the given source immediately.
+     * This is called by {@link AudioSourceComponent#stop()}.
+     *
+     * @param source the source to stop
+     */
+    public void stop(final AudioSourceComponent source) {
+        synchronized (sources) {
+            stopVoice(source);
+            sources.remove(source);
+        }
+    }
+
+    public boolean isPlaying(final AudioSourceComponent source) {
+        synchronized (sources) {
+            return sources.contains(source);
+        }
+    }
+
+    private void stopVoice(final AudioSourceComponent source) {
+        if (source.getHandle() != AudioMixer.NO_VOICE) {
+            mixer.stop(source.getHandle());
+            source.setHandle(AudioMixer.NO_VOICE);
+        }
+        source.setStarted(false);
+    }
+
+    /**
+     * Updates the volume and pan of all sources, starts the sources that came into range and
+     * stops the ones that finished, went out of range or whose parent was not ticked since the last update.
+     */
+    @Override
+    public void onFixedTick() {
+        final Camera2D camera = Game.getCamera();
+
+        if (camera == null) {
+            return;
+        }
+
+        final float listenerX = camera.getX() + camera.getWidth() / 2f;
+        final float listenerY = camera.getY() + camera.getHeight() / 2f;
+        final float halfWidth = panDistance > 0f ? panDistance : Math.max(1f, camera.getWidth() / 2f);
+
+        synchronized (sources) {
+            ensureBatchCapacity(sources.size());
+            int count = 0;
+
+            for (int i = sources.size() - 1; i >= 0; i--) {
+                final AudioSourceComponent source = sources.get(i);
+
+                // the component is disabled or its parent was removed from the scene
+                if (!source.consumeTick()) {
+                    stopVoice(source);
+                    removeSource(i);
+                    continue;
+                }
+
+                final float deltaX = source.getParent().getX() + source.getParent().getWidth() / 2f - listenerX;
+                final float deltaY = source.getParent().getY() + source.getParent().getHeight() / 2f - listenerY;
+                final float distance = (float) Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+
+                if (distance >= maxDistance) {
+                    final boolean wasStarted = source.isStarted();
+                    stopVoice(source);
+
+                    if (!source.isLoop()) {
+                        removeSource(i);
+                    } else {
+                        source.setStarted(wasStarted);
+                    }
+                    continue;
+                }
+
+                final float volume = source.getVolume() * getAttenuation(distance);
+                final float pan = GeneralUtil.clamp(deltaX / halfWidth, -1f, 1f);
+
+                if (source.getHandle() == AudioMixer.NO_VOICE) {
+                    if (source.isStarted() && !source.isLoop()) {
+                        // the sound finished
+                        removeSource(i);
+                    } else {
+                        source.setHandle(mixer.play(source.getSound(), volume, pan, source.isLoop(), source.getPriority()));
+                        source.setStarted(true);
+                    }
+                    continue;
+                }
+
+                handles[count] = source.getHandle();
+                volumes[count] = volume;
+                pans[count] = pan;
+                batch[count] = source;
+                count++;
+            }
+
+            mixer.setVolumesAndPans(handles, volumes, pans, count);
+
+            for (int i = 0; i < count; i++) {
+                batch[i].setHandle(handles[i]);
+                batch[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Returns the factor of the volume of a source with the given distance to the listener.
+     *
+     * @param distance the distance of the source to the listener
+     * @return 1f within the reference distance, decreasing linearly to 0f at the max distance
+     */
+    public float getAttenuation(final float distance) {
+        if (distance <= referenceDistance) {
+            return 1f;
+        } else if (distance >= maxDistance) {
+            return 0f;
+        }
+
+        return 1f - (distance - referenceDistance) / (maxDistance - referenceDistance);
+    }
+
+    /**
+     * Removes the source with the given index by replacing it with the last one,
+     * which was already updated as the sources are iterated backwards.
+     */
+    private void removeSource(final int index) {
+        final int last = sources.size() - 1;
+        sources.set(index, sources.get(last));
+        sources.remove(last);
+    }
+
+    private void ensureBatchCapacity(final int capacity) {
+        if (handles.length < capacity) {
+            final int newCapacity = Math.max(capacity, handles.length * 2);
+            handles = Arrays.copyOf(handles, newCapacity);
+            volumes = Arrays.copyOf(volumes, newCapacity);
+            pans = Arrays.copyOf(pans, newCapacity);
+            batch = Arrays.copyOf(batch, newCapacity);
+        }
+    }
+
+    public int getSourceCount() {
+        synchronized (sources) {
+            return sources.size();
+        }
+    }
+
+    public AudioMixer getMixer() {
+        return mixer;
+    }
+
+    public float getReferenceDistance() {
+        return referenceDistance;
+    }
+
+    public void setReferenceDistance(final float referenceDistance) {
+        this.referenceDistance = referenceDistance;
+    }
+
+    public float getMaxDistance() {
+        return maxDistance;
+    }
+
+    public void setMaxDistance(final float maxDistance) {
+        this.maxDistance = maxDistance;
+    }
+
+    public float getPanDistance() {
+        return panDistance;
+    }
+
+    /**
+     * Sets the horizontal distance at which a source is panned completely to one side.
+     *
+     * @param panDistance the new pan distance, or 0 for half of the width of the camera
+     */
+    public void setPanDistance(final float panDistance) {
+        this.panDistance = panDistance;
+    }
+}
@@ -0,0 +1,600 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.audio;
+
+import de.edgelord.saltyengine.utils.GeneralUtil;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import java.util.Arrays;
+
+/**
+ * A software mixer that mixes a fixed number of voices into a single {@link SourceDataLine}.
+ * <p>
+ * Unlike an {@link Audio}, which plays one <code>Clip</code> that can't overlap itself,
+ * every call to {@link #play(Sound)} starts a new voice, so the same {@link Sound} can be
+ * played any number of times at once. All voices share one line and one mixing thread, and playing
+ * a sound does not allocate. When all voices are busy, the voice with the lowest priority
+ * (and of those the oldest one) is stolen.
+ * <p>
+ * Every voice has its own volume (from 0f to 2f, like {@link Audio#setVolume(float)}) and pan
+ * (from -1f, completely left, to 1f, completely right). They can be changed while it is playing
+ * using the handle returned by <code>play</code>.
+ * <p>
+ * Besides the voices, the mixer plays music from {@link AudioStream}s, which are decoded
+ * while they are played instead of being held in memory completely. A new track can fade in
+ * while the previous one fades out, see {@link #playMusic(AudioStream, long)}.
+ */
+public class AudioMixer {
+
+    /**
+     * The sample rate of the mixer. All {@link Sound}s are decoded with this rate.
+     */
+    public static final float SAMPLE_RATE = 44100f;
+
+    /**
+     * The format of the line: 16 bit signed little-endian stereo.
+     */
+    public static final AudioFormat FORMAT = new AudioFormat(SAMPLE_RATE, 16, 2, true, false);
+
+    public static final int DEFAULT_VOICE_COUNT = 32;
+
+    /**
+     * The number of frames that are mixed at once, which is about 12 milliseconds.
+     */
+    public static final int CHUNK_FRAMES = 512;
+
+    /**
+     * The handle returned by <code>play</code> if the sound could not be played.
+     */
+    public static final int NO_VOICE = -1;
+
+    /**
+     * The number of music tracks that can be played at once, to fade between them.
+     */
+    private static final int MUSIC_CHANNEL_COUNT = 4;
+
+    private final Voice[] voices;
+    private final MusicChannel[] musicChannels = new MusicChannel[MUSIC_CHANNEL_COUNT];
+    private final float[] mixBuffer = new float[CHUNK_FRAMES * 2];
+    private final byte[] outputBuffer = new byte[CHUNK_FRAMES * 4];
+
+    private SourceDataLine line = null;
+    private Thread mixingThread = null;
+    private volatile boolean running = false;
+    private volatile float masterVolume = 1f;
+    private volatile float musicVolume = 1f;
+
+    /**
+     * Incremented with each started voice, to find the oldest voice when stealing one.
+     */
+    private long startCount = 0;
+
+    /**
+     * Creates a new mixer with the given number of voices.
+     * The mixer has to be {@link #start() started} before sounds can be played.
+     *
+     * @param voiceCount the maximum number of sounds that can be played at once
+     */
+    public AudioMixer(final int voiceCount) {
+        if (voiceCount < 1 || voiceCount > 0xFFFF) {
+            throw new IllegalArgumentException("The voice count of an AudioMixer has to be between 1 and 65535");
+        }
+
+        voices = new Voice[voiceCount];
+        for (int i = 0; i < voiceCount; i++) {
+            voices[i] = new Voice();
+        }
+
+        for (int i = 0; i < MUSIC_CHANNEL_COUNT; i++) {
+            musicChannels[i] = new MusicChannel();
+        }
+    }
+
+    public AudioMixer() {
+        this(DEFAULT_VOICE_COUNT);
+    }
+
+    /**
+     * Opens the line and starts the mixing thread.
+     *
+     * @return whether the line could be opened
+     */
+    public synchronized boolean start() {
+        if (running) {
+            return true;
+        }
+
+        try {
+            line = AudioSystem.getSourceDataLine(FORMAT);
+            line.open(FORMAT, outputBuffer.length * 4);
+            line.start();
+        } catch (final LineUnavailableException | IllegalArgumentException e) {
+            e.printStackTrace();
+            line = null;
+            return false;
+        }
+
+        running = true;
+        mixingThread = new Thread(this::run, "audio-mixer");
+        mixingThread.setDaemon(true);
+        mixingThread.setPriority(Thread.MAX_PRIORITY);
+        mixingThread.start();
+
+        return true;
+    }
+
+    /**
+     * Stops the mixing thread and closes the line.
+     */
+    public synchronized void close() {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        stopMusic();
+        try {
+            mixingThread.join(1000);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        line.stop();
+        line.close();
+        line = null;
+    }
+
+    private void run() {
+        while (running) {
+            mixChunk();
+            line.write(outputBuffer, 0, outputBuffer.length);
+        }
+    }
+
+    /**
+     * Mixes the next {@link #CHUNK_FRAMES} frames of all voices into the {@link #outputBuffer}.
+     */
+    private void mixChunk() {
+        Arrays.fill(mixBuffer, 0f);
+
+        synchronized (voices) {
+            for (final Voice voice : voices) {
+                if (voice.active) {
+                    mixVoice(voice);
+                }
+            }
+        }
+
+        synchronized (musicChannels) {
+            for (final MusicChannel channel : musicChannels) {
+                if (channel.stream != null) {
+                    mixMusic(channel);
+                }
+            }
+        }
+
+        final float master = masterVolume;
+        for (int i = 0; i < mixBuffer.length; i++) {
+            final int sample = (int) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, mixBuffer[i] * master));
+            outputBuffer[i * 2] = (byte) sample;
+            outputBuffer[i * 2 + 1] = (byte) (sample >> 8);
+        }
+    }
+
+    private void mixVoice(final Voice voice) {
+        final short[] samples = voice.sound.getSamples();
+        final int frameCount = samples.length / 2;
+
+        for (int frame = 0; frame < CHUNK_FRAMES; frame++) {
+            if (voice.position >= frameCount) {
+                if (voice.loop && frameCount > 0) {
+                    voice.position = 0;
+                } else {
+                    voice.active = false;
+                    voice.sound = null;
+                    return;
+                }
+            }
+
+            final int sampleIndex = voice.position * 2;
+            mixBuffer[frame * 2] += samples[sampleIndex] * voice.leftGain;
+            mixBuffer[frame * 2 + 1] += samples[sampleIndex + 1] * voice.rightGain;
+            voice.position++;
+        }
+    }
+
+    private void mixMusic(final MusicChannel channel) {
+        final float volume = musicVolume;
+        final int fadeFrames = (int) Math.min(CHUNK_FRAMES, channel.remainingFadeFrames);
+        final float startGain = channel.gain;
+
+        channel.gain += channel.gainStep * fadeFrames;
+        channel.remainingFadeFrames -= fadeFrames;
+        if (channel.remainingFadeFrames == 0) {
+            channel.gain = channel.targetGain;
+        }
+
+        final float gainStep = fadeFrames == 0 ? 0f : (channel.gain - startGain) / CHUNK_FRAMES;
+        channel.stream.mixInto(mixBuffer, CHUNK_FRAMES, startGain * volume, gainStep * volume);
+
+        if (channel.stream.isFinished() || (channel.remainingFadeFrames == 0 && channel.targetGain == 0f)) {
+            channel.release();
+        }
+    }
+
+    /**
+     * Plays the given music stream without fading, stopping all other music immediately.
+     *
+     * @param stream the music to play
+     */
+    public void playMusic(final AudioStream stream) {
+        playMusic(stream, 0);
+    }
+
+    /**
+     * Plays the given music stream. Over the given duration, the new music fades in while all
+     * music that is currently playing fades out. Faded out streams are closed.
+     *
+     * @param stream     the music to play
+     * @param fadeMillis the duration of the crossfade in milliseconds
+     */
+    public void playMusic(final AudioStream stream, final long fadeMillis) {
+        if (!running || stream == null) {
+            return;
+        }
+
+        final long fadeFrames = toFrames(fadeMillis);
+        stream.start();
+
+        synchronized (musicChannels) {
+            fadeOutMusic(fadeFrames);
+
+            MusicChannel chosen = null;
+            for (final MusicChannel channel : musicChannels) {
+                if (channel.stream == null) {
+                    chosen = channel;
+                    break;
+                }
+
+                // steal the quietest channel that is fading out
+                if (chosen == null || channel.gain < chosen.gain) {
+                    chosen = channel;
+                }
+            }
+
+            chosen.release();
+            chosen.stream = stream;
+            chosen.gain = fadeFrames == 0 ? 1f : 0f;
+            chosen.fadeTo(1f, fadeFrames);
+        }
+    }
+
+    /**
+     * Fades out all music over the given duration and closes the streams afterwards.
+     *
+     * @param fadeMillis the duration of the fade in milliseconds, 0 for stopping immediately
+     */
+    public void stopMusic(final long fadeMillis) {
+        synchronized (musicChannels) {
+            fadeOutMusic(toFrames(fadeMillis));
+        }
+    }
+
+    public void stopMusic() {
+        stopMusic(0);
+    }
+
+    /**
+     * Has to be called while holding the lock of {@link #musicChannels}.
+     */
+    private void fadeOutMusic(final long fadeFrames) {
+        for (final MusicChannel channel : musicChannels) {
+            if (channel.stream != null) {
+                if (fadeFrames == 0) {
+                    channel.release();
+                } else if (channel.targetGain != 0f) {
+                    channel.fadeTo(0f, fadeFrames);
+                }
+            }
+        }
+    }
+
+    public boolean isMusicPlaying() {
+        synchronized (musicChannels) {
+            for (final MusicChannel channel : musicChannels) {
+                if (channel.stream != null && channel.targetGain != 0f) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static long toFrames(final long millis) {
+        return Math.max(0, Math.round(millis * SAMPLE_RATE / 1000d));
+    }
+
+    public int play(final Sound sound) {
+        return play(sound, 1f, 0f, false, 0);
+    }
+
+    public int play(final Sound sound, final float volume, final float pan) {
+        return play(sound, volume, pan, false, 0);
+    }
+
+    /**
+     * Plays the given sound on a free voice. If all voices are busy,
+     * the voice with the lowest priority that is not higher than the given one is stolen,
+     * and of those the one that was started first.
+     *
+     * @param sound    the sound to play
+     * @param volume   the volume, from 0f to 2f
+     * @param pan      the pan, from -1f (completely left) to 1f (completely right)
+     * @param loop     whether the sound should be looped until it is {@link #stop(int) stopped}
+     * @param priority the priority of the voice. A voice can only be stolen by a sound with at least the same priority.
+     * @return the handle of the voice that plays the sound, or {@link #NO_VOICE}
+     */
+    public int play(final Sound sound, final float volume, final float pan, final boolean loop, final int priority) {
+        if (!running || sound == null) {
+            return NO_VOICE;
+        }
+
+        synchronized (voices) {
+            int chosenIndex = -1;
+
+            for (int i = 0; i < voices.length; i++) {
+                final Voice voice = voices[i];
+
+                if (!voice.active) {
+                    chosenIndex = i;
+                    break;
+                }
+
+                if (voice.priority <= priority && (chosenIndex == -1
+                        || voice.priority < voices[chosenIndex].priority
+                        || (voice.priority == voices[chosenIndex].priority && voice.startIndex < voices[chosenIndex].startIndex))) {
+                    chosenIndex = i;
+                }
+            }
+
+            if (chosenIndex == -1) {
+                return NO_VOICE;
+            }
+
+            final Voice voice = voices[chosenIndex];
+            voice.generation = (voice.generation + 1) & 0x7FFF;
+            voice.sound = sound;
+            voice.position = 0;
+            voice.loop = loop;
+            voice.priority = priority;
+            voice.startIndex = startCount++;
+            voice.setVolumeAndPan(volume, pan);
+            voice.active = true;
+
+            return (voice.generation << 16) | chosenIndex;
+        }
+    }
+
+    /**
+     * Returns the voice with the given handle or <code>null</code> if
+     * that voice was stopped, finished or stolen in the meantime.
+     * Has to be called while holding the lock of {@link #voices}.
+     */
+    private Voice getVoice(final int handle) {
+        if (handle < 0) {
+            return null;
+        }
+
+        final int index = handle & 0xFFFF;
+        if (index >= voices.length) {
+            return null;
+        }
+
+        final Voice voice = voices[index];
+        return voice.active && voice.generation == handle >>> 16 ? voice : null;
+    }
+
+    public void stop(final int handle) {
+        synchronized (voices) {
+            final Voice voice = getVoice(handle);
+            if (voice != null) {
+                voice.active = false;
+                voice.sound = null;
+            }
+        }
+    }
+
+    public void stopAll() {
+        synchronized (voices) {
+            for (final Voice voice : voices) {
+                voice.active = false;
+                voice.sound = null;
+            }
+        }
+    }
+
+    public boolean isPlaying(final int handle) {
+        synchronized (voices) {
+            return getVoice(handle) != null;
+        }
+    }
+
+    public void setVolume(final int handle, final float volume) {
+        synchronized (voices) {
+            final Voice voice = getVoice(handle);
+            if (voice != null) {
+                voice.setVolumeAndPan(volume, voice.pan);
+            }
+        }
+    }
+
+    public void setPan(final int handle, final float pan) {
+        synchronized (voices) {
+            final Voice voice = getVoice(handle);
+            if (voice != null) {
+                voice.setVolumeAndPan(voice.volume, pan);
+            }
+        }
+    }
+
+    /**
+     * Sets volume and pan of the voice with the given handle at once.
+     *
+     * @param handle the handle of the voice
+     * @param volume the new volume, from 0f to 2f
+     * @param pan    the new pan, from -1f to 1f
+     */
+    public void setVolumeAndPan(final int handle, final float volume, final float pan) {
+        synchronized (voices) {
+            final Voice voice = getVoice(handle);
+            if (voice != null) {
+                voice.setVolumeAndPan(volume, pan);
+            }
+        }
+    }
+
+    /**
+     * Sets volume and pan of many voices at once, taking the lock of the voices only once.
+     * The handles of voices that were stopped, finished or stolen in the meantime are
+     * replaced with {@link #NO_VOICE}.
+     *
+     * @param handles the handles of the voices
+     * @param volumes the new volume of each voice, from 0f to 2f
+     * @param pans    the new pan of each voice, from -1f to 1f
+     * @param count   the number of voices to update, beginning with the first element of the arrays
+     */
+    public void setVolumesAndPans(final int[] handles, final float[] volumes, final float[] pans, final int count) {
+        synchronized (voices) {
+            for (int i = 0; i < count; i++) {
+                final Voice voice = getVoice(handles[i]);
+
+                if (voice == null) {
+                    handles[i] = NO_VOICE;
+                } else {
+                    voice.setVolumeAndPan(volumes[i], pans[i]);
+                }
+            }
+        }
+    }
+
+    public int getActiveVoiceCount() {
+        int count = 0;
+
+        synchronized (voices) {
+            for (final Voice voice : voices) {
+                if (voice.active) {
+                    count++;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    public int getVoiceCount() {
+        return voices.length;
+    }
+
+    public float getMasterVolume() {
+        return masterVolume;
+    }
+
+    public void setMasterVolume(final float masterVolume) {
+        this.masterVolume = GeneralUtil.clamp(masterVolume, 0f, 2f);
+    }
+
+    public float getMusicVolume() {
+        return musicVolume;
+    }
+
+    /**
+     * Sets the volume of all music, which is applied in addition to the master volume.
+     *
+     * @param musicVolume the new music volume, from 0f to 2f
+     */
+    public void setMusicVolume(final float musicVolume) {
+        this.musicVolume = GeneralUtil.clamp(musicVolume, 0f, 2f);
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    private static class Voice {
+
+        private boolean active = false;
+        private Sound sound = null;
+        private int position = 0;
+        private boolean loop = false;
+        private int priority = 0;
+        private long startIndex = 0;
+        private int generation = 0;
+
+        private float volume = 1f;
+        private float pan = 0f;
+        private float leftGain = 1f;
+        private float rightGain = 1f;
+
+        /**
+         * Sets volume and pan and precomputes the gain of both channels,
+         * so that the mixing loop only has to multiply.
+         */
+        private void setVolumeAndPan(final float volume, final float pan) {
+            this.volume = GeneralUtil.clamp(volume, 0f, 2f);
+            this.pan = GeneralUtil.clamp(pan, -1f, 1f);
+
+            leftGain = this.volume * Math.min(1f, 1f - this.pan);
+            rightGain = this.volume * Math.min(1f, 1f + this.pan);
+        }
+    }
+
+    private static class MusicChannel {
+
+        private AudioStream stream = null;
+        private float gain = 1f;
+        private float targetGain = 1f;
+        private float gainStep = 0f;
+        private long remainingFadeFrames = 0;
+
+        private void fadeTo(final float targetGain, final long fadeFrames) {
+            this.targetGain = targetGain;
+            remainingFadeFrames = fadeFrames;
+
+            if (fadeFrames == 0) {
+                gain = targetGain;
+                gainStep = 0f;
+            } else {
+                gainStep = (targetGain - gain) / fadeFrames;
+            }
+        }
+
+        private void release() {
+            if (stream != null) {
+                stream.close();
+                stream = null;
+            }
+            gain = 1f;
+            targetGain = 1f;
+            gainStep = 0f;
+            remainingFadeFrames = 0;
+        }
+    }
+}
@@ -16,12 +16,15 @@
 
 package de.edgelord.saltyengine.audio;
 
+import de.edgelord.saltyengine.core.Game;
 import de.edgelord.saltyengine.factory.AudioFactory;
 import de.edgelord.saltyengine.resource.InnerResource;
 import de.edgelord.saltyengine.resource.OuterResource;
 import de.edgelord.saltyengine.utils.SaltySystem;
 
+import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.Map;
 
 /**
  * An interface for handling multiple {@link Audio}.
@@ -33,6 +36,16 @@ public class AudioPlayer {
      */
     private final LinkedList<Audio> audios = new LinkedList<>();
 
+    /**
+     * The first {@link Audio} of the {@link #audios} with each name, for looking them up without searching the list.
+     */
+    private final Map<String, Audio> audiosByName = new HashMap<>();
+
+    /**
+     * The loaded {@link Sound}s, which are played by the {@link #mixer}.
+     */
+    private final Map<String, Sound> sounds = new HashMap<>();
+
     /**
      * The {@link AudioFactory} which is used for loading the audio.
      *
@@ -47,6 +60,17 @@ public class AudioPlayer {
      */
     private float masterVolume = 1f;
 
+    /**
+     * The mixer that plays the {@link #sounds}. It is created and started
+     * when the first <code>Sound</code> is loaded.
+     */
+    private AudioMixer mixer = null;
+
+    /**
+     * The listener for positional audio, which plays through the {@link #mixer}.
+     */
+    private AudioListener audioListener = null;
+
     /**
      * The only constructor of AudioPlayer, taking in the <code>AudioFactory</code>
      * from which the Clips will be loaded.
@@ -74,11 +98,139 @@ public class AudioPlayer {
     public void loadNewAudio(final String name, final String relativePath) {
 
         if (SaltySystem.audioEnabled) {
-            audios.add(new Audio(name, audioFactory.getClip(relativePath)));
+            final Audio audio = new Audio(name, audioFactory.getClip(relativePath));
+            audios.add(audio);
+            audiosByName.putIfAbsent(name, audio);
             multiplyAudioVolume(getAudio(name), masterVolume);
         }
     }
 
+    /**
+     * Loads and decodes a new {@link Sound} from the <code>AudioFactory</code>, which is played by the {@link #mixer}.
+     * Unlike an <code>Audio</code>, a <code>Sound</code> can be played many times at once, e.g. for effects like gunshots.
+     *
+     * @param name         the id-name for the new <code>Sound</code>
+     * @param relativePath the relative path from which the <code>AudioFactory</code> should read the sound
+     * @see #playSound(String)
+     * @see AudioMixer
+     */
+    public void loadNewSound(final String name, final String relativePath) {
+
+        if (SaltySystem.audioEnabled) {
+            final Sound sound = audioFactory.getSound(relativePath);
+
+            if (sound != null) {
+                sounds.put(name, sound);
+                getMixer();
+            }
+        }
+    }
+
+    /**
+     * Plays the {@link Sound} with the given name on a new voice of the {@link #mixer}.
+     *
+     * @param name the id-name of the <code>Sound</code>
+     * @return the handle of the voice, which can be used to change or stop it using the {@link #getMixer() mixer}
+     * @see AudioMixer#play(Sound)
+     */
+    public int playSound(final String name) {
+        return playSound(name, 1f, 0f);
+    }
+
+    /**
+     * Plays the {@link Sound} with the given name with the given volume and pan on a new voice of the {@link #mixer}.
+     *
+     * @param name   the id-name of the <code>Sound</code>
+     * @param volume the volume of the voice, from 0f to 2f
+     * @param pan    the pan of the voice, from -1f (completely left) to 1f (completely right)
+     * @return the handle of the voice, which can be used to change or stop it using the {@link #getMixer() mixer}
+     * @see AudioMixer#play(Sound, float, float)
+     */
+    public int playSound(final String name, final float volume, final float pan) {
+        if (SaltySystem.audioEnabled && mixer != null) {
+            return mixer.play(sounds.get(name), volume, pan);
+        }
+
+        return AudioMixer.NO_VOICE;
+    }
+
+    public Sound getSound(final String name) {
+        return sounds.get(name);
+    }
+
+    /**
+     * Returns the {@link #audioListener}, creating it if necessary.
+     * A new listener is set as {@link Game#setAudioListener(AudioListener) the listener of the game}
+     * if there is none yet, so that {@link de.edgelord.saltyengine.components.AudioSourceComponent}s
+     * are heard from the camera.
+     *
+     * @return the listener for positional audio that plays through the mixer of this player
+     */
+    public AudioListener getAudioListener() {
+        if (audioListener == null) {
+            audioListener = new AudioListener(getMixer());
+
+            if (Game.getAudioListener() == null) {
+                Game.setAudioListener(audioListener);
+            }
+        }
+
+        return audioListener;
+    }
+
+    /**
+     * Streams the music file with the given relative path from the <code>AudioFactory</code> in a loop,
+     * stopping all other music immediately.
+     * Unlike an <code>Audio</code>, the music is decoded while it is played instead of being loaded completely.
+     *
+     * @param relativePath the relative path of the music file
+     * @see #crossfadeMusic(String, long)
+     * @see AudioStream
+     */
+    public void playMusic(final String relativePath) {
+        crossfadeMusic(relativePath, 0);
+    }
+
+    /**
+     * Streams the music file with the given relative path from the <code>AudioFactory</code> in a loop,
+     * while all other music fades out over the given duration.
+     *
+     * @param relativePath the relative path of the music file
+     * @param fadeMillis   the duration of the crossfade in milliseconds
+     * @see AudioMixer#playMusic(AudioStream, long)
+     */
+    public void crossfadeMusic(final String relativePath, final long fadeMillis) {
+        if (SaltySystem.audioEnabled) {
+            getMixer().playMusic(audioFactory.getAudioStream(relativePath, true), fadeMillis);
+        }
+    }
+
+    /**
+     * Fades out all music that is playing over the given duration.
+     *
+     * @param fadeMillis the duration of the fade in milliseconds
+     */
+    public void stopMusic(final long fadeMillis) {
+        if (mixer != null) {
+            mixer.stopMusic(fadeMillis);
+        }
+    }
+
+    /**
+     * Returns the {@link #mixer}, creating and starting it if necessary.
+     *
+     * @return the mixer that plays the sounds of this player
+     */
+    public AudioMixer getMixer() {
+        if (mixer == null) {
+            mixer = new AudioMixer();
+            mixer.setMasterVolume(masterVolume);
+            mixer.start();
+        }
+
+        return mixer;
+    }
+
     /**
      * Searches for an <code>Audio</code> with the given name in the list and when found plays it.
      * For performance reasons, the methods returns after the first found <code>Audio</code> and triggering its
@@ -142,9 +294,16 @@ public class AudioPlayer {
      * @return the audio with the given name
      */
     public Audio getAudio(final String name) {
+        final Audio indexed = audiosByName.get(name);
+
+        // the audio could have been renamed using Audio#setName
+        if (indexed != null && indexed.getName().equals(name)) {
+            return indexed;
+        }
 
         for (final Audio audio : this.audios) {
             if (audio.getName().equals(name)) {
+                audiosByName.put(name, audio);
                 return audio;
             }
         }
@@ -225,6 +384,10 @@ public class AudioPlayer {
         if (SaltySystem.audioEnabled) {
             this.masterVolume = masterVolume;
 
+            if (mixer != null) {
+                mixer.setMasterVolume(masterVolume);
+            }
+
             for (final Audio audio : audios) {
                 multiplyAudioVolume(audio, masterVolume);
             }
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.audio;
+
+import de.edgelord.saltyengine.resource.Resource;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A long audio track, e.g. music, that is decoded in small chunks instead of all at once.
+ * <p>
+ * A background thread reads and decodes the track into a ring buffer of about
+ * {@link #BUFFER_MILLIS} milliseconds, from which the {@link AudioMixer} reads while mixing.
+ * So only the ring buffer and one chunk are ever held in memory, no matter how long the track is.
+ * A looped stream is reopened when it reaches its end, without a gap in the ring buffer.
+ *
+ * @see AudioMixer#playMusic(AudioStream, long)
+ */
+public class AudioStream implements Closeable {
+
+    /**
+     * The length of the ring buffer in milliseconds.
+     */
+    public static final int BUFFER_MILLIS = 1000;
+
+    /**
+     * The amount of source bytes that are decoded at once at most.
+     */
+    private static final int CHUNK_BYTES = 16384;
+
+    private static final long REFILL_INTERVAL_NANOS = 10_000_000L;
+
+    private final Source source;
+    private final boolean loop;
+
+    /**
+     * The ring buffer of interleaved stereo samples with the sample rate of the mixer.
+     */
+    private final short[] ring = new short[Math.round(AudioMixer.SAMPLE_RATE * BUFFER_MILLIS / 1000f) * 2];
+    private final byte[] chunk = new byte[CHUNK_BYTES];
+
+    /**
+     * The number of samples written to and read from the {@link #ring} so far.
+     * Only the refill thread writes {@link #written}, only the mixer writes {@link #read}.
+     */
+    private volatile long written = 0;
+    private volatile long read = 0;
+
+    private volatile boolean endOfTrack = false;
+    private volatile boolean closed = false;
+
+    private AudioInputStream inputStream = null;
+    private Thread refillThread = null;
+
+    /**
+     * The state of the linear resampler, which is kept between two chunks.
+     * The position is relative to the start of the current chunk, the previous
+     * frame is the last frame of the previous chunk.
+     */
+    private double resamplePosition = 0;
+    private short previousLeft = 0;
+    private short previousRight = 0;
+
+    /**
+     * Creates a new stream. It starts decoding once it is played by an {@link AudioMixer}.
+     *
+     * @param source where to open the track from. It is opened again every time a looped track ends.
+     * @param loop   whether the track should start again when it ends
+     */
+    public AudioStream(final Source source, final boolean loop) {
+        this.source = source;
+        this.loop = loop;
+    }
+
+    /**
+     * Creates a new stream of the audio file with the given relative path.
+     *
+     * @param resource     the <code>Resource</code> to read the file from
+     * @param relativePath the relative path of the audio file
+     * @param loop         whether the track should start again when it ends
+     * @return a new stream of the given file
+     */
+    public static AudioStream fromResource(final Resource resource, final String relativePath, final boolean loop) {
+        return new AudioStream(() -> {
+            final InputStream inputStream = resource.getStreamResource(relativePath);
+
+            if (inputStream == null) {
+                throw new IOException("The audio file " + relativePath + " can not be read");
+            }
+
+            return AudioSystem.getAudioInputStream(inputStream);
+        }, loop);
+    }
+
+    /**
+     * Starts the refill thread. This is called by the {@link AudioMixer}.
+     */
+    synchronized void start() {
+        if (refillThread == null && !closed) {
+            refillThread = new Thread(this::refill, "audio-stream");
+            refillThread.setDaemon(true);
+            refillThread.start();
+        }
+    }
+
+    private void refill() {
+        try {
+            while (!closed && !endOfTrack) {
+                if (!decodeChunk()) {
+                    LockSupport.parkNanos(REFILL_INTERVAL_NANOS);
+                }
+            }
+        } catch (final IOException | UnsupportedAudioFileException e) {
+            e.printStackTrace();
+            endOfTrack = true;
+        } finally {
+            closeInputStream();
+        }
+    }
+
+    /**
+     * Decodes the next chunk into the ring buffer, if there is enough free space for it.
+     *
+     * @return whether a chunk was decoded
+     */
+    private boolean decodeChunk() throws IOException, UnsupportedAudioFileException {
+        if (inputStream == null) {
+            inputStream = Sound.toPCM(source.open());
+        }
+
+        final AudioFormat format = inputStream.getFormat();
+        final int frameSize = format.getChannels() * 2;
+        final double step = format.getSampleRate() / AudioMixer.SAMPLE_RATE;
+        final int freeFrames = (ring.length - (int) (written - read)) / 2;
+
+        // the number of source frames whose resampled frames surely fit into the free space
+        final int sourceFrames = Math.min((int) ((freeFrames - 2) * step), chunk.length / frameSize);
+
+        if (sourceFrames < chunk.length / frameSize / 4) {
+            return false;
+        }
+
+        final int readBytes = readFully(inputStream, chunk, sourceFrames * frameSize);
+
+        if (readBytes < frameSize) {
+            closeInputStream();
+            if (loop) {
+                return true;
+            }
+
+            endOfTrack = true;
+            return false;
+        }
+
+        final short[] stereo = Sound.toStereo(chunk, readBytes, format.getChannels(), format.isBigEndian());
+        writeResampled(stereo, step);
+
+        return true;
+    }
+
+    private void writeResampled(final short[] stereo, final double step) {
+        final int frames = stereo.length / 2;
+        long writeIndex = written;
+
+        if (step == 1d) {
+            for (final short sample : stereo) {
+                ring[(int) (writeIndex++ % ring.length)] = sample;
+            }
+        } else {
+            double position = resamplePosition;
+
+            while (position < frames - 1) {
+                final int index = (int) Math.floor(position);
+                final double fraction = position - index;
+
+                final int left = index < 0 ? previousLeft : stereo[index * 2];
+                final int right = index < 0 ? previousRight : stereo[index * 2 + 1];
+                final int nextLeft = stereo[(index + 1) * 2];
+                final int nextRight = stereo[(index + 1) * 2 + 1];
+
+                ring[(int) (writeIndex++ % ring.length)] = (short) (left + (nextLeft - left) * fraction);
+                ring[(int) (writeIndex++ % ring.length)] = (short) (right + (nextRight - right) * fraction);
+
+                position += step;
+            }
+
+            resamplePosition = position - frames;
+            previousLeft = stereo[(frames - 1) * 2];
+            previousRight = stereo[(frames - 1) * 2 + 1];
+        }
+
+        written = writeIndex;
+    }
+
+    private static int readFully(final InputStream inputStream, final byte[] buffer, final int length) throws IOException {
+        int total = 0;
+
+        while (total < length) {
+            final int readBytes = inputStream.read(buffer, total, length - total);
+
+            if (readBytes < 0) {
+                break;
+            }
+
+            total += readBytes;
+        }
+
+        return total;
+    }
+
+    private void closeInputStream() {
+        if (inputStream != null) {
+            try {
+                inputStream.close();
+            } catch (final IOException e) {
+                e.printStackTrace();
+            }
+            inputStream = null;
+        }
+    }
+
+    /**
+     * Adds the next frames of this stream to the given buffer of interleaved stereo samples.
+     * The gain is changed linearly by the given step after each frame, for fading.
+     * If the ring buffer runs empty, the missing frames are silent.
+     * This is called by the mixing thread of the {@link AudioMixer}.
+     *
+     * @param buffer   the buffer to add the samples to
+     * @param frames   the number of frames to add
+     * @param gain     the gain of the first frame
+     * @param gainStep the change of the gain per frame
+     * @return the number of frames that were available
+     */
+    int mixInto(final float[] buffer, final int frames, float gain, final float gainStep) {
+        final long available = (written - read) / 2;
+        final int mixedFrames = (int) Math.min(frames, available);
+        long readIndex = read;
+
+        for (int frame = 0; frame < mixedFrames; frame++) {
+            buffer[frame * 2] += ring[(int) (readIndex++ % ring.length)] * gain;
+            buffer[frame * 2 + 1] += ring[(int) (readIndex++ % ring.length)] * gain;
+            gain += gainStep;
+        }
+
+        read = readIndex;
+        return mixedFrames;
+    }
+
+    /**
+     * Returns whether this stream reached the end of its track and all of it was played.
+     * A looped stream never finishes.
+     *
+     * @return whether this stream is finished
+     */
+    public boolean isFinished() {
+        return closed || (endOfTrack && written == read);
+    }
+
+    public boolean isLoop() {
+        return loop;
+    }
+
+    /**
+     * Stops decoding. The stream can't be played again afterwards.
+     */
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    /**
+     * Opens the track of an {@link AudioStream}.
+     */
+    @FunctionalInterface
+    public interface Source {
+
+        AudioInputStream open() throws IOException, UnsupportedAudioFileException;
+    }
+}
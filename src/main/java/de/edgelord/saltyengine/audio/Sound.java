@@ -0,0 +1,187 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.audio;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * A sound that is decoded once into 16 bit stereo PCM samples with the sample rate of the {@link AudioMixer},
+ * so that it can be played by any number of voices of the mixer at the same time without decoding it again.
+ *
+ * @see AudioMixer#play(Sound)
+ */
+public class Sound {
+
+    /**
+     * The interleaved samples, left channel first.
+     */
+    private final short[] samples;
+
+    public Sound(final short[] samples) {
+        this.samples = samples;
+    }
+
+    /**
+     * Reads and decodes the whole given stream into a new <code>Sound</code>.
+     * The stream is closed afterwards.
+     *
+     * @param inputStream the stream to decode
+     * @return the decoded sound
+     * @throws IOException when the stream can't be read or converted to PCM
+     */
+    public static Sound decode(final AudioInputStream inputStream) throws IOException {
+        try (final AudioInputStream pcmStream = toPCM(inputStream)) {
+            final AudioFormat format = pcmStream.getFormat();
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+
+            int readBytes;
+            while ((readBytes = pcmStream.read(buffer)) > 0) {
+                outputStream.write(buffer, 0, readBytes);
+            }
+
+            final byte[] bytes = outputStream.toByteArray();
+            final short[] stereo = toStereo(bytes, bytes.length, format.getChannels(), format.isBigEndian());
+
+            return new Sound(resample(stereo, format.getSampleRate(), AudioMixer.SAMPLE_RATE));
+        }
+    }
+
+    /**
+     * Converts the given stream to signed 16 bit PCM with its original sample rate and channel count.
+     *
+     * @param inputStream the stream to convert
+     * @return the given stream if it already is signed 16 bit PCM, or a converted stream
+     * @throws IOException when there is no conversion for the format of the given stream
+     */
+    static AudioInputStream toPCM(final AudioInputStream inputStream) throws IOException {
+        final AudioFormat format = inputStream.getFormat();
+
+        if (format.getEncoding() == AudioFormat.Encoding.PCM_SIGNED && format.getSampleSizeInBits() == 16) {
+            return inputStream;
+        }
+
+        final AudioFormat pcmFormat = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, format.getSampleRate(), 16,
+                format.getChannels(), format.getChannels() * 2, format.getSampleRate(), false);
+
+        try {
+            return AudioSystem.getAudioInputStream(pcmFormat, inputStream);
+        } catch (final IllegalArgumentException e) {
+            throw new IOException("Cannot convert " + format + " to PCM", e);
+        }
+    }
+
+    /**
+     * Converts the given 16 bit PCM bytes with the given channel count to interleaved stereo samples.
+     * Mono is copied to both channels, all channels after the second one are dropped.
+     *
+     * @param bytes     the PCM bytes
+     * @param length    the amount of valid bytes
+     * @param channels  the number of channels of the given bytes
+     * @param bigEndian the byte order of the given bytes
+     * @return the interleaved stereo samples
+     */
+    static short[] toStereo(final byte[] bytes, final int length, final int channels, final boolean bigEndian) {
+        final int frames = length / (channels * 2);
+        final short[] stereo = new short[frames * 2];
+
+        for (int frame = 0; frame < frames; frame++) {
+            final int offset = frame * channels * 2;
+            final short left = readSample(bytes, offset, bigEndian);
+            final short right = channels == 1 ? left : readSample(bytes, offset + 2, bigEndian);
+
+            stereo[frame * 2] = left;
+            stereo[frame * 2 + 1] = right;
+        }
+
+        return stereo;
+    }
+
+    private static short readSample(final byte[] bytes, final int offset, final boolean bigEndian) {
+        if (bigEndian) {
+            return (short) ((bytes[offset] << 8) | (bytes[offset + 1] & 0xFF));
+        } else {
+            return (short) ((bytes[offset + 1] << 8) | (bytes[offset] & 0xFF));
+        }
+    }
+
+    /**
+     * Linearly resamples the given interleaved stereo samples.
+     *
+     * @param stereo     the samples to resample
+     * @param sourceRate the sample rate of the given samples
+     * @param targetRate the sample rate to resample to
+     * @return the resampled samples or the given ones if both rates are equal
+     */
+    static short[] resample(final short[] stereo, final float sourceRate, final float targetRate) {
+        if (sourceRate == targetRate || stereo.length == 0) {
+            return stereo;
+        }
+
+        final int sourceFrames = stereo.length / 2;
+        final int targetFrames = (int) ((long) sourceFrames * targetRate / sourceRate);
+        final short[] resampled = new short[targetFrames * 2];
+        final double step = (double) sourceRate / targetRate;
+
+        for (int frame = 0; frame < targetFrames; frame++) {
+            final double position = frame * step;
+            final int index = (int) position;
+            final int nextIndex = Math.min(index + 1, sourceFrames - 1);
+            final double fraction = position - index;
+
+            for (int channel = 0; channel < 2; channel++) {
+                final int current = stereo[index * 2 + channel];
+                final int next = stereo[nextIndex * 2 + channel];
+                resampled[frame * 2 + channel] = (short) Math.round(current + (next - current) * fraction);
+            }
+        }
+
+        return resampled;
+    }
+
+    /**
+     * Returns the interleaved stereo samples of this sound.
+     * They must not be changed while the sound is played.
+     *
+     * @return the samples of this sound
+     */
+    public short[] getSamples() {
+        return samples;
+    }
+
+    /**
+     * Returns the number of stereo frames of this sound.
+     *
+     * @return the length of this sound in frames
+     */
+    public int getFrameCount() {
+        return samples.length / 2;
+    }
+
+    /**
+     * Returns the duration of this sound in milliseconds.
+     *
+     * @return the duration of this sound
+     */
+    public long getDurationMillis() {
+        return getFrameCount() * 1000L / (long) AudioMixer.SAMPLE_RATE;
+    }
+}
@@ -23,6 +23,24 @@ import de.edgelord.saltyengine.utils.Directions;
  */
 public class CollisionDetectionResult {
 
+    /**
+     * The shared result for two <code>GameObject</code>s that don't collide.
+     */
+    public static final CollisionDetectionResult NO_COLLISION = new CollisionDetectionResult(false, Directions.Direction.EMPTY);
+
+    /**
+     * All possible results, indexed by {@link #index(boolean, Directions.Direction)}.
+     * As the results are immutable, {@link #of(boolean, Directions.Direction)} can hand them out instead of allocating new ones.
+     */
+    private static final CollisionDetectionResult[] RESULTS = new CollisionDetectionResult[Directions.Direction.values().length * 2];
+
+    static {
+        for (final Directions.Direction direction : Directions.Direction.values()) {
+            RESULTS[index(true, direction)] = new CollisionDetectionResult(true, direction);
+            RESULTS[index(false, direction)] = direction == Directions.Direction.EMPTY ? NO_COLLISION : new CollisionDetectionResult(false, direction);
+        }
+    }
+
     /**
      * This is <code>true</code> when the two {@link de.edgelord.saltyengine.gameobject.GameObject}s collides and <code>false</code> when not.
      */
@@ -44,6 +62,25 @@ public class CollisionDetectionResult {
         this.rootCollisionDirection = rootCollisionDirection;
     }
 
+    /**
+     * Returns the shared result for the given values. Unlike the constructor, this never allocates.
+     *
+     * @param collision              <code>true</code> when the two {@link de.edgelord.saltyengine.gameobject.GameObject}s collides and <code>false</code> when not
+     * @param rootCollisionDirection the {@link de.edgelord.saltyengine.utils.Directions.Direction} in which the first of the two (the "root") collided with the second one
+     * @return the shared, immutable result
+     */
+    public static CollisionDetectionResult of(final boolean collision, final Directions.Direction rootCollisionDirection) {
+        if (rootCollisionDirection == null) {
+            return new CollisionDetectionResult(collision, null);
+        }
+
+        return RESULTS[index(collision, rootCollisionDirection)];
+    }
+
+    private static int index(final boolean collision, final Directions.Direction direction) {
+        return direction.ordinal() * 2 + (collision ? 1 : 0);
+    }
+
     public boolean isCollision() {
         return collision;
     }
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2019 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.collision;
+
+import de.edgelord.saltyengine.core.event.CollisionEvent;
+import de.edgelord.saltyengine.gameobject.GameObject;
+import de.edgelord.saltyengine.utils.Directions;
+
+import java.util.Arrays;
+
+/**
+ * A flat, growing pool of {@link CollisionEvent}s owned by a {@link de.edgelord.saltyengine.scene.Scene}.
+ * The events handed out by {@link #obtain(GameObject, Directions.Direction)} are only valid until the next
+ * {@link #reset()}, which the scene calls at the beginning of every fixed tick. After the pool has grown to the
+ * number of contacts of a busy tick, the collision detection doesn't allocate any more.
+ * <p>
+ * {@link ContactList}s use the {@link #getGeneration() generation} of the buffer to tell whether their contacts
+ * are from the current tick.
+ */
+public class ContactBuffer {
+
+    /**
+     * The pooled events, of which the first {@link #size} are in use.
+     */
+    private CollisionEvent[] contacts = new CollisionEvent[64];
+
+    /**
+     * The number of events handed out since the last {@link #reset()}.
+     */
+    private int size = 0;
+
+    /**
+     * Incremented by every {@link #reset()}.
+     */
+    private int generation = 0;
+
+    /**
+     * Returns a pooled {@link CollisionEvent} with the given values, which stays valid until the next {@link #reset()}.
+     *
+     * @param otherGameObject    the other <code>GameObject</code> of the collision
+     * @param collisionDirection the direction of the collision
+     * @return a pooled event with the given values
+     */
+    public CollisionEvent obtain(final GameObject otherGameObject, final Directions.Direction collisionDirection) {
+
+        if (size == contacts.length) {
+            contacts = Arrays.copyOf(contacts, contacts.length * 2);
+        }
+
+        CollisionEvent contact = contacts[size];
+
+        if (contact == null) {
+            contact = new CollisionEvent(otherGameObject, collisionDirection);
+            contacts[size] = contact;
+        } else {
+            contact.setOtherGameObject(otherGameObject);
+            contact.setCollisionDirection(collisionDirection);
+        }
+
+        size++;
+        return contact;
+    }
+
+    /**
+     * Makes all events available for reuse and invalidates every {@link ContactList} filled from this buffer.
+     */
+    public void reset() {
+        size = 0;
+        generation++;
+    }
+
+    /**
+     * Returns the number of events handed out since the last {@link #reset()}.
+     *
+     * @return the number of contacts of the current tick
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets {@link #generation}.
+     *
+     * @return the value of {@link #generation}
+     */
+    public int getGeneration() {
+        return generation;
+    }
+}
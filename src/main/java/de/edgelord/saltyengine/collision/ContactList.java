@@ -0,0 +1,128 @@
+/*
+ * Copyright 2019 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.collision;
+
+import de.edgelord.saltyengine.core.event.CollisionEvent;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * The contacts of one {@link de.edgelord.saltyengine.gameobject.GameObject} within the current fixed tick,
+ * a cheap view onto the pooled events of a {@link ContactBuffer}.
+ * <p>
+ * Adding to and clearing the list never copies the backing array like a <code>CopyOnWriteArrayList</code> would,
+ * and once the buffer the contacts came from is {@link ContactBuffer#reset() reset}, the list is empty until
+ * the <code>GameObject</code> collides again. This list is meant to be used from the fixed tick.
+ */
+public class ContactList extends AbstractList<CollisionEvent> implements RandomAccess {
+
+    /**
+     * The contacts, of which the first {@link #size} are valid.
+     */
+    private CollisionEvent[] contacts = new CollisionEvent[4];
+    private int size = 0;
+
+    /**
+     * The buffer the contacts were obtained from and its {@link ContactBuffer#getGeneration() generation} at that time.
+     */
+    private ContactBuffer buffer = null;
+    private int generation;
+
+    /**
+     * Adds a contact that was obtained from the given buffer.
+     *
+     * @param buffer  the buffer the contact is pooled in
+     * @param contact the contact to add
+     */
+    public void addContact(final ContactBuffer buffer, final CollisionEvent contact) {
+        validate();
+        this.buffer = buffer;
+        this.generation = buffer.getGeneration();
+        add(contact);
+    }
+
+    /**
+     * Empties the list if its contacts are from a previous tick.
+     */
+    private void validate() {
+        if (buffer != null && buffer.getGeneration() != generation) {
+            clear();
+        }
+    }
+
+    @Override
+    public CollisionEvent get(final int index) {
+        validate();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        return contacts[index];
+    }
+
+    @Override
+    public CollisionEvent set(final int index, final CollisionEvent element) {
+        final CollisionEvent previous = get(index);
+        contacts[index] = element;
+
+        return previous;
+    }
+
+    @Override
+    public void add(final int index, final CollisionEvent element) {
+        validate();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        if (size == contacts.length) {
+            contacts = Arrays.copyOf(contacts, contacts.length * 2);
+        }
+
+        System.arraycopy(contacts, index, contacts, index + 1, size - index);
+        contacts[index] = element;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public CollisionEvent remove(final int index) {
+        final CollisionEvent removed = get(index);
+
+        System.arraycopy(contacts, index + 1, contacts, index, size - index - 1);
+        contacts[--size] = null;
+        modCount++;
+
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(contacts, 0, size, null);
+        size = 0;
+        buffer = null;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        validate();
+        return size;
+    }
+}
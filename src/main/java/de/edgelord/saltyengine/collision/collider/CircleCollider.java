@@ -63,23 +63,25 @@ public class CircleCollider extends Collider implements TransformedObject {
 
         switch (otherCollider.getType()) {
             case HITBOX_COLLIDER:
-                final Vector2f centre = hitbox.getCentre();
+                final float centreX = hitbox.getCentreX();
+                final float centreY = hitbox.getCentreY();
                 final Transform otherHitbox = otherGameObject.getHitbox().getTransform();
-                final float closestX = GeneralUtil.clamp(centre.getX(), otherHitbox.getX(), otherHitbox.getX() + otherHitbox.getWidth());
-                final float closestY = GeneralUtil.clamp(centre.getY(), otherHitbox.getY(), otherHitbox.getY() + otherHitbox.getHeight());
+                final float closestX = GeneralUtil.clamp(centreX, otherHitbox.getX(), otherHitbox.getX() + otherHitbox.getWidth());
+                final float closestY = GeneralUtil.clamp(centreY, otherHitbox.getY(), otherHitbox.getY() + otherHitbox.getHeight());
+                final float radius = getWidth() / 2f;
 
-                return new CollisionDetectionResult(new Vector2f(closestX, closestY).distance(centre) < getWidth() / 2f, hitbox.getRelation(otherHitbox));
+                return CollisionDetectionResult.of(Vector2f.distanceSquared(closestX, closestY, centreX, centreY) < radius * radius, hitbox.getRelation(otherHitbox));
 
             case CIRCLE_COLLIDER:
                 final CircleCollider otherCircleCollider = (CircleCollider) otherCollider;
-                final Vector2f centre1 = getHitbox().getCentre();
-                final Vector2f centre2 = otherCircleCollider.getHitbox().getCentre();
-                final boolean collision = centre1.distance(centre2) <= hitbox.getWidth() / 2f + otherCircleCollider.hitbox.getWidth() / 2f;
+                final Transform otherCircle = otherCircleCollider.getHitbox();
+                final float radii = hitbox.getWidth() / 2f + otherCircle.getWidth() / 2f;
+                final boolean collision = Vector2f.distanceSquared(hitbox.getCentreX(), hitbox.getCentreY(), otherCircle.getCentreX(), otherCircle.getCentreY()) <= radii * radii;
 
-                return new CollisionDetectionResult(collision, hitbox.getRelation(otherCircleCollider.hitbox));
+                return CollisionDetectionResult.of(collision, hitbox.getRelation(otherCircleCollider.hitbox));
         }
 
-        return new CollisionDetectionResult(false, Directions.Direction.EMPTY);
+        return CollisionDetectionResult.NO_COLLISION;
     }
 
     /**
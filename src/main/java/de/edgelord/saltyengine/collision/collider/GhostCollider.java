@@ -18,11 +18,10 @@ package de.edgelord.saltyengine.collision.collider;
 
 import de.edgelord.saltyengine.collision.CollisionDetectionResult;
 import de.edgelord.saltyengine.gameobject.GameObject;
-import de.edgelord.saltyengine.utils.Directions;
 
 /**
  * A collider that always returns
- * {@code new CollisionDetectionResult(false, Directions.Direction.EMPTY)},
+ * {@link CollisionDetectionResult#NO_COLLISION},
  * hence making its user "ghostly" by means that it won't ever detect
  * a collision.
  * The priority of the collider is {@link Integer#MAX_VALUE}
@@ -38,6 +37,6 @@ public class GhostCollider extends Collider {
 
     @Override
     public CollisionDetectionResult checkCollision(final GameObject object1, final GameObject object2) {
-        return new CollisionDetectionResult(false, Directions.Direction.EMPTY);
+        return CollisionDetectionResult.NO_COLLISION;
     }
 }
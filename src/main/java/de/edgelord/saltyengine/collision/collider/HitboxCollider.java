@@ -49,6 +49,6 @@ public class HitboxCollider extends Collider {
         final Hitbox hitbox1 = object1.getHitbox();
         final Hitbox hitbox2 = object2.getHitbox();
 
-        return new CollisionDetectionResult(hitbox1.collides(object2), hitbox1.getTransform().getRelation(hitbox2.getTransform()));
+        return CollisionDetectionResult.of(hitbox1.collides(object2), hitbox1.getTransform().getRelation(hitbox2.getTransform()));
     }
 }
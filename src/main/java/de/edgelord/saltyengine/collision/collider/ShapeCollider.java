@@ -19,7 +19,6 @@ package de.edgelord.saltyengine.collision.collider;
 import de.edgelord.saltyengine.collision.CollisionDetectionResult;
 import de.edgelord.saltyengine.gameobject.GameObject;
 import de.edgelord.saltyengine.transform.Transform;
-import de.edgelord.saltyengine.utils.Directions;
 
 import java.awt.*;
 import java.awt.geom.Area;
@@ -57,21 +56,21 @@ public class ShapeCollider extends Collider {
         switch (otherCollider.getType()) {
             case HITBOX_COLLIDER:
                 collisionArea.intersect(new Area(otherGameObject.getHitbox().getTransform().getRect()));
-                return new CollisionDetectionResult(!collisionArea.isEmpty(), new Transform(shape.getBounds()).getRelation(otherGameObject.getHitbox().getTransform()));
+                return CollisionDetectionResult.of(!collisionArea.isEmpty(), new Transform(shape.getBounds()).getRelation(otherGameObject.getHitbox().getTransform()));
 
             case CIRCLE_COLLIDER:
                 final CircleCollider collider = (CircleCollider) otherCollider;
                 final Transform hitbox = collider.getHitbox();
                 collisionArea.intersect(new Area(new Ellipse2D.Float(hitbox.getX(), hitbox.getY(), hitbox.getWidth(), hitbox.getHeight())));
-                return new CollisionDetectionResult(!collisionArea.isEmpty(), new Transform(shape.getBounds()).getRelation(otherGameObject.getHitbox().getTransform()));
+                return CollisionDetectionResult.of(!collisionArea.isEmpty(), new Transform(shape.getBounds()).getRelation(otherGameObject.getHitbox().getTransform()));
 
             case SHAPE_COLLIDER:
                 final ShapeCollider shapeCollider = (ShapeCollider) otherCollider;
                 collisionArea.intersect(new Area(shapeCollider.shape));
-                return new CollisionDetectionResult(!collisionArea.isEmpty(), new Transform(shape.getBounds()).getRelation(new Transform(shapeCollider.shape.getBounds())));
+                return CollisionDetectionResult.of(!collisionArea.isEmpty(), new Transform(shape.getBounds()).getRelation(new Transform(shapeCollider.shape.getBounds())));
         }
 
-        return new CollisionDetectionResult(false, Directions.Direction.EMPTY);
+        return CollisionDetectionResult.NO_COLLISION;
     }
 
     public Shape getShape() {
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.components;
+
+import de.edgelord.saltyengine.audio.AudioListener;
+import de.edgelord.saltyengine.audio.AudioMixer;
+import de.edgelord.saltyengine.audio.Sound;
+import de.edgelord.saltyengine.core.Component;
+import de.edgelord.saltyengine.core.annotations.EmptyImplementation;
+import de.edgelord.saltyengine.core.event.CollisionEvent;
+import de.edgelord.saltyengine.core.graphics.SaltyGraphics;
+import de.edgelord.saltyengine.core.stereotypes.ComponentContainer;
+import de.edgelord.saltyengine.gameobject.Components;
+import de.edgelord.saltyengine.utils.GeneralUtil;
+
+/**
+ * Plays a {@link Sound} at the position of its parent.
+ * The volume and pan are computed from the distance to an {@link AudioListener} once per fixed tick.
+ * <p>
+ * The sound stops when this component is disabled or its parent is not ticked anymore,
+ * e.g. because it was removed from the scene. A looped sound that goes out of the range of the listener
+ * starts again from the beginning once it is in range again.
+ */
+public class AudioSourceComponent extends Component<ComponentContainer> {
+
+    private final AudioListener listener;
+    private Sound sound;
+    private float volume = 1f;
+    private boolean loop = false;
+    private int priority = 0;
+
+    // only accessed while holding the lock of the listener
+    private int handle = AudioMixer.NO_VOICE;
+    private boolean started = false;
+
+    /**
+     * Whether this component was ticked since the last update of the {@link #listener}.
+     */
+    private volatile boolean ticked = false;
+
+    /**
+     * The default constructor.
+     *
+     * @param parent   the parent of this component, at whose centre the sound is played
+     * @param name     the id-name of this component
+     * @param listener the listener that hears the sound
+     * @param sound    the sound to play
+     */
+    public AudioSourceComponent(final ComponentContainer parent, final String name, final AudioListener listener, final Sound sound) {
+        super(parent, name, Components.AUDIO_COMPONENT);
+
+        this.listener = listener;
+        this.sound = sound;
+    }
+
+    /**
+     * Plays the {@link #sound} from the beginning, starting with the next update of the {@link #listener}.
+     */
+    public void play() {
+        ticked = true;
+        listener.play(this);
+    }
+
+    public void stop() {
+        listener.stop(this);
+    }
+
+    public boolean isPlaying() {
+        return listener.isPlaying(this);
+    }
+
+    @Override
+    public void onFixedTick() {
+        ticked = true;
+    }
+
+    /**
+     * Returns whether this component was ticked since the last call and resets it.
+     *
+     * @return whether this component was ticked since the last call
+     */
+    public boolean consumeTick() {
+        final boolean wasTicked = ticked;
+        ticked = false;
+        return wasTicked;
+    }
+
+    @Override
+    @EmptyImplementation
+    public void draw(final SaltyGraphics saltyGraphics) {
+    }
+
+    @Override
+    public void onCollision(final CollisionEvent e) {
+    }
+
+    public Sound getSound() {
+        return sound;
+    }
+
+    /**
+     * Sets the sound. It is used the next time this source is {@link #play() played}.
+     *
+     * @param sound the new sound
+     */
+    public void setSound(final Sound sound) {
+        this.sound = sound;
+    }
+
+    public float getVolume() {
+        return volume;
+    }
+
+    /**
+     * Sets the volume of this source before the attenuation by distance.
+     *
+     * @param volume the new volume, from 0f to 2f
+     */
+    public void setVolume(final float volume) {
+        this.volume = GeneralUtil.clamp(volume, 0f, 2f);
+    }
+
+    public boolean isLoop() {
+        return loop;
+    }
+
+    public void setLoop(final boolean loop) {
+        this.loop = loop;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Sets the priority of the voice of this source.
+     *
+     * @param priority the new priority
+     * @see AudioMixer#play(Sound, float, float, boolean, int)
+     */
+    public void setPriority(final int priority) {
+        this.priority = priority;
+    }
+
+    public AudioListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Returns the handle of the voice that plays this source, which is managed by the {@link #listener}.
+     *
+     * @return the handle of the voice of this source or {@link AudioMixer#NO_VOICE}
+     */
+    public int getHandle() {
+        return handle;
+    }
+
+    public void setHandle(final int handle) {
+        this.handle = handle;
+    }
+
+    public boolean isStarted() {
+        return started;
+    }
+
+    public void setStarted(final boolean started) {
+        this.started = started;
+    }
+}
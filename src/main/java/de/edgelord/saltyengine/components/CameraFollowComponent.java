@@ -18,6 +18,7 @@ package de.edgelord.saltyengine.components;
 
 import de.edgelord.saltyengine.core.Component;
 import de.edgelord.saltyengine.core.Game;
+import de.edgelord.saltyengine.core.annotations.EmptyImplementation;
 import de.edgelord.saltyengine.core.event.CollisionEvent;
 import de.edgelord.saltyengine.core.graphics.SaltyGraphics;
 import de.edgelord.saltyengine.gameobject.Components;
@@ -52,6 +53,7 @@ public class CameraFollowComponent extends Component<GameObject> {
     }
 
     @Override
+    @EmptyImplementation
     public void draw(final SaltyGraphics saltyGraphics) {
     }
 
@@ -17,6 +17,7 @@
 package de.edgelord.saltyengine.components;
 
 import de.edgelord.saltyengine.core.Component;
+import de.edgelord.saltyengine.core.annotations.EmptyImplementation;
 import de.edgelord.saltyengine.core.event.CollisionEvent;
 import de.edgelord.saltyengine.core.graphics.SaltyGraphics;
 import de.edgelord.saltyengine.core.stereotypes.ComponentContainer;
@@ -52,6 +53,7 @@ public abstract class CooldownComponent extends Component implements Runnable {
     }
 
     @Override
+    @EmptyImplementation
     public void draw(final SaltyGraphics saltyGraphics) {
 
     }
@@ -18,6 +18,7 @@ package de.edgelord.saltyengine.components;
 
 import de.edgelord.saltyengine.core.Component;
 import de.edgelord.saltyengine.core.animation.LinearKeyframeAnimation;
+import de.edgelord.saltyengine.core.annotations.EmptyImplementation;
 import de.edgelord.saltyengine.core.event.CollisionEvent;
 import de.edgelord.saltyengine.core.graphics.SaltyGraphics;
 import de.edgelord.saltyengine.core.stereotypes.ComponentContainer;
@@ -93,6 +94,7 @@ public class DeflectionOnMouseOverComponent extends Component<ComponentContainer
     }
 
     @Override
+    @EmptyImplementation
     public void draw(final SaltyGraphics saltyGraphics) {
 
     }
@@ -17,6 +17,7 @@
 package de.edgelord.saltyengine.components;
 
 import de.edgelord.saltyengine.core.Component;
+import de.edgelord.saltyengine.core.annotations.EmptyImplementation;
 import de.edgelord.saltyengine.core.event.CollisionEvent;
 import de.edgelord.saltyengine.core.graphics.SaltyGraphics;
 import de.edgelord.saltyengine.gameobject.Components;
@@ -33,6 +34,7 @@ public class DrawHitboxComponent extends Component<GameObject> {
     }
 
     @Override
+    @EmptyImplementation
     public void onFixedTick() {
 
     }
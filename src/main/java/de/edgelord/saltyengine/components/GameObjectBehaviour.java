@@ -17,6 +17,7 @@
 package de.edgelord.saltyengine.components;
 
 import de.edgelord.saltyengine.core.Component;
+import de.edgelord.saltyengine.core.annotations.EmptyImplementation;
 import de.edgelord.saltyengine.core.event.CollisionEvent;
 import de.edgelord.saltyengine.core.graphics.SaltyGraphics;
 import de.edgelord.saltyengine.gameobject.Components;
@@ -29,11 +30,13 @@ public class GameObjectBehaviour extends Component<GameObject> {
     }
 
     @Override
+    @EmptyImplementation
     public void draw(final SaltyGraphics saltyGraphics) {
 
     }
 
     @Override
+    @EmptyImplementation
     public void onFixedTick() {
 
     }
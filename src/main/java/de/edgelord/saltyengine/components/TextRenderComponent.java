@@ -17,20 +17,22 @@
 package de.edgelord.saltyengine.components;
 
 import de.edgelord.saltyengine.core.Component;
+import de.edgelord.saltyengine.core.annotations.EmptyImplementation;
 import de.edgelord.saltyengine.core.event.CollisionEvent;
 import de.edgelord.saltyengine.core.graphics.SaltyGraphics;
+import de.edgelord.saltyengine.core.graphics.TextLayoutCache;
 import de.edgelord.saltyengine.core.stereotypes.ComponentContainer;
 import de.edgelord.saltyengine.gameobject.Components;
 import de.edgelord.saltyengine.transform.Vector2f;
 import de.edgelord.saltyengine.utils.SaltySystem;
 
 import java.awt.*;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class TextRenderComponent extends Component<ComponentContainer> {
 
-    private final List<String> lines = new ArrayList<>();
+    private List<String> lines = Collections.emptyList();
     private Font font = SaltySystem.defaultFont;
     private float leading = font.getSize() * 1.3f;
     private String text;
@@ -53,32 +55,14 @@ public class TextRenderComponent extends Component<ComponentContainer> {
         final FontMetrics fontMetrics = saltyGraphics.getFontMetrics();
 
         if (recalculate) {
-            lines.clear();
-            final String[] words = text.split(wordSeparator);
-            float currentX = 0;
-            StringBuilder lineBuilder = new StringBuilder();
-
-            for (final String word : words) {
-                final float length = fontMetrics.stringWidth(word + wordSeparator);
-
-                if (currentX + length <= lineLength) {
-                    lineBuilder.append(word).append(wordSeparator);
-                    currentX += length;
-                } else {
-                    lines.add(lineBuilder.toString());
-                    lineBuilder = new StringBuilder();
-                    lineBuilder.append(word).append(wordSeparator);
-                    currentX = length;
-                }
-            }
-
-            lines.add(lineBuilder.toString());
-
+            // texts shown by multiple components, like repeated dialog lines, are only broken into lines once
+            lines = TextLayoutCache.getLines(text, wordSeparator, lineLength, font, fontMetrics);
             recalculate = false;
         }
 
         float currentY = -leading;
-        for (final String line : lines) {
+        for (int i = 0; i < lines.size(); i++) {
+            final String line = lines.get(i);
             saltyGraphics.drawText(line, getParent().getPosition().getX() + offset.getX(), currentY + getParent().getY() + offset.getY(), SaltyGraphics.TextAnchor.TOP_LEFT_CORNER);
 
             currentY += leading;
@@ -86,6 +70,7 @@ public class TextRenderComponent extends Component<ComponentContainer> {
     }
 
     @Override
+    @EmptyImplementation
     public void onFixedTick() {
 
     }
@@ -102,6 +87,7 @@ public class TextRenderComponent extends Component<ComponentContainer> {
     public void setFont(final Font font) {
         this.font = font;
         leading = font.getSize() * 1.3f;
+        recalculate = true;
     }
 
     public String getText() {
@@ -119,6 +105,7 @@ public class TextRenderComponent extends Component<ComponentContainer> {
 
     public void setWordSeparator(final String wordSeparator) {
         this.wordSeparator = wordSeparator;
+        recalculate = true;
     }
 
     public Vector2f getOffset() {
@@ -135,5 +122,6 @@ public class TextRenderComponent extends Component<ComponentContainer> {
 
     public void setLineLength(final float lineLength) {
         this.lineLength = lineLength;
+        recalculate = true;
     }
 }
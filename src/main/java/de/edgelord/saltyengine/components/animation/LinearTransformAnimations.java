@@ -19,6 +19,7 @@ package de.edgelord.saltyengine.components.animation;
 import de.edgelord.saltyengine.core.Component;
 import de.edgelord.saltyengine.core.animation.Keyframe;
 import de.edgelord.saltyengine.core.animation.LinearKeyframeAnimation;
+import de.edgelord.saltyengine.core.annotations.EmptyImplementation;
 import de.edgelord.saltyengine.core.event.CollisionEvent;
 import de.edgelord.saltyengine.core.graphics.SaltyGraphics;
 import de.edgelord.saltyengine.core.stereotypes.ComponentContainer;
@@ -157,6 +158,7 @@ public class LinearTransformAnimations extends Component {
     }
 
     @Override
+    @EmptyImplementation
     public void draw(final SaltyGraphics saltyGraphics) {
 
     }
@@ -18,6 +18,7 @@ package de.edgelord.saltyengine.components.gfx;
 
 import de.edgelord.saltyengine.core.SceneManager;
 import de.edgelord.saltyengine.core.annotations.DefaultPlacement;
+import de.edgelord.saltyengine.core.annotations.EmptyImplementation;
 import de.edgelord.saltyengine.core.graphics.SaltyGraphics;
 import de.edgelord.saltyengine.core.stereotypes.ComponentContainer;
 import de.edgelord.saltyengine.effect.light.Light;
@@ -51,6 +52,13 @@ public class LightComponent extends GFXComponent {
      */
     private Light light;
 
+    /**
+     * The bounds of the parent and the {@link #light} after the last repositioning, used to skip
+     * {@link TransformRelationUtil} when nothing moved.
+     */
+    private float parentX, parentY, parentWidth, parentHeight, lightX, lightY, lightWidth, lightHeight;
+    private boolean positioned = false;
+
     /**
      * The base constructor.
      *
@@ -105,15 +113,37 @@ public class LightComponent extends GFXComponent {
      * @param saltyGraphics the graphics to draw to
      */
     @Override
+    @EmptyImplementation
     public void draw(final SaltyGraphics saltyGraphics) {
     }
 
     /**
-     * Repositions the {@link #light} using {@link TransformRelationUtil#positionRelativeTo(TransformRelationMode, Transform, Transform...)}.
+     * Repositions the {@link #light} using {@link TransformRelationUtil#positionRelativeTo(TransformRelationMode, Transform, Transform...)}
+     * if the parent or the light changed since the last tick.
      */
     @Override
     public void onFixedTick() {
-        TransformRelationUtil.positionRelativeTo(relationToParent, getParent().getTransform(), light.getTransform());
+        final Transform parentTransform = getParent().getTransform();
+        final Transform lightTransform = light.getTransform();
+
+        if (positioned && parentTransform.getX() == parentX && parentTransform.getY() == parentY
+                && parentTransform.getWidth() == parentWidth && parentTransform.getHeight() == parentHeight
+                && lightTransform.getX() == lightX && lightTransform.getY() == lightY
+                && lightTransform.getWidth() == lightWidth && lightTransform.getHeight() == lightHeight) {
+            return;
+        }
+
+        TransformRelationUtil.positionRelativeTo(relationToParent, parentTransform, lightTransform);
+
+        parentX = parentTransform.getX();
+        parentY = parentTransform.getY();
+        parentWidth = parentTransform.getWidth();
+        parentHeight = parentTransform.getHeight();
+        lightX = lightTransform.getX();
+        lightY = lightTransform.getY();
+        lightWidth = lightTransform.getWidth();
+        lightHeight = lightTransform.getHeight();
+        positioned = true;
     }
 
     @Override
@@ -153,6 +183,7 @@ public class LightComponent extends GFXComponent {
      */
     public void setRelationToParent(final TransformRelationMode relationToParent) {
         this.relationToParent = relationToParent;
+        positioned = false;
     }
 
     /**
@@ -171,5 +202,6 @@ public class LightComponent extends GFXComponent {
      */
     public void setLight(final Light light) {
         this.light = light;
+        positioned = false;
     }
 }
@@ -22,7 +22,6 @@ import de.edgelord.saltyengine.core.animation.LinearKeyframeAnimation;
 import de.edgelord.saltyengine.core.graphics.SaltyGraphics;
 import de.edgelord.saltyengine.gameobject.DrawingRoutine;
 import de.edgelord.saltyengine.scene.Scene;
-import de.edgelord.saltyengine.transform.Vector2f;
 import de.edgelord.saltyengine.utils.ColorUtil;
 
 import java.awt.*;
@@ -96,7 +95,7 @@ public abstract class SceneFade extends SceneGFXComponent {
 
                 if (isEnabled()) {
                     saltyGraphics.setColor(ColorUtil.withAlpha(color, currentAlpha));
-                    saltyGraphics.drawRect(Vector2f.zero(), Game.getGameDimensions());
+                    saltyGraphics.drawRect(0f, 0f, Game.getGameWidth(), Game.getGameHeight());
                 }
             }
         };
@@ -130,7 +129,7 @@ public abstract class SceneFade extends SceneGFXComponent {
             container.removeDrawingRoutine(drawingRoutine);
             remove();
         } else {
-            currentAlpha += animation.nextDelta();
+            currentAlpha = animation.nextValue();
         }
     }
 
@@ -19,6 +19,7 @@ package de.edgelord.saltyengine.components.gfx.scene;
 import de.edgelord.saltyengine.components.gfx.GFXComponent;
 import de.edgelord.saltyengine.core.Game;
 import de.edgelord.saltyengine.core.SceneManager;
+import de.edgelord.saltyengine.core.annotations.EmptyImplementation;
 import de.edgelord.saltyengine.core.graphics.SaltyGraphics;
 import de.edgelord.saltyengine.core.stereotypes.ComponentContainer;
 import de.edgelord.saltyengine.gameobject.DrawingRoutine;
@@ -91,10 +92,12 @@ public class SceneOverlay extends SceneGFXComponent {
      * @param saltyGraphics the graphics context to draw with
      */
     @Override
+    @EmptyImplementation
     public void draw(final SaltyGraphics saltyGraphics) {
     }
 
     @Override
+    @EmptyImplementation
     public void onFixedTick() {
 
     }
@@ -17,6 +17,7 @@
 package de.edgelord.saltyengine.components.rendering;
 
 import de.edgelord.saltyengine.core.Component;
+import de.edgelord.saltyengine.core.annotations.EmptyImplementation;
 import de.edgelord.saltyengine.core.event.CollisionEvent;
 import de.edgelord.saltyengine.core.graphics.SaltyGraphics;
 import de.edgelord.saltyengine.core.stereotypes.ComponentContainer;
@@ -31,6 +32,7 @@ public abstract class RenderComponent extends Component {
     public abstract void draw(SaltyGraphics saltyGraphics);
 
     @Override
+    @EmptyImplementation
     public void onFixedTick() {
 
     }
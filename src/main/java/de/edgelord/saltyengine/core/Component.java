@@ -23,6 +23,7 @@ import de.edgelord.saltyengine.core.interfaces.Drawable;
 import de.edgelord.saltyengine.core.interfaces.FixedTickRoutine;
 import de.edgelord.saltyengine.core.interfaces.InitializeAble;
 import de.edgelord.saltyengine.core.stereotypes.ComponentContainer;
+import de.edgelord.saltyengine.core.stereotypes.ComponentStore;
 
 import java.util.List;
 
@@ -32,6 +33,12 @@ public abstract class Component<T extends ComponentContainer> implements Drawabl
     private String tag;
     private String name;
 
+    /**
+     * The {@link ComponentStore} this component was added to, which is notified when it is enabled, disabled or
+     * renamed even if the {@link #parent} is not the container of that store.
+     */
+    private volatile ComponentStore store = null;
+
     private boolean enabled = true;
 
     public Component(final T parent, final String name, final String tag) {
@@ -102,6 +109,8 @@ public abstract class Component<T extends ComponentContainer> implements Drawabl
 
     public void setName(final String name) {
         this.name = name;
+
+        stateChanged();
     }
 
     public boolean isEnabled() {
@@ -109,7 +118,44 @@ public abstract class Component<T extends ComponentContainer> implements Drawabl
     }
 
     public void setEnabled(final boolean enabled) {
-        this.enabled = enabled;
+        if (this.enabled != enabled) {
+            this.enabled = enabled;
+
+            stateChanged();
+        }
+    }
+
+    /**
+     * Notifies the {@link #store} and the {@link #parent} that this component was enabled, disabled or renamed.
+     */
+    private void stateChanged() {
+        final ComponentStore currentStore = store;
+
+        if (currentStore != null) {
+            currentStore.invalidate();
+        }
+        if (parent != null) {
+            parent.componentStateChanged();
+        }
+    }
+
+    /**
+     * Gets {@link #store}.
+     *
+     * @return the value of {@link #store}
+     */
+    public ComponentStore getStore() {
+        return store;
+    }
+
+    /**
+     * Sets {@link #store}. This is called by the {@link ComponentStore} when this component is added to or removed
+     * from it.
+     *
+     * @param store the new value of {@link #store}
+     */
+    public void setStore(final ComponentStore store) {
+        this.store = store;
     }
 
     public void enable() {
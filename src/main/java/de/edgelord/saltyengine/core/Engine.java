@@ -16,6 +16,8 @@
 
 package de.edgelord.saltyengine.core;
 
+import de.edgelord.saltyengine.core.interfaces.FixedTickRoutine;
+import de.edgelord.saltyengine.input.InputEventQueue;
 import de.edgelord.saltyengine.utils.SaltySystem;
 import de.edgelord.saltyengine.utils.Time;
 
@@ -23,6 +25,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * The {@link Game#getEngine() engine} handles the repainting of the {@link Host} and the fixed ticks.
@@ -52,6 +55,12 @@ public class Engine {
      */
     private final List<ScheduledTask> scheduledTasks = new ArrayList<>();
 
+    /**
+     * Routines that are called at the end of every fixed tick, after the {@link #scheduledTasks},
+     * independent of the current {@link de.edgelord.saltyengine.scene.Scene}.
+     */
+    private final List<FixedTickRoutine> fixedTickRoutines = new CopyOnWriteArrayList<>();
+
     /**
      * Only used internally to stop the timers.
      */
@@ -102,12 +111,19 @@ public class Engine {
         fixedTimer.scheduleAtFixedRate(new TimerTask() {
             @Override
             public void run() {
+                // input is delivered while paused as well, so that the game can be resumed
+                InputEventQueue.drain();
+
                 if (!Game.isPaused()) {
                     SceneManager.getCurrentScene().onFixedTick();
 
                     for (int i = 0; i < scheduledTasks.size(); i++) {
                         scheduledTasks.get(i).onFixedTick();
                     }
+
+                    for (final FixedTickRoutine routine : fixedTickRoutines) {
+                        routine.onFixedTick();
+                    }
                 }
             }
         }, 0, fixedTickMillis);
@@ -158,6 +174,20 @@ public class Engine {
         isCloseRequested = true;
     }
 
+    /**
+     * Adds a routine that is called at the end of every fixed tick on the fixed tick thread,
+     * no matter which {@link de.edgelord.saltyengine.scene.Scene} is active.
+     *
+     * @param routine the routine to add
+     */
+    public void addFixedTickRoutine(final FixedTickRoutine routine) {
+        fixedTickRoutines.add(routine);
+    }
+
+    public void removeFixedTickRoutine(final FixedTickRoutine routine) {
+        fixedTickRoutines.remove(routine);
+    }
+
     /**
      * Gets {@link #scheduledTasks}.
      *
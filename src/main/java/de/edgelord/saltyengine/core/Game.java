@@ -16,6 +16,7 @@
 
 package de.edgelord.saltyengine.core;
 
+import de.edgelord.saltyengine.audio.AudioListener;
 import de.edgelord.saltyengine.core.camera.Camera;
 import de.edgelord.saltyengine.core.camera.Camera2D;
 import de.edgelord.saltyengine.core.graphics.GFXController;
@@ -23,6 +24,7 @@ import de.edgelord.saltyengine.displaymanager.display.DisplayManager;
 import de.edgelord.saltyengine.displaymanager.display.DisplayRatio;
 import de.edgelord.saltyengine.factory.FontFactory;
 import de.edgelord.saltyengine.factory.ImageFactory;
+import de.edgelord.saltyengine.io.serialization.AutoSaver;
 import de.edgelord.saltyengine.io.serialization.Serializer;
 import de.edgelord.saltyengine.resource.InnerResource;
 import de.edgelord.saltyengine.resource.OuterResource;
@@ -69,6 +71,11 @@ public class Game {
      * The {@link Camera} of the game.
      */
     private static Camera2D camera;
+    /**
+     * The {@link AudioListener} that is updated by the current {@link Scene} each fixed tick,
+     * or <code>null</code> if there is no positional audio.
+     */
+    private static AudioListener audioListener = null;
     /**
      * The original dimensions of the game aka it's resolution. This will be it's resolution at any time,
      * a bigger window will only resist in scaling up, not in a higher resolution as this is easier in terms of logic
@@ -193,10 +200,33 @@ public class Game {
         return new Transform(Vector2f.zero(), Game.getGameDimensions());
     }
 
+    /**
+     * Writes the virtual {@link Transform} of the game into the given one, see {@link #getGameTransform()}.
+     *
+     * @param out the <code>Transform</code> to write to
+     * @return the given <code>Transform</code>
+     */
+    public static Transform getGameTransform(final Transform out) {
+        out.getPosition().set(0f, 0f);
+        getGameDimensions(out.getDimensions());
+        return out;
+    }
+
     public static Dimensions getGameDimensions() {
         return new Dimensions(gameDimensions);
     }
 
+    /**
+     * Writes the game resolution into the given {@link Dimensions} instead of allocating a new instance
+     * like {@link #getGameDimensions()} does.
+     *
+     * @param out the <code>Dimensions</code> to write the game resolution to
+     * @return the given <code>Dimensions</code>
+     */
+    public static Dimensions getGameDimensions(final Dimensions out) {
+        return out.set(gameDimensions);
+    }
+
     /**
      * Returns the width value of {@link #gameDimensions}.
      *
@@ -315,6 +345,14 @@ public class Game {
         Game.camera = camera;
     }
 
+    public static AudioListener getAudioListener() {
+        return audioListener;
+    }
+
+    public static void setAudioListener(final AudioListener audioListener) {
+        Game.audioListener = audioListener;
+    }
+
     /**
      * Once this method is called, the game will call {@link Serializer#doSerialization()} when the game is exited.
      *
@@ -323,6 +361,8 @@ public class Game {
     public static void saveOnExit(final String safeFile) {
         WindowClosingHooks.addShutdownHook(() -> {
             try {
+                // so that no older snapshot is written after the final save
+                AutoSaver.stop();
                 Serializer.doSerialization(safeFile);
             } catch (final IOException e) {
                 e.printStackTrace();
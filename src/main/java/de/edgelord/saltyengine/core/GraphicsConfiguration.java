@@ -43,4 +43,16 @@ public class GraphicsConfiguration {
      * {@link de.edgelord.saltyengine.emitter.EmitterComponent}
      */
     public static boolean renderGFX = true;
+
+    /**
+     * Decides whether images that are drawn with a size different from their own should be drawn
+     * from pre-scaled variants cached by the {@link de.edgelord.saltyengine.effect.image.ScaledImageCache}.
+     */
+    public static boolean cacheScaledImages = true;
+
+    /**
+     * Decides whether text drawn with {@link de.edgelord.saltyengine.core.graphics.SaltyGraphics#drawText(Object, float, float, de.edgelord.saltyengine.core.graphics.SaltyGraphics.TextAnchor)}
+     * should be measured and laid out using the {@link de.edgelord.saltyengine.core.graphics.TextLayoutCache}.
+     */
+    public static boolean cacheTextLayouts = true;
 }
@@ -58,15 +58,22 @@ public class SceneManager {
     }
 
     /**
-     * Sets {@link #currentScene}.
+     * Sets {@link #currentScene} and calls {@link Scene#onLeave()}
+     * on the previous one.
      *
      * @param scene      the new value of {@link #currentScene}
      * @param initialize whether the <code>Scene</code> should be
      *                   {@link Scene#initialize() initialized} by this method or not.
      */
     public static void setCurrentScene(final Scene scene, final boolean initialize) {
+        final Scene previousScene = currentScene;
         currentScene = scene;
 
+        if (previousScene != null && previousScene != scene) {
+            previousScene.onLeave();
+            previousScene.removeProfilerPhases();
+        }
+
         if (initialize) {
             scene.initialize();
         }
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.core.animation;
+
+/**
+ * An easing curve that maps the linear progress between two {@link Keyframe}s
+ * to the eased progress that is used for interpolating their values.
+ * <p>
+ * Both the progress and the result are usually within <code>0</code> and <code>1</code>,
+ * an easing that overshoots (e.g. a "back" easing) may return values out of that range.
+ * Implementations must not allocate, because they are evaluated once per sample.
+ */
+@FunctionalInterface
+public interface Easing {
+
+    /**
+     * A linear easing, the progress is returned unchanged.
+     */
+    Easing LINEAR = x -> x;
+
+    /**
+     * A quadratic easing that starts slowly and accelerates.
+     */
+    Easing EASE_IN = x -> x * x;
+
+    /**
+     * A quadratic easing that starts fast and decelerates.
+     */
+    Easing EASE_OUT = x -> x * (2f - x);
+
+    /**
+     * A quadratic easing that accelerates until the half and then decelerates.
+     */
+    Easing EASE_IN_OUT = x -> x < .5f ? 2f * x * x : -1f + (4f - 2f * x) * x;
+
+    /**
+     * A cubic easing that starts slowly and accelerates.
+     */
+    Easing CUBIC_IN = x -> x * x * x;
+
+    /**
+     * A cubic easing that starts fast and decelerates.
+     */
+    Easing CUBIC_OUT = x -> {
+        final float inverse = x - 1f;
+        return inverse * inverse * inverse + 1f;
+    };
+
+    /**
+     * The smoothstep curve, which has a first derivative of <code>0</code> at both ends.
+     */
+    Easing SMOOTH_STEP = x -> x * x * (3f - 2f * x);
+
+    /**
+     * An easing that holds the value of the first <code>Keyframe</code> until the second one is reached.
+     */
+    Easing STEP = x -> x < 1f ? 0f : 1f;
+
+    /**
+     * Returns the eased progress for the given linear progress.
+     *
+     * @param progress the linear progress between two <code>Keyframe</code>s, from <code>0</code> to <code>1</code>
+     * @return the eased progress
+     */
+    float ease(float progress);
+}
@@ -32,6 +32,12 @@ public class Keyframe {
      */
     private float value;
 
+    /**
+     * The {@link Easing} of the transition from this <code>Keyframe</code> to the next one.
+     * If this is <code>null</code>, the easing of the {@link KeyframeAnimation} is used.
+     */
+    private Easing easing;
+
     /**
      * The constructor.
      *
@@ -39,8 +45,21 @@ public class Keyframe {
      * @param value    the value
      */
     public Keyframe(final int timecode, final float value) {
+        this(timecode, value, null);
+    }
+
+    /**
+     * A constructor.
+     *
+     * @param timecode the timecode
+     * @param value    the value
+     * @param easing   the easing of the transition to the next <code>Keyframe</code>, or <code>null</code>
+     *                 to use the easing of the animation
+     */
+    public Keyframe(final int timecode, final float value, final Easing easing) {
         this.timecode = timecode;
         this.value = value;
+        this.easing = easing;
     }
 
     /**
@@ -78,4 +97,22 @@ public class Keyframe {
     public void setValue(final float value) {
         this.value = value;
     }
+
+    /**
+     * Gets {@link #easing}.
+     *
+     * @return the value of {@link #easing}
+     */
+    public Easing getEasing() {
+        return easing;
+    }
+
+    /**
+     * Sets {@link #easing}.
+     *
+     * @param easing the new value of {@link #easing}
+     */
+    public void setEasing(final Easing easing) {
+        this.easing = easing;
+    }
 }
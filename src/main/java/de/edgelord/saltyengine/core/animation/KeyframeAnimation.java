@@ -16,10 +16,27 @@
 
 package de.edgelord.saltyengine.core.animation;
 
-import java.util.*;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * An abstract implementation of the <code>Keyframe animation</code> concept.
+ * <p>
+ * {@link #calculateAnimation()} copies the sorted {@link Keyframe}s into primitive arrays,
+ * from which the value at any frame is sampled on demand, so that the memory of an animation only
+ * depends on the number of <code>Keyframe</code>s and not on its duration. Sampling the frames in order
+ * (as {@link #nextDelta()} does) takes constant time, jumping to an arbitrary frame takes
+ * <code>O(log(k))</code> for <code>k</code> <code>Keyframe</code>s. Neither allocates.
+ * <p>
+ * Subclasses that calculate the deltas on their own can still put them into {@link #getAnimation()},
+ * in which case {@link #nextDelta()} returns those deltas for the frames they were put for.
  */
 public abstract class KeyframeAnimation {
 
@@ -31,10 +48,30 @@ public abstract class KeyframeAnimation {
     private List<Keyframe> keyframes;
 
     /**
-     * A map of relative values to timecode generated by
-     * {@link #calculateAnimation()}
+     * The sorted timecodes of the {@link #keyframes}, generated by {@link #prepareAnimation()}
      */
-    private Map<Integer, Float> animation = new HashMap<>();
+    private int[] timecodes = new int[0];
+
+    /**
+     * The values of the {@link #keyframes}, in the order of {@link #timecodes}
+     */
+    private float[] values = new float[0];
+
+    /**
+     * The easing of the transition starting at each <code>Keyframe</code>, in the order of {@link #timecodes}
+     */
+    private Easing[] easings = new Easing[0];
+
+    /**
+     * The easing for all transitions whose starting <code>Keyframe</code> has none on its own
+     */
+    private Easing easing = Easing.LINEAR;
+
+    /**
+     * The index of the <code>Keyframe</code> at which the last sampled transition started,
+     * used to sample consecutive frames without searching.
+     */
+    private int segment = 0;
 
     /**
      * The timecode of the last {@link Keyframe}
@@ -52,6 +89,17 @@ public abstract class KeyframeAnimation {
      */
     private boolean unCalculatedChanges = false;
 
+    /**
+     * Whether the warning about {@link #unCalculatedChanges} was already printed since the last change.
+     */
+    private boolean unCalculatedChangesWarned = false;
+
+    /**
+     * The frame-to-delta values of the animation. By default, this is a view that samples the
+     * keyframes and holds the deltas that subclasses put into it, see {@link #getAnimation()}.
+     */
+    private Map<Integer, Float> animation = new DeltaView();
+
     /**
      * A constructor.
      *
@@ -87,14 +135,17 @@ public abstract class KeyframeAnimation {
      * @return the next delta-step of the linear keyframe animation
      */
     public float nextDelta() {
-
-        if (unCalculatedChanges) {
-            System.out.println("Warning: There are un-calculated changes in a KeyframeAnimation!");
-        }
+        warnUnCalculatedChanges();
 
         if (!animationEnded()) {
             currentFrame++;
-            return animation.get(currentFrame);
+
+            if (animation instanceof DeltaView && !((DeltaView) animation).hasOverrides()) {
+                return getDelta(currentFrame);
+            }
+
+            final Float delta = animation.get(currentFrame);
+            return delta == null ? 0f : delta;
         } else {
             // If there is a request out of the available timeline, there should be no delta, so return 0
             return 0f;
@@ -102,19 +153,169 @@ public abstract class KeyframeAnimation {
     }
 
     /**
-     * Fills the {@link #animation} with timecode-to-delta values.
+     * Advances the animation by one frame, exactly like {@link #nextDelta()},
+     * but returns the absolute value reached after that frame instead of the delta to the previous one.
+     * Adding up all deltas gives the same value, but without accumulating rounding errors.
+     * Deltas put into {@link #getAnimation()} by subclasses are not taken into account.
+     *
+     * @return the value of the animation after the next frame
+     */
+    public float nextValue() {
+        warnUnCalculatedChanges();
+
+        if (!animationEnded()) {
+            currentFrame++;
+        }
+
+        return getValue(currentFrame + 1);
+    }
+
+    private void warnUnCalculatedChanges() {
+        if (unCalculatedChanges && !unCalculatedChangesWarned) {
+            unCalculatedChangesWarned = true;
+            System.out.println("[WARNING] There are un-calculated changes in a KeyframeAnimation!");
+        }
+    }
+
+    /**
+     * Returns the delta between the values of the animation at the given frame and the one after it.
+     *
+     * @param frame the frame
+     * @return the delta from the given frame to the next one
+     */
+    private float getDelta(final int frame) {
+        return getValue(frame + 1) - getValue(frame);
+    }
+
+    /**
+     * Returns the value of the animation at the given frame.
+     * Before the first <code>Keyframe</code> this is the value of the first one, after the last
+     * <code>Keyframe</code> the value of the last one. If multiple <code>Keyframe</code>s share a timecode,
+     * the one added last defines the value from that timecode on.
+     *
+     * @param frame the frame to sample
+     * @return the value at the given frame
+     */
+    public float getValue(final int frame) {
+        return getValue((float) frame);
+    }
+
+    /**
+     * Returns the value of the animation at the given, possibly fractional, time.
+     *
+     * @param time the time to sample, in frames
+     * @return the value at the given time
+     * @see #getValue(int)
+     */
+    public float getValue(final float time) {
+        final int count = timecodes.length;
+
+        if (count == 0) {
+            return 0f;
+        }
+
+        final int index = findSegment(time);
+
+        if (index < 0) {
+            return values[0];
+        }
+        if (index == count - 1) {
+            return values[index];
+        }
+
+        final int start = timecodes[index];
+        final float progress = (time - start) / (timecodes[index + 1] - start);
+        final Easing segmentEasing = easings[index] == null ? easing : easings[index];
+
+        return values[index] + (values[index + 1] - values[index]) * segmentEasing.ease(progress);
+    }
+
+    /**
+     * Returns the index of the last <code>Keyframe</code> whose timecode is not bigger than the given time,
+     * or <code>-1</code> if the time is before the first <code>Keyframe</code>.
+     * The last found index is checked first, so that sampling consecutive frames takes constant time.
+     *
+     * @param time the time to find the transition for
+     * @return the index of the <code>Keyframe</code> at which the transition containing the time starts
+     */
+    private int findSegment(final float time) {
+        final int[] timecodes = this.timecodes;
+        final int last = timecodes.length - 1;
+        int index = segment;
+
+        if (index <= last && timecodes[index] <= time) {
+            while (index < last && timecodes[index + 1] <= time) {
+                index++;
+                if (index - segment > 2) {
+                    // not sampling consecutively, search the rest instead
+                    index = search(time, index, last);
+                    break;
+                }
+            }
+        } else {
+            index = search(time, 0, last);
+        }
+
+        segment = Math.max(index, 0);
+        return index;
+    }
+
+    /**
+     * Searches the last index within the given bounds whose timecode is not bigger than the given time.
+     *
+     * @param time the time
+     * @param from the lowest index to search, inclusive
+     * @param to   the highest index to search, inclusive
+     * @return the found index, or <code>from - 1</code> if all timecodes within the bounds are bigger than the time
+     */
+    private int search(final float time, int from, int to) {
+        final int lowest = from;
+        int result = lowest - 1;
+
+        while (from <= to) {
+            final int middle = (from + to) >>> 1;
+            if (timecodes[middle] <= time) {
+                result = middle;
+                from = middle + 1;
+            } else {
+                to = middle - 1;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Prepares the animation for sampling, usually by calling {@link #prepareAnimation()}.
      */
     public abstract void calculateAnimation();
 
     /**
-     * Sorts the {@link #keyframes} by their timecode and sets the {@link #end}.
+     * Sorts the {@link #keyframes} by their timecode, copies them into the primitive arrays that are sampled,
+     * sets the {@link #end} and clears the deltas in {@link #getAnimation()}.
      */
     protected void prepareAnimation() {
         currentFrame = -1;
+        segment = 0;
         unCalculatedChanges = false;
+        unCalculatedChangesWarned = false;
+        animation.clear();
         keyframes.sort(Comparator.comparingInt(Keyframe::getTimecode));
         this.end = keyframes.get(keyframes.size() - 1).getTimecode();
-        getAnimation().clear();
+
+        final int count = keyframes.size();
+        if (timecodes.length != count) {
+            timecodes = new int[count];
+            values = new float[count];
+            easings = new Easing[count];
+        }
+
+        for (int i = 0; i < count; i++) {
+            final Keyframe keyframe = keyframes.get(i);
+            timecodes[i] = keyframe.getTimecode();
+            values[i] = keyframe.getValue();
+            easings[i] = keyframe.getEasing();
+        }
     }
 
     /**
@@ -136,7 +337,7 @@ public abstract class KeyframeAnimation {
      */
     public void add(final Keyframe keyframe) {
         keyframes.add(keyframe);
-        unCalculatedChanges = true;
+        setUnCalculatedChanges();
     }
 
     /**
@@ -149,7 +350,12 @@ public abstract class KeyframeAnimation {
      */
     public void add(final int timecode, final float value) {
         keyframes.add(new Keyframe(timecode, value));
+        setUnCalculatedChanges();
+    }
+
+    private void setUnCalculatedChanges() {
         unCalculatedChanges = true;
+        unCalculatedChangesWarned = false;
     }
 
     public void remove(final Keyframe keyframe) {
@@ -168,14 +374,48 @@ public abstract class KeyframeAnimation {
         currentFrame = -1;
     }
 
+    /**
+     * Returns the frame-to-delta values of the animation.
+     * <p>
+     * By default, this is a view on the keyframes: reading a frame returns the delta from it to the next one,
+     * sampled from the keyframes. Deltas that are put into it override the sampled ones in {@link #nextDelta()}
+     * until the next {@link #prepareAnimation()}, which clears them.
+     *
+     * @return the frame-to-delta values of the animation
+     */
     protected Map<Integer, Float> getAnimation() {
         return animation;
     }
 
+    /**
+     * Replaces the frame-to-delta values of the animation. {@link #nextDelta()} then returns
+     * the deltas of the given map instead of sampling the keyframes.
+     *
+     * @param animation the new frame-to-delta values
+     */
     protected void setAnimation(final Map<Integer, Float> animation) {
         this.animation = animation;
     }
 
+    /**
+     * Gets {@link #easing}.
+     *
+     * @return the value of {@link #easing}
+     */
+    public Easing getEasing() {
+        return easing;
+    }
+
+    /**
+     * Sets {@link #easing}.
+     * This takes effect immediately, without calling {@link #calculateAnimation()}.
+     *
+     * @param easing the new value of {@link #easing}
+     */
+    public void setEasing(final Easing easing) {
+        this.easing = easing;
+    }
+
     /**
      * Gets {@link #keyframes}.
      *
@@ -211,4 +451,77 @@ public abstract class KeyframeAnimation {
     public void setCurrentFrame(final int currentFrame) {
         this.currentFrame = currentFrame;
     }
+
+    /**
+     * The default {@link #animation}: the sampled deltas of the frames of the animation,
+     * overridden by the ones that were put into it.
+     */
+    private final class DeltaView extends AbstractMap<Integer, Float> {
+
+        private Map<Integer, Float> overrides = null;
+
+        private boolean hasOverrides() {
+            return overrides != null && !overrides.isEmpty();
+        }
+
+        @Override
+        public Float get(final Object key) {
+            if (overrides != null && overrides.containsKey(key)) {
+                return overrides.get(key);
+            }
+
+            if (key instanceof Integer) {
+                final int frame = (Integer) key;
+
+                if (frame >= 0 && frame < end) {
+                    return getDelta(frame);
+                }
+            }
+
+            return null;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public Float put(final Integer key, final Float value) {
+            final Float previous = get(key);
+
+            if (overrides == null) {
+                overrides = new HashMap<>();
+            }
+            overrides.put(key, value);
+
+            return previous;
+        }
+
+        @Override
+        public Float remove(final Object key) {
+            return overrides == null ? null : overrides.remove(key);
+        }
+
+        @Override
+        public void clear() {
+            if (overrides != null) {
+                overrides.clear();
+            }
+        }
+
+        @Override
+        public Set<Entry<Integer, Float>> entrySet() {
+            final Map<Integer, Float> deltas = new LinkedHashMap<>();
+
+            for (int frame = 0; frame < end; frame++) {
+                deltas.put(frame, getDelta(frame));
+            }
+            if (overrides != null) {
+                deltas.putAll(overrides);
+            }
+
+            return deltas.entrySet();
+        }
+    }
 }
@@ -20,7 +20,8 @@ import java.util.List;
 
 /**
  * A {@link KeyframeAnimation} implementation which uses
- * linear transitions between values.
+ * linear transitions between values, unless another {@link Easing}
+ * is set for the animation or for single {@link Keyframe}s.
  */
 public class LinearKeyframeAnimation extends KeyframeAnimation {
 
@@ -55,19 +56,5 @@ public class LinearKeyframeAnimation extends KeyframeAnimation {
     @Override
     public void calculateAnimation() {
         prepareAnimation();
-
-        int index = 0;
-        final List<Keyframe> keyframes = getKeyframes();
-        while (index < getKeyframes().size() - 1) {
-            int i = 0;
-            final int duration = keyframes.get(index + 1).getTimecode() - keyframes.get(index).getTimecode();
-            final float step = (keyframes.get(index + 1).getValue() - keyframes.get(index).getValue()) / duration;
-
-            while (i < duration) {
-                getAnimation().put(i + keyframes.get(index).getTimecode(), step);
-                i++;
-            }
-            index++;
-        }
     }
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2019 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.core.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an empty implementation of {@link de.edgelord.saltyengine.core.Component#draw(de.edgelord.saltyengine.core.graphics.SaltyGraphics)}
+ * or {@link de.edgelord.saltyengine.core.Component#onFixedTick()}.
+ * A {@link de.edgelord.saltyengine.core.stereotypes.ComponentStore} doesn't call marked methods at all,
+ * which e.g. saves a copy of the graphics context per component and frame.
+ * As annotations on methods are not inherited, a subclass that overrides the method is called again.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface EmptyImplementation {
+}
@@ -21,10 +21,14 @@ import de.edgelord.saltyengine.utils.Directions;
 
 /**
  * This class is used for handling collisions between GameObjects. It has all necessary parameters for physics etc.
+ * <p>
+ * The events created by the engine's collision detection are pooled in the
+ * {@link de.edgelord.saltyengine.collision.ContactBuffer} of the scene and reused in the next fixed tick,
+ * so they should not be kept after the tick they were passed in.
  */
 public class CollisionEvent {
 
-    private final GameObject otherGameObject;
+    private GameObject otherGameObject;
     private Directions.Direction collisionDirection;
 
     public CollisionEvent(final GameObject otherGameObject, final Directions.Direction collisionDirection) {
@@ -37,6 +41,15 @@ public class CollisionEvent {
         return otherGameObject;
     }
 
+    /**
+     * Sets the other <code>GameObject</code>. Used to reuse pooled events.
+     *
+     * @param otherGameObject the other <code>GameObject</code> of the collision
+     */
+    public void setOtherGameObject(final GameObject otherGameObject) {
+        this.otherGameObject = otherGameObject;
+    }
+
     public Directions.Direction getCollisionDirection() {
         return collisionDirection;
     }
@@ -20,18 +20,19 @@ import de.edgelord.saltyengine.components.gfx.GFXComponent;
 import de.edgelord.saltyengine.core.Component;
 import de.edgelord.saltyengine.core.Game;
 import de.edgelord.saltyengine.core.stereotypes.ComponentContainer;
+import de.edgelord.saltyengine.core.stereotypes.ComponentIndex;
+import de.edgelord.saltyengine.core.stereotypes.ComponentStore;
 import de.edgelord.saltyengine.gameobject.Components;
 import de.edgelord.saltyengine.transform.Dimensions;
 import de.edgelord.saltyengine.transform.Transform;
 import de.edgelord.saltyengine.transform.Vector2f;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 public class GFXController extends ComponentContainer {
 
-    private final List<Component> components = Collections.synchronizedList(new ArrayList<>());
+    private final ComponentStore components = new ComponentStore();
+    private final ComponentIndex componentIndex = new ComponentIndex(components);
     private final Transform transform = new Transform(new Vector2f(0, 0), new Dimensions(0, 0));
 
     public GFXController() {
@@ -44,14 +45,23 @@ public class GFXController extends ComponentContainer {
 
     @Override
     public void addComponent(final Component component) {
-        components.add(component);
+        componentIndex.add(component);
     }
 
     public void addGFX(final GFXComponent component) {
-        components.add(component);
+        componentIndex.add(component);
     }
 
     public GFXComponent getGFX(final String name) {
+        final Component indexed = componentIndex.get(name);
+
+        if (indexed == null) {
+            return null;
+        } else if (indexed.getTag().equals(Components.GFX_COMPONENT)) {
+            return (GFXComponent) indexed;
+        }
+
+        // another component has the same name, so search for the first GFXComponent with it
         for (int i = 0; i < components.size(); i++) {
             final Component component = components.get(i);
 
@@ -68,11 +78,11 @@ public class GFXController extends ComponentContainer {
     }
 
     public void removeGFX(final String name) {
-        components.removeIf(component -> component.getName().equals(name));
+        componentIndex.remove(name);
     }
 
     public void removeGFX(final GFXComponent component) {
-        components.remove(component);
+        componentIndex.remove(component);
     }
 
     public List<Component> getGFX() {
@@ -139,12 +149,12 @@ public class GFXController extends ComponentContainer {
 
     @Override
     public void removeComponent(final String identifier) {
-        components.removeIf(component -> component.getName().equals(identifier));
+        componentIndex.remove(identifier);
     }
 
     @Override
     public void removeComponent(final Component component) {
-        components.remove(component);
+        componentIndex.remove(component);
     }
 
     @Override
@@ -154,13 +164,12 @@ public class GFXController extends ComponentContainer {
 
     @Override
     public Component getComponent(final String identifier) {
-        for (final Component component : components) {
-            if (component.getName().equals(identifier)) {
-                return component;
-            }
-        }
+        return componentIndex.get(identifier);
+    }
 
-        return null;
+    @Override
+    public <C extends Component> C getComponent(final Class<C> type) {
+        return componentIndex.get(type);
     }
 
     @Override
@@ -21,6 +21,7 @@ import de.edgelord.saltyengine.core.GraphicsConfiguration;
 import de.edgelord.saltyengine.core.interfaces.TransformedObject;
 import de.edgelord.saltyengine.effect.BasicRenderContext;
 import de.edgelord.saltyengine.effect.image.SaltyImage;
+import de.edgelord.saltyengine.effect.image.ScaledImageCache;
 import de.edgelord.saltyengine.transform.Dimensions;
 import de.edgelord.saltyengine.transform.Transform;
 import de.edgelord.saltyengine.transform.Vector2f;
@@ -29,6 +30,7 @@ import de.edgelord.saltyengine.utils.SaltySystem;
 
 import java.awt.*;
 import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
 import java.awt.image.ImageObserver;
 
 public class SaltyGraphics {
@@ -367,6 +369,38 @@ public class SaltyGraphics {
         graphics2D.drawImage(image, Math.round(x), Math.round(y), Math.round(width), Math.round(height), null);
     }
 
+    /**
+     * Draws an image whose content only changes together with the given version at the given position
+     * with the given width and height.
+     * <p>
+     * If the image is drawn with a different size than its own and {@link GraphicsConfiguration#cacheScaledImages}
+     * is enabled, a pre-scaled variant from the {@link ScaledImageCache} is drawn as an unscaled blit instead.
+     *
+     * @param image   the image to draw
+     * @param version the version of the content of the image
+     * @param x       the x position of the image
+     * @param y       the y position of the image
+     * @param width   the width with which the image should be drawn
+     * @param height  the height with which the image should be drawn
+     * @see ScaledImageCache#getScaled(Image, int, int, int, Object)
+     */
+    public void drawImage(final Image image, final int version, final float x, final float y, final float width, final float height) {
+        final int roundedWidth = Math.round(width);
+        final int roundedHeight = Math.round(height);
+
+        if (GraphicsConfiguration.cacheScaledImages && roundedWidth > 0 && roundedHeight > 0
+                && (roundedWidth != image.getWidth(null) || roundedHeight != image.getHeight(null))) {
+            final Image scaledImage = ScaledImageCache.getScaled(image, version, roundedWidth, roundedHeight, graphics2D.getRenderingHint(RenderingHints.KEY_INTERPOLATION));
+
+            if (scaledImage != null) {
+                graphics2D.drawImage(scaledImage, Math.round(x), Math.round(y), null);
+                return;
+            }
+        }
+
+        graphics2D.drawImage(image, Math.round(x), Math.round(y), roundedWidth, roundedHeight, null);
+    }
+
     /**
      * Draws the given {@link SaltyImage} at the given position with the given width and height.
      *
@@ -423,7 +457,7 @@ public class SaltyGraphics {
      * @param y     the y position
      */
     public void drawImage(final SaltyImage image, final float x, final float y) {
-        image.draw(this, new Vector2f(x, y));
+        image.draw(this, x, y);
     }
 
     /**
@@ -491,6 +525,29 @@ public class SaltyGraphics {
         drawImage(image, object.getTransform());
     }
 
+    /**
+     * Draws the given region of the given image at the given position with the given width and height.
+     * This is a source-rect blit, so no sub-image has to be created to draw a part of an image.
+     *
+     * @param image         the image to draw a region of
+     * @param x             the x position
+     * @param y             the y position
+     * @param width         the width with which the region should be drawn
+     * @param height        the height with which the region should be drawn
+     * @param sourceX       the x position of the region within the image
+     * @param sourceY       the y position of the region within the image
+     * @param sourceWidth   the width of the region
+     * @param sourceHeight  the height of the region
+     * @see Graphics2D#drawImage(Image, int, int, int, int, int, int, int, int, ImageObserver)
+     */
+    public void drawImageRegion(final Image image, final float x, final float y, final float width, final float height, final int sourceX, final int sourceY, final int sourceWidth, final int sourceHeight) {
+        final int destinationX = Math.round(x);
+        final int destinationY = Math.round(y);
+
+        graphics2D.drawImage(image, destinationX, destinationY, destinationX + Math.round(width), destinationY + Math.round(height),
+                sourceX, sourceY, sourceX + sourceWidth, sourceY + sourceHeight, null);
+    }
+
     /*
     Fill a round rect
      */
@@ -871,38 +928,52 @@ public class SaltyGraphics {
      * @param x      the x position of the baseLine of the first character
      * @param y      the y position of the baseLine of the first character
      * @param anchor the <code>Anchor</code> relative to which the text should be placed
+     * If {@link GraphicsConfiguration#cacheTextLayouts} is enabled, the metrics and the glyphs of the string
+     * are taken from the {@link TextLayoutCache}.
+     *
      * @see Graphics2D#drawString(String, float, float)
      */
     public void drawText(final Object text, final float x, final float y, final TextAnchor anchor) {
 
         final String string = text.toString();
-        float xPos = 0;
-        float yPos = 0;
+
+        if (GraphicsConfiguration.cacheTextLayouts) {
+            final TextLayoutCache.Layout layout = TextLayoutCache.getLayout(string, getFont(), graphics2D);
+            layout.draw(graphics2D, getAnchoredX(x, layout.getWidth(), anchor), getAnchoredY(y, layout.getAscent(), layout.getDescent(), anchor));
+            return;
+        }
+
         final FontMetrics fontMetrics = getFontMetrics();
+        final int width = anchor == TextAnchor.TOP_LEFT_CORNER || anchor == TextAnchor.BOTTOM_LEFT_CORNER ? 0 : fontMetrics.stringWidth(string);
 
+        graphics2D.drawString(string, getAnchoredX(x, width, anchor), getAnchoredY(y, fontMetrics.getAscent(), fontMetrics.getDescent(), anchor));
+    }
+
+    private static float getAnchoredX(final float x, final int width, final TextAnchor anchor) {
+        switch (anchor) {
+            case TOP_RIGHT_CORNER:
+            case BOTTOM_RIGHT_CORNER:
+                return x - width;
+            case CENTRE:
+                return x - (width / 2f);
+            default:
+                return x;
+        }
+    }
+
+    private static float getAnchoredY(final float y, final int ascent, final int descent, final TextAnchor anchor) {
         switch (anchor) {
             case TOP_LEFT_CORNER:
-                xPos = x;
-                yPos = y + fontMetrics.getAscent();
-                break;
-            case BOTTOM_LEFT_CORNER:
-                xPos = x;
-                yPos = y - fontMetrics.getDescent();
-                break;
             case TOP_RIGHT_CORNER:
-                xPos = x - fontMetrics.stringWidth(string);
-                yPos = y + fontMetrics.getAscent();
-                break;
+                return y + ascent;
+            case BOTTOM_LEFT_CORNER:
             case BOTTOM_RIGHT_CORNER:
-                xPos = x - fontMetrics.stringWidth(string);
-                yPos = y - fontMetrics.getDescent();
-                break;
+                return y - descent;
             case CENTRE:
-                xPos = x - (fontMetrics.stringWidth(string) / 2f);
-                yPos = y + fontMetrics.getAscent() - ((fontMetrics.getAscent() + fontMetrics.getDescent()) / 2f);
-                break;
+                return y + ascent - ((ascent + descent) / 2f);
+            default:
+                return 0;
         }
-        graphics2D.drawString(string, xPos, yPos);
     }
 
     /**
@@ -997,7 +1068,7 @@ public class SaltyGraphics {
      * @param height the height of the clipping rect
      */
     public void setClip(final float x, final float y, final float width, final float height) {
-        setClip(new Transform(x, y, width, height));
+        setClip(new Rectangle2D.Float(x, y, width, height));
     }
 
     /**
@@ -0,0 +1,335 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.core.graphics;
+
+import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.util.*;
+import java.util.List;
+
+/**
+ * A cache of measured and laid out text, keyed by the string, the <code>Font</code> and the
+ * {@link FontRenderContext} (and for wrapped text, the line length and word separator).
+ * <p>
+ * {@link SaltyGraphics#drawText(Object, float, float, SaltyGraphics.TextAnchor)} uses {@link #getLayout(String, Font, Graphics2D)}
+ * to get the metrics needed for anchoring a string without measuring it again. When the same string is drawn
+ * in two different frames, a positioned {@link GlyphVector} is created for it, which is then drawn
+ * instead of the string, skipping the layout. Strings that need complex layout (e.g. right-to-left scripts)
+ * are always drawn as strings.
+ * <p>
+ * {@link de.edgelord.saltyengine.components.TextRenderComponent} uses {@link #getLines(String, String, float, Font, FontMetrics)}
+ * to reuse the line breaks of a text.
+ * <p>
+ * Entries that were not used for {@link #maxIdleFrames} frames are evicted. The frames are counted by
+ * {@link de.edgelord.saltyengine.displaymanager.stage.Stage}, which calls {@link #nextFrame()}.
+ * The cache can be disabled using {@link de.edgelord.saltyengine.core.GraphicsConfiguration#cacheTextLayouts}.
+ */
+public class TextLayoutCache {
+
+    /**
+     * The number of frames between two eviction runs.
+     */
+    private static final int EVICTION_INTERVAL = 60;
+
+    /**
+     * All layouts, per <code>Font</code> and string.
+     */
+    private static final Map<Font, Map<String, Layout>> layouts = new HashMap<>();
+
+    /**
+     * All wrapped texts.
+     */
+    private static final Map<LinesKey, Lines> lines = new HashMap<>();
+
+    private static int maxIdleFrames = 120;
+    private static int maxLayouts = 4096;
+
+    private static long frame = 0;
+    private static int layoutCount = 0;
+
+    /**
+     * Returns the layout of the given string drawn with the given font to the given graphics.
+     * If the cache is full, a layout is returned that isn't cached.
+     *
+     * @param string   the string
+     * @param font     the font the string is drawn with
+     * @param graphics the graphics the string is drawn to
+     * @return the layout of the string
+     */
+    public static synchronized Layout getLayout(final String string, final Font font, final Graphics2D graphics) {
+        final FontRenderContext renderContext = graphics.getFontRenderContext();
+        Map<String, Layout> fontLayouts = layouts.get(font);
+
+        if (fontLayouts == null) {
+            fontLayouts = new HashMap<>();
+            layouts.put(font, fontLayouts);
+        }
+
+        Layout layout = fontLayouts.get(string);
+
+        if (layout == null || !layout.renderContext.equals(renderContext)) {
+            final FontMetrics metrics = graphics.getFontMetrics(font);
+            final Layout newLayout = new Layout(string, font, renderContext, metrics.stringWidth(string), metrics.getAscent(), metrics.getDescent(), frame);
+
+            if (layout != null) {
+                fontLayouts.put(string, newLayout);
+            } else if (layoutCount < maxLayouts) {
+                fontLayouts.put(string, newLayout);
+                layoutCount++;
+            }
+
+            return newLayout;
+        }
+
+        if (layout.glyphs == null && layout.lastUsedFrame != frame && layout.simple) {
+            layout.glyphs = font.createGlyphVector(renderContext, string);
+        }
+
+        layout.lastUsedFrame = frame;
+        return layout;
+    }
+
+    /**
+     * Returns the given text broken into lines that fit into the given line length when measured with the given metrics.
+     * The text is split at every occurrence of the word separator, each word is followed by the separator.
+     *
+     * @param text          the text to break into lines
+     * @param wordSeparator the separator of the words, as a regular expression like for {@link String#split(String)}
+     * @param lineLength    the maximum width of a line, a single longer word gets its own line
+     * @param font          the font the text is drawn with
+     * @param fontMetrics   the metrics of the font
+     * @return an unmodifiable list of the lines
+     */
+    public static synchronized List<String> getLines(final String text, final String wordSeparator, final float lineLength, final Font font, final FontMetrics fontMetrics) {
+        final LinesKey key = new LinesKey(text, wordSeparator, lineLength, font, fontMetrics.getFontRenderContext());
+        Lines cached = lines.get(key);
+
+        if (cached == null) {
+            cached = new Lines(breakLines(text, wordSeparator, lineLength, fontMetrics));
+            if (lines.size() < maxLayouts) {
+                lines.put(key, cached);
+            }
+        }
+
+        cached.lastUsedFrame = frame;
+        return cached.lines;
+    }
+
+    private static List<String> breakLines(final String text, final String wordSeparator, final float lineLength, final FontMetrics fontMetrics) {
+        final List<String> result = new ArrayList<>();
+        final String[] words = text.split(wordSeparator);
+        float currentX = 0;
+        StringBuilder lineBuilder = new StringBuilder();
+
+        for (final String word : words) {
+            final float length = fontMetrics.stringWidth(word + wordSeparator);
+
+            if (currentX + length <= lineLength) {
+                lineBuilder.append(word).append(wordSeparator);
+                currentX += length;
+            } else {
+                result.add(lineBuilder.toString());
+                lineBuilder = new StringBuilder();
+                lineBuilder.append(word).append(wordSeparator);
+                currentX = length;
+            }
+        }
+
+        result.add(lineBuilder.toString());
+
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Advances the frame counter and evicts all entries that weren't used
+     * for {@link #maxIdleFrames} frames every {@link #EVICTION_INTERVAL} frames.
+     */
+    public static synchronized void nextFrame() {
+        frame++;
+
+        if (frame % EVICTION_INTERVAL != 0) {
+            return;
+        }
+
+        final Iterator<Map<String, Layout>> fontIterator = layouts.values().iterator();
+        while (fontIterator.hasNext()) {
+            final Map<String, Layout> fontLayouts = fontIterator.next();
+            final Iterator<Layout> layoutIterator = fontLayouts.values().iterator();
+
+            while (layoutIterator.hasNext()) {
+                if (frame - layoutIterator.next().lastUsedFrame > maxIdleFrames) {
+                    layoutIterator.remove();
+                    layoutCount--;
+                }
+            }
+
+            if (fontLayouts.isEmpty()) {
+                fontIterator.remove();
+            }
+        }
+
+        lines.values().removeIf(cached -> frame - cached.lastUsedFrame > maxIdleFrames);
+    }
+
+    public static synchronized void clear() {
+        layouts.clear();
+        lines.clear();
+        layoutCount = 0;
+    }
+
+    public static synchronized int getLayoutCount() {
+        return layoutCount;
+    }
+
+    public static synchronized int getMaxIdleFrames() {
+        return maxIdleFrames;
+    }
+
+    public static synchronized void setMaxIdleFrames(final int maxIdleFrames) {
+        TextLayoutCache.maxIdleFrames = maxIdleFrames;
+    }
+
+    public static synchronized int getMaxLayouts() {
+        return maxLayouts;
+    }
+
+    public static synchronized void setMaxLayouts(final int maxLayouts) {
+        TextLayoutCache.maxLayouts = maxLayouts;
+    }
+
+    /**
+     * The measured and possibly laid out form of a string drawn with a specific <code>Font</code>.
+     */
+    public static class Layout {
+
+        private final String string;
+        private final Font font;
+        private final FontRenderContext renderContext;
+        private final int width;
+        private final int ascent;
+        private final int descent;
+
+        /**
+         * Whether the string can be drawn from a plain <code>GlyphVector</code>, which isn't true for
+         * strings that need e.g. bidirectional layout or shaping.
+         */
+        private final boolean simple;
+        private long lastUsedFrame;
+        private volatile GlyphVector glyphs = null;
+
+        private Layout(final String string, final Font font, final FontRenderContext renderContext, final int width, final int ascent, final int descent, final long lastUsedFrame) {
+            this.string = string;
+            this.font = font;
+            this.renderContext = renderContext;
+            this.width = width;
+            this.ascent = ascent;
+            this.descent = descent;
+            this.lastUsedFrame = lastUsedFrame;
+            final char[] chars = string.toCharArray();
+            this.simple = !Font.textRequiresLayout(chars, 0, chars.length);
+        }
+
+        /**
+         * Draws the string to the given graphics, with the left end of its baseline at the given position.
+         * The graphics is expected to use the font and the render context of this layout.
+         *
+         * @param graphics the graphics to draw to
+         * @param x        the x position of the baseline
+         * @param y        the y position of the baseline
+         */
+        public void draw(final Graphics2D graphics, final float x, final float y) {
+            final GlyphVector glyphs = this.glyphs;
+
+            if (glyphs != null) {
+                graphics.drawGlyphVector(glyphs, x, y);
+            } else {
+                graphics.drawString(string, x, y);
+            }
+        }
+
+        public String getString() {
+            return string;
+        }
+
+        public Font getFont() {
+            return font;
+        }
+
+        /**
+         * Returns the width of the string as returned by {@link FontMetrics#stringWidth(String)}.
+         *
+         * @return the width of the string
+         */
+        public int getWidth() {
+            return width;
+        }
+
+        public int getAscent() {
+            return ascent;
+        }
+
+        public int getDescent() {
+            return descent;
+        }
+    }
+
+    private static class Lines {
+
+        private final List<String> lines;
+        private long lastUsedFrame;
+
+        private Lines(final List<String> lines) {
+            this.lines = lines;
+        }
+    }
+
+    private static class LinesKey {
+
+        private final String text;
+        private final String wordSeparator;
+        private final float lineLength;
+        private final Font font;
+        private final FontRenderContext renderContext;
+
+        private LinesKey(final String text, final String wordSeparator, final float lineLength, final Font font, final FontRenderContext renderContext) {
+            this.text = text;
+            this.wordSeparator = wordSeparator;
+            this.lineLength = lineLength;
+            this.font = font;
+            this.renderContext = renderContext;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof LinesKey)) {
+                return false;
+            }
+            final LinesKey other = (LinesKey) o;
+            return Float.compare(other.lineLength, lineLength) == 0 && text.equals(other.text) && wordSeparator.equals(other.wordSeparator)
+                    && font.equals(other.font) && renderContext.equals(other.renderContext);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(text, wordSeparator, lineLength, font, renderContext);
+        }
+    }
+}
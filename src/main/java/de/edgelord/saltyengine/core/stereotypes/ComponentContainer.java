@@ -19,6 +19,7 @@ package de.edgelord.saltyengine.core.stereotypes;
 import de.edgelord.saltyengine.core.Component;
 import de.edgelord.saltyengine.core.Game;
 import de.edgelord.saltyengine.core.annotations.DefaultPlacement;
+import de.edgelord.saltyengine.core.event.CollisionEvent;
 import de.edgelord.saltyengine.core.graphics.SaltyGraphics;
 import de.edgelord.saltyengine.core.interfaces.TransformedObject;
 import de.edgelord.saltyengine.transform.Transform;
@@ -97,43 +98,148 @@ public abstract class ComponentContainer implements TransformedObject {
     public abstract Component getComponent(String identifier);
 
     /**
-     * Calls the method {@link Component#onFixedTick()} for every {@link Component}.
+     * Returns the first {@link Component} that is an instance of the given class. <br>
+     * The implementation should use a {@link ComponentIndex} instead of searching all components,
+     * as this is called frequently.
+     *
+     * @param type the class of the {@link Component} to be returned
+     * @param <C>  the type of the {@link Component}
+     * @return the first {@link Component} of the given class or <code>null</code> if there is none
+     */
+    public <C extends Component> C getComponent(final Class<C> type) {
+        for (final Component component : getComponents()) {
+            if (type.isInstance(component)) {
+                return type.cast(component);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Calls the method {@link Component#onFixedTick()} for every enabled {@link Component}.
+     * If the components are kept in a {@link ComponentStore}, only the enabled ones that implement the method are visited.
      */
     public void doComponentOnFixedTick() {
-        getComponents().forEach(component -> {
-            if (component.isEnabled()) {
-                component.onFixedTick();
+        final List<Component> components = getComponents();
+
+        if (components instanceof ComponentStore) {
+            final ComponentStore store = (ComponentStore) components;
+            final Component[] fixedTickComponents = store.getFixedTickComponents();
+            final int count = store.getFixedTickCount();
+
+            for (int i = 0; i < count; i++) {
+                final Component component = fixedTickComponents[i];
+                if (component.isEnabled()) {
+                    component.onFixedTick();
+                }
+            }
+        } else {
+            for (int i = 0; i < components.size(); i++) {
+                final Component component = components.get(i);
+                if (component.isEnabled()) {
+                    component.onFixedTick();
+                }
             }
-        });
+        }
     }
 
     /**
-     * Calls the method {@link Component#draw(SaltyGraphics)} for every component with the given {@link SaltyGraphics}
+     * Calls the method {@link Component#draw(SaltyGraphics)} for every enabled component with a copy of the given {@link SaltyGraphics}.
+     * If the components are kept in a {@link ComponentStore}, only the enabled ones that implement the method are visited.
      *
      * @param graphics the graphics context to draw the components
      */
     public void doComponentDrawing(final SaltyGraphics graphics) {
-        getComponents().forEach(component -> {
-            if (component.isEnabled()) {
-                component.draw(graphics.copy());
+        final List<Component> components = getComponents();
+
+        if (components instanceof ComponentStore) {
+            final ComponentStore store = (ComponentStore) components;
+            final Component[] drawComponents = store.getDrawComponents();
+            final int count = store.getDrawCount();
+
+            for (int i = 0; i < count; i++) {
+                final Component component = drawComponents[i];
+                if (component.isEnabled()) {
+                    component.draw(graphics.copy());
+                }
+            }
+        } else {
+            for (int i = 0; i < components.size(); i++) {
+                final Component component = components.get(i);
+                if (component.isEnabled()) {
+                    component.draw(graphics.copy());
+                }
+            }
+        }
+    }
+
+    /**
+     * Calls {@link Component#onCollision(CollisionEvent)} for every {@link Component}, enabled or not.
+     *
+     * @param event the collision
+     */
+    public void doComponentOnCollision(final CollisionEvent event) {
+        final List<Component> components = getComponents();
+
+        if (components instanceof ComponentStore) {
+            final ComponentStore.Snapshot snapshot = ((ComponentStore) components).snapshot();
+            for (int i = 0; i < snapshot.size; i++) {
+                snapshot.components[i].onCollision(event);
+            }
+        } else {
+            for (int i = 0; i < components.size(); i++) {
+                components.get(i).onCollision(event);
+            }
+        }
+    }
+
+    /**
+     * Calls {@link Component#onCollisionDetectionFinish(List)} for every {@link Component}, enabled or not.
+     *
+     * @param collisions the collisions of the last collision detection
+     */
+    public void doComponentOnCollisionDetectionFinish(final List<CollisionEvent> collisions) {
+        final List<Component> components = getComponents();
+
+        if (components instanceof ComponentStore) {
+            final ComponentStore.Snapshot snapshot = ((ComponentStore) components).snapshot();
+            for (int i = 0; i < snapshot.size; i++) {
+                snapshot.components[i].onCollisionDetectionFinish(collisions);
             }
-        });
+        } else {
+            for (int i = 0; i < components.size(); i++) {
+                components.get(i).onCollisionDetectionFinish(collisions);
+            }
+        }
     }
 
     public void doComponentCursorEntersParent() {
-        getComponents().forEach(component -> {
+        for (final Component component : getComponents()) {
             if (component.isEnabled()) {
                 component.onCursorEntersParent();
             }
-        });
+        }
     }
 
     public void doComponentCursorExitsParent() {
-        getComponents().forEach(component -> {
+        for (final Component component : getComponents()) {
             if (component.isEnabled()) {
                 component.onCursorExitsParent();
             }
-        });
+        }
+    }
+
+    /**
+     * Called by a {@link Component} of this container when it was enabled, disabled or renamed, so that a
+     * {@link ComponentStore} can collect the enabled components and a {@link ComponentIndex} can index them again.
+     */
+    public void componentStateChanged() {
+        final List<Component> components = getComponents();
+
+        if (components instanceof ComponentStore) {
+            ((ComponentStore) components).invalidate();
+        }
     }
 
     /**
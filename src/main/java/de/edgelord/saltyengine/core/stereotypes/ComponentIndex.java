@@ -0,0 +1,218 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.core.stereotypes;
+
+import de.edgelord.saltyengine.core.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps the list of {@link Component}s of a {@link ComponentContainer} and indexes them by name and by class,
+ * so that {@link ComponentContainer#getComponent(String)} and {@link ComponentContainer#getComponent(Class)}
+ * don't have to search the whole list on every call.
+ * <p>
+ * If the list is a {@link ComponentStore}, the index is rebuilt whenever the {@link ComponentStore#getVersion() version}
+ * of the store changed, so it stays in sync with changes made to the list directly, and lookups of names that no
+ * component has don't search the list. {@link Component#setName(String)} invalidates the store the component was
+ * added to, which changes the version as well.
+ * <p>
+ * For other lists, components should be added and removed through the index. Hits are checked against the list
+ * and a lookup that misses falls back to searching the list and indexes the result.
+ */
+public class ComponentIndex {
+
+    private final List<Component> components;
+
+    /**
+     * The {@link #components} if they are a {@link ComponentStore}, or else <code>null</code>.
+     */
+    private final ComponentStore store;
+
+    /**
+     * The current index. It is replaced as a whole when it is rebuilt, so that lookups never see a half-built one.
+     */
+    private volatile Index index;
+
+    public ComponentIndex(final List<Component> components) {
+        this.components = components;
+        this.store = components instanceof ComponentStore ? (ComponentStore) components : null;
+
+        index = new Index(store == null ? 0 : store.getVersion());
+        for (final Component component : components) {
+            index.index(component);
+        }
+    }
+
+    /**
+     * Returns the current index, rebuilding it first if the {@link #store} changed since it was built.
+     *
+     * @return the up-to-date index
+     */
+    private Index getIndex() {
+        final Index current = index;
+
+        if (store == null || current.version == store.getVersion()) {
+            return current;
+        }
+
+        final Index rebuilt = new Index(store.getVersion());
+        for (final Component component : store) {
+            rebuilt.index(component);
+        }
+
+        index = rebuilt;
+        return rebuilt;
+    }
+
+    /**
+     * Adds the given component to the list and the index.
+     *
+     * @param component the component to add
+     */
+    public void add(final Component component) {
+        components.add(component);
+
+        if (store == null) {
+            index.index(component);
+        }
+    }
+
+    /**
+     * Removes the given component from the list and the index.
+     *
+     * @param component the component to remove
+     */
+    public void remove(final Component component) {
+        components.remove(component);
+
+        if (store == null) {
+            if (component.getName() != null) {
+                index.names.remove(component.getName(), component);
+            }
+            index.types.clear();
+        }
+    }
+
+    /**
+     * Removes all components with the given name from the list and the index.
+     *
+     * @param name the name of the components to remove
+     */
+    public void remove(final String name) {
+        components.removeIf(component -> name.equals(component.getName()));
+
+        if (store == null) {
+            index.names.remove(name);
+            index.types.clear();
+        }
+    }
+
+    /**
+     * Returns the first component with the given name.
+     *
+     * @param name the name of the component
+     * @return the first component with the given name or <code>null</code> if there is none
+     */
+    public Component get(final String name) {
+        final Index current = getIndex();
+        final Component component = current.names.get(name);
+
+        if (store != null) {
+            if (component == null || name.equals(component.getName())) {
+                return component;
+            }
+        } else if (component != null && name.equals(component.getName()) && components.contains(component)) {
+            return component;
+        }
+
+        for (final Component candidate : components) {
+            if (name.equals(candidate.getName())) {
+                current.names.put(name, candidate);
+                return candidate;
+            }
+        }
+
+        if (component != null) {
+            current.names.remove(name, component);
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the first component that is an instance of the given class.
+     *
+     * @param type the class of the component
+     * @param <C>  the type of the component
+     * @return the first component of the given class or <code>null</code> if there is none
+     */
+    public <C extends Component> C get(final Class<C> type) {
+        final Index current = getIndex();
+        final Component component = current.types.get(type);
+
+        if (component != null) {
+            if (store != null || components.contains(component)) {
+                return type.cast(component);
+            }
+
+            current.types.remove(type, component);
+        }
+
+        for (final Component candidate : components) {
+            if (type.isInstance(candidate)) {
+                current.types.put(type, candidate);
+                return type.cast(candidate);
+            }
+        }
+
+        return null;
+    }
+
+    public List<Component> getComponents() {
+        return components;
+    }
+
+    /**
+     * The components by name and by class at one {@link ComponentStore#getVersion() version} of the store.
+     */
+    private static final class Index {
+
+        private final int version;
+
+        /**
+         * The first component with each name.
+         */
+        private final Map<String, Component> names = new ConcurrentHashMap<>();
+
+        /**
+         * The first component of each class that was looked up so far.
+         */
+        private final Map<Class<?>, Component> types = new ConcurrentHashMap<>();
+
+        private Index(final int version) {
+            this.version = version;
+        }
+
+        private void index(final Component component) {
+            if (component.getName() != null) {
+                names.putIfAbsent(component.getName(), component);
+            }
+        }
+    }
+}
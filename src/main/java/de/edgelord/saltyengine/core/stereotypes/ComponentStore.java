@@ -0,0 +1,420 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.core.stereotypes;
+
+import de.edgelord.saltyengine.core.Component;
+import de.edgelord.saltyengine.core.annotations.EmptyImplementation;
+import de.edgelord.saltyengine.core.graphics.SaltyGraphics;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * The list of {@link Component}s of a {@link ComponentContainer}.
+ * <p>
+ * The components are kept in a plain array that is published as an immutable {@link Snapshot}, so reading and
+ * iterating never locks and never sees a half-done change, just like a <code>CopyOnWriteArrayList</code>.
+ * Unlike that, adding a component only copies the array when it has to grow, because a new snapshot can share the
+ * array of the previous one as long as nothing was written behind its size. Only removals copy the array.
+ * <p>
+ * Every structural change and every {@link #invalidate() change of the enabled state} of a component increments
+ * a version stamp. A component that is added to a store {@link Component#setStore(ComponentStore) knows} it and
+ * invalidates it itself when it is enabled, disabled or renamed, whatever its parent is.
+ * The containers iterate over separate arrays of the enabled components that do something on a fixed
+ * tick or when drawing (see {@link EmptyImplementation}), which are only rebuilt when the version changed since the
+ * last tick or frame.
+ * <p>
+ * Structural changes are not queued between ticks: they are published immediately, so that every reader, including
+ * {@link #get(int)}, the iterators and the {@link ComponentIndex}, sees them with its next read.
+ * Only the tick and the drawing keep using the arrays they collected when they started, so a component that is added
+ * or enabled during a tick is ticked from the next tick on, and a removed or disabled one may be ticked one last time.
+ */
+public class ComponentStore extends AbstractList<Component> implements RandomAccess {
+
+    private static final Component[] EMPTY = new Component[0];
+
+    private static final int TICKS = 1;
+    private static final int DRAWS = 2;
+
+    /**
+     * Whether the classes of the components implement {@link Component#onFixedTick()} and
+     * {@link Component#draw(SaltyGraphics)}, see {@link #getFlags(Class)}.
+     */
+    private static final Map<Class<?>, Integer> FLAGS = new ConcurrentHashMap<>();
+
+    /**
+     * The current components.
+     */
+    private volatile Snapshot snapshot = new Snapshot(EMPTY, 0);
+
+    /**
+     * Incremented on every structural change and every call of {@link #invalidate()}.
+     */
+    private volatile int version = 0;
+
+    /**
+     * The enabled components with a fixed tick, owned by the thread that calls {@link ComponentContainer#doComponentOnFixedTick()}.
+     */
+    private Component[] fixedTickComponents = EMPTY;
+    private int fixedTickCount = 0;
+    private int fixedTickVersion = -1;
+
+    /**
+     * The enabled components that draw, owned by the thread that calls {@link ComponentContainer#doComponentDrawing(SaltyGraphics)}.
+     */
+    private Component[] drawComponents = EMPTY;
+    private int drawCount = 0;
+    private int drawVersion = -1;
+
+    /**
+     * Returns whether the given class implements {@link Component#onFixedTick()} ({@link #TICKS}) and
+     * {@link Component#draw(SaltyGraphics)} ({@link #DRAWS}).
+     *
+     * @param type the class of a component
+     * @return the flags of the given class
+     */
+    private static int getFlags(final Class<?> type) {
+        Integer flags = FLAGS.get(type);
+
+        if (flags == null) {
+            int newFlags = 0;
+            try {
+                if (!type.getMethod("onFixedTick").isAnnotationPresent(EmptyImplementation.class)) {
+                    newFlags |= TICKS;
+                }
+                if (!type.getMethod("draw", SaltyGraphics.class).isAnnotationPresent(EmptyImplementation.class)) {
+                    newFlags |= DRAWS;
+                }
+            } catch (final NoSuchMethodException e) {
+                newFlags = TICKS | DRAWS;
+            }
+
+            flags = newFlags;
+            FLAGS.put(type, flags);
+        }
+
+        return flags;
+    }
+
+    /**
+     * Marks the enabled components as changed, so that they are collected again before the next tick and frame.
+     * This is called when a component is enabled, disabled or renamed.
+     */
+    public synchronized void invalidate() {
+        version++;
+    }
+
+    /**
+     * Returns the version stamp, which changes with every structural change and every call of {@link #invalidate()}.
+     *
+     * @return the current version
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the current {@link Snapshot} of the components.
+     *
+     * @return the current snapshot
+     */
+    Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the enabled components that implement {@link Component#onFixedTick()}.
+     * Only the first {@link #getFixedTickCount()} elements are valid.
+     * Must only be called from the thread that ticks the container.
+     *
+     * @return the enabled components with a fixed tick
+     */
+    Component[] getFixedTickComponents() {
+        final int currentVersion = version;
+
+        if (fixedTickVersion != currentVersion) {
+            collect(TICKS);
+            fixedTickVersion = currentVersion;
+        }
+
+        return fixedTickComponents;
+    }
+
+    int getFixedTickCount() {
+        return fixedTickCount;
+    }
+
+    /**
+     * Returns the enabled components that implement {@link Component#draw(SaltyGraphics)}.
+     * Only the first {@link #getDrawCount()} elements are valid.
+     * Must only be called from the thread that draws the container.
+     *
+     * @return the enabled components that draw
+     */
+    Component[] getDrawComponents() {
+        final int currentVersion = version;
+
+        if (drawVersion != currentVersion) {
+            collect(DRAWS);
+            drawVersion = currentVersion;
+        }
+
+        return drawComponents;
+    }
+
+    int getDrawCount() {
+        return drawCount;
+    }
+
+    /**
+     * Collects the enabled components with the given flag into {@link #fixedTickComponents} or {@link #drawComponents},
+     * reusing the array unless it has to grow.
+     *
+     * @param flag {@link #TICKS} or {@link #DRAWS}
+     */
+    private synchronized void collect(final int flag) {
+        final Snapshot current = snapshot;
+        Component[] target = flag == TICKS ? fixedTickComponents : drawComponents;
+
+        if (target.length < current.size) {
+            target = new Component[current.components.length];
+        }
+
+        int count = 0;
+        for (int i = 0; i < current.size; i++) {
+            final Component component = current.components[i];
+
+            if (component.isEnabled() && (getFlags(component.getClass()) & flag) != 0) {
+                target[count++] = component;
+            }
+        }
+        Arrays.fill(target, count, target.length, null);
+
+        if (flag == TICKS) {
+            fixedTickComponents = target;
+            fixedTickCount = count;
+        } else {
+            drawComponents = target;
+            drawCount = count;
+        }
+    }
+
+    @Override
+    public Component get(final int index) {
+        final Snapshot current = snapshot;
+        if (index < 0 || index >= current.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + current.size);
+        }
+
+        return current.components[index];
+    }
+
+    @Override
+    public int size() {
+        return snapshot.size;
+    }
+
+    @Override
+    public synchronized boolean add(final Component component) {
+        final Snapshot current = snapshot;
+        Component[] components = current.components;
+
+        if (current.size == components.length) {
+            components = Arrays.copyOf(components, Math.max(4, components.length * 2));
+        }
+
+        // writing behind the size of the current snapshot doesn't change what its readers see
+        components[current.size] = component;
+        component.setStore(this);
+        publish(components, current.size + 1);
+
+        return true;
+    }
+
+    @Override
+    public synchronized void add(final int index, final Component component) {
+        final Snapshot current = snapshot;
+        if (index < 0 || index > current.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + current.size);
+        }
+
+        if (index == current.size) {
+            add(component);
+            return;
+        }
+
+        final Component[] components = new Component[Math.max(current.components.length, current.size + 1)];
+        System.arraycopy(current.components, 0, components, 0, index);
+        components[index] = component;
+        System.arraycopy(current.components, index, components, index + 1, current.size - index);
+        component.setStore(this);
+        publish(components, current.size + 1);
+    }
+
+    @Override
+    public synchronized Component set(final int index, final Component component) {
+        final Snapshot current = snapshot;
+        final Component previous = get(index);
+
+        final Component[] components = current.components.clone();
+        components[index] = component;
+        component.setStore(this);
+        publish(components, current.size);
+        detach(previous);
+
+        return previous;
+    }
+
+    @Override
+    public synchronized Component remove(final int index) {
+        final Snapshot current = snapshot;
+        final Component removed = get(index);
+
+        final Component[] components = new Component[current.components.length];
+        System.arraycopy(current.components, 0, components, 0, index);
+        System.arraycopy(current.components, index + 1, components, index, current.size - index - 1);
+        publish(components, current.size - 1);
+        detach(removed);
+
+        return removed;
+    }
+
+    @Override
+    public synchronized boolean remove(final Object o) {
+        final int index = indexOf(o);
+
+        if (index < 0) {
+            return false;
+        }
+
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean removeIf(final Predicate<? super Component> filter) {
+        final Snapshot current = snapshot;
+        final Component[] components = new Component[current.components.length];
+        int size = 0;
+
+        for (int i = 0; i < current.size; i++) {
+            final Component component = current.components[i];
+            if (!filter.test(component)) {
+                components[size++] = component;
+            }
+        }
+
+        if (size == current.size) {
+            return false;
+        }
+
+        publish(components, size);
+
+        for (int i = 0; i < current.size; i++) {
+            detach(current.components[i]);
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized void clear() {
+        final Snapshot current = snapshot;
+        publish(EMPTY, 0);
+
+        for (int i = 0; i < current.size; i++) {
+            detach(current.components[i]);
+        }
+    }
+
+    @Override
+    public void forEach(final Consumer<? super Component> action) {
+        final Snapshot current = snapshot;
+
+        for (int i = 0; i < current.size; i++) {
+            action.accept(current.components[i]);
+        }
+    }
+
+    /**
+     * Returns an iterator over the components at the time of the call, which is not affected by later changes
+     * and doesn't support {@link Iterator#remove()}.
+     *
+     * @return an iterator over the current components
+     */
+    @Override
+    public Iterator<Component> iterator() {
+        final Snapshot current = snapshot;
+
+        return new Iterator<Component>() {
+            private int cursor = 0;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < current.size;
+            }
+
+            @Override
+            public Component next() {
+                if (cursor >= current.size) {
+                    throw new NoSuchElementException();
+                }
+
+                return current.components[cursor++];
+            }
+        };
+    }
+
+    /**
+     * Tells the given component that it was removed from this store, unless it is still or again contained in it
+     * or was added to another store in the meantime.
+     *
+     * @param component the removed component
+     */
+    private void detach(final Component component) {
+        if (component != null && component.getStore() == this && indexOf(component) < 0) {
+            component.setStore(null);
+        }
+    }
+
+    private void publish(final Component[] components, final int size) {
+        snapshot = new Snapshot(components, size);
+        modCount++;
+        version++;
+    }
+
+    /**
+     * An immutable view on the components: the first {@link #size} elements of {@link #components}
+     * are never changed once published.
+     */
+    static final class Snapshot {
+
+        final Component[] components;
+        final int size;
+
+        Snapshot(final Component[] components, final int size) {
+            this.components = components;
+            this.size = size;
+        }
+    }
+}
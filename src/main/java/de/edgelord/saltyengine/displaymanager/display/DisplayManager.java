@@ -121,6 +121,7 @@ public class DisplayManager extends Host {
         nativeKeyListener = new NativeDisplayKeyListener(null);
 
         display.addKeyListener(nativeKeyListener);
+        display.addWindowFocusListener(nativeKeyListener);
     }
 
     public void setDisplayKeyHandler(final KeyboardInputHandler displayKeyHandler) {
@@ -19,12 +19,23 @@ package de.edgelord.saltyengine.displaymanager.display;
 import de.edgelord.saltyengine.core.Game;
 import de.edgelord.saltyengine.core.SceneManager;
 import de.edgelord.saltyengine.input.Input;
+import de.edgelord.saltyengine.input.InputEventQueue;
 import de.edgelord.saltyengine.input.KeyboardInputHandler;
 
+import java.awt.AWTEvent;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
-
-public class NativeDisplayKeyListener implements KeyListener {
+import java.awt.event.WindowEvent;
+import java.awt.event.WindowFocusListener;
+
+/**
+ * Receives the native <code>KeyEvent</code>s of the {@link Display} and {@link InputEventQueue#enqueue enqueues} them,
+ * so that they are handled on the fixed tick thread.
+ * <p>
+ * When the <code>Display</code> loses the focus, the release events of the keys that are held down
+ * never arrive, so then all keys are {@link de.edgelord.saltyengine.input.Keyboard#releaseAll() released}.
+ */
+public class NativeDisplayKeyListener implements KeyListener, WindowFocusListener, InputEventQueue.Dispatcher {
 
     private KeyboardInputHandler keyboardHandler;
 
@@ -42,10 +53,57 @@ public class NativeDisplayKeyListener implements KeyListener {
     @Override
     public void keyTyped(final KeyEvent e) {
 
+        // the window is toggled right away, as that has to happen on the event thread anyway
         if (e.getKeyChar() == 'f' && Game.getHost().isFullscreenToggleF()) {
             Game.getHost().toggleFullscreen();
         }
 
+        InputEventQueue.enqueue(this, e);
+    }
+
+    @Override
+    public void keyPressed(final KeyEvent e) {
+        InputEventQueue.enqueue(this, e);
+    }
+
+    @Override
+    public void keyReleased(final KeyEvent e) {
+        InputEventQueue.enqueue(this, e);
+    }
+
+    @Override
+    public void windowGainedFocus(final WindowEvent e) {
+    }
+
+    @Override
+    public void windowLostFocus(final WindowEvent e) {
+        InputEventQueue.enqueue(this, e);
+    }
+
+    @Override
+    public void dispatch(final AWTEvent event) {
+        if (event.getID() == WindowEvent.WINDOW_LOST_FOCUS) {
+            handleFocusLost();
+            return;
+        }
+
+        final KeyEvent e = (KeyEvent) event;
+
+        switch (e.getID()) {
+            case KeyEvent.KEY_TYPED:
+                handleKeyTyped(e);
+                break;
+            case KeyEvent.KEY_PRESSED:
+                handleKeyPressed(e);
+                break;
+            case KeyEvent.KEY_RELEASED:
+                handleKeyReleased(e);
+                break;
+        }
+    }
+
+    private void handleKeyTyped(final KeyEvent e) {
+
         if (keyboardHandler != null) {
             keyboardHandler.keyTyped(e);
         }
@@ -57,8 +115,7 @@ public class NativeDisplayKeyListener implements KeyListener {
         Input.getKeyboardHandlers().forEach(keyboardInputHandler -> keyboardInputHandler.keyTyped(e));
     }
 
-    @Override
-    public void keyPressed(final KeyEvent e) {
+    private void handleKeyPressed(final KeyEvent e) {
 
         if (keyboardHandler != null) {
             keyboardHandler.keyPressed(e);
@@ -93,8 +150,7 @@ public class NativeDisplayKeyListener implements KeyListener {
         Input.getKeyboardHandlers().forEach(keyboardInputHandler -> keyboardInputHandler.keyPressed(e));
     }
 
-    @Override
-    public void keyReleased(final KeyEvent e) {
+    private void handleKeyReleased(final KeyEvent e) {
 
         if (keyboardHandler != null) {
             keyboardHandler.keyReleased(e);
@@ -130,6 +186,18 @@ public class NativeDisplayKeyListener implements KeyListener {
         Input.getKeyboardHandlers().forEach(keyboardInputHandler -> keyboardInputHandler.keyReleased(e));
     }
 
+    private void handleFocusLost() {
+        currentKey = '*';
+        inputUp = false;
+        inputDown = false;
+        inputLeft = false;
+        inputRight = false;
+
+        Input.keyboardInput.releaseAll();
+        updateInputStates();
+        Input.lastInput = null;
+    }
+
     private void updateInputStates() {
         Input.lastInputKey = currentKey;
         Input.inputUp = inputUp;
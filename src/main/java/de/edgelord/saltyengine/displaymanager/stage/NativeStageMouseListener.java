@@ -18,12 +18,18 @@ package de.edgelord.saltyengine.displaymanager.stage;
 
 import de.edgelord.saltyengine.core.SceneManager;
 import de.edgelord.saltyengine.input.Input;
+import de.edgelord.saltyengine.input.InputEventQueue;
 import de.edgelord.saltyengine.input.MouseInputHandler;
 
+import java.awt.AWTEvent;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 
-public class NativeStageMouseListener extends MouseInputHandlerListener implements MouseListener {
+/**
+ * Receives the native <code>MouseEvent</code>s of the {@link Stage} and {@link InputEventQueue#enqueue enqueues} them,
+ * so that they are handled on the fixed tick thread.
+ */
+public class NativeStageMouseListener extends MouseInputHandlerListener implements MouseListener, InputEventQueue.Dispatcher {
 
     public NativeStageMouseListener(final MouseInputHandler mouseHandler) {
         super(mouseHandler);
@@ -31,6 +37,53 @@ public class NativeStageMouseListener extends MouseInputHandlerListener implemen
 
     @Override
     public void mouseClicked(final MouseEvent e) {
+        InputEventQueue.enqueue(this, e);
+    }
+
+    @Override
+    public void mousePressed(final MouseEvent e) {
+        InputEventQueue.enqueue(this, e);
+    }
+
+    @Override
+    public void mouseReleased(final MouseEvent e) {
+        InputEventQueue.enqueue(this, e);
+    }
+
+    @Override
+    public void mouseEntered(final MouseEvent e) {
+        InputEventQueue.enqueue(this, e);
+    }
+
+    @Override
+    public void mouseExited(final MouseEvent e) {
+        InputEventQueue.enqueue(this, e);
+    }
+
+    @Override
+    public void dispatch(final AWTEvent event) {
+        final MouseEvent e = (MouseEvent) event;
+
+        switch (e.getID()) {
+            case MouseEvent.MOUSE_CLICKED:
+                handleMouseClicked(e);
+                break;
+            case MouseEvent.MOUSE_PRESSED:
+                handleMousePressed(e);
+                break;
+            case MouseEvent.MOUSE_RELEASED:
+                handleMouseReleased(e);
+                break;
+            case MouseEvent.MOUSE_ENTERED:
+                handleMouseEntered(e);
+                break;
+            case MouseEvent.MOUSE_EXITED:
+                handleMouseExited(e);
+                break;
+        }
+    }
+
+    private void handleMouseClicked(final MouseEvent e) {
         if (getMouseHandler() != null) {
             getMouseHandler().mouseClicked(e);
         }
@@ -42,8 +95,7 @@ public class NativeStageMouseListener extends MouseInputHandlerListener implemen
         Input.getMouseHandlers().forEach(mouseInputHandler -> mouseInputHandler.mouseClicked(e));
     }
 
-    @Override
-    public void mousePressed(final MouseEvent e) {
+    private void handleMousePressed(final MouseEvent e) {
         if (getMouseHandler() != null) {
             getMouseHandler().mousePressed(e);
         }
@@ -56,8 +108,7 @@ public class NativeStageMouseListener extends MouseInputHandlerListener implemen
         Input.getMouseHandlers().forEach(mouseInputHandler -> mouseInputHandler.mousePressed(e));
     }
 
-    @Override
-    public void mouseReleased(final MouseEvent e) {
+    private void handleMouseReleased(final MouseEvent e) {
         if (getMouseHandler() != null) {
             getMouseHandler().mouseReleased(e);
         }
@@ -71,8 +122,7 @@ public class NativeStageMouseListener extends MouseInputHandlerListener implemen
         Input.getMouseHandlers().forEach(mouseInputHandler -> mouseInputHandler.mouseReleased(e));
     }
 
-    @Override
-    public void mouseEntered(final MouseEvent e) {
+    private void handleMouseEntered(final MouseEvent e) {
         if (getMouseHandler() != null) {
             getMouseHandler().mouseEnteredScreen(e);
         }
@@ -84,8 +134,7 @@ public class NativeStageMouseListener extends MouseInputHandlerListener implemen
         Input.getMouseHandlers().forEach(mouseInputHandler -> mouseInputHandler.mouseEnteredScreen(e));
     }
 
-    @Override
-    public void mouseExited(final MouseEvent e) {
+    private void handleMouseExited(final MouseEvent e) {
         if (getMouseHandler() != null) {
             getMouseHandler().mouseExitedScreen(e);
         }
@@ -18,14 +18,20 @@ package de.edgelord.saltyengine.displaymanager.stage;
 
 import de.edgelord.saltyengine.core.SceneManager;
 import de.edgelord.saltyengine.input.Input;
+import de.edgelord.saltyengine.input.InputEventQueue;
 import de.edgelord.saltyengine.input.MouseInputHandler;
 import de.edgelord.saltyengine.transform.Vector2f;
 import de.edgelord.saltyengine.utils.SaltySystem;
 
+import java.awt.AWTEvent;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseMotionListener;
 
-public class NativeStageMouseMotionListener extends MouseInputHandlerListener implements MouseMotionListener {
+/**
+ * Receives the native mouse motion events of the {@link Stage} and {@link InputEventQueue#enqueue enqueues} them,
+ * so that they are handled on the fixed tick thread.
+ */
+public class NativeStageMouseMotionListener extends MouseInputHandlerListener implements MouseMotionListener, InputEventQueue.Dispatcher {
 
     private final Stage container;
 
@@ -37,6 +43,29 @@ public class NativeStageMouseMotionListener extends MouseInputHandlerListener im
 
     @Override
     public void mouseDragged(final MouseEvent e) {
+        InputEventQueue.enqueue(this, e);
+    }
+
+    @Override
+    public void mouseMoved(final MouseEvent e) {
+        InputEventQueue.enqueue(this, e);
+    }
+
+    @Override
+    public void dispatch(final AWTEvent event) {
+        final MouseEvent e = (MouseEvent) event;
+
+        switch (e.getID()) {
+            case MouseEvent.MOUSE_DRAGGED:
+                handleMouseDragged(e);
+                break;
+            case MouseEvent.MOUSE_MOVED:
+                handleMouseMoved(e);
+                break;
+        }
+    }
+
+    private void handleMouseDragged(final MouseEvent e) {
         if (getMouseHandler() != null) {
             getMouseHandler().mouseDragged(e);
         }
@@ -50,8 +79,7 @@ public class NativeStageMouseMotionListener extends MouseInputHandlerListener im
         Input.getMouseHandlers().forEach(mouseInputHandler -> mouseInputHandler.mouseDragged(e));
     }
 
-    @Override
-    public void mouseMoved(final MouseEvent e) {
+    private void handleMouseMoved(final MouseEvent e) {
         if (getMouseHandler() != null) {
             getMouseHandler().mouseMoved(e);
         }
@@ -64,18 +92,7 @@ public class NativeStageMouseMotionListener extends MouseInputHandlerListener im
         Input.getMouseHandlers().forEach(mouseInputHandler -> mouseInputHandler.mouseMoved(e));
 
         if (SaltySystem.gameObjectMouseEventsAgent) {
-            SceneManager.getCurrentScene().getGameObjects().forEach(gameObject -> {
-
-                if (gameObject.mouseTouches()) {
-                    if (!gameObject.isCursorAlreadyTouching()) {
-                        gameObject.doCursorEnters();
-                    }
-                    gameObject.setCursorAlreadyTouching(true);
-                } else if (gameObject.isCursorAlreadyTouching()) {
-                    gameObject.setCursorAlreadyTouching(false);
-                    gameObject.doCursorExits();
-                }
-            });
+            SceneManager.getCurrentScene().updateCursorTouches();
         }
     }
 
@@ -18,12 +18,18 @@ package de.edgelord.saltyengine.displaymanager.stage;
 
 import de.edgelord.saltyengine.core.SceneManager;
 import de.edgelord.saltyengine.input.Input;
+import de.edgelord.saltyengine.input.InputEventQueue;
 import de.edgelord.saltyengine.input.MouseInputHandler;
 
+import java.awt.AWTEvent;
 import java.awt.event.MouseWheelEvent;
 import java.awt.event.MouseWheelListener;
 
-public class NativeStageMouseWheelListener extends MouseInputHandlerListener implements MouseWheelListener {
+/**
+ * Receives the native <code>MouseWheelEvent</code>s of the {@link Stage} and {@link InputEventQueue#enqueue enqueues} them,
+ * so that they are handled on the fixed tick thread.
+ */
+public class NativeStageMouseWheelListener extends MouseInputHandlerListener implements MouseWheelListener, InputEventQueue.Dispatcher {
 
     public NativeStageMouseWheelListener(final MouseInputHandler mouseHandler) {
         super(mouseHandler);
@@ -31,6 +37,12 @@ public class NativeStageMouseWheelListener extends MouseInputHandlerListener imp
 
     @Override
     public void mouseWheelMoved(final MouseWheelEvent e) {
+        InputEventQueue.enqueue(this, e);
+    }
+
+    @Override
+    public void dispatch(final AWTEvent event) {
+        final MouseWheelEvent e = (MouseWheelEvent) event;
         if (getMouseHandler() != null) {
             getMouseHandler().mouseWheelMoved(e);
         }
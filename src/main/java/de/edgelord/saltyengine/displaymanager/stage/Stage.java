@@ -20,11 +20,14 @@ import de.edgelord.saltyengine.core.GraphicsConfiguration;
 import de.edgelord.saltyengine.core.*;
 import de.edgelord.saltyengine.core.annotations.DefaultPlacement;
 import de.edgelord.saltyengine.core.graphics.SaltyGraphics;
+import de.edgelord.saltyengine.core.graphics.TextLayoutCache;
 import de.edgelord.saltyengine.effect.image.SaltyImage;
+import de.edgelord.saltyengine.effect.image.ScaledImageCache;
 import de.edgelord.saltyengine.input.MouseInputHandler;
 import de.edgelord.saltyengine.transform.Dimensions;
 import de.edgelord.saltyengine.transform.Vector2f;
 import de.edgelord.saltyengine.utils.ImageUtils;
+import de.edgelord.saltyengine.utils.Profiler;
 import de.edgelord.saltyengine.utils.SaltySystem;
 import de.edgelord.saltyengine.utils.Time;
 
@@ -43,6 +46,10 @@ public class Stage extends JPanel {
     public static RenderingHints lqRenderingHints;
     private final Container container;
     private final int fpsRefreshGate = 25;
+    /**
+     * The font of the FPS counter.
+     */
+    private static final Font FPS_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
     private NativeStageMouseListener nativeMouseListener = null;
     private NativeStageMouseMotionListener nativeMouseMotionListener = null;
     private NativeStageMouseWheelListener nativeMouseWheelListener = null;
@@ -114,8 +121,11 @@ public class Stage extends JPanel {
 
     @Override
     protected void paintComponent(final Graphics graphics) {
+        final long frameStart = Profiler.start();
         super.paintComponent(graphics);
         ticks++;
+        ScaledImageCache.nextFrame();
+        TextLayoutCache.nextFrame();
         final Graphics2D graphics2D = (Graphics2D) graphics.create();
 
         final SaltyImage renderedImage = renderToImage();
@@ -130,9 +140,12 @@ public class Stage extends JPanel {
 
         currentImgPos = new Vector2f(xPos, yPos);
 
+        final long blitStart = Profiler.start();
         graphics2D.drawImage(renderedImage.getImage(), xPos, yPos, imageDisplayWidth, imageDisplayHeight, null);
+        Profiler.end(Profiler.STAGE_BLIT, blitStart);
         renderedImage.flush();
         graphics2D.dispose();
+        Profiler.end(Profiler.FRAME, frameStart);
     }
 
     private void renderToGraphics(final Graphics2D graphics2D) {
@@ -144,7 +157,9 @@ public class Stage extends JPanel {
         final SaltyGraphics saltyGraphics = new SaltyGraphics(graphics2D);
 
         //engine.render(saltyGraphics);
+        final long renderStart = Profiler.start();
         saltyGraphics.drawImage(Game.getCamera().render(SceneManager.getCurrentScene()), 0, 0);
+        Profiler.end(Profiler.CAMERA_RENDER, renderStart);
 
         if (Game.isDrawFPS()) {
             if (ticks == fpsRefreshGate) {
@@ -152,11 +167,15 @@ public class Stage extends JPanel {
                 ticks = 0;
             }
 
-            saltyGraphics.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+            saltyGraphics.setFont(FPS_FONT);
             saltyGraphics.setColor(Color.RED);
             final String fps = String.valueOf(Math.round(lastFps));
             saltyGraphics.drawText("FPS: " + fps, 0, 0, SaltyGraphics.TextAnchor.TOP_LEFT_CORNER);
         }
+
+        if (Profiler.isOverlayEnabled()) {
+            Profiler.drawOverlay(saltyGraphics);
+        }
     }
 
     public SaltyImage renderToImage() {
@@ -19,7 +19,6 @@ package de.edgelord.saltyengine.effect;
 import de.edgelord.saltyengine.core.graphics.SaltyGraphics;
 import de.edgelord.saltyengine.effect.image.SaltyImage;
 import de.edgelord.saltyengine.transform.Vector2f;
-import de.edgelord.saltyengine.utils.SaltySystem;
 
 public class Frame implements Cosmetic {
 
@@ -34,11 +33,6 @@ public class Frame implements Cosmetic {
     @Override
     public void draw(final SaltyGraphics saltyGraphics, final Vector2f position, final float width, final float height) {
         image.draw(saltyGraphics, position, width, height);
-
-        final SaltyImage img = SaltySystem.createPreferredImage(500, 500);
-
-        final SaltyGraphics graphics = new SaltyGraphics(img.createGraphics());
-        image.draw(graphics.copy(), Vector2f.zero());
     }
 
     public SaltyImage getImage() {
@@ -16,25 +16,42 @@
 
 package de.edgelord.saltyengine.effect;
 
+import de.edgelord.saltyengine.effect.image.ImageRegion;
 import de.edgelord.saltyengine.effect.image.SaltyImage;
 import de.edgelord.saltyengine.transform.Coordinates;
 
 import java.io.Flushable;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
+/**
+ * A grid of equally sized sprites within one image.
+ * <p>
+ * The {@link Frame}s returned by {@link #getFrame(int, int)} are
+ * {@link ImageRegion regions} of the sheet, which means that they are drawn
+ * as source-rect blits from the sheet instead of being copied into separate images.
+ * The region of each cell is only created once and shared, while every call
+ * returns a new <code>Frame</code> wrapping it, so that changing one frame
+ * does not affect the others.
+ */
 public class Spritesheet implements Flushable {
 
     private final SaltyImage image;
     private int spriteWidth, spriteHeight;
 
+    /**
+     * The cached regions of the cells, indexed by <code>row * columns + column</code>.
+     */
+    private ImageRegion[] regions;
+
 
     public Spritesheet(final SaltyImage image, final float spriteWidth, final float spriteHeight) {
         this.spriteWidth = Math.round(spriteWidth);
         this.spriteHeight = Math.round(spriteHeight);
 
         this.image = image;
+        resetRegions();
     }
 
     public SpritesheetAnimation getAnimation(final Coordinates... coordinates) {
@@ -43,7 +60,7 @@ public class Spritesheet implements Flushable {
 
     public List<Frame> getFrames(final Coordinates... coordinates) {
 
-        final List<Frame> frames = new LinkedList<>();
+        final List<Frame> frames = new ArrayList<>(coordinates.length);
 
         for (final Coordinates currentCoordinates : coordinates) {
             frames.add(getFrame(currentCoordinates.getX(), currentCoordinates.getY()));
@@ -52,8 +69,58 @@ public class Spritesheet implements Flushable {
         return frames;
     }
 
-    public Frame getFrame(int x, int y) {
-        return new Frame(image.getSubImage(--x * getSpriteWidth(), --y * getSpriteHeight(), getSpriteWidth(), getSpriteHeight()));
+    /**
+     * Returns the frame at the given position within the sheet.
+     * The positions start at 1, so the upper left frame is at <code>(1, 1)</code>.
+     *
+     * @param x the column of the frame, starting at 1
+     * @param y the row of the frame, starting at 1
+     * @return the frame at the given position
+     */
+    public Frame getFrame(final int x, final int y) {
+        final int column = x - 1;
+        final int row = y - 1;
+        final int columns = getColumns();
+
+        if (column < 0 || row < 0 || column >= columns || row >= getRows()) {
+            return new Frame(image.getSubImage(column * spriteWidth, row * spriteHeight, spriteWidth, spriteHeight));
+        }
+
+        final int index = row * columns + column;
+        ImageRegion region = regions[index];
+
+        if (region == null) {
+            region = new ImageRegion(image, column * spriteWidth, row * spriteHeight, spriteWidth, spriteHeight);
+            regions[index] = region;
+        }
+
+        return new Frame(region);
+    }
+
+    private void resetRegions() {
+        regions = new ImageRegion[Math.max(0, getColumns() * getRows())];
+    }
+
+    /**
+     * Returns the number of sprites in one row of the sheet.
+     *
+     * @return the number of columns
+     */
+    public int getColumns() {
+        return spriteWidth <= 0 ? 0 : image.getWidth() / spriteWidth;
+    }
+
+    /**
+     * Returns the number of sprites in one column of the sheet.
+     *
+     * @return the number of rows
+     */
+    public int getRows() {
+        return spriteHeight <= 0 ? 0 : image.getHeight() / spriteHeight;
+    }
+
+    public SaltyImage getImage() {
+        return image;
     }
 
     public int getSpriteWidth() {
@@ -62,6 +129,7 @@ public class Spritesheet implements Flushable {
 
     public void setSpriteWidth(final int spriteWidth) {
         this.spriteWidth = spriteWidth;
+        resetRegions();
     }
 
     public int getSpriteHeight() {
@@ -70,6 +138,7 @@ public class Spritesheet implements Flushable {
 
     public void setSpriteHeight(final int spriteHeight) {
         this.spriteHeight = spriteHeight;
+        resetRegions();
     }
 
     @Override
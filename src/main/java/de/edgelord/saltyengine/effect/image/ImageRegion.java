@@ -0,0 +1,200 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.effect.image;
+
+import de.edgelord.saltyengine.core.graphics.SaltyGraphics;
+import de.edgelord.saltyengine.transform.Vector2f;
+import de.edgelord.saltyengine.utils.ImageUtils;
+import de.edgelord.saltyengine.utils.SaltySystem;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+/**
+ * A rectangular region of another {@link SaltyImage}.
+ * <p>
+ * Drawing a region is a source-rect blit from the source image
+ * using {@link SaltyGraphics#drawImageRegion(Image, float, float, float, float, int, int, int, int)},
+ * so no pixels are copied and the (potentially accelerated) source image
+ * is shared by all of its regions. This is used for the frames of a
+ * {@link de.edgelord.saltyengine.effect.Spritesheet} and the sprites of a {@link TextureAtlas}.
+ * <p>
+ * An actual sub-image is only created if {@link #getImage()} is called.
+ */
+public class ImageRegion implements SaltyImage {
+
+    private final SaltyImage source;
+    private final int x;
+    private final int y;
+    private final int width;
+    private final int height;
+
+    private SaltyImage subImage = null;
+
+    public ImageRegion(final SaltyImage source, final int x, final int y, final int width, final int height) {
+        this.source = source;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+
+    @Override
+    public void draw(final SaltyGraphics saltyGraphics, final Vector2f position, final float width, final float height) {
+        saltyGraphics.drawImageRegion(getSourceImage(), position.getX(), position.getY(), width, height, x, y, this.width, this.height);
+    }
+
+    @Override
+    public void draw(final SaltyGraphics saltyGraphics, final Vector2f position) {
+        draw(saltyGraphics, position.getX(), position.getY());
+    }
+
+    @Override
+    public void draw(final SaltyGraphics saltyGraphics, final float x, final float y) {
+        saltyGraphics.drawImageRegion(getSourceImage(), x, y, width, height, this.x, this.y, width, height);
+    }
+
+    /**
+     * Returns the image of the {@link #source}, making sure that
+     * the content of a {@link SaltyVolatileImage} or {@link SaltyManagedImage} is valid.
+     *
+     * @return the image to blit from
+     */
+    private Image getSourceImage() {
+        if (source instanceof SaltyVolatileImage) {
+            final SaltyVolatileImage volatileSource = (SaltyVolatileImage) source;
+            if (volatileSource.contentsLost()) {
+                volatileSource.validate(SaltySystem.gfxConfig);
+            }
+        }
+
+        if (source instanceof SaltyManagedImage) {
+            return ((SaltyManagedImage) source).getDrawableImage();
+        }
+
+        return source.getImage();
+    }
+
+    @Override
+    public Image getImage() {
+        if (subImage == null) {
+            subImage = source.getSubImage(x, y, width, height);
+        }
+
+        return subImage.getImage();
+    }
+
+    @Override
+    public SaltyImage getSubImage(final int x, final int y, final int width, final int height) {
+        return new ImageRegion(source, this.x + x, this.y + y, width, height);
+    }
+
+    @Override
+    public BufferedImage toBufferedImage() {
+        return source.toBufferedImage().getSubimage(x, y, width, height);
+    }
+
+    @Override
+    public VolatileImage toVolatileImage() {
+        return ImageUtils.toVolatileImage(toBufferedImage());
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns a graphics context of the {@link #source}, that is translated
+     * and clipped to this region.
+     *
+     * @return a graphics context to draw into this region
+     */
+    @Override
+    public Graphics2D createGraphics() {
+        final Graphics2D graphics = source.createGraphics();
+        graphics.translate(x, y);
+        graphics.clipRect(0, 0, width, height);
+
+        return graphics;
+    }
+
+    @Override
+    public ImageCapabilities getCapabilities() {
+        return source.getCapabilities();
+    }
+
+    @Override
+    public int getTransparency() {
+        return source.getTransparency();
+    }
+
+    @Override
+    public Object getProperty(final String name) {
+        return source.getProperty(name);
+    }
+
+    @Override
+    public Image getScaledInstance(final int width, final int height, final int hints) {
+        return getImage().getScaledInstance(width, height, hints);
+    }
+
+    /**
+     * Only flushes the sub-image that might have been created by {@link #getImage()},
+     * as the {@link #source} is shared with other regions.
+     */
+    @Override
+    public void flush() {
+        if (subImage != null) {
+            subImage.flush();
+            subImage = null;
+        }
+    }
+
+    @Override
+    public ImageCapabilities getCapabilities(final GraphicsConfiguration gc) {
+        return source.getCapabilities(gc);
+    }
+
+    @Override
+    public float getAccelerationPriority() {
+        return source.getAccelerationPriority();
+    }
+
+    @Override
+    public void setAccelerationPriority(final float priority) {
+        source.setAccelerationPriority(priority);
+    }
+
+    public SaltyImage getSource() {
+        return source;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+}
@@ -17,7 +17,6 @@
 package de.edgelord.saltyengine.effect.image;
 
 import de.edgelord.saltyengine.core.graphics.SaltyGraphics;
-import de.edgelord.saltyengine.transform.Dimensions;
 import de.edgelord.saltyengine.transform.Vector2f;
 import de.edgelord.saltyengine.utils.ImageUtils;
 import de.edgelord.saltyengine.utils.SaltySystem;
@@ -30,6 +29,12 @@ public class SaltyBufferedImage implements SaltyImage {
 
     private final BufferedImage image;
 
+    /**
+     * Incremented whenever a graphics context of this image is created,
+     * so that outdated pre-scaled variants of it are recreated.
+     */
+    private int version = 0;
+
     public SaltyBufferedImage(final int width, final int height) {
         this.image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
     }
@@ -60,7 +65,7 @@ public class SaltyBufferedImage implements SaltyImage {
 
     @Override
     public void draw(final SaltyGraphics saltyGraphics, final Vector2f position, final float width, final float height) {
-        saltyGraphics.drawImage(image, position, new Dimensions(width, height));
+        saltyGraphics.drawImage(image, version, position.getX(), position.getY(), width, height);
     }
 
     @Override
@@ -105,6 +110,7 @@ public class SaltyBufferedImage implements SaltyImage {
 
     @Override
     public Graphics2D createGraphics() {
+        version++;
         return image.createGraphics();
     }
 
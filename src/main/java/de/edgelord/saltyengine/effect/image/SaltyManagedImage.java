@@ -0,0 +1,318 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.effect.image;
+
+import de.edgelord.saltyengine.core.graphics.SaltyGraphics;
+import de.edgelord.saltyengine.transform.Vector2f;
+import de.edgelord.saltyengine.utils.ColorUtil;
+import de.edgelord.saltyengine.utils.ImageUtils;
+import de.edgelord.saltyengine.utils.SaltySystem;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+/**
+ * An image that is drawn from a {@link VolatileImage} in video memory,
+ * but keeps a {@link BufferedImage} copy in system memory.
+ * <p>
+ * Unlike a {@link SaltyVolatileImage}, the content of this image survives the loss of
+ * the video memory surface: whenever {@link VolatileImage#validate(GraphicsConfiguration)}
+ * reports {@link VolatileImage#IMAGE_RESTORED} or {@link VolatileImage#IMAGE_INCOMPATIBLE},
+ * the copy is uploaded again before the image is drawn.
+ * <p>
+ * The video memory used by all managed images is limited by the {@link VideoMemoryBudget}.
+ * Images that are rarely drawn are demoted to system memory and are drawn from their copy.
+ * <p>
+ * All drawing into this image (using {@link #createGraphics()}) goes into the system memory copy,
+ * which is uploaded again the next time the image is drawn. If a graphics context is kept
+ * and drawn to later, {@link #markDirty()} has to be called afterwards.
+ */
+public class SaltyManagedImage implements SaltyImage {
+
+    /**
+     * The number of attempts to restore the video memory surface per draw,
+     * after which the image is drawn from its system memory copy instead.
+     */
+    private static final int MAX_RESTORE_ATTEMPTS = 3;
+
+    /**
+     * The amount of nanoseconds to wait before trying again to
+     * upload an image that didn't fit into the {@link VideoMemoryBudget}.
+     */
+    private static final long PROMOTION_RETRY_NANOS = 1_000_000_000L;
+
+    private final BufferedImage backing;
+    private VolatileImage accelerated = null;
+    private boolean dirty = true;
+
+    /**
+     * Incremented whenever this image is {@link #markDirty() marked dirty},
+     * so that outdated pre-scaled variants of it are recreated.
+     */
+    private int version = 0;
+
+    private long lastDrawnNanos = System.nanoTime();
+    private long nextPromotionNanos = 0;
+
+    public SaltyManagedImage(final int width, final int height) {
+        this(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB));
+    }
+
+    public SaltyManagedImage(final float width, final float height) {
+        this(Math.round(width), Math.round(height));
+    }
+
+    public SaltyManagedImage(final BufferedImage backing) {
+        this.backing = backing;
+    }
+
+    public SaltyManagedImage(final Image source) {
+        this(ImageUtils.toBufferedImage(source));
+    }
+
+    public SaltyManagedImage(final SaltyImage source) {
+        this(source.toBufferedImage());
+    }
+
+    /**
+     * Creates a new instance with the image located at the given path relative to the project root.
+     * The image is obtained using {@link SaltySystem#defaultImageFactory}.
+     *
+     * @param path the relative path of image
+     */
+    public SaltyManagedImage(final String path) {
+        this(SaltySystem.defaultImageFactory.getPreferredImageResource(path));
+    }
+
+    /**
+     * Returns the image that should be used for drawing: the video memory surface
+     * if it is (or could be made) valid, or else the system memory copy.
+     *
+     * @return the image to draw
+     */
+    public Image getDrawableImage() {
+        lastDrawnNanos = System.nanoTime();
+
+        if (accelerated == null && !promote()) {
+            return backing;
+        }
+
+        for (int i = 0; i < MAX_RESTORE_ATTEMPTS; i++) {
+            final int state = accelerated.validate(SaltySystem.gfxConfig);
+
+            if (state == VolatileImage.IMAGE_INCOMPATIBLE) {
+                accelerated.flush();
+                accelerated = SaltySystem.createVolatileImage(backing.getWidth(), backing.getHeight());
+                dirty = true;
+            } else if (state == VolatileImage.IMAGE_RESTORED) {
+                dirty = true;
+            }
+
+            if (dirty) {
+                upload();
+            }
+
+            if (!accelerated.contentsLost()) {
+                return accelerated;
+            }
+        }
+
+        dirty = true;
+        return backing;
+    }
+
+    private boolean promote() {
+        if (lastDrawnNanos < nextPromotionNanos) {
+            return false;
+        }
+
+        if (!VideoMemoryBudget.acquire(this)) {
+            nextPromotionNanos = lastDrawnNanos + PROMOTION_RETRY_NANOS;
+            return false;
+        }
+
+        accelerated = SaltySystem.createVolatileImage(backing.getWidth(), backing.getHeight());
+        dirty = true;
+        return true;
+    }
+
+    private void upload() {
+        final Graphics2D graphics = accelerated.createGraphics();
+        graphics.setComposite(AlphaComposite.Src);
+        graphics.drawImage(backing, 0, 0, null);
+        graphics.dispose();
+        dirty = false;
+    }
+
+    /**
+     * Frees the video memory surface of this image. It is drawn from its
+     * system memory copy until it is drawn again while there's room in the {@link VideoMemoryBudget}.
+     */
+    public void demote() {
+        if (accelerated != null) {
+            accelerated.flush();
+            accelerated = null;
+            VideoMemoryBudget.release(this);
+        }
+    }
+
+    /**
+     * Marks the system memory copy as changed, so that it is uploaded
+     * again the next time this image is drawn.
+     */
+    public void markDirty() {
+        dirty = true;
+        version++;
+    }
+
+    public boolean isAccelerated() {
+        return accelerated != null;
+    }
+
+    /**
+     * Returns the amount of video memory that this image uses when it is {@link #isAccelerated() accelerated}.
+     *
+     * @return the size of this image in bytes
+     */
+    public long getByteSize() {
+        return (long) backing.getWidth() * backing.getHeight() * 4L;
+    }
+
+    public long getLastDrawnNanos() {
+        return lastDrawnNanos;
+    }
+
+    /**
+     * Draws this image with the given size. If the size differs from the size of this image,
+     * a pre-scaled variant of the system memory copy is drawn, which Java2D caches in video memory itself.
+     */
+    @Override
+    public void draw(final SaltyGraphics saltyGraphics, final Vector2f position, final float width, final float height) {
+        if (Math.round(width) == backing.getWidth() && Math.round(height) == backing.getHeight()) {
+            draw(saltyGraphics, position.getX(), position.getY());
+        } else {
+            lastDrawnNanos = System.nanoTime();
+            saltyGraphics.drawImage(backing, version, position.getX(), position.getY(), width, height);
+        }
+    }
+
+    @Override
+    public void draw(final SaltyGraphics saltyGraphics, final Vector2f position) {
+        draw(saltyGraphics, position.getX(), position.getY());
+    }
+
+    @Override
+    public void draw(final SaltyGraphics saltyGraphics, final float x, final float y) {
+        saltyGraphics.drawImage(getDrawableImage(), x, y, backing.getWidth(), backing.getHeight());
+    }
+
+    /**
+     * Returns the system memory copy of this image, which always has valid content.
+     *
+     * @return the system memory copy of this image
+     */
+    @Override
+    public Image getImage() {
+        return backing;
+    }
+
+    @Override
+    public SaltyImage getSubImage(final int x, final int y, final int width, final int height) {
+        return new SaltyManagedImage(backing.getSubimage(x, y, width, height));
+    }
+
+    @Override
+    public BufferedImage toBufferedImage() {
+        return backing;
+    }
+
+    @Override
+    public VolatileImage toVolatileImage() {
+        return ImageUtils.toVolatileImage(backing);
+    }
+
+    @Override
+    public int getWidth() {
+        return backing.getWidth();
+    }
+
+    @Override
+    public int getHeight() {
+        return backing.getHeight();
+    }
+
+    /**
+     * Returns a graphics context of the system memory copy and marks this image {@link #markDirty() dirty}.
+     *
+     * @return a graphics context to draw into this image
+     */
+    @Override
+    public Graphics2D createGraphics() {
+        markDirty();
+        return backing.createGraphics();
+    }
+
+    @Override
+    public void erase() {
+        final Graphics2D graphics = createGraphics();
+        graphics.setBackground(ColorUtil.TRANSPARENT_COLOR);
+        graphics.clearRect(0, 0, getWidth(), getHeight());
+        graphics.dispose();
+    }
+
+    @Override
+    public ImageCapabilities getCapabilities() {
+        return accelerated != null ? accelerated.getCapabilities() : backing.getCapabilities(SaltySystem.gfxConfig);
+    }
+
+    @Override
+    public int getTransparency() {
+        return backing.getTransparency();
+    }
+
+    @Override
+    public Object getProperty(final String name) {
+        return backing.getProperty(name);
+    }
+
+    @Override
+    public Image getScaledInstance(final int width, final int height, final int hints) {
+        return backing.getScaledInstance(width, height, hints);
+    }
+
+    @Override
+    public void flush() {
+        demote();
+        backing.flush();
+    }
+
+    @Override
+    public ImageCapabilities getCapabilities(final GraphicsConfiguration gc) {
+        return backing.getCapabilities(gc);
+    }
+
+    @Override
+    public float getAccelerationPriority() {
+        return backing.getAccelerationPriority();
+    }
+
+    @Override
+    public void setAccelerationPriority(final float priority) {
+        backing.setAccelerationPriority(priority);
+    }
+}
@@ -27,6 +27,12 @@ import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.awt.image.VolatileImage;
 
+/**
+ * An image that lives in video memory only.
+ * <p>
+ * The content of a volatile image can be lost at any time, e.g. when the display mode changes,
+ * and is not restored. Use a {@link SaltyManagedImage} for images whose content has to survive that.
+ */
 public class SaltyVolatileImage implements SaltyImage {
 
     private VolatileImage image;
@@ -46,21 +52,24 @@ public class SaltyVolatileImage implements SaltyImage {
     }
 
     /**
-     * Creates a new instance.
+     * Creates a new instance with a copy of the given source.
      *
      * @param source the source for this image
      */
     public SaltyVolatileImage(final BufferedImage source) {
-        image = SaltySystem.createVolatileImage(source.getWidth(), source.getHeight());
+        image = ImageUtils.toVolatileImage(source);
     }
 
     /**
-     * Creates a new instance.
+     * Creates a new instance with a copy of the given source.
      *
      * @param source the source for this image
      */
     public SaltyVolatileImage(final VolatileImage source) {
         image = SaltySystem.createVolatileImage(source.getWidth(), source.getHeight());
+        final Graphics2D graphics = image.createGraphics();
+        graphics.drawImage(source, 0, 0, null);
+        graphics.dispose();
     }
 
     /**
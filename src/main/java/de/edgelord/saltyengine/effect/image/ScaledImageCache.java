@@ -0,0 +1,384 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.effect.image;
+
+import de.edgelord.saltyengine.utils.SaltySystem;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A cache of pre-scaled variants of images that are drawn at the same size every frame.
+ * <p>
+ * Scaling an image while drawing it, especially with {@link RenderingHints#VALUE_INTERPOLATION_BILINEAR bilinear interpolation},
+ * is a slow path in Java2D. When an image is requested with the same size and interpolation in two different
+ * frames, a scaled copy of it is created, which is then drawn as an unscaled blit. Variants that were not
+ * used for {@link #maxIdleFrames} frames are evicted.
+ * <p>
+ * Looking up a variant that was already rendered doesn't lock. Creating, rendering and evicting variants
+ * is synchronized on the class. The source images are only referenced weakly: when one is garbage collected,
+ * its variants are released the next time the cache is modified or at the {@link #nextFrame() next frame}.
+ * <p>
+ * The cache is used by {@link de.edgelord.saltyengine.core.graphics.SaltyGraphics#drawImage(Image, int, float, float, float, float)}
+ * and can be disabled using {@link de.edgelord.saltyengine.core.GraphicsConfiguration#cacheScaledImages}.
+ * The frames are counted by {@link de.edgelord.saltyengine.displaymanager.stage.Stage}, which calls {@link #nextFrame()}.
+ */
+public class ScaledImageCache {
+
+    /**
+     * The number of frames between two eviction runs.
+     */
+    private static final int EVICTION_INTERVAL = 60;
+
+    /**
+     * All variants, per source image. The keys only weakly reference the source images
+     * and compare them by identity.
+     */
+    private static final Map<Object, Variant[]> variants = new ConcurrentHashMap<>();
+
+    /**
+     * The queue the {@link SourceKey}s of garbage collected source images are enqueued to.
+     */
+    private static final ReferenceQueue<Image> collectedSources = new ReferenceQueue<>();
+
+    /**
+     * A reusable key per thread to look up {@link #variants} without allocating.
+     */
+    private static final ThreadLocal<LookupKey> lookupKey = ThreadLocal.withInitial(LookupKey::new);
+
+    private static int maxIdleFrames = 120;
+    private static long maxCachedBytes = 64L * 1024L * 1024L;
+
+    private static volatile long frame = 0;
+    private static long cachedBytes = 0;
+
+    /**
+     * Returns a variant of the given image that is scaled to the given size using the given interpolation.
+     * The variant is only created once the same size was requested in two different frames,
+     * before that, <code>null</code> is returned and the caller should scale the image while drawing it.
+     *
+     * @param source        the image to scale
+     * @param version       the version of the content of the given image. A variant of an older version is recreated.
+     * @param width         the width to scale to
+     * @param height        the height to scale to
+     * @param interpolation the value of {@link RenderingHints#KEY_INTERPOLATION} to scale with, or <code>null</code> for the default
+     * @return the scaled variant or <code>null</code> if there is none yet
+     */
+    public static Image getScaled(final Image source, final int version, final int width, final int height, final Object interpolation) {
+        final Variant variant = findVariant(getVariants(source), width, height, interpolation);
+
+        if (variant != null) {
+            final Rendering rendering = variant.rendering;
+            final long currentFrame = frame;
+
+            if (rendering != null && rendering.version == version) {
+                variant.lastUsedFrame = currentFrame;
+                return rendering.image;
+            }
+
+            if (rendering == null && variant.lastUsedFrame == currentFrame) {
+                return null;
+            }
+        }
+
+        return getScaledSynchronized(source, version, width, height, interpolation);
+    }
+
+    private static synchronized Image getScaledSynchronized(final Image source, final int version, final int width, final int height, final Object interpolation) {
+        releaseCollected();
+
+        final Variant[] sourceVariants = getVariants(source);
+        final Variant variant = findVariant(sourceVariants, width, height, interpolation);
+
+        if (variant == null) {
+            final Variant newVariant = new Variant(width, height, interpolation, frame);
+
+            if (sourceVariants == null) {
+                variants.put(new SourceKey(source), new Variant[]{newVariant});
+            } else {
+                final Variant[] newVariants = Arrays.copyOf(sourceVariants, sourceVariants.length + 1);
+                newVariants[sourceVariants.length] = newVariant;
+
+                final LookupKey key = lookupKey.get();
+                key.set(source);
+                variants.replace(key, newVariants);
+                key.set(null);
+            }
+            return null;
+        }
+
+        if (variant.rendering != null && variant.rendering.version != version) {
+            release(variant);
+        }
+
+        if (variant.rendering == null && variant.lastUsedFrame != frame) {
+            render(source, variant, version);
+        }
+
+        variant.lastUsedFrame = frame;
+        return variant.rendering == null ? null : variant.rendering.image;
+    }
+
+    private static Variant[] getVariants(final Image source) {
+        final LookupKey key = lookupKey.get();
+        key.set(source);
+        final Variant[] sourceVariants = variants.get(key);
+        key.set(null);
+
+        return sourceVariants;
+    }
+
+    private static Variant findVariant(final Variant[] sourceVariants, final int width, final int height, final Object interpolation) {
+        if (sourceVariants == null) {
+            return null;
+        }
+
+        for (final Variant variant : sourceVariants) {
+            if (variant.width == width && variant.height == height && Objects.equals(variant.interpolation, interpolation)) {
+                return variant;
+            }
+        }
+
+        return null;
+    }
+
+    private static void render(final Image source, final Variant variant, final int version) {
+        final long bytes = variant.getByteSize();
+
+        if (cachedBytes + bytes > maxCachedBytes) {
+            return;
+        }
+
+        final BufferedImage image = SaltySystem.gfxConfig.createCompatibleImage(variant.width, variant.height, Transparency.TRANSLUCENT);
+        final Graphics2D graphics = image.createGraphics();
+        if (variant.interpolation != null) {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, variant.interpolation);
+        }
+        graphics.setComposite(AlphaComposite.Src);
+        graphics.drawImage(source, 0, 0, variant.width, variant.height, null);
+        graphics.dispose();
+
+        variant.rendering = new Rendering(image, version);
+        cachedBytes += bytes;
+    }
+
+    private static void release(final Variant variant) {
+        final Rendering rendering = variant.rendering;
+
+        if (rendering != null) {
+            variant.rendering = null;
+            rendering.image.flush();
+            cachedBytes -= variant.getByteSize();
+        }
+    }
+
+    private static void releaseAll(final Variant[] sourceVariants) {
+        if (sourceVariants != null) {
+            for (final Variant variant : sourceVariants) {
+                release(variant);
+            }
+        }
+    }
+
+    /**
+     * Releases the variants of all source images that were garbage collected.
+     */
+    private static void releaseCollected() {
+        Reference<? extends Image> collected;
+
+        while ((collected = collectedSources.poll()) != null) {
+            releaseAll(variants.remove(collected));
+        }
+    }
+
+    /**
+     * Advances the frame counter, releases the variants of collected source images and evicts
+     * all variants that weren't used for {@link #maxIdleFrames} frames every {@link #EVICTION_INTERVAL} frames.
+     */
+    public static synchronized void nextFrame() {
+        frame++;
+
+        releaseCollected();
+
+        if (frame % EVICTION_INTERVAL != 0) {
+            return;
+        }
+
+        final Iterator<Map.Entry<Object, Variant[]>> sourceIterator = variants.entrySet().iterator();
+        while (sourceIterator.hasNext()) {
+            final Map.Entry<Object, Variant[]> entry = sourceIterator.next();
+            final Variant[] sourceVariants = entry.getValue();
+            final Variant[] keptVariants = new Variant[sourceVariants.length];
+            int kept = 0;
+
+            for (final Variant variant : sourceVariants) {
+                if (frame - variant.lastUsedFrame > maxIdleFrames) {
+                    release(variant);
+                } else {
+                    keptVariants[kept++] = variant;
+                }
+            }
+
+            if (kept == 0) {
+                sourceIterator.remove();
+            } else if (kept != sourceVariants.length) {
+                entry.setValue(Arrays.copyOf(keptVariants, kept));
+            }
+        }
+    }
+
+    /**
+     * Removes all variants of the given image, e.g. after its content was changed
+     * through its <code>Graphics</code> directly.
+     *
+     * @param source the image whose variants are to be removed
+     */
+    public static synchronized void invalidate(final Image source) {
+        final LookupKey key = lookupKey.get();
+        key.set(source);
+        releaseAll(variants.remove(key));
+        key.set(null);
+    }
+
+    public static synchronized void clear() {
+        for (final Variant[] sourceVariants : variants.values()) {
+            releaseAll(sourceVariants);
+        }
+        variants.clear();
+        cachedBytes = 0;
+    }
+
+    public static synchronized long getCachedBytes() {
+        releaseCollected();
+        return cachedBytes;
+    }
+
+    public static synchronized int getMaxIdleFrames() {
+        return maxIdleFrames;
+    }
+
+    public static synchronized void setMaxIdleFrames(final int maxIdleFrames) {
+        ScaledImageCache.maxIdleFrames = maxIdleFrames;
+    }
+
+    public static synchronized long getMaxCachedBytes() {
+        return maxCachedBytes;
+    }
+
+    public static synchronized void setMaxCachedBytes(final long maxCachedBytes) {
+        ScaledImageCache.maxCachedBytes = maxCachedBytes;
+    }
+
+    /**
+     * The key of a source image in {@link #variants}. It references the image weakly
+     * and is enqueued to {@link #collectedSources} once the image was collected.
+     */
+    private static final class SourceKey extends WeakReference<Image> {
+
+        private final int hash;
+
+        private SourceKey(final Image source) {
+            super(source, collectedSources);
+            this.hash = System.identityHashCode(source);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o instanceof SourceKey) {
+                final Image source = get();
+                return source != null && source == ((SourceKey) o).get();
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * A mutable key used to look up the {@link SourceKey} of an image.
+     */
+    private static final class LookupKey {
+
+        private Image source;
+        private int hash;
+
+        private void set(final Image source) {
+            this.source = source;
+            this.hash = source == null ? 0 : System.identityHashCode(source);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof SourceKey && ((SourceKey) o).get() == source;
+        }
+    }
+
+    /**
+     * A rendered variant together with the version of the source it was rendered from.
+     */
+    private static final class Rendering {
+
+        private final Image image;
+        private final int version;
+
+        private Rendering(final Image image, final int version) {
+            this.image = image;
+            this.version = version;
+        }
+    }
+
+    private static class Variant {
+
+        private final int width;
+        private final int height;
+        private final Object interpolation;
+        private volatile long lastUsedFrame;
+        private volatile Rendering rendering = null;
+
+        private Variant(final int width, final int height, final Object interpolation, final long lastUsedFrame) {
+            this.width = width;
+            this.height = height;
+            this.interpolation = interpolation;
+            this.lastUsedFrame = lastUsedFrame;
+        }
+
+        private long getByteSize() {
+            return (long) width * height * 4L;
+        }
+    }
+}
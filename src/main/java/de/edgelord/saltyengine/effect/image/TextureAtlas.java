@@ -0,0 +1,203 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.effect.image;
+
+import de.edgelord.saltyengine.effect.Frame;
+import de.edgelord.saltyengine.io.serialization.DataReader;
+import de.edgelord.saltyengine.io.serialization.DataWriter;
+import de.edgelord.saltyengine.io.serialization.Species;
+import de.edgelord.saltyengine.resource.Resource;
+
+import javax.imageio.ImageIO;
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * A few large images (pages) that contain many sprites, each of
+ * which can be looked up by its name as an {@link ImageRegion}.
+ * <p>
+ * Drawing all sprites of a scene from a few pages instead of one image per sprite
+ * keeps the number of images Java2D has to cache in video memory small,
+ * and every draw is a source-rect blit from an already accelerated page.
+ * <p>
+ * An atlas is either packed at runtime using {@link TextureAtlasBuilder#build()},
+ * or packed offline, {@link #save(File, String) saved} and then {@link #read(Resource, String) read}
+ * when the game starts. A saved atlas consists of one png file per page and an index
+ * file in the same format as the tilemap files of Salty Tilemap Creator:
+ *
+ * <pre>
+ *     {meta-inf}(page-count)2(*page-count){*meta-inf}
+ *     {pages}(entry-count)2(*entry-count)(page0)name_0.png(*page0)(page1)name_1.png(*page1){*pages}
+ *     {regions}(entry-count)n(*entry-count)(region0)sprite-name,page,x,y,width,height(*region0)...{*regions}
+ * </pre>
+ */
+public class TextureAtlas {
+
+    public static final String INDEX_FILE_EXTENSION = ".atlas";
+
+    private final List<SaltyImage> pages;
+    private final Map<String, ImageRegion> regions;
+
+    TextureAtlas(final List<SaltyImage> pages, final Map<String, ImageRegion> regions) {
+        this.pages = pages;
+        this.regions = regions;
+    }
+
+    /**
+     * Reads an atlas that was {@link #save(File, String) saved} before.
+     * The pages are expected to be next to the index file.
+     *
+     * @param resource     the <code>Resource</code> to read the index and the pages from
+     * @param relativePath the relative path of the index file
+     * @return the atlas described by the given index file
+     * @throws IOException when the index file can't be read
+     */
+    public static TextureAtlas read(final Resource resource, final String relativePath) throws IOException {
+        final File indexFile = resource.getFileResource(relativePath);
+
+        if (indexFile == null) {
+            throw new IOException("The atlas index " + relativePath + " can not be read");
+        }
+
+        final String directory = relativePath.substring(0, relativePath.lastIndexOf('/') + 1);
+        final DataReader reader = new DataReader(indexFile);
+        final Species pageSpecies = reader.getSpecies("pages");
+        final Species regionSpecies = reader.getSpecies("regions");
+
+        final int pageCount = Integer.parseInt(pageSpecies.getTagValue("entry-count"));
+        final List<SaltyImage> pages = new ArrayList<>(pageCount);
+        for (int i = 0; i < pageCount; i++) {
+            pages.add(resource.getImageResource(directory + pageSpecies.getTagValue("page" + i)));
+        }
+
+        final int regionCount = Integer.parseInt(regionSpecies.getTagValue("entry-count"));
+        final Map<String, ImageRegion> regions = new HashMap<>(regionCount * 2);
+        for (int i = 0; i < regionCount; i++) {
+            final String[] values = regionSpecies.getTagValue("region" + i).split(",");
+            final SaltyImage page = pages.get(Integer.parseInt(values[1]));
+
+            regions.put(values[0], new ImageRegion(page, Integer.parseInt(values[2]), Integer.parseInt(values[3]), Integer.parseInt(values[4]), Integer.parseInt(values[5])));
+        }
+
+        return new TextureAtlas(pages, regions);
+    }
+
+    /**
+     * Returns the name of the region of a {@link de.edgelord.saltyengine.effect.Spritesheet} frame
+     * that was added using {@link TextureAtlasBuilder#addSpritesheet(String, de.edgelord.saltyengine.effect.Spritesheet)}.
+     *
+     * @param sheetName the name of the spritesheet
+     * @param x         the column of the frame, starting at 1
+     * @param y         the row of the frame, starting at 1
+     * @return the name of the region of the given frame
+     */
+    public static String getFrameName(final String sheetName, final int x, final int y) {
+        return sheetName + "#" + x + "-" + y;
+    }
+
+    /**
+     * Saves this atlas to the given directory as one png file per page and an index file
+     * named <code>name + </code>{@link #INDEX_FILE_EXTENSION}.
+     *
+     * @param directory the directory to save the atlas to
+     * @param name      the name of the atlas
+     * @throws IOException when the files can't be written
+     */
+    public void save(final File directory, final String name) throws IOException {
+        final DataWriter writer = new DataWriter(new File(directory, name + INDEX_FILE_EXTENSION));
+        final Species metaInf = new Species("meta-inf");
+        final Species pageSpecies = new Species("pages");
+        final Species regionSpecies = new Species("regions");
+
+        metaInf.addTag("page-count", pages.size());
+
+        pageSpecies.addTag("entry-count", pages.size());
+        for (int i = 0; i < pages.size(); i++) {
+            final String pageName = name + "_" + i + ".png";
+            ImageIO.write(pages.get(i).toBufferedImage(), "png", new File(directory, pageName));
+            pageSpecies.addTag("page" + i, pageName);
+        }
+
+        regionSpecies.addTag("entry-count", regions.size());
+        int index = 0;
+        for (final Map.Entry<String, ImageRegion> entry : regions.entrySet()) {
+            final ImageRegion region = entry.getValue();
+            regionSpecies.addTag("region" + index, entry.getKey() + "," + pages.indexOf(region.getSource()) + "," +
+                    region.getX() + "," + region.getY() + "," + region.getWidth() + "," + region.getHeight());
+            index++;
+        }
+
+        writer.addSpecies(metaInf);
+        writer.addSpecies(pageSpecies);
+        writer.addSpecies(regionSpecies);
+        writer.syncFile();
+    }
+
+    /**
+     * Returns the region of the sprite with the given name.
+     *
+     * @param name the name of the sprite
+     * @return the region of the sprite or <code>null</code> if there is no sprite with that name
+     */
+    public ImageRegion getRegion(final String name) {
+        return regions.get(name);
+    }
+
+    /**
+     * Returns a new {@link Frame} of the sprite with the given name.
+     * The frames of a sprite are not shared, as they can be changed using {@link Frame#setImage(SaltyImage)},
+     * but they all draw the same {@link ImageRegion}.
+     *
+     * @param name the name of the sprite
+     * @return a frame of the sprite or <code>null</code> if there is no sprite with that name
+     */
+    public Frame getFrame(final String name) {
+        final ImageRegion region = regions.get(name);
+
+        if (region == null) {
+            return null;
+        }
+
+        return new Frame(region);
+    }
+
+    /**
+     * Returns the frame of a {@link de.edgelord.saltyengine.effect.Spritesheet} that was added using
+     * {@link TextureAtlasBuilder#addSpritesheet(String, de.edgelord.saltyengine.effect.Spritesheet)}.
+     *
+     * @param sheetName the name of the spritesheet
+     * @param x         the column of the frame, starting at 1
+     * @param y         the row of the frame, starting at 1
+     * @return the frame or <code>null</code> if there is no such frame
+     */
+    public Frame getFrame(final String sheetName, final int x, final int y) {
+        return getFrame(getFrameName(sheetName, x, y));
+    }
+
+    public boolean contains(final String name) {
+        return regions.containsKey(name);
+    }
+
+    public Set<String> getRegionNames() {
+        return Collections.unmodifiableSet(regions.keySet());
+    }
+
+    public List<SaltyImage> getPages() {
+        return Collections.unmodifiableList(pages);
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.effect.image;
+
+import de.edgelord.saltyengine.effect.Spritesheet;
+import de.edgelord.saltyengine.utils.ColorUtil;
+import de.edgelord.saltyengine.utils.SaltySystem;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.*;
+import java.util.List;
+
+/**
+ * Packs loose sprites and the frames of {@link Spritesheet}s into the pages of a {@link TextureAtlas}.
+ * <p>
+ * Sprites are sorted by their height and then placed onto rows ("shelves") of the pages.
+ * A transparent gap of {@link #padding} pixels is left between all sprites, so that
+ * scaling a sprite with bilinear interpolation does not bleed in pixels of its neighbours.
+ *
+ * <pre>
+ *     {@code
+ *     TextureAtlasBuilder builder = new TextureAtlasBuilder();
+ *     builder.add("coin", SaltySystem.defaultImageFactory.getPreferredImageResource("res/pictures/coin.png"));
+ *     builder.addSpritesheet("player", playerSpritesheet);
+ *     TextureAtlas atlas = builder.build();
+ *
+ *     Frame coin = atlas.getFrame("coin");
+ *     Frame playerFrame = atlas.getFrame("player", 1, 2);
+ *     }
+ * </pre>
+ */
+public class TextureAtlasBuilder {
+
+    /**
+     * The default maximum width and height of a page.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 2048;
+
+    private final int pageSize;
+    private final int padding;
+    private final Map<String, BufferedImage> sprites = new LinkedHashMap<>();
+
+    /**
+     * Creates a new builder.
+     *
+     * @param pageSize the maximum width and height of a page
+     * @param padding  the gap between two sprites in pixels
+     */
+    public TextureAtlasBuilder(final int pageSize, final int padding) {
+        this.pageSize = pageSize;
+        this.padding = padding;
+    }
+
+    public TextureAtlasBuilder() {
+        this(DEFAULT_PAGE_SIZE, 1);
+    }
+
+    /**
+     * Adds the given sprite with the given name.
+     *
+     * @param name   the name to look up the sprite with. It must not contain a comma.
+     * @param sprite the sprite
+     */
+    public void add(final String name, final BufferedImage sprite) {
+        if (name.contains(",")) {
+            throw new IllegalArgumentException("The name of a sprite of a TextureAtlas must not contain a comma: " + name);
+        }
+
+        if (sprite.getWidth() > pageSize || sprite.getHeight() > pageSize) {
+            throw new IllegalArgumentException("The sprite " + name + " is larger than the pages of the TextureAtlas (" + pageSize + "x" + pageSize + ")");
+        }
+
+        sprites.put(name, sprite);
+    }
+
+    public void add(final String name, final SaltyImage sprite) {
+        add(name, sprite.toBufferedImage());
+    }
+
+    /**
+     * Adds every frame of the given {@link Spritesheet}. The frames can be
+     * looked up using {@link TextureAtlas#getFrame(String, int, int)}.
+     *
+     * @param name        the name of the spritesheet
+     * @param spritesheet the spritesheet to add the frames of
+     */
+    public void addSpritesheet(final String name, final Spritesheet spritesheet) {
+        final BufferedImage sheet = spritesheet.getImage().toBufferedImage();
+        final int spriteWidth = spritesheet.getSpriteWidth();
+        final int spriteHeight = spritesheet.getSpriteHeight();
+
+        for (int row = 0; row < spritesheet.getRows(); row++) {
+            for (int column = 0; column < spritesheet.getColumns(); column++) {
+                add(TextureAtlas.getFrameName(name, column + 1, row + 1),
+                        sheet.getSubimage(column * spriteWidth, row * spriteHeight, spriteWidth, spriteHeight));
+            }
+        }
+    }
+
+    /**
+     * Packs all added sprites into as few pages as possible.
+     * The pages are created using {@link SaltySystem#createPreferredImage(Image)}.
+     *
+     * @return a new atlas containing all added sprites
+     */
+    public TextureAtlas build() {
+        final List<Map.Entry<String, BufferedImage>> sortedSprites = new ArrayList<>(sprites.entrySet());
+        sortedSprites.sort((a, b) -> {
+            final int heightComparison = Integer.compare(b.getValue().getHeight(), a.getValue().getHeight());
+            return heightComparison != 0 ? heightComparison : Integer.compare(b.getValue().getWidth(), a.getValue().getWidth());
+        });
+
+        final List<PageLayout> layouts = new ArrayList<>();
+        PageLayout currentLayout = new PageLayout();
+        layouts.add(currentLayout);
+
+        for (final Map.Entry<String, BufferedImage> sprite : sortedSprites) {
+            final int width = sprite.getValue().getWidth();
+            final int height = sprite.getValue().getHeight();
+
+            if (currentLayout.cursorX + width > pageSize) {
+                currentLayout.nextShelf();
+            }
+
+            if (currentLayout.shelfY + height > pageSize) {
+                currentLayout = new PageLayout();
+                layouts.add(currentLayout);
+            }
+
+            currentLayout.place(sprite.getKey(), sprite.getValue());
+        }
+
+        final List<SaltyImage> pages = new ArrayList<>(layouts.size());
+        final Map<String, ImageRegion> regions = new HashMap<>(sprites.size() * 2);
+
+        for (final PageLayout layout : layouts) {
+            if (layout.placements.isEmpty()) {
+                continue;
+            }
+
+            final BufferedImage pageImage = new BufferedImage(Math.max(1, layout.usedWidth), Math.max(1, layout.usedHeight), BufferedImage.TYPE_INT_ARGB);
+            final Graphics2D graphics = pageImage.createGraphics();
+            graphics.setBackground(ColorUtil.TRANSPARENT_COLOR);
+            graphics.clearRect(0, 0, pageImage.getWidth(), pageImage.getHeight());
+            for (final Placement placement : layout.placements) {
+                graphics.drawImage(placement.sprite, placement.x, placement.y, null);
+            }
+            graphics.dispose();
+
+            final SaltyImage page = SaltySystem.createPreferredImage(pageImage);
+            pages.add(page);
+
+            for (final Placement placement : layout.placements) {
+                regions.put(placement.name, new ImageRegion(page, placement.x, placement.y, placement.sprite.getWidth(), placement.sprite.getHeight()));
+            }
+        }
+
+        return new TextureAtlas(pages, regions);
+    }
+
+    public int size() {
+        return sprites.size();
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public int getPadding() {
+        return padding;
+    }
+
+    private class PageLayout {
+
+        private final List<Placement> placements = new ArrayList<>();
+        private int cursorX = 0;
+        private int shelfY = 0;
+        private int shelfHeight = 0;
+        private int usedWidth = 0;
+        private int usedHeight = 0;
+
+        private void nextShelf() {
+            shelfY += shelfHeight + padding;
+            cursorX = 0;
+            shelfHeight = 0;
+        }
+
+        private void place(final String name, final BufferedImage sprite) {
+            placements.add(new Placement(name, sprite, cursorX, shelfY));
+
+            usedWidth = Math.max(usedWidth, cursorX + sprite.getWidth());
+            usedHeight = Math.max(usedHeight, shelfY + sprite.getHeight());
+            shelfHeight = Math.max(shelfHeight, sprite.getHeight());
+            cursorX += sprite.getWidth() + padding;
+        }
+    }
+
+    private static class Placement {
+
+        private final String name;
+        private final BufferedImage sprite;
+        private final int x;
+        private final int y;
+
+        private Placement(final String name, final BufferedImage sprite, final int x, final int y) {
+            this.name = name;
+            this.sprite = sprite;
+            this.x = x;
+            this.y = y;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.effect.image;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps track of the video memory used by all {@link SaltyManagedImage}s
+ * and limits it to {@link #budgetBytes}.
+ * <p>
+ * When a managed image needs to be uploaded to video memory but the budget
+ * is exhausted, the images that were drawn the longest time ago are demoted
+ * to system memory, as long as they weren't drawn within the last {@link #minIdleMillis}.
+ * Demoted images are drawn from their system memory copy until there is room
+ * for them in the budget again.
+ * <p>
+ * The budget only holds {@link WeakReference weak references} to the resident images.
+ * When a resident image is garbage collected, its video memory surface is reclaimed
+ * by Java2D and its room in the budget is freed.
+ */
+public class VideoMemoryBudget {
+
+    /**
+     * The default budget of 128 MB.
+     */
+    public static final long DEFAULT_BUDGET_BYTES = 128L * 1024L * 1024L;
+
+    private static final List<Resident> residentImages = new ArrayList<>();
+
+    /**
+     * The queue the {@link Resident}s of garbage collected images are enqueued to.
+     */
+    private static final ReferenceQueue<SaltyManagedImage> collectedImages = new ReferenceQueue<>();
+
+    private static long budgetBytes = DEFAULT_BUDGET_BYTES;
+    private static long usedBytes = 0;
+
+    /**
+     * Images that were drawn within this amount of milliseconds are never demoted
+     * to make room for other images, to prevent images from pushing each other out every frame.
+     */
+    private static long minIdleMillis = 1000;
+
+    /**
+     * Reserves room for the given image, demoting idle images if necessary.
+     *
+     * @param image the image that is to be uploaded to video memory
+     * @return whether there is room for the given image
+     */
+    static synchronized boolean acquire(final SaltyManagedImage image) {
+        final long bytes = image.getByteSize();
+
+        releaseCollected();
+
+        if (bytes > budgetBytes) {
+            return false;
+        }
+
+        if (usedBytes + bytes > budgetBytes) {
+            final long now = System.nanoTime();
+            final long minIdleNanos = minIdleMillis * 1_000_000L;
+
+            while (usedBytes + bytes > budgetBytes) {
+                final SaltyManagedImage leastRecentlyDrawn = findLeastRecentlyDrawn();
+
+                if (leastRecentlyDrawn == null || now - leastRecentlyDrawn.getLastDrawnNanos() < minIdleNanos) {
+                    return false;
+                }
+
+                leastRecentlyDrawn.demote();
+            }
+        }
+
+        residentImages.add(new Resident(image));
+        usedBytes += bytes;
+        return true;
+    }
+
+    /**
+     * Frees the room of the given image. This is called by {@link SaltyManagedImage#demote()}
+     * and {@link SaltyManagedImage#flush()}.
+     *
+     * @param image the image that no longer uses video memory
+     */
+    static synchronized void release(final SaltyManagedImage image) {
+        for (int i = 0; i < residentImages.size(); i++) {
+            final Resident resident = residentImages.get(i);
+            if (resident.get() == image) {
+                residentImages.remove(i);
+                usedBytes -= resident.bytes;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Frees the room of all resident images that were garbage collected.
+     */
+    private static void releaseCollected() {
+        Reference<? extends SaltyManagedImage> collected;
+
+        while ((collected = collectedImages.poll()) != null) {
+            if (residentImages.remove(collected)) {
+                usedBytes -= ((Resident) collected).bytes;
+            }
+        }
+    }
+
+    /**
+     * Returns the resident image that was drawn the longest time ago.
+     * Entries of collected images that weren't enqueued yet are released on the way.
+     *
+     * @return the least recently drawn resident image or <code>null</code> if there is none
+     */
+    private static SaltyManagedImage findLeastRecentlyDrawn() {
+        SaltyManagedImage leastRecentlyDrawn = null;
+
+        for (int i = 0; i < residentImages.size(); i++) {
+            final Resident resident = residentImages.get(i);
+            final SaltyManagedImage image = resident.get();
+
+            if (image == null) {
+                residentImages.remove(i--);
+                usedBytes -= resident.bytes;
+            } else if (leastRecentlyDrawn == null || image.getLastDrawnNanos() < leastRecentlyDrawn.getLastDrawnNanos()) {
+                leastRecentlyDrawn = image;
+            }
+        }
+
+        return leastRecentlyDrawn;
+    }
+
+    /**
+     * Demotes all managed images that weren't drawn within the given amount of milliseconds,
+     * e.g. to free video memory after switching the {@link de.edgelord.saltyengine.scene.Scene}.
+     *
+     * @param idleMillis the amount of milliseconds after which an image counts as idle
+     */
+    public static synchronized void demoteIdleImages(final long idleMillis) {
+        final long now = System.nanoTime();
+        final long idleNanos = idleMillis * 1_000_000L;
+
+        releaseCollected();
+
+        for (final Resident resident : new ArrayList<>(residentImages)) {
+            final SaltyManagedImage image = resident.get();
+            if (image != null && now - image.getLastDrawnNanos() >= idleNanos) {
+                image.demote();
+            }
+        }
+    }
+
+    public static synchronized long getUsedBytes() {
+        releaseCollected();
+        return usedBytes;
+    }
+
+    public static synchronized int getResidentImageCount() {
+        releaseCollected();
+        return residentImages.size();
+    }
+
+    public static synchronized long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    /**
+     * Sets the {@link #budgetBytes}. If the new budget is smaller than the currently
+     * used video memory, the least recently drawn images are demoted until it fits.
+     *
+     * @param budgetBytes the new budget in bytes
+     */
+    public static synchronized void setBudgetBytes(final long budgetBytes) {
+        VideoMemoryBudget.budgetBytes = budgetBytes;
+
+        releaseCollected();
+
+        while (usedBytes > budgetBytes) {
+            final SaltyManagedImage leastRecentlyDrawn = findLeastRecentlyDrawn();
+
+            if (leastRecentlyDrawn == null) {
+                break;
+            }
+
+            leastRecentlyDrawn.demote();
+        }
+    }
+
+    public static synchronized long getMinIdleMillis() {
+        return minIdleMillis;
+    }
+
+    public static synchronized void setMinIdleMillis(final long minIdleMillis) {
+        VideoMemoryBudget.minIdleMillis = minIdleMillis;
+    }
+
+    /**
+     * A weak reference to a resident image that remembers
+     * the amount of video memory it uses.
+     */
+    private static final class Resident extends WeakReference<SaltyManagedImage> {
+
+        private final long bytes;
+
+        private Resident(final SaltyManagedImage image) {
+            super(image, collectedImages);
+            this.bytes = image.getByteSize();
+        }
+    }
+}
@@ -16,9 +16,16 @@
 
 package de.edgelord.saltyengine.factory;
 
+import de.edgelord.saltyengine.audio.AudioStream;
+import de.edgelord.saltyengine.audio.Sound;
+import de.edgelord.saltyengine.io.ByteBufferInputStream;
 import de.edgelord.saltyengine.resource.Resource;
 
+import javax.sound.sampled.AudioSystem;
 import javax.sound.sampled.Clip;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 
 public class AudioFactory extends Factory {
 
@@ -30,4 +37,39 @@ public class AudioFactory extends Factory {
 
         return getResource().getAudioResource(relativePath);
     }
+
+    /**
+     * Reads and decodes the audio file with the given relative path
+     * into a {@link Sound} for the {@link de.edgelord.saltyengine.audio.AudioMixer}.
+     *
+     * @param relativePath the relative path of the audio file
+     * @return the decoded sound or <code>null</code> if it can't be read
+     */
+    public Sound getSound(final String relativePath) {
+        final ByteBuffer buffer = getResource().getBufferResource(relativePath);
+
+        if (buffer == null) {
+            return null;
+        }
+
+        try {
+            return Sound.decode(AudioSystem.getAudioInputStream(new ByteBufferInputStream(buffer)));
+        } catch (final IOException | UnsupportedAudioFileException e) {
+            e.printStackTrace();
+        }
+
+        return null;
+    }
+
+    /**
+     * Creates an {@link AudioStream} of the audio file with the given relative path,
+     * which is decoded while it is played, e.g. for music.
+     *
+     * @param relativePath the relative path of the audio file
+     * @param loop         whether the stream should start again when it ends
+     * @return a new stream of the audio file
+     */
+    public AudioStream getAudioStream(final String relativePath, final boolean loop) {
+        return AudioStream.fromResource(getResource(), relativePath, loop);
+    }
 }
@@ -16,12 +16,15 @@
 
 package de.edgelord.saltyengine.factory;
 
+import de.edgelord.saltyengine.io.ByteBufferInputStream;
 import de.edgelord.saltyengine.resource.Resource;
 import de.edgelord.saltyengine.utils.SaltySystem;
 
 import java.awt.*;
-import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * This class helps reading fonts from the resources from a TRUETYPE_FONT-file (*.ttf)
@@ -35,6 +38,8 @@ public class FontFactory extends Factory {
     /**
      * Returns a new {@link Font} read from the *.ttf file with the given
      * relative path and derives it with the given size.
+     * The font is read from {@link Resource#getBufferResource(String)},
+     * so that no temporary file is needed.
      *
      * @param relativePath the relative path to *.ttf file
      * @param size         the size of the returned font
@@ -43,9 +48,15 @@ public class FontFactory extends Factory {
      * @throws FontFormatException when the font format is not TTF
      */
     public Font getFont(final String relativePath, final float size) throws IOException, FontFormatException {
-        final File fontFile = getResource().getFileResource(relativePath);
-        System.out.println(fontFile.getAbsolutePath());
-        return Font.createFont(Font.TRUETYPE_FONT, fontFile).deriveFont(size);
+        final ByteBuffer fontBuffer = getResource().getBufferResource(relativePath);
+
+        if (fontBuffer == null) {
+            throw new FileNotFoundException("The font " + relativePath + " does not exist");
+        }
+
+        try (final InputStream inputStream = new ByteBufferInputStream(fontBuffer)) {
+            return Font.createFont(Font.TRUETYPE_FONT, inputStream).deriveFont(size);
+        }
     }
 
     /**
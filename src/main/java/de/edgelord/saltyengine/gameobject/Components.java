@@ -36,4 +36,5 @@ public abstract class Components {
     public static final String MONO_BEHAVIOUR = "de.edgelord.saltyengine.components.monoBehaviour";
     public static final String GIF_RENDER = "de.edgelord.saltyengine.components.gifRender";
     public static final String EMITTER_COMPONENT = "de.edgelord.saltyengine.components.emitter";
+    public static final String AUDIO_COMPONENT = "de.edgelord.saltyengine.components.audio";
 }
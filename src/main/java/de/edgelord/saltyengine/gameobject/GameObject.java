@@ -16,6 +16,7 @@
 
 package de.edgelord.saltyengine.gameobject;
 
+import de.edgelord.saltyengine.collision.ContactList;
 import de.edgelord.saltyengine.collision.collider.Collider;
 import de.edgelord.saltyengine.collision.collider.HitboxCollider;
 import de.edgelord.saltyengine.components.SimplePhysicsComponent;
@@ -30,6 +31,8 @@ import de.edgelord.saltyengine.core.interfaces.FixedTickRoutine;
 import de.edgelord.saltyengine.core.interfaces.InitializeAble;
 import de.edgelord.saltyengine.core.physics.Force;
 import de.edgelord.saltyengine.core.stereotypes.ComponentContainer;
+import de.edgelord.saltyengine.core.stereotypes.ComponentIndex;
+import de.edgelord.saltyengine.core.stereotypes.ComponentStore;
 import de.edgelord.saltyengine.hitbox.Hitbox;
 import de.edgelord.saltyengine.hitbox.SimpleHitbox;
 import de.edgelord.saltyengine.input.Input;
@@ -40,7 +43,6 @@ import de.edgelord.saltyengine.transform.Vector2f;
 import de.edgelord.saltyengine.utils.Directions;
 
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * A <code>GameObject</code> can be added to a {@link de.edgelord.saltyengine.scene.Scene} using {@link de.edgelord.saltyengine.scene.Scene#addGameObject(GameObject)}.
@@ -59,14 +61,19 @@ public abstract class GameObject extends ComponentContainer implements Drawable,
 
     /**
      * The list of {@link Component}s that this <code>GameObject</code> currently has.
-     * Due to concurrency, it is a <code>CopyOnWriteArrayList</code>.
+     * It is a {@link ComponentStore}, which can be read and iterated from any thread without locking.
      */
-    private final List<Component> components = new CopyOnWriteArrayList<>();
+    private final ComponentStore components = new ComponentStore();
+    /**
+     * The index of the {@link #components} by name and class.
+     */
+    private final ComponentIndex componentIndex = new ComponentIndex(components);
 
     /**
      * The List of collisions that has been occurred in the last collision detection, used for {@link #onCollisionDetectionFinish(List)}.
+     * It is a view onto the pooled contacts of the scene, see {@link ContactList}.
      */
-    private final List<CollisionEvent> collisions = new CopyOnWriteArrayList<>();
+    private final ContactList collisions = new ContactList();
     /**
      * The default physics component, used for stopping the <code>GameObject</code> when a collision in a direction
      * occurs and to accelerate it using e.g. {@link #accelerate(float, Directions.Direction)} or {@link #accelerateTo(float, Directions.Direction)}.
@@ -127,7 +134,7 @@ public abstract class GameObject extends ComponentContainer implements Drawable,
         physicsComponent = new SimplePhysicsComponent(this, GameObject.DEFAULT_PHYSICS_NAME);
         collider = new HitboxCollider();
 
-        components.add(physicsComponent);
+        componentIndex.add(physicsComponent);
     }
 
     /**
@@ -301,7 +308,7 @@ public abstract class GameObject extends ComponentContainer implements Drawable,
      */
     @Override
     public void addComponent(final Component component) {
-        components.add(component);
+        componentIndex.add(component);
     }
 
     /**
@@ -311,7 +318,7 @@ public abstract class GameObject extends ComponentContainer implements Drawable,
      */
     @Override
     public void removeComponent(final Component component) {
-        components.remove(component);
+        componentIndex.remove(component);
     }
 
     /**
@@ -321,7 +328,7 @@ public abstract class GameObject extends ComponentContainer implements Drawable,
      */
     @Override
     public void removeComponent(final String name) {
-        components.removeIf(gameObjectComponent -> gameObjectComponent.getName().equals(name));
+        componentIndex.remove(name);
     }
 
     /**
@@ -332,14 +339,19 @@ public abstract class GameObject extends ComponentContainer implements Drawable,
      */
     @Override
     public Component getComponent(final String name) {
+        return componentIndex.get(name);
+    }
 
-        for (final Component component : getComponents()) {
-            if (component.getName().equals(name)) {
-                return component;
-            }
-        }
-
-        return null;
+    /**
+     * Returns the first {@link Component} that is an instance of the given class.
+     *
+     * @param type the class
+     * @param <C>  the type of the component
+     * @return the first {@link Component} of the given class
+     */
+    @Override
+    public <C extends Component> C getComponent(final Class<C> type) {
+        return componentIndex.get(type);
     }
 
     /**
@@ -552,7 +564,7 @@ public abstract class GameObject extends ComponentContainer implements Drawable,
         this.cursorAlreadyTouching = cursorAlreadyTouching;
     }
 
-    public List<CollisionEvent> getCollisions() {
+    public ContactList getCollisions() {
         return collisions;
     }
 
@@ -40,7 +40,16 @@ public class SimpleHitbox implements Hitbox {
 
     public void recalculate() {
 
-        transform.setPosition(new Vector2f(parent.getPosition().getX() + offsetX, parent.getPosition().getY() + offsetY));
+        final float x = parent.getX() + offsetX;
+        final float y = parent.getY() + offsetY;
+
+        // only touch the position if the parent (or the offset) actually moved
+        if (transform.getX() != x) {
+            transform.setX(x);
+        }
+        if (transform.getY() != y) {
+            transform.setY(y);
+        }
     }
 
     @Override
@@ -119,6 +119,39 @@ public class Input {
         return new Transform(getAbsoluteCursorPosition(), Dimensions.one());
     }
 
+    /**
+     * Returns whether the key with the given code is down in the current fixed tick.
+     *
+     * @param keyCode the key code, e.g. {@link KeyEvent#VK_SPACE}
+     * @return whether the key is down
+     * @see Keyboard#isKeyDown(int)
+     */
+    public static boolean isKeyDown(final int keyCode) {
+        return keyboardInput.isKeyDown(keyCode);
+    }
+
+    /**
+     * Returns whether the key with the given code went down in the current fixed tick.
+     *
+     * @param keyCode the key code, e.g. {@link KeyEvent#VK_SPACE}
+     * @return whether the key was pressed this tick
+     * @see Keyboard#isKeyPressed(int)
+     */
+    public static boolean isKeyPressedThisTick(final int keyCode) {
+        return keyboardInput.isKeyPressed(keyCode);
+    }
+
+    /**
+     * Returns whether the key with the given code was released in the current fixed tick.
+     *
+     * @param keyCode the key code, e.g. {@link KeyEvent#VK_SPACE}
+     * @return whether the key was released this tick
+     * @see Keyboard#isKeyReleased(int)
+     */
+    public static boolean isKeyReleasedThisTick(final int keyCode) {
+        return keyboardInput.isKeyReleased(keyCode);
+    }
+
     public static boolean isMouseDrags() {
         return mouseDrags;
     }
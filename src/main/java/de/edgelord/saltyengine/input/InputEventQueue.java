@@ -0,0 +1,165 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.input;
+
+import java.awt.AWTEvent;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free, preallocated ring buffer of native input events, such as key and mouse events
+ * or the window losing the focus.
+ * <p>
+ * The native listeners of the {@link de.edgelord.saltyengine.displaymanager.display.Display} and the
+ * {@link de.edgelord.saltyengine.displaymanager.stage.Stage} only {@link #enqueue(Dispatcher, AWTEvent) enqueue}
+ * the events they receive on the AWT event thread. The {@link de.edgelord.saltyengine.core.Engine} {@link #drain() drains}
+ * the queue at the start of every fixed tick, so that all input handlers, the UI and the game logic run on the fixed tick thread.
+ * <p>
+ * Before the events of a tick are dispatched, {@link Keyboard#nextTick()} is called on {@link Input#keyboardInput},
+ * so that its per-tick key states describe the events of exactly one tick.
+ */
+public final class InputEventQueue {
+
+    /**
+     * The maximum number of events that can be waiting for the next fixed tick.
+     * Further events are dropped until the queue is drained.
+     */
+    public static final int CAPACITY = 1024;
+
+    private static final int MASK = CAPACITY - 1;
+
+    private static final Dispatcher[] dispatchers = new Dispatcher[CAPACITY];
+    private static final AWTEvent[] events = new AWTEvent[CAPACITY];
+
+    /**
+     * The sequence of each slot. A slot with the sequence <code>n</code> can be written by the producer
+     * claiming position <code>n</code> and read by the consumer at position <code>n - 1</code>.
+     */
+    private static final AtomicLongArray sequences = new AtomicLongArray(CAPACITY);
+
+    /**
+     * The next position to be claimed by a producer.
+     */
+    private static final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The next position to be read. Only accessed by the fixed tick thread.
+     */
+    private static long head = 0;
+
+    /**
+     * Stores whether an overflow was already reported since the last drain.
+     */
+    private static volatile boolean overflowReported = false;
+
+    static {
+        for (int i = 0; i < CAPACITY; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    private InputEventQueue() {
+    }
+
+    /**
+     * Enqueues the given event, which is passed to the given {@link Dispatcher} during the next {@link #drain()}.
+     * This method never blocks and can be called from any thread.
+     *
+     * @param dispatcher the dispatcher of the event
+     * @param event      the event
+     * @return <code>true</code> if the event was enqueued and <code>false</code> if it was dropped because the queue is full
+     */
+    public static boolean enqueue(final Dispatcher dispatcher, final AWTEvent event) {
+        long position = tail.get();
+        int index;
+
+        while (true) {
+            index = (int) (position & MASK);
+            final long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                if (!overflowReported) {
+                    overflowReported = true;
+                    System.out.println("[WARNING] The input event queue is full, dropping events until the next fixed tick");
+                }
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+
+        dispatchers[index] = dispatcher;
+        events[index] = event;
+        sequences.lazySet(index, position + 1);
+
+        return true;
+    }
+
+    /**
+     * Dispatches all events that were enqueued since the last call, in the order in which they were enqueued,
+     * and starts a new tick of the {@link Keyboard}.
+     * This is called by the {@link de.edgelord.saltyengine.core.Engine} at the start of every fixed tick
+     * and must only be called from the fixed tick thread.
+     */
+    public static void drain() {
+
+        Input.keyboardInput.nextTick();
+
+        // events enqueued by the handlers themselves are dispatched in the next tick at the latest
+        for (int count = 0; count < CAPACITY; count++) {
+            final int index = (int) (head & MASK);
+
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+
+            final Dispatcher dispatcher = dispatchers[index];
+            final AWTEvent event = events[index];
+            dispatchers[index] = null;
+            events[index] = null;
+            sequences.lazySet(index, head + CAPACITY);
+            head++;
+
+            try {
+                dispatcher.dispatch(event);
+            } catch (final Exception e) {
+                e.printStackTrace();
+            }
+        }
+
+        overflowReported = false;
+    }
+
+    /**
+     * Handles the events of a queue on the fixed tick thread.
+     */
+    @FunctionalInterface
+    public interface Dispatcher {
+
+        /**
+         * Handles the given event. This is called on the fixed tick thread.
+         *
+         * @param event the event to handle
+         */
+        void dispatch(AWTEvent event);
+    }
+}
@@ -17,1249 +17,1087 @@
 package de.edgelord.saltyengine.input;
 
 import java.awt.event.KeyEvent;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Represents a virtual keyboard with all common keys.
- * The states of the keys represented as booleans are
- * updated on every <code>KeyEvent</code> that occurred
+ * Represents a virtual keyboard.
+ * The state of every key is stored in a table indexed by its <code>KeyEvent</code> key code,
+ * which is updated on every <code>KeyEvent</code> that occurred
  * in the {@link de.edgelord.saltyengine.displaymanager.display.Display}.
+ * <p>
+ * Besides the current state, the table keeps the state of the previous fixed tick and the keys that went
+ * down or up during the current one, so that both {@link #isKeyDown(int) held keys} and
+ * {@link #isKeyPressed(int) presses} and {@link #isKeyReleased(int) releases} can be queried.
+ * Keys can be bound to named actions using {@link #bind(String, int...)}, which can then be queried the same way.
+ * <p>
+ * The getters for single keys, like {@link #isSpace()}, are views on the table.
  */
 public class Keyboard {
 
-    private final boolean less = false;
-    private final boolean greater = false;
-    /*
-    Special keys
-     */
-    private boolean enter = false;
-    private boolean backspace = false;
-    private boolean delete = false;
-    private boolean tab = false;
-    private boolean shift = false;
-    private boolean control = false;
-    private boolean alt = false;
-    private boolean capsLock = false;
-    private boolean escape = false;
-    private boolean pageUp = false;
-    private boolean pageDown = false;
-    private boolean space = false;
-    /*
-    Arrow Keys
-     */
-    private boolean rightArrow = false;
-    private boolean leftArrow = false;
-    private boolean upArrow = false;
-    private boolean downArrow = false;
-    /*
-    Math keys
-     */
-    private boolean comma = false;
-    private boolean period = false; /* = "."*/
-    private boolean minus = false;
-    private boolean plus = false;
-    /*
-    Numbers from 0 to 9
-     */
-    private boolean number0 = false;
-    private boolean number1 = false;
-    private boolean number2 = false;
-    private boolean number3 = false;
-    private boolean number4 = false;
-    private boolean number5 = false;
-    private boolean number6 = false;
-    private boolean number7 = false;
-    private boolean number8 = false;
-    private boolean number9 = false;
-
-    /*
-    Letters from A to Z
-     */
-    private boolean a = false;
-    private boolean b = false;
-    private boolean c = false;
-    private boolean d = false;
-    private boolean e = false;
-    private boolean f = false;
-    private boolean g = false;
-    private boolean h = false;
-    private boolean i = false;
-    private boolean j = false;
-    private boolean k = false;
-    private boolean l = false;
-    private boolean m = false;
-    private boolean n = false;
-    private boolean o = false;
-    private boolean p = false;
-    private boolean q = false;
-    private boolean r = false;
-    private boolean s = false;
-    private boolean t = false;
-    private boolean u = false;
-    private boolean v = false;
-    private boolean w = false;
-    private boolean x = false;
-    private boolean y = false;
-    private boolean z = false;
-
-    /*
-    Numpad-numbers from 0 to 9
-     */
-    private boolean numpad0 = false;
-    private boolean numpad1 = false;
-    private boolean numpad2 = false;
-    private boolean numpad3 = false;
-    private boolean numpad4 = false;
-    private boolean numpad5 = false;
-    private boolean numpad6 = false;
-    private boolean numpad7 = false;
-    private boolean numpad8 = false;
-    private boolean numpad9 = false;
-
-    /*
-    Function keys from 1 to 12
-     */
-    private boolean function1 = false;
-    private boolean function2 = false;
-    private boolean function3 = false;
-    private boolean function4 = false;
-    private boolean function5 = false;
-    private boolean function6 = false;
-    private boolean function7 = false;
-    private boolean function8 = false;
-    private boolean function9 = false;
-    private boolean function10 = false;
-    private boolean function11 = false;
-    private boolean function12 = false;
-
-    /*
-    Currency signs
-     */
-    private boolean euro = false;
-    private boolean dollar = false;
-
-    /*
-    Other keys that can be accessed without using e.g. shift and some brackets
-     */
-    private boolean hash = false;
-    private boolean openParenthesis = false;
-    private boolean closeParenthesis = false;
-    private boolean openBrace = false;
-    private boolean closeBrace = false;
-    private boolean openSquareBracket = false;
-    private boolean closeSquareBracket = false;
+    /**
+     * The number of key codes whose state is stored.
+     * All virtual key codes defined by {@link KeyEvent} are smaller than this.
+     */
+    public static final int KEY_CODE_COUNT = 0x10000;
+
+    private static final int[] NO_KEY_CODES = new int[0];
+
+    /**
+     * The keys that are currently down, one bit per key code.
+     */
+    private final long[] keys = new long[KEY_CODE_COUNT >> 6];
+
+    /**
+     * The keys that were down at the end of the previous fixed tick.
+     */
+    private final long[] previousKeys = new long[KEY_CODE_COUNT >> 6];
+
+    /**
+     * The keys that went down during the current fixed tick.
+     */
+    private final long[] pressedKeys = new long[KEY_CODE_COUNT >> 6];
+
+    /**
+     * The keys that were released during the current fixed tick.
+     */
+    private final long[] releasedKeys = new long[KEY_CODE_COUNT >> 6];
+
+    /**
+     * The key codes bound to each action. The arrays are never modified, a changed binding is replaced by a new array.
+     */
+    private final Map<String, int[]> actions = new ConcurrentHashMap<>();
+
+    /**
+     * Stores whether any key changed during the current tick, so that ticks without input need no copying.
+     */
+    private boolean changedThisTick = false;
 
     public void handleKeyPressed(final KeyEvent keyPressedEvent) {
+        final int keyCode = keyPressedEvent.getKeyCode();
 
-        flagMatchingKeyAs(true, keyPressedEvent);
+        // auto-repeated presses of a held key are no new presses
+        if (isValid(keyCode) && !isSet(keys, keyCode)) {
+            set(keys, keyCode);
+            set(pressedKeys, keyCode);
+            changedThisTick = true;
+        }
     }
 
     public void handleKeyReleased(final KeyEvent keyReleasedEvent) {
+        final int keyCode = keyReleasedEvent.getKeyCode();
+
+        if (isValid(keyCode) && isSet(keys, keyCode)) {
+            clear(keys, keyCode);
+            set(releasedKeys, keyCode);
+            changedThisTick = true;
+        }
+    }
+
+    /**
+     * Starts a new fixed tick: the current state becomes the previous one and the presses
+     * and releases of the last tick are forgotten.
+     * This is called by the {@link InputEventQueue} before the input events of a tick are dispatched.
+     */
+    public void nextTick() {
+
+        if (!changedThisTick) {
+            return;
+        }
+
+        System.arraycopy(keys, 0, previousKeys, 0, keys.length);
+        Arrays.fill(pressedKeys, 0L);
+        Arrays.fill(releasedKeys, 0L);
+        changedThisTick = false;
+    }
+
+    /**
+     * Releases all keys, e.g. when the window lost the focus and the release events will never arrive.
+     */
+    public void releaseAll() {
+        for (int i = 0; i < keys.length; i++) {
+            releasedKeys[i] |= keys[i];
+            keys[i] = 0L;
+        }
+        changedThisTick = true;
+    }
+
+    /**
+     * Returns whether the key with the given code is down.
+     *
+     * @param keyCode the key code, e.g. {@link KeyEvent#VK_SPACE}
+     * @return whether the key is down
+     */
+    public boolean isKeyDown(final int keyCode) {
+        return isValid(keyCode) && isSet(keys, keyCode);
+    }
+
+    /**
+     * Returns whether the key with the given code was down at the end of the previous fixed tick.
+     *
+     * @param keyCode the key code, e.g. {@link KeyEvent#VK_SPACE}
+     * @return whether the key was down in the previous tick
+     */
+    public boolean wasKeyDown(final int keyCode) {
+        return isValid(keyCode) && isSet(previousKeys, keyCode);
+    }
+
+    /**
+     * Returns whether the key with the given code went down during the current fixed tick.
+     * This is also <code>true</code> if the key was released again within the same tick.
+     *
+     * @param keyCode the key code, e.g. {@link KeyEvent#VK_SPACE}
+     * @return whether the key was pressed this tick
+     */
+    public boolean isKeyPressed(final int keyCode) {
+        return isValid(keyCode) && isSet(pressedKeys, keyCode);
+    }
+
+    /**
+     * Returns whether the key with the given code was released during the current fixed tick.
+     *
+     * @param keyCode the key code, e.g. {@link KeyEvent#VK_SPACE}
+     * @return whether the key was released this tick
+     */
+    public boolean isKeyReleased(final int keyCode) {
+        return isValid(keyCode) && isSet(releasedKeys, keyCode);
+    }
+
+    /**
+     * Binds the given action to the given key codes, replacing its previous binding.
+     *
+     * @param action   the name of the action, e.g. <code>"jump"</code>
+     * @param keyCodes the key codes that trigger the action
+     */
+    public void bind(final String action, final int... keyCodes) {
+        actions.put(action, keyCodes.clone());
+    }
+
+    /**
+     * Adds the given key code to the binding of the given action.
+     *
+     * @param action  the name of the action
+     * @param keyCode the key code that should trigger the action as well
+     */
+    public void addBinding(final String action, final int keyCode) {
+        actions.compute(action, (name, keyCodes) -> {
+            if (keyCodes == null) {
+                return new int[]{keyCode};
+            }
+            for (final int boundKeyCode : keyCodes) {
+                if (boundKeyCode == keyCode) {
+                    return keyCodes;
+                }
+            }
+            final int[] newKeyCodes = Arrays.copyOf(keyCodes, keyCodes.length + 1);
+            newKeyCodes[keyCodes.length] = keyCode;
+            return newKeyCodes;
+        });
+    }
 
-        flagMatchingKeyAs(false, keyReleasedEvent);
+    /**
+     * Removes the given key code from the binding of the given action.
+     *
+     * @param action  the name of the action
+     * @param keyCode the key code that should no longer trigger the action
+     */
+    public void removeBinding(final String action, final int keyCode) {
+        actions.computeIfPresent(action, (name, keyCodes) -> {
+            int count = 0;
+            final int[] newKeyCodes = new int[keyCodes.length];
+            for (final int boundKeyCode : keyCodes) {
+                if (boundKeyCode != keyCode) {
+                    newKeyCodes[count++] = boundKeyCode;
+                }
+            }
+            return count == keyCodes.length ? keyCodes : Arrays.copyOf(newKeyCodes, count);
+        });
     }
 
-    private void flagMatchingKeyAs(final boolean targetFlag, final KeyEvent event) {
+    /**
+     * Removes the binding of the given action.
+     *
+     * @param action the name of the action
+     */
+    public void unbind(final String action) {
+        actions.remove(action);
+    }
 
-        if (event.getKeyChar() == ' ') {
-            space = targetFlag;
+    /**
+     * Returns a copy of the key codes bound to the given action.
+     *
+     * @param action the name of the action
+     * @return the key codes bound to the action, or an empty array if it is not bound
+     */
+    public int[] getBinding(final String action) {
+        return getKeyCodes(action).clone();
+    }
+
+    /**
+     * Returns whether any key bound to the given action is down.
+     *
+     * @param action the name of the action
+     * @return whether the action is active
+     */
+    public boolean isActionDown(final String action) {
+        for (final int keyCode : getKeyCodes(action)) {
+            if (isKeyDown(keyCode)) {
+                return true;
+            }
         }
+        return false;
+    }
 
-        switch (event.getKeyCode()) {
-
-            /*
-            Special keys
-             */
-            case KeyEvent.VK_ENTER:
-                enter = targetFlag;
-                break;
-            case KeyEvent.VK_BACK_SPACE:
-                backspace = targetFlag;
-                break;
-            case KeyEvent.VK_DELETE:
-                delete = targetFlag;
-                break;
-            case KeyEvent.VK_TAB:
-                tab = targetFlag;
-                break;
-            case KeyEvent.VK_SHIFT:
-                shift = targetFlag;
-                break;
-            case KeyEvent.VK_CONTROL:
-                control = targetFlag;
-                break;
-            case KeyEvent.VK_ALT:
-                alt = targetFlag;
-                break;
-            case KeyEvent.VK_CAPS_LOCK:
-                capsLock = targetFlag;
-                break;
-            case KeyEvent.VK_ESCAPE:
-                escape = targetFlag;
-                break;
-            case KeyEvent.VK_PAGE_UP:
-                pageUp = targetFlag;
-                break;
-            case KeyEvent.VK_PAGE_DOWN:
-                pageDown = targetFlag;
-                break;
-
-            /*
-            Arrow keys
-             */
-            case KeyEvent.VK_RIGHT:
-                rightArrow = targetFlag;
-                break;
-            case KeyEvent.VK_LEFT:
-                leftArrow = targetFlag;
-                break;
-            case KeyEvent.VK_UP:
-                upArrow = targetFlag;
-                break;
-            case KeyEvent.VK_DOWN:
-                downArrow = targetFlag;
-                break;
-
-            /*
-            Math keys
-             */
-            case KeyEvent.VK_COMMA:
-                comma = targetFlag;
-                break;
-            case KeyEvent.VK_PERIOD:
-                period = targetFlag;
-                break;
-            case KeyEvent.VK_MINUS:
-                minus = targetFlag;
-                break;
-            case KeyEvent.VK_PLUS:
-                plus = targetFlag;
-                break;
-
-            /*
-            Numbers from 0 to 9
-             */
-            case KeyEvent.VK_0:
-                number0 = targetFlag;
-                break;
-            case KeyEvent.VK_1:
-                number1 = targetFlag;
-                break;
-            case KeyEvent.VK_2:
-                number2 = targetFlag;
-                break;
-            case KeyEvent.VK_3:
-                number3 = targetFlag;
-                break;
-            case KeyEvent.VK_4:
-                number4 = targetFlag;
-                break;
-            case KeyEvent.VK_5:
-                number5 = targetFlag;
-                break;
-            case KeyEvent.VK_6:
-                number6 = targetFlag;
-                break;
-            case KeyEvent.VK_7:
-                number7 = targetFlag;
-                break;
-            case KeyEvent.VK_8:
-                number8 = targetFlag;
-                break;
-            case KeyEvent.VK_9:
-                number9 = targetFlag;
-                break;
-
-            /*
-            Letters from A to Z
-             */
-            case KeyEvent.VK_A:
-                a = targetFlag;
-                break;
-            case KeyEvent.VK_B:
-                b = targetFlag;
-                break;
-            case KeyEvent.VK_C:
-                c = targetFlag;
-                break;
-            case KeyEvent.VK_D:
-                d = targetFlag;
-                break;
-            case KeyEvent.VK_E:
-                e = targetFlag;
-                break;
-            case KeyEvent.VK_F:
-                f = targetFlag;
-                break;
-            case KeyEvent.VK_G:
-                g = targetFlag;
-                break;
-            case KeyEvent.VK_H:
-                h = targetFlag;
-                break;
-            case KeyEvent.VK_I:
-                i = targetFlag;
-                break;
-            case KeyEvent.VK_J:
-                j = targetFlag;
-                break;
-            case KeyEvent.VK_K:
-                k = targetFlag;
-                break;
-            case KeyEvent.VK_L:
-                l = targetFlag;
-                break;
-            case KeyEvent.VK_M:
-                m = targetFlag;
-                break;
-            case KeyEvent.VK_N:
-                n = targetFlag;
-                break;
-            case KeyEvent.VK_O:
-                o = targetFlag;
-                break;
-            case KeyEvent.VK_P:
-                p = targetFlag;
-                break;
-            case KeyEvent.VK_Q:
-                q = targetFlag;
-                break;
-            case KeyEvent.VK_R:
-                r = targetFlag;
-                break;
-            case KeyEvent.VK_S:
-                s = targetFlag;
-                break;
-            case KeyEvent.VK_T:
-                t = targetFlag;
-                break;
-            case KeyEvent.VK_U:
-                u = targetFlag;
-                break;
-            case KeyEvent.VK_V:
-                v = targetFlag;
-                break;
-            case KeyEvent.VK_W:
-                w = targetFlag;
-                break;
-            case KeyEvent.VK_X:
-                x = targetFlag;
-                break;
-            case KeyEvent.VK_Y:
-                y = targetFlag;
-                break;
-            case KeyEvent.VK_Z:
-                z = targetFlag;
-                break;
-
-            /*
-            Numpad-numbers from 0 to 9
-             */
-            case KeyEvent.VK_NUMPAD0:
-                numpad0 = targetFlag;
-                break;
-            case KeyEvent.VK_NUMPAD1:
-                numpad1 = targetFlag;
-                break;
-            case KeyEvent.VK_NUMPAD2:
-                numpad2 = targetFlag;
-                break;
-            case KeyEvent.VK_NUMPAD3:
-                numpad3 = targetFlag;
-                break;
-            case KeyEvent.VK_NUMPAD4:
-                numpad4 = targetFlag;
-                break;
-            case KeyEvent.VK_NUMPAD5:
-                numpad5 = targetFlag;
-                break;
-            case KeyEvent.VK_NUMPAD6:
-                numpad6 = targetFlag;
-                break;
-            case KeyEvent.VK_NUMPAD7:
-                numpad7 = targetFlag;
-                break;
-            case KeyEvent.VK_NUMPAD8:
-                numpad8 = targetFlag;
-                break;
-            case KeyEvent.VK_NUMPAD9:
-                numpad9 = targetFlag;
-                break;
-
-            /*
-            Function keys from 1 to 12
-             */
-            case KeyEvent.VK_F1:
-                function1 = targetFlag;
-                break;
-            case KeyEvent.VK_F2:
-                function2 = targetFlag;
-                break;
-            case KeyEvent.VK_F3:
-                function3 = targetFlag;
-                break;
-            case KeyEvent.VK_F4:
-                function4 = targetFlag;
-                break;
-            case KeyEvent.VK_F5:
-                function5 = targetFlag;
-                break;
-            case KeyEvent.VK_F6:
-                function6 = targetFlag;
-                break;
-            case KeyEvent.VK_F7:
-                function7 = targetFlag;
-                break;
-            case KeyEvent.VK_F8:
-                function8 = targetFlag;
-                break;
-            case KeyEvent.VK_F9:
-                function9 = targetFlag;
-                break;
-            case KeyEvent.VK_F10:
-                function10 = targetFlag;
-                break;
-            case KeyEvent.VK_F11:
-                function11 = targetFlag;
-                break;
-            case KeyEvent.VK_F12:
-                function12 = targetFlag;
-                break;
-
-            /*
-            Currency signs
-             */
-            case KeyEvent.VK_EURO_SIGN:
-                euro = targetFlag;
-                break;
-            case KeyEvent.VK_DOLLAR:
-                dollar = targetFlag;
-                break;
-
-            /*
-            Other keys that can be accessed without using e.g. shift and some brackets
-             */
-            case KeyEvent.VK_NUMBER_SIGN:
-                hash = targetFlag;
-                break;
-            case KeyEvent.VK_LEFT_PARENTHESIS:
-                openParenthesis = targetFlag;
-                break;
-            case KeyEvent.VK_RIGHT_PARENTHESIS:
-                closeParenthesis = targetFlag;
-                break;
-            case KeyEvent.VK_BRACELEFT:
-                openBrace = targetFlag;
-                break;
-            case KeyEvent.VK_BRACERIGHT:
-                closeBrace = targetFlag;
-                break;
-            case KeyEvent.VK_OPEN_BRACKET:
-                openSquareBracket = targetFlag;
-                break;
-            case KeyEvent.VK_CLOSE_BRACKET:
-                closeSquareBracket = targetFlag;
-                break;
+    /**
+     * Returns whether any key bound to the given action went down during the current fixed tick.
+     *
+     * @param action the name of the action
+     * @return whether the action was triggered this tick
+     */
+    public boolean isActionPressed(final String action) {
+        for (final int keyCode : getKeyCodes(action)) {
+            if (isKeyPressed(keyCode)) {
+                return true;
+            }
         }
+        return false;
+    }
+
+    /**
+     * Returns whether any key bound to the given action was released during the current fixed tick.
+     *
+     * @param action the name of the action
+     * @return whether a key of the action was released this tick
+     */
+    public boolean isActionReleased(final String action) {
+        for (final int keyCode : getKeyCodes(action)) {
+            if (isKeyReleased(keyCode)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int[] getKeyCodes(final String action) {
+        final int[] keyCodes = actions.get(action);
+        return keyCodes == null ? NO_KEY_CODES : keyCodes;
+    }
+
+    private static boolean isValid(final int keyCode) {
+        return keyCode > 0 && keyCode < KEY_CODE_COUNT;
+    }
+
+    private static boolean isSet(final long[] table, final int keyCode) {
+        return (table[keyCode >> 6] & (1L << keyCode)) != 0;
+    }
+
+    private static void set(final long[] table, final int keyCode) {
+        table[keyCode >> 6] |= 1L << keyCode;
+    }
+
+    private static void clear(final long[] table, final int keyCode) {
+        table[keyCode >> 6] &= ~(1L << keyCode);
     }
 
     /**
-     * Gets {@link #enter}.
+     * Returns whether {@link KeyEvent#VK_ENTER} is down.
      *
-     * @return the value of {@link #enter}
+     * @return whether the key is down
      */
     public boolean isEnter() {
-        return enter;
+        return isKeyDown(KeyEvent.VK_ENTER);
     }
 
     /**
-     * Gets {@link #backspace}.
+     * Returns whether {@link KeyEvent#VK_BACK_SPACE} is down.
      *
-     * @return the value of {@link #backspace}
+     * @return whether the key is down
      */
     public boolean isBackspace() {
-        return backspace;
+        return isKeyDown(KeyEvent.VK_BACK_SPACE);
     }
 
     /**
-     * Gets {@link #delete}.
+     * Returns whether {@link KeyEvent#VK_DELETE} is down.
      *
-     * @return the value of {@link #delete}
+     * @return whether the key is down
      */
     public boolean isDelete() {
-        return delete;
+        return isKeyDown(KeyEvent.VK_DELETE);
     }
 
     /**
-     * Gets {@link #tab}.
+     * Returns whether {@link KeyEvent#VK_TAB} is down.
      *
-     * @return the value of {@link #tab}
+     * @return whether the key is down
      */
     public boolean isTab() {
-        return tab;
+        return isKeyDown(KeyEvent.VK_TAB);
     }
 
     /**
-     * Gets {@link #shift}.
+     * Returns whether {@link KeyEvent#VK_SHIFT} is down.
      *
-     * @return the value of {@link #shift}
+     * @return whether the key is down
      */
     public boolean isShift() {
-        return shift;
+        return isKeyDown(KeyEvent.VK_SHIFT);
     }
 
     /**
-     * Gets {@link #control}.
+     * Returns whether {@link KeyEvent#VK_CONTROL} is down.
      *
-     * @return the value of {@link #control}
+     * @return whether the key is down
      */
     public boolean isControl() {
-        return control;
+        return isKeyDown(KeyEvent.VK_CONTROL);
     }
 
     /**
-     * Gets {@link #alt}.
+     * Returns whether {@link KeyEvent#VK_ALT} is down.
      *
-     * @return the value of {@link #alt}
+     * @return whether the key is down
      */
     public boolean isAlt() {
-        return alt;
+        return isKeyDown(KeyEvent.VK_ALT);
     }
 
     /**
-     * Gets {@link #capsLock}.
+     * Returns whether {@link KeyEvent#VK_CAPS_LOCK} is down.
      *
-     * @return the value of {@link #capsLock}
+     * @return whether the key is down
      */
     public boolean isCapsLock() {
-        return capsLock;
+        return isKeyDown(KeyEvent.VK_CAPS_LOCK);
     }
 
     /**
-     * Gets {@link #escape}.
+     * Returns whether {@link KeyEvent#VK_ESCAPE} is down.
      *
-     * @return the value of {@link #escape}
+     * @return whether the key is down
      */
     public boolean isEscape() {
-        return escape;
+        return isKeyDown(KeyEvent.VK_ESCAPE);
     }
 
     /**
-     * Gets {@link #pageUp}.
+     * Returns whether {@link KeyEvent#VK_PAGE_UP} is down.
      *
-     * @return the value of {@link #pageUp}
+     * @return whether the key is down
      */
     public boolean isPageUp() {
-        return pageUp;
+        return isKeyDown(KeyEvent.VK_PAGE_UP);
     }
 
     /**
-     * Gets {@link #pageDown}.
+     * Returns whether {@link KeyEvent#VK_PAGE_DOWN} is down.
      *
-     * @return the value of {@link #pageDown}
+     * @return whether the key is down
      */
     public boolean isPageDown() {
-        return pageDown;
+        return isKeyDown(KeyEvent.VK_PAGE_DOWN);
     }
 
     /**
-     * Gets {@link #space}.
+     * Returns whether {@link KeyEvent#VK_SPACE} is down.
      *
-     * @return the value of {@link #space}
+     * @return whether the key is down
      */
     public boolean isSpace() {
-        return space;
+        return isKeyDown(KeyEvent.VK_SPACE);
     }
 
     /**
-     * Gets {@link #rightArrow}.
+     * Returns whether {@link KeyEvent#VK_RIGHT} is down.
      *
-     * @return the value of {@link #rightArrow}
+     * @return whether the key is down
      */
     public boolean isRightArrow() {
-        return rightArrow;
+        return isKeyDown(KeyEvent.VK_RIGHT);
     }
 
     /**
-     * Gets {@link #leftArrow}.
+     * Returns whether {@link KeyEvent#VK_LEFT} is down.
      *
-     * @return the value of {@link #leftArrow}
+     * @return whether the key is down
      */
     public boolean isLeftArrow() {
-        return leftArrow;
+        return isKeyDown(KeyEvent.VK_LEFT);
     }
 
     /**
-     * Gets {@link #upArrow}.
+     * Returns whether {@link KeyEvent#VK_UP} is down.
      *
-     * @return the value of {@link #upArrow}
+     * @return whether the key is down
      */
     public boolean isUpArrow() {
-        return upArrow;
+        return isKeyDown(KeyEvent.VK_UP);
     }
 
     /**
-     * Gets {@link #downArrow}.
+     * Returns whether {@link KeyEvent#VK_DOWN} is down.
      *
-     * @return the value of {@link #downArrow}
+     * @return whether the key is down
      */
     public boolean isDownArrow() {
-        return downArrow;
+        return isKeyDown(KeyEvent.VK_DOWN);
     }
 
     /**
-     * Gets {@link #comma}.
+     * Returns whether {@link KeyEvent#VK_COMMA} is down.
      *
-     * @return the value of {@link #comma}
+     * @return whether the key is down
      */
     public boolean isComma() {
-        return comma;
+        return isKeyDown(KeyEvent.VK_COMMA);
     }
 
     /**
-     * Gets {@link #period}.
+     * Returns whether {@link KeyEvent#VK_PERIOD} is down.
      *
-     * @return the value of {@link #period}
+     * @return whether the key is down
      */
     public boolean isPeriod() {
-        return period;
+        return isKeyDown(KeyEvent.VK_PERIOD);
     }
 
     /**
-     * Gets {@link #minus}.
+     * Returns whether {@link KeyEvent#VK_MINUS} is down.
      *
-     * @return the value of {@link #minus}
+     * @return whether the key is down
      */
     public boolean isMinus() {
-        return minus;
+        return isKeyDown(KeyEvent.VK_MINUS);
     }
 
     /**
-     * Gets {@link #plus}.
+     * Returns whether {@link KeyEvent#VK_PLUS} is down.
      *
-     * @return the value of {@link #plus}
+     * @return whether the key is down
      */
     public boolean isPlus() {
-        return plus;
+        return isKeyDown(KeyEvent.VK_PLUS);
     }
 
     /**
-     * Gets {@link #less}.
+     * Returns whether {@link KeyEvent#VK_LESS} is down.
      *
-     * @return the value of {@link #less}
+     * @return whether the key is down
      */
     public boolean isLess() {
-        return less;
+        return isKeyDown(KeyEvent.VK_LESS);
     }
 
     /**
-     * Gets {@link #greater}.
+     * Returns whether {@link KeyEvent#VK_GREATER} is down.
      *
-     * @return the value of {@link #greater}
+     * @return whether the key is down
      */
     public boolean isGreater() {
-        return greater;
+        return isKeyDown(KeyEvent.VK_GREATER);
     }
 
     /**
-     * Gets {@link #number0}.
+     * Returns whether {@link KeyEvent#VK_0} is down.
      *
-     * @return the value of {@link #number0}
+     * @return whether the key is down
      */
     public boolean isNumber0() {
-        return number0;
+        return isKeyDown(KeyEvent.VK_0);
     }
 
     /**
-     * Gets {@link #number1}.
+     * Returns whether {@link KeyEvent#VK_1} is down.
      *
-     * @return the value of {@link #number1}
+     * @return whether the key is down
      */
     public boolean isNumber1() {
-        return number1;
+        return isKeyDown(KeyEvent.VK_1);
     }
 
     /**
-     * Gets {@link #number2}.
+     * Returns whether {@link KeyEvent#VK_2} is down.
      *
-     * @return the value of {@link #number2}
+     * @return whether the key is down
      */
     public boolean isNumber2() {
-        return number2;
+        return isKeyDown(KeyEvent.VK_2);
     }
 
     /**
-     * Gets {@link #number3}.
+     * Returns whether {@link KeyEvent#VK_3} is down.
      *
-     * @return the value of {@link #number3}
+     * @return whether the key is down
      */
     public boolean isNumber3() {
-        return number3;
+        return isKeyDown(KeyEvent.VK_3);
     }
 
     /**
-     * Gets {@link #number4}.
+     * Returns whether {@link KeyEvent#VK_4} is down.
      *
-     * @return the value of {@link #number4}
+     * @return whether the key is down
      */
     public boolean isNumber4() {
-        return number4;
+        return isKeyDown(KeyEvent.VK_4);
     }
 
     /**
-     * Gets {@link #number5}.
+     * Returns whether {@link KeyEvent#VK_5} is down.
      *
-     * @return the value of {@link #number5}
+     * @return whether the key is down
      */
     public boolean isNumber5() {
-        return number5;
+        return isKeyDown(KeyEvent.VK_5);
     }
 
     /**
-     * Gets {@link #number6}.
+     * Returns whether {@link KeyEvent#VK_6} is down.
      *
-     * @return the value of {@link #number6}
+     * @return whether the key is down
      */
     public boolean isNumber6() {
-        return number6;
+        return isKeyDown(KeyEvent.VK_6);
     }
 
     /**
-     * Gets {@link #number7}.
+     * Returns whether {@link KeyEvent#VK_7} is down.
      *
-     * @return the value of {@link #number7}
+     * @return whether the key is down
      */
     public boolean isNumber7() {
-        return number7;
+        return isKeyDown(KeyEvent.VK_7);
     }
 
     /**
-     * Gets {@link #number8}.
+     * Returns whether {@link KeyEvent#VK_8} is down.
      *
-     * @return the value of {@link #number8}
+     * @return whether the key is down
      */
     public boolean isNumber8() {
-        return number8;
+        return isKeyDown(KeyEvent.VK_8);
     }
 
     /**
-     * Gets {@link #number9}.
+     * Returns whether {@link KeyEvent#VK_9} is down.
      *
-     * @return the value of {@link #number9}
+     * @return whether the key is down
      */
     public boolean isNumber9() {
-        return number9;
+        return isKeyDown(KeyEvent.VK_9);
     }
 
     /**
-     * Gets {@link #a}.
+     * Returns whether {@link KeyEvent#VK_A} is down.
      *
-     * @return the value of {@link #a}
+     * @return whether the key is down
      */
     public boolean isA() {
-        return a;
+        return isKeyDown(KeyEvent.VK_A);
     }
 
     /**
-     * Gets {@link #b}.
+     * Returns whether {@link KeyEvent#VK_B} is down.
      *
-     * @return the value of {@link #b}
+     * @return whether the key is down
      */
     public boolean isB() {
-        return b;
+        return isKeyDown(KeyEvent.VK_B);
     }
 
     /**
-     * Gets {@link #c}.
+     * Returns whether {@link KeyEvent#VK_C} is down.
      *
-     * @return the value of {@link #c}
+     * @return whether the key is down
      */
     public boolean isC() {
-        return c;
+        return isKeyDown(KeyEvent.VK_C);
     }
 
     /**
-     * Gets {@link #d}.
+     * Returns whether {@link KeyEvent#VK_D} is down.
      *
-     * @return the value of {@link #d}
+     * @return whether the key is down
      */
     public boolean isD() {
-        return d;
+        return isKeyDown(KeyEvent.VK_D);
     }
 
     /**
-     * Gets {@link #e}.
+     * Returns whether {@link KeyEvent#VK_E} is down.
      *
-     * @return the value of {@link #e}
+     * @return whether the key is down
      */
     public boolean isE() {
-        return e;
+        return isKeyDown(KeyEvent.VK_E);
     }
 
     /**
-     * Gets {@link #f}.
+     * Returns whether {@link KeyEvent#VK_F} is down.
      *
-     * @return the value of {@link #f}
+     * @return whether the key is down
      */
     public boolean isF() {
-        return f;
+        return isKeyDown(KeyEvent.VK_F);
     }
 
     /**
-     * Gets {@link #g}.
+     * Returns whether {@link KeyEvent#VK_G} is down.
      *
-     * @return the value of {@link #g}
+     * @return whether the key is down
      */
     public boolean isG() {
-        return g;
+        return isKeyDown(KeyEvent.VK_G);
     }
 
     /**
-     * Gets {@link #h}.
+     * Returns whether {@link KeyEvent#VK_H} is down.
      *
-     * @return the value of {@link #h}
+     * @return whether the key is down
      */
     public boolean isH() {
-        return h;
+        return isKeyDown(KeyEvent.VK_H);
     }
 
     /**
-     * Gets {@link #i}.
+     * Returns whether {@link KeyEvent#VK_I} is down.
      *
-     * @return the value of {@link #i}
+     * @return whether the key is down
      */
     public boolean isI() {
-        return i;
+        return isKeyDown(KeyEvent.VK_I);
     }
 
     /**
-     * Gets {@link #j}.
+     * Returns whether {@link KeyEvent#VK_J} is down.
      *
-     * @return the value of {@link #j}
+     * @return whether the key is down
      */
     public boolean isJ() {
-        return j;
+        return isKeyDown(KeyEvent.VK_J);
     }
 
     /**
-     * Gets {@link #k}.
+     * Returns whether {@link KeyEvent#VK_K} is down.
      *
-     * @return the value of {@link #k}
+     * @return whether the key is down
      */
     public boolean isK() {
-        return k;
+        return isKeyDown(KeyEvent.VK_K);
     }
 
     /**
-     * Gets {@link #l}.
+     * Returns whether {@link KeyEvent#VK_L} is down.
      *
-     * @return the value of {@link #l}
+     * @return whether the key is down
      */
     public boolean isL() {
-        return l;
+        return isKeyDown(KeyEvent.VK_L);
     }
 
     /**
-     * Gets {@link #m}.
+     * Returns whether {@link KeyEvent#VK_M} is down.
      *
-     * @return the value of {@link #m}
+     * @return whether the key is down
      */
     public boolean isM() {
-        return m;
+        return isKeyDown(KeyEvent.VK_M);
     }
 
     /**
-     * Gets {@link #n}.
+     * Returns whether {@link KeyEvent#VK_N} is down.
      *
-     * @return the value of {@link #n}
+     * @return whether the key is down
      */
     public boolean isN() {
-        return n;
+        return isKeyDown(KeyEvent.VK_N);
     }
 
     /**
-     * Gets {@link #o}.
+     * Returns whether {@link KeyEvent#VK_O} is down.
      *
-     * @return the value of {@link #o}
+     * @return whether the key is down
      */
     public boolean isO() {
-        return o;
+        return isKeyDown(KeyEvent.VK_O);
     }
 
     /**
-     * Gets {@link #p}.
+     * Returns whether {@link KeyEvent#VK_P} is down.
      *
-     * @return the value of {@link #p}
+     * @return whether the key is down
      */
     public boolean isP() {
-        return p;
+        return isKeyDown(KeyEvent.VK_P);
     }
 
     /**
-     * Gets {@link #q}.
+     * Returns whether {@link KeyEvent#VK_Q} is down.
      *
-     * @return the value of {@link #q}
+     * @return whether the key is down
      */
     public boolean isQ() {
-        return q;
+        return isKeyDown(KeyEvent.VK_Q);
     }
 
     /**
-     * Gets {@link #r}.
+     * Returns whether {@link KeyEvent#VK_R} is down.
      *
-     * @return the value of {@link #r}
+     * @return whether the key is down
      */
     public boolean isR() {
-        return r;
+        return isKeyDown(KeyEvent.VK_R);
     }
 
     /**
-     * Gets {@link #s}.
+     * Returns whether {@link KeyEvent#VK_S} is down.
      *
-     * @return the value of {@link #s}
+     * @return whether the key is down
      */
     public boolean isS() {
-        return s;
+        return isKeyDown(KeyEvent.VK_S);
     }
 
     /**
-     * Gets {@link #t}.
+     * Returns whether {@link KeyEvent#VK_T} is down.
      *
-     * @return the value of {@link #t}
+     * @return whether the key is down
      */
     public boolean isT() {
-        return t;
+        return isKeyDown(KeyEvent.VK_T);
     }
 
     /**
-     * Gets {@link #u}.
+     * Returns whether {@link KeyEvent#VK_U} is down.
      *
-     * @return the value of {@link #u}
+     * @return whether the key is down
      */
     public boolean isU() {
-        return u;
+        return isKeyDown(KeyEvent.VK_U);
     }
 
     /**
-     * Gets {@link #v}.
+     * Returns whether {@link KeyEvent#VK_V} is down.
      *
-     * @return the value of {@link #v}
+     * @return whether the key is down
      */
     public boolean isV() {
-        return v;
+        return isKeyDown(KeyEvent.VK_V);
     }
 
     /**
-     * Gets {@link #w}.
+     * Returns whether {@link KeyEvent#VK_W} is down.
      *
-     * @return the value of {@link #w}
+     * @return whether the key is down
      */
     public boolean isW() {
-        return w;
+        return isKeyDown(KeyEvent.VK_W);
     }
 
     /**
-     * Gets {@link #x}.
+     * Returns whether {@link KeyEvent#VK_X} is down.
      *
-     * @return the value of {@link #x}
+     * @return whether the key is down
      */
     public boolean isX() {
-        return x;
+        return isKeyDown(KeyEvent.VK_X);
     }
 
     /**
-     * Gets {@link #y}.
+     * Returns whether {@link KeyEvent#VK_Y} is down.
      *
-     * @return the value of {@link #y}
+     * @return whether the key is down
      */
     public boolean isY() {
-        return y;
+        return isKeyDown(KeyEvent.VK_Y);
     }
 
     /**
-     * Gets {@link #z}.
+     * Returns whether {@link KeyEvent#VK_Z} is down.
      *
-     * @return the value of {@link #z}
+     * @return whether the key is down
      */
     public boolean isZ() {
-        return z;
+        return isKeyDown(KeyEvent.VK_Z);
     }
 
     /**
-     * Gets {@link #numpad0}.
+     * Returns whether {@link KeyEvent#VK_NUMPAD0} is down.
      *
-     * @return the value of {@link #numpad0}
+     * @return whether the key is down
      */
     public boolean isNumpad0() {
-        return numpad0;
+        return isKeyDown(KeyEvent.VK_NUMPAD0);
     }
 
     /**
-     * Gets {@link #numpad1}.
+     * Returns whether {@link KeyEvent#VK_NUMPAD1} is down.
      *
-     * @return the value of {@link #numpad1}
+     * @return whether the key is down
      */
     public boolean isNumpad1() {
-        return numpad1;
+        return isKeyDown(KeyEvent.VK_NUMPAD1);
     }
 
     /**
-     * Gets {@link #numpad2}.
+     * Returns whether {@link KeyEvent#VK_NUMPAD2} is down.
      *
-     * @return the value of {@link #numpad2}
+     * @return whether the key is down
      */
     public boolean isNumpad2() {
-        return numpad2;
+        return isKeyDown(KeyEvent.VK_NUMPAD2);
     }
 
     /**
-     * Gets {@link #numpad3}.
+     * Returns whether {@link KeyEvent#VK_NUMPAD3} is down.
      *
-     * @return the value of {@link #numpad3}
+     * @return whether the key is down
      */
     public boolean isNumpad3() {
-        return numpad3;
+        return isKeyDown(KeyEvent.VK_NUMPAD3);
     }
 
     /**
-     * Gets {@link #numpad4}.
+     * Returns whether {@link KeyEvent#VK_NUMPAD4} is down.
      *
-     * @return the value of {@link #numpad4}
+     * @return whether the key is down
      */
     public boolean isNumpad4() {
-        return numpad4;
+        return isKeyDown(KeyEvent.VK_NUMPAD4);
     }
 
     /**
-     * Gets {@link #numpad5}.
+     * Returns whether {@link KeyEvent#VK_NUMPAD5} is down.
      *
-     * @return the value of {@link #numpad5}
+     * @return whether the key is down
      */
     public boolean isNumpad5() {
-        return numpad5;
+        return isKeyDown(KeyEvent.VK_NUMPAD5);
     }
 
     /**
-     * Gets {@link #numpad6}.
+     * Returns whether {@link KeyEvent#VK_NUMPAD6} is down.
      *
-     * @return the value of {@link #numpad6}
+     * @return whether the key is down
      */
     public boolean isNumpad6() {
-        return numpad6;
+        return isKeyDown(KeyEvent.VK_NUMPAD6);
     }
 
     /**
-     * Gets {@link #numpad7}.
+     * Returns whether {@link KeyEvent#VK_NUMPAD7} is down.
      *
-     * @return the value of {@link #numpad7}
+     * @return whether the key is down
      */
     public boolean isNumpad7() {
-        return numpad7;
+        return isKeyDown(KeyEvent.VK_NUMPAD7);
     }
 
     /**
-     * Gets {@link #numpad8}.
+     * Returns whether {@link KeyEvent#VK_NUMPAD8} is down.
      *
-     * @return the value of {@link #numpad8}
+     * @return whether the key is down
      */
     public boolean isNumpad8() {
-        return numpad8;
+        return isKeyDown(KeyEvent.VK_NUMPAD8);
     }
 
     /**
-     * Gets {@link #numpad9}.
+     * Returns whether {@link KeyEvent#VK_NUMPAD9} is down.
      *
-     * @return the value of {@link #numpad9}
+     * @return whether the key is down
      */
     public boolean isNumpad9() {
-        return numpad9;
+        return isKeyDown(KeyEvent.VK_NUMPAD9);
     }
 
     /**
-     * Gets {@link #function1}.
+     * Returns whether {@link KeyEvent#VK_F1} is down.
      *
-     * @return the value of {@link #function1}
+     * @return whether the key is down
      */
     public boolean isFunction1() {
-        return function1;
+        return isKeyDown(KeyEvent.VK_F1);
     }
 
     /**
-     * Gets {@link #function2}.
+     * Returns whether {@link KeyEvent#VK_F2} is down.
      *
-     * @return the value of {@link #function2}
+     * @return whether the key is down
      */
     public boolean isFunction2() {
-        return function2;
+        return isKeyDown(KeyEvent.VK_F2);
     }
 
     /**
-     * Gets {@link #function3}.
+     * Returns whether {@link KeyEvent#VK_F3} is down.
      *
-     * @return the value of {@link #function3}
+     * @return whether the key is down
      */
     public boolean isFunction3() {
-        return function3;
+        return isKeyDown(KeyEvent.VK_F3);
     }
 
     /**
-     * Gets {@link #function4}.
+     * Returns whether {@link KeyEvent#VK_F4} is down.
      *
-     * @return the value of {@link #function4}
+     * @return whether the key is down
      */
     public boolean isFunction4() {
-        return function4;
+        return isKeyDown(KeyEvent.VK_F4);
     }
 
     /**
-     * Gets {@link #function5}.
+     * Returns whether {@link KeyEvent#VK_F5} is down.
      *
-     * @return the value of {@link #function5}
+     * @return whether the key is down
      */
     public boolean isFunction5() {
-        return function5;
+        return isKeyDown(KeyEvent.VK_F5);
     }
 
     /**
-     * Gets {@link #function6}.
+     * Returns whether {@link KeyEvent#VK_F6} is down.
      *
-     * @return the value of {@link #function6}
+     * @return whether the key is down
      */
     public boolean isFunction6() {
-        return function6;
+        return isKeyDown(KeyEvent.VK_F6);
     }
 
     /**
-     * Gets {@link #function7}.
+     * Returns whether {@link KeyEvent#VK_F7} is down.
      *
-     * @return the value of {@link #function7}
+     * @return whether the key is down
      */
     public boolean isFunction7() {
-        return function7;
+        return isKeyDown(KeyEvent.VK_F7);
     }
 
     /**
-     * Gets {@link #function8}.
+     * Returns whether {@link KeyEvent#VK_F8} is down.
      *
-     * @return the value of {@link #function8}
+     * @return whether the key is down
      */
     public boolean isFunction8() {
-        return function8;
+        return isKeyDown(KeyEvent.VK_F8);
     }
 
     /**
-     * Gets {@link #function9}.
+     * Returns whether {@link KeyEvent#VK_F9} is down.
      *
-     * @return the value of {@link #function9}
+     * @return whether the key is down
      */
     public boolean isFunction9() {
-        return function9;
+        return isKeyDown(KeyEvent.VK_F9);
     }
 
     /**
-     * Gets {@link #function10}.
+     * Returns whether {@link KeyEvent#VK_F10} is down.
      *
-     * @return the value of {@link #function10}
+     * @return whether the key is down
      */
     public boolean isFunction10() {
-        return function10;
+        return isKeyDown(KeyEvent.VK_F10);
     }
 
     /**
-     * Gets {@link #function11}.
+     * Returns whether {@link KeyEvent#VK_F11} is down.
      *
-     * @return the value of {@link #function11}
+     * @return whether the key is down
      */
     public boolean isFunction11() {
-        return function11;
+        return isKeyDown(KeyEvent.VK_F11);
     }
 
     /**
-     * Gets {@link #function12}.
+     * Returns whether {@link KeyEvent#VK_F12} is down.
      *
-     * @return the value of {@link #function12}
+     * @return whether the key is down
      */
     public boolean isFunction12() {
-        return function12;
+        return isKeyDown(KeyEvent.VK_F12);
     }
 
     /**
-     * Gets {@link #euro}.
+     * Returns whether {@link KeyEvent#VK_EURO_SIGN} is down.
      *
-     * @return the value of {@link #euro}
+     * @return whether the key is down
      */
     public boolean isEuro() {
-        return euro;
+        return isKeyDown(KeyEvent.VK_EURO_SIGN);
     }
 
     /**
-     * Gets {@link #dollar}.
+     * Returns whether {@link KeyEvent#VK_DOLLAR} is down.
      *
-     * @return the value of {@link #dollar}
+     * @return whether the key is down
      */
     public boolean isDollar() {
-        return dollar;
+        return isKeyDown(KeyEvent.VK_DOLLAR);
     }
 
     /**
-     * Gets {@link #hash}.
+     * Returns whether {@link KeyEvent#VK_NUMBER_SIGN} is down.
      *
-     * @return the value of {@link #hash}
+     * @return whether the key is down
      */
     public boolean isHash() {
-        return hash;
+        return isKeyDown(KeyEvent.VK_NUMBER_SIGN);
     }
 
     /**
-     * Gets {@link #openParenthesis}.
+     * Returns whether {@link KeyEvent#VK_LEFT_PARENTHESIS} is down.
      *
-     * @return the value of {@link #openParenthesis}
+     * @return whether the key is down
      */
     public boolean isOpenParenthesis() {
-        return openParenthesis;
+        return isKeyDown(KeyEvent.VK_LEFT_PARENTHESIS);
     }
 
     /**
-     * Gets {@link #closeParenthesis}.
+     * Returns whether {@link KeyEvent#VK_RIGHT_PARENTHESIS} is down.
      *
-     * @return the value of {@link #closeParenthesis}
+     * @return whether the key is down
      */
     public boolean isCloseParenthesis() {
-        return closeParenthesis;
+        return isKeyDown(KeyEvent.VK_RIGHT_PARENTHESIS);
     }
 
     /**
-     * Gets {@link #openBrace}.
+     * Returns whether {@link KeyEvent#VK_BRACELEFT} is down.
      *
-     * @return the value of {@link #openBrace}
+     * @return whether the key is down
      */
     public boolean isOpenBrace() {
-        return openBrace;
+        return isKeyDown(KeyEvent.VK_BRACELEFT);
     }
 
     /**
-     * Gets {@link #closeBrace}.
+     * Returns whether {@link KeyEvent#VK_BRACERIGHT} is down.
      *
-     * @return the value of {@link #closeBrace}
+     * @return whether the key is down
      */
     public boolean isCloseBrace() {
-        return closeBrace;
+        return isKeyDown(KeyEvent.VK_BRACERIGHT);
     }
 
     /**
-     * Gets {@link #openSquareBracket}.
+     * Returns whether {@link KeyEvent#VK_OPEN_BRACKET} is down.
      *
-     * @return the value of {@link #openSquareBracket}
+     * @return whether the key is down
      */
     public boolean isOpenSquareBracket() {
-        return openSquareBracket;
+        return isKeyDown(KeyEvent.VK_OPEN_BRACKET);
     }
 
     /**
-     * Gets {@link #closeSquareBracket}.
+     * Returns whether {@link KeyEvent#VK_CLOSE_BRACKET} is down.
      *
-     * @return the value of {@link #closeSquareBracket}
+     * @return whether the key is down
      */
     public boolean isCloseSquareBracket() {
-        return closeSquareBracket;
+        return isKeyDown(KeyEvent.VK_CLOSE_BRACKET);
     }
 }
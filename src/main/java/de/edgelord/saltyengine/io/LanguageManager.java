@@ -17,9 +17,14 @@
 package de.edgelord.saltyengine.io;
 
 import de.edgelord.saltyengine.io.serialization.DataReader;
+import de.edgelord.saltyengine.io.serialization.Species;
 import de.edgelord.saltyengine.resource.Resource;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class is a set of static methods to let your game support multiple languages.
@@ -56,19 +61,100 @@ public class LanguageManager {
 
     private static DataReader textReader = null;
 
+    /**
+     * The name and resource of the files with one language each, if the texts are split per language.
+     *
+     * @see #initLanguageFiles(String, Resource)
+     */
+    private static String languageFileName = null;
+    private static Resource languageFileResource = null;
+
+    /**
+     * All texts of each language that was used so far by their id.
+     * The texts of a language are read once, when the language is first used.
+     */
+    private static final Map<String, Map<String, String>> textsByLanguage = new ConcurrentHashMap<>();
+
+    /**
+     * The texts of the current {@link #language}, which are replaced as a whole when the language is switched.
+     */
+    private static volatile Map<String, String> texts = Collections.emptyMap();
+
     /**
      * Initializes the mechanisms to read language specific text out of a file with the given name relative to
      * the given resource.
      * The given name should point to a stdf file. See <a href="https://www.github.com/edgelord314/stdf">the repository</a> or
      * the example above for more information.
+     * <p>
+     * The texts of the current language are read into a map right away, the ones of other languages when
+     * they are first used.
      *
      * @param fileName the name of the text-resource file, without any extensions even though the extension of the file must
      *                 be {@link DataReader#SDB_FILE_EXTENSION}, which is ".sdb"
      * @param resource the resource to locate the file
      * @throws IOException when the I/O process fails
      */
-    public static void init(final String fileName, final Resource resource) throws IOException {
+    public static synchronized void init(final String fileName, final Resource resource) throws IOException {
         textReader = new DataReader(resource.getFileResource(fileName + DataReader.SDB_FILE_EXTENSION));
+        languageFileName = null;
+        languageFileResource = null;
+
+        textsByLanguage.clear();
+        texts = getTexts(language);
+    }
+
+    /**
+     * Initializes the mechanisms to read language specific text out of one file per language, which is only read
+     * when the language is first used. The file of a language has the given name, followed by an underscore and the
+     * name of the language, e.g. "texts_english.sdb", and the same format as a file with all languages.
+     *
+     * @param fileName the name of the text-resource files, without the language and any extensions
+     * @param resource the resource to locate the files
+     */
+    public static synchronized void initLanguageFiles(final String fileName, final Resource resource) {
+        textReader = null;
+        languageFileName = fileName;
+        languageFileResource = resource;
+
+        textsByLanguage.clear();
+        texts = getTexts(language);
+    }
+
+    /**
+     * Returns the texts of the given language by their id, reading them if this is the first time the language is used.
+     */
+    private static Map<String, String> getTexts(final String language) {
+        return textsByLanguage.computeIfAbsent(language, LanguageManager::readTexts);
+    }
+
+    private static Map<String, String> readTexts(final String language) {
+        final DataReader reader;
+
+        if (languageFileName != null) {
+            try {
+                reader = new DataReader(languageFileResource.getFileResource(languageFileName + "_" + language + DataReader.SDB_FILE_EXTENSION));
+            } catch (final IOException e) {
+                e.printStackTrace();
+                return Collections.emptyMap();
+            }
+        } else if (textReader != null) {
+            reader = textReader;
+        } else {
+            return Collections.emptyMap();
+        }
+
+        final Map<String, String> texts = new HashMap<>();
+        final String start = DataReader.getAsTagStart(language);
+
+        for (final String textId : reader.getSpeciesNames()) {
+            final Species species = reader.getSpecies(textId);
+
+            if (species.getContent().contains(start)) {
+                texts.put(textId, species.getTagValue(language));
+            }
+        }
+
+        return texts;
     }
 
     /**
@@ -79,11 +165,19 @@ public class LanguageManager {
      * @return the text with the given id and the language with the name {@link #language}
      */
     public static String getText(final String textId) {
-        if (textReader == null) {
+        final String text = texts.get(textId);
+
+        if (text != null) {
+            return text;
+        } else if (textReader == null && languageFileName == null) {
             System.err.println("Cannot read text while LanguageManager wasn't initialized. Call LanguageManager.init(String, Resource) before!");
             return "";
-        } else {
+        } else if (textReader != null) {
+            // not in the index, so this fails just like it always did
             return textReader.getSpecies(textId).getTagValue(language);
+        } else {
+            System.err.println("There is no text with the id " + textId + " in the language " + language);
+            return "";
         }
     }
 
@@ -91,7 +185,17 @@ public class LanguageManager {
         return language;
     }
 
-    public static void setLanguage(final String language) {
+    /**
+     * Switches the language. Its texts are read if it is used for the first time,
+     * and then replace the ones of the previous language at once.
+     *
+     * @param language the new language
+     */
+    public static synchronized void setLanguage(final String language) {
         LanguageManager.language = language;
+
+        if (textReader != null || languageFileName != null) {
+            texts = getTexts(language);
+        }
     }
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2020 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.io.serialization;
+
+import de.edgelord.saltyengine.core.Game;
+import de.edgelord.saltyengine.core.interfaces.FixedTickRoutine;
+import de.edgelord.saltyengine.utils.SaltySystem;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Saves all {@link Serializable}s of the {@link Serializer} periodically in the background.
+ * <p>
+ * At the end of a fixed tick, when the state of the game is consistent, a {@link SaveSnapshot} is taken
+ * on the fixed tick thread. Only that is done within the tick; the snapshot is written by a separate
+ * writer thread. If a new snapshot is taken while the previous one is still waiting to be written,
+ * only the newer one is written. Snapshots are written one at a time and in the order they were taken.
+ * <p>
+ * Example:
+ * <pre>
+ *     Serializer.add(player);
+ *     AutoSaver.start(60_000);
+ * </pre>
+ */
+public class AutoSaver {
+
+    private static final FixedTickRoutine tickRoutine = AutoSaver::onFixedTick;
+
+    /**
+     * The snapshot that is waiting to be written, or <code>null</code>.
+     */
+    private static final AtomicReference<SaveSnapshot> pendingSnapshot = new AtomicReference<>();
+
+    /**
+     * Held while a snapshot is taken from {@link #pendingSnapshot} and written,
+     * so that two snapshots are never written at the same time or out of order.
+     */
+    private static final Object writeLock = new Object();
+
+    private static volatile long intervalTicks = 0;
+    private static volatile long ticks = 0;
+    private static volatile boolean saveRequested = false;
+    private static volatile boolean running = false;
+    private static volatile String saveFileName = null;
+    private static volatile Thread writerThread = null;
+
+    private AutoSaver() {
+    }
+
+    /**
+     * Starts saving to {@link Serializer#getSaveFileName()} every given amount of milliseconds.
+     *
+     * @param intervalMillis the milliseconds between two saves
+     */
+    public static void start(final long intervalMillis) {
+        start(Serializer.getSaveFileName(), intervalMillis);
+    }
+
+    /**
+     * Starts saving to the save file with the given name every given amount of milliseconds.
+     * The interval is rounded to whole {@link SaltySystem#fixedTickMillis fixed ticks}.
+     *
+     * @param saveFileName   the name of the save file, see {@link Serializer#doSerialization(String)}
+     * @param intervalMillis the milliseconds between two saves
+     */
+    public static synchronized void start(final String saveFileName, final long intervalMillis) {
+        AutoSaver.saveFileName = saveFileName;
+        intervalTicks = Math.max(1, intervalMillis / Math.max(1, SaltySystem.fixedTickMillis));
+        ticks = 0;
+
+        if (!running) {
+            running = true;
+            writerThread = new Thread(AutoSaver::write, "auto-saver");
+            writerThread.setDaemon(true);
+            writerThread.start();
+
+            Game.getEngine().addFixedTickRoutine(tickRoutine);
+        }
+    }
+
+    /**
+     * Stops saving periodically. A snapshot that was already taken is still written before this returns.
+     * A snapshot that is taken by a fixed tick running at the same time is written by that tick.
+     */
+    public static synchronized void stop() {
+        if (!running) {
+            return;
+        }
+
+        Game.getEngine().removeFixedTickRoutine(tickRoutine);
+        running = false;
+        LockSupport.unpark(writerThread);
+
+        try {
+            writerThread.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writerThread = null;
+
+        writePendingSnapshot();
+    }
+
+    /**
+     * Requests a save at the end of the next fixed tick, independent of the interval.
+     */
+    public static void requestSave() {
+        saveRequested = true;
+    }
+
+    private static void onFixedTick() {
+        ticks++;
+
+        if (ticks >= intervalTicks || saveRequested) {
+            ticks = 0;
+            saveRequested = false;
+
+            pendingSnapshot.set(Serializer.takeSnapshot(saveFileName));
+
+            if (running) {
+                LockSupport.unpark(writerThread);
+            } else {
+                // stop() was called during this tick, so the writer thread might be gone already
+                writePendingSnapshot();
+            }
+        }
+    }
+
+    private static void write() {
+        while (running || pendingSnapshot.get() != null) {
+            if (pendingSnapshot.get() == null) {
+                LockSupport.park();
+            } else {
+                writePendingSnapshot();
+            }
+        }
+    }
+
+    /**
+     * Writes the {@link #pendingSnapshot} if there is one.
+     */
+    private static void writePendingSnapshot() {
+        synchronized (writeLock) {
+            final SaveSnapshot snapshot = pendingSnapshot.getAndSet(null);
+
+            if (snapshot == null) {
+                return;
+            }
+
+            try {
+                Serializer.writeSnapshot(snapshot);
+            } catch (final IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    public static boolean isRunning() {
+        return running;
+    }
+}
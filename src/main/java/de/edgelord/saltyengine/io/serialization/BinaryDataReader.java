@@ -0,0 +1,282 @@
+/*
+ * Copyright 2020 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.io.serialization;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+import static de.edgelord.saltyengine.io.serialization.BinaryDataWriter.*;
+
+/**
+ * Reads {@link Species} from a file written by a {@link BinaryDataWriter}.
+ * <p>
+ * The file is read through one buffer of a fixed size, one top-level Species at a time,
+ * so reading a large file only needs as much memory as its largest Species.
+ */
+public class BinaryDataReader implements Closeable {
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    /**
+     * The digest of the bytes read after the header, if the file has a checksum.
+     */
+    private final MessageDigest digest;
+    private final byte[] checksum;
+    private boolean endOfFile = false;
+
+    /**
+     * Opens the given file and checks its header.
+     *
+     * @param file the file to read
+     * @throws IOException when the file can't be read or was not written by a {@link BinaryDataWriter}
+     */
+    public BinaryDataReader(final File file) throws IOException {
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+
+        try {
+            final ByteBuffer header = ByteBuffer.allocate(MAGIC.length + 4);
+            readFully(header, file);
+
+            final byte[] magic = new byte[MAGIC.length];
+            header.get(magic);
+
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IOException(file.getName() + " is not a binary data file");
+            }
+
+            final int version = header.getInt();
+            if (version == 1) {
+                // the first version has no checksum
+                checksum = null;
+            } else if (version == VERSION) {
+                final ByteBuffer storedChecksum = ByteBuffer.allocate(SaveFiles.DIGEST_LENGTH);
+                readFully(storedChecksum, file);
+
+                checksum = Arrays.equals(storedChecksum.array(), new byte[SaveFiles.DIGEST_LENGTH]) ? null : storedChecksum.array();
+            } else {
+                throw new IOException("The binary data file " + file.getName() + " has the unsupported version " + version);
+            }
+        } catch (final IOException e) {
+            channel.close();
+            throw e;
+        }
+
+        digest = checksum == null ? null : SaveFiles.createDigest();
+        buffer.limit(0);
+    }
+
+    /**
+     * Reads the given part of the header directly from the file, so that it is not part of the checksum.
+     */
+    private void readFully(final ByteBuffer header, final File file) throws IOException {
+        while (header.hasRemaining()) {
+            if (channel.read(header) < 0) {
+                throw new IOException(file.getName() + " is not a binary data file");
+            }
+        }
+        header.flip();
+    }
+
+    /**
+     * Returns whether there is another Species to read.
+     *
+     * @return whether there is another Species to read
+     * @throws IOException when reading fails
+     */
+    public boolean hasNext() throws IOException {
+        return fill(1);
+    }
+
+    /**
+     * Reads the next top-level Species with all its tags and subspecies.
+     *
+     * @return the next Species or <code>null</code> if the end of the file is reached
+     * @throws IOException when reading fails or the file is malformed
+     */
+    public Species readSpecies() throws IOException {
+        if (!hasNext()) {
+            return null;
+        }
+
+        if (buffer.get() != SPECIES_START) {
+            throw new IOException("Malformed binary data file: expected the start of a Species");
+        }
+
+        return readSpeciesBody(readString());
+    }
+
+    private Species readSpeciesBody(final String name) throws IOException {
+        final Species species = new Species(name);
+
+        while (true) {
+            require(1);
+            final byte record = buffer.get();
+
+            switch (record) {
+                case CONTENT:
+                    species.setInitialContent(readString());
+                    break;
+                case TAG:
+                    final String tag = readString();
+                    species.addTag(tag, readValue());
+                    break;
+                case SPECIES_START:
+                    species.addSubSpecies(readSpeciesBody(readString()));
+                    break;
+                case SPECIES_END:
+                    return species;
+                default:
+                    throw new IOException("Malformed binary data file: unknown record " + record);
+            }
+        }
+    }
+
+    private Object readValue() throws IOException {
+        require(1);
+        final byte type = buffer.get();
+
+        switch (type) {
+            case TYPE_STRING:
+                return readString();
+            case TYPE_INT:
+                require(4);
+                return buffer.getInt();
+            case TYPE_LONG:
+                require(8);
+                return buffer.getLong();
+            case TYPE_FLOAT:
+                require(4);
+                return buffer.getFloat();
+            case TYPE_DOUBLE:
+                require(8);
+                return buffer.getDouble();
+            case TYPE_BOOLEAN:
+                require(1);
+                return buffer.get() != 0;
+            default:
+                throw new IOException("Malformed binary data file: unknown type " + type);
+        }
+    }
+
+    private String readString() throws IOException {
+        require(4);
+        final int length = buffer.getInt();
+
+        if (length < 0) {
+            throw new IOException("Malformed binary data file: negative string length");
+        }
+
+        // check a corrupt length before allocating anything for it
+        if (length > buffer.remaining() + channel.size() - channel.position()) {
+            throw new IOException("Malformed binary data file: the string length " + length + " exceeds the end of the file");
+        }
+
+        if (length <= buffer.capacity()) {
+            require(length);
+            final String string = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return string;
+        }
+
+        // longer than the buffer, so it is read in pieces
+        final byte[] bytes = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            require(1);
+            final int count = Math.min(buffer.remaining(), length - offset);
+            buffer.get(bytes, offset, count);
+            offset += count;
+        }
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void require(final int bytes) throws IOException {
+        if (!fill(bytes)) {
+            throw new EOFException("Unexpected end of the binary data file");
+        }
+    }
+
+    /**
+     * Reads from the file until at least the given number of bytes are in the buffer.
+     *
+     * @return whether there are enough bytes
+     */
+    private boolean fill(final int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return true;
+        }
+
+        buffer.compact();
+        while (buffer.position() < bytes && !endOfFile) {
+            final int start = buffer.position();
+            final int read = channel.read(buffer);
+
+            if (read < 0) {
+                endOfFile = true;
+            } else if (digest != null) {
+                digest.update(buffer.array(), start, read);
+            }
+        }
+        buffer.flip();
+
+        return buffer.remaining() >= bytes;
+    }
+
+    public boolean hasChecksum() {
+        return checksum != null;
+    }
+
+    /**
+     * Reads the rest of the file and checks the checksum from the header against the content of the file.
+     * The checksum is computed while reading, so this does not read anything twice.
+     * No more Species can be read afterwards.
+     *
+     * @return whether the file has a checksum that matches its content
+     * @throws IOException when reading fails
+     */
+    public boolean isChecksumValid() throws IOException {
+        skipToEnd();
+
+        return checksum != null && MessageDigest.isEqual(checksum, digest.digest());
+    }
+
+    /**
+     * Reads the rest of the file without parsing it.
+     *
+     * @throws IOException when reading fails
+     */
+    public void skipToEnd() throws IOException {
+        while (fill(buffer.capacity())) {
+            buffer.position(buffer.limit());
+        }
+        buffer.position(buffer.limit());
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2020 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.io.serialization;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * Writes {@link Species} to a file in a compact binary format, as an alternative to the
+ * text format of the {@link DataWriter}. It is read by the {@link BinaryDataReader}.
+ * <p>
+ * The file starts with the bytes of {@link #MAGIC}, the {@link #VERSION} and the SHA-1 checksum of
+ * the rest of the file (or zeros, if it was written without one), followed by records, each starting with one byte:
+ * <p>
+ * <code>SPECIES_START</code> followed by the name of the Species <br>
+ * <code>CONTENT</code> followed by the text the Species was created with <br>
+ * <code>TAG</code> followed by the name, the type and the value of a tag <br>
+ * <code>SPECIES_END</code>
+ * <p>
+ * Strings are written as their length in bytes followed by their UTF-8 bytes, all numbers are big-endian.
+ * Everything goes through one buffer of {@link #BUFFER_SIZE} bytes straight into a {@link FileChannel},
+ * so a Species can be written with {@link #beginSpecies(String)}, {@link #writeTag(String, Object)} and
+ * {@link #endSpecies()} without ever building it in memory.
+ */
+public class BinaryDataWriter implements Closeable {
+
+    public static final String BINARY_FILE_EXTENSION = ".sbd";
+
+    public static final byte[] MAGIC = "SALTYBIN".getBytes(StandardCharsets.US_ASCII);
+    public static final int VERSION = 2;
+
+    /**
+     * The offset of the checksum within the file.
+     */
+    static final int CHECKSUM_OFFSET = 12;
+
+    static final byte SPECIES_START = 1;
+    static final byte CONTENT = 2;
+    static final byte TAG = 3;
+    static final byte SPECIES_END = 4;
+
+    static final byte TYPE_STRING = 0;
+    static final byte TYPE_INT = 1;
+    static final byte TYPE_LONG = 2;
+    static final byte TYPE_FLOAT = 3;
+    static final byte TYPE_DOUBLE = 4;
+    static final byte TYPE_BOOLEAN = 5;
+
+    static final int BUFFER_SIZE = 65536;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final MessageDigest digest;
+
+    private int depth = 0;
+
+    public BinaryDataWriter(final File file) throws IOException {
+        this(file, false);
+    }
+
+    /**
+     * Creates a new writer that overwrites the given file.
+     *
+     * @param file     the file to write to
+     * @param checksum whether to compute the checksum of the written bytes and store it in the header when closing
+     * @throws IOException when the file can't be opened
+     */
+    public BinaryDataWriter(final File file, final boolean checksum) throws IOException {
+        this.digest = checksum ? SaveFiles.createDigest() : null;
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+
+        buffer.put(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.put(new byte[SaveFiles.DIGEST_LENGTH]);
+
+        // the header is not part of the checksum
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (final IOException e) {
+            channel.close();
+            throw e;
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Writes the given Species with all its tags and subspecies.
+     *
+     * @param species the Species to write
+     * @throws IOException when writing fails
+     */
+    public void writeSpecies(final Species species) throws IOException {
+        beginSpecies(species.getName());
+
+        if (!species.getInitialContent().isEmpty()) {
+            ensureRemaining(1);
+            buffer.put(CONTENT);
+            writeString(species.getInitialContent());
+        }
+
+        final List<String> tagNames = species.getTagNames();
+        final List<Object> tagValues = species.getTagValues();
+        for (int i = 0; i < tagNames.size(); i++) {
+            writeTag(tagNames.get(i), tagValues.get(i));
+        }
+
+        for (final Species subSpecies : species.getSubSpeciesList()) {
+            writeSpecies(subSpecies);
+        }
+
+        endSpecies();
+    }
+
+    /**
+     * Starts a new Species, which is a subspecies of the current one if there is one.
+     *
+     * @param name the name of the Species
+     * @throws IOException when writing fails
+     */
+    public void beginSpecies(final String name) throws IOException {
+        ensureRemaining(1);
+        buffer.put(SPECIES_START);
+        writeString(name);
+        depth++;
+    }
+
+    /**
+     * Writes a tag of the current Species. Strings, ints, longs, floats, doubles and booleans keep their type,
+     * any other value is written as its <code>toString()</code>.
+     *
+     * @param tag   the name of the tag
+     * @param value the value of the tag
+     * @throws IOException when writing fails
+     */
+    public void writeTag(final String tag, final Object value) throws IOException {
+        if (depth == 0) {
+            throw new IllegalStateException("A tag can only be written within a Species");
+        }
+
+        ensureRemaining(1);
+        buffer.put(TAG);
+        writeString(tag);
+        ensureRemaining(9);
+
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            buffer.put(TYPE_INT).putInt(((Number) value).intValue());
+        } else if (value instanceof Long) {
+            buffer.put(TYPE_LONG).putLong((Long) value);
+        } else if (value instanceof Float) {
+            buffer.put(TYPE_FLOAT).putFloat((Float) value);
+        } else if (value instanceof Double) {
+            buffer.put(TYPE_DOUBLE).putDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            buffer.put(TYPE_BOOLEAN).put((byte) ((Boolean) value ? 1 : 0));
+        } else {
+            buffer.put(TYPE_STRING);
+            writeString(value.toString());
+        }
+    }
+
+    /**
+     * Ends the current Species.
+     *
+     * @throws IOException when writing fails
+     */
+    public void endSpecies() throws IOException {
+        if (depth == 0) {
+            throw new IllegalStateException("There is no Species to end");
+        }
+
+        ensureRemaining(1);
+        buffer.put(SPECIES_END);
+        depth--;
+    }
+
+    private void writeString(final String string) throws IOException {
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        ensureRemaining(4);
+        buffer.putInt(bytes.length);
+
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+
+            final int length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    private void ensureRemaining(final int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the buffered bytes to the file.
+     *
+     * @throws IOException when writing fails
+     */
+    public void flush() throws IOException {
+        buffer.flip();
+
+        if (digest != null) {
+            digest.update(buffer.array(), 0, buffer.limit());
+        }
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    public FileChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * Flushes the buffer, writes the checksum into the header if it was requested,
+     * forces everything to the disk and closes the file.
+     *
+     * @throws IOException when writing fails
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+
+            if (digest != null) {
+                final ByteBuffer checksum = ByteBuffer.wrap(digest.digest());
+                long position = CHECKSUM_OFFSET;
+
+                while (checksum.hasRemaining()) {
+                    position += channel.write(checksum, position);
+                }
+            }
+
+            channel.force(true);
+        } finally {
+            channel.close();
+        }
+    }
+}
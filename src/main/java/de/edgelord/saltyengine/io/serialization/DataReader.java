@@ -20,11 +20,17 @@ import de.edgelord.saltyengine.io.FileReader;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Set;
 
 public class DataReader {
 
     public static String SDB_FILE_EXTENSION = ".sdb";
     private final String fileContent;
+    /**
+     * The index of the {@link #fileContent}, which is created in one pass over it, so that looking up
+     * a species or tag doesn't have to search the whole file.
+     */
+    private final SpeciesIndex index;
     private final String fileName;
     private final File file;
 
@@ -35,6 +41,7 @@ public class DataReader {
     public DataReader(final FileReader fileReader) throws IOException {
 
         this.fileContent = fileReader.readFile();
+        this.index = new SpeciesIndex(fileContent);
         this.file = fileReader.getFile();
 
         fileName = fileReader.getFile().getName().replace(SDB_FILE_EXTENSION, "");
@@ -62,13 +69,23 @@ public class DataReader {
 
     /**
      * Returns a Species with the given name and content by finding it in the File.
+     * The Species is a view of the content of the file, which is not copied.
      *
      * @param speciesName the Species name
      * @return the Species with proper name and content
      * @see Species
      */
     public Species getSpecies(final String speciesName) {
-        return new Species(speciesName, splitString(fileContent, getAsSpeciesStart(speciesName), getAsSpeciesEnd(speciesName)));
+        return index.getSpecies(speciesName, 0, fileContent.length());
+    }
+
+    /**
+     * Returns the names of all species within the file, including subspecies.
+     *
+     * @return the names of all species within the file
+     */
+    public Set<String> getSpeciesNames() {
+        return index.getSpeciesNames();
     }
 
     /**
@@ -78,7 +95,7 @@ public class DataReader {
      * @see Species
      */
     public Species getMainSpecies() {
-        return new Species(fileName, splitString(fileContent, getAsSpeciesStart(fileName), getAsSpeciesEnd(fileName)));
+        return getSpecies(fileName);
     }
 
     /**
@@ -88,11 +105,33 @@ public class DataReader {
      * @return the value of the specific tag
      */
     public String getTagValue(final String tag) {
-        return splitString(fileContent, "(" + tag + ")", "(*" + tag + ")");
+        return index.getTagValue(tag, 0, fileContent.length());
     }
 
-    private String splitString(final String base, final String start, final String end) {
-        return base.substring(base.lastIndexOf(start) + start.length(), base.lastIndexOf(end));
+    /**
+     * Returns the checksum from the first line of the file, if it was written with one by
+     * {@link DataWriter#syncFile(boolean)}.
+     *
+     * @return the hexadecimal checksum of the file or <code>null</code> if it has none
+     */
+    public String getChecksum() {
+        if (fileContent.startsWith(DataWriter.CHECKSUM_HEADER_PREFIX) && fileContent.length() >= DataWriter.CHECKSUM_HEADER_LENGTH - 1) {
+            return fileContent.substring(DataWriter.CHECKSUM_HEADER_PREFIX.length(), DataWriter.CHECKSUM_HEADER_LENGTH - 1);
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks the {@link #getChecksum() checksum} of the file against its bytes, which are streamed from the disk.
+     *
+     * @return whether the file has a checksum that matches its content
+     * @throws IOException when the file can't be read
+     */
+    public boolean isChecksumValid() throws IOException {
+        final String checksum = getChecksum();
+
+        return checksum != null && checksum.equals(SaveFiles.toHex(SaveFiles.digest(file, DataWriter.CHECKSUM_HEADER_LENGTH)));
     }
 
     public String getFileContent() {
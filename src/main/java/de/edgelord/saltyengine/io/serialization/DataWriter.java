@@ -19,12 +19,25 @@ package de.edgelord.saltyengine.io.serialization;
 import de.edgelord.saltyengine.io.FileWriter;
 import de.edgelord.saltyengine.utils.SaltySystem;
 
-import java.io.File;
-import java.io.IOException;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.LinkedList;
 
 public class DataWriter {
 
+    /**
+     * The beginning of the first line of a file written with a checksum, which is followed by the
+     * hexadecimal {@link SaveFiles#DIGEST_ALGORITHM SHA-1} of the rest of the file and a line break.
+     */
+    public static final String CHECKSUM_HEADER_PREFIX = "#sha1:";
+    public static final int CHECKSUM_HEADER_LENGTH = CHECKSUM_HEADER_PREFIX.length() + SaveFiles.DIGEST_LENGTH * 2 + 1;
+
     private final LinkedList<Species> speciesList = new LinkedList<>();
     private FileWriter fileWriter;
 
@@ -59,14 +72,59 @@ public class DataWriter {
      * will be overwritten.
      *
      * @throws IOException when the file could not be written to
+     * @see #syncFile(boolean)
      */
     public void syncFile() throws IOException {
-        final StringBuilder contentBuilder = new StringBuilder();
-        for (final Species species : speciesList) {
-            contentBuilder.append(species.getSyntax());
+        syncFile(false);
+    }
+
+    /**
+     * Writes the content of all Species from the list and their subspecies to the file,
+     * optionally starting with a line that contains the checksum of the rest of the file.
+     * <p>
+     * The content is streamed into a temporary file, while the checksum is computed from the written bytes.
+     * The temporary file is then forced to the disk and replaces the file in one atomic rename,
+     * so that the file is never left partially written. If writing fails, the temporary file is deleted.
+     *
+     * @param checksum whether to write the {@link #CHECKSUM_HEADER_PREFIX checksum header}
+     * @throws IOException when the file could not be written to
+     * @see DataReader#isChecksumValid()
+     */
+    public void syncFile(final boolean checksum) throws IOException {
+        if (!SaltySystem.writePrivilege) {
+            return;
         }
 
-        fileWriter.writeThrough(contentBuilder.toString());
+        final File tempFile = SaveFiles.getTempFile(getFile());
+        final MessageDigest digest = checksum ? SaveFiles.createDigest() : null;
+
+        try {
+            try (final FileChannel channel = FileChannel.open(tempFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                OutputStream outputStream = Channels.newOutputStream(channel);
+
+                if (checksum) {
+                    channel.position(CHECKSUM_HEADER_LENGTH);
+                    outputStream = new DigestOutputStream(outputStream, digest);
+                }
+
+                final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+                for (final Species species : speciesList) {
+                    species.writeSyntax(writer);
+                }
+                writer.flush();
+
+                if (checksum) {
+                    final String header = CHECKSUM_HEADER_PREFIX + SaveFiles.toHex(digest.digest()) + "\n";
+                    channel.write(ByteBuffer.wrap(header.getBytes(StandardCharsets.US_ASCII)), 0);
+                }
+
+                channel.force(true);
+            }
+
+            SaveFiles.replace(tempFile, getFile());
+        } finally {
+            SaveFiles.deleteTempFile(tempFile);
+        }
     }
 
     public FileWriter getFileWriter() {
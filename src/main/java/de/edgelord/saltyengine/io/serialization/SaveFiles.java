@@ -0,0 +1,137 @@
+/*
+ * Copyright 2020 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.io.serialization;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Static helpers for writing save files crash-safe: they are written to a temporary file next to the
+ * target, which then replaces the target in one atomic rename. A crash while saving leaves either the old
+ * or the new file, but never a partially written one.
+ * <p>
+ * After the rename, the directory is forced to the disk as well where the platform supports it,
+ * so that the rename itself survives a crash.
+ */
+final class SaveFiles {
+
+    static final String DIGEST_ALGORITHM = "SHA-1";
+    static final int DIGEST_LENGTH = 20;
+
+    private SaveFiles() {
+    }
+
+    static File getTempFile(final File target) {
+        return new File(target.getAbsoluteFile().getParentFile(), target.getName() + ".tmp");
+    }
+
+    /**
+     * Replaces the target with the given temporary file, atomically if the file system supports it.
+     *
+     * @param tempFile the completely written temporary file
+     * @param target   the file to replace
+     * @throws IOException when the file can't be moved
+     */
+    static void replace(final File tempFile, final File target) throws IOException {
+        try {
+            Files.move(tempFile.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(tempFile.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        forceDirectory(target.getAbsoluteFile().getParentFile());
+    }
+
+    /**
+     * Forces the entries of the given directory to the disk, so that a rename within it is durable.
+     * Some platforms, e.g. Windows, can't open directories, in which case nothing happens.
+     *
+     * @param directory the directory to force
+     */
+    private static void forceDirectory(final File directory) {
+        try (final FileChannel channel = FileChannel.open(directory.toPath(), StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (final IOException e) {
+            // directories can't be opened or forced on this platform
+        }
+    }
+
+    /**
+     * Deletes the given temporary file if it still exists, which is the case when writing
+     * or replacing the target failed.
+     *
+     * @param tempFile the temporary file
+     */
+    static void deleteTempFile(final File tempFile) {
+        try {
+            Files.deleteIfExists(tempFile.toPath());
+        } catch (final IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (final NoSuchAlgorithmException e) {
+            // every Java platform has to support SHA-1
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Computes the digest of the given file, starting at the given offset, by streaming it through a small buffer.
+     *
+     * @param file   the file
+     * @param offset the offset of the first byte to digest
+     * @return the digest
+     * @throws IOException when the file can't be read
+     */
+    static byte[] digest(final File file, final long offset) throws IOException {
+        final MessageDigest digest = createDigest();
+        final ByteBuffer buffer = ByteBuffer.allocate(BinaryDataWriter.BUFFER_SIZE);
+
+        try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            channel.position(offset);
+
+            while (channel.read(buffer) != -1) {
+                digest.update(buffer.array(), 0, buffer.position());
+                buffer.clear();
+            }
+        }
+
+        return digest.digest();
+    }
+
+    static String toHex(final byte[] bytes) {
+        final StringBuilder hex = new StringBuilder(bytes.length * 2);
+
+        for (final byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+
+        return hex.toString();
+    }
+}
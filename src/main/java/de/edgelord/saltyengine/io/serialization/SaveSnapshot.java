@@ -0,0 +1,65 @@
+/*
+ * Copyright 2020 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.io.serialization;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The serialized state of all {@link Serializable}s at one point in time, created by
+ * {@link Serializer#takeSnapshot(String)} and written by {@link Serializer#writeSnapshot(SaveSnapshot)}.
+ */
+public class SaveSnapshot {
+
+    private final String name;
+    private final List<Species> species;
+    private final boolean binary;
+    private final boolean checksum;
+    private final long creationTime = System.currentTimeMillis();
+
+    SaveSnapshot(final String name, final List<Species> species, final boolean binary, final boolean checksum) {
+        this.name = name;
+        this.species = Collections.unmodifiableList(species);
+        this.binary = binary;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Returns the name of the save file, without the extension.
+     *
+     * @return the name of the save file
+     */
+    public String getName() {
+        return name;
+    }
+
+    public List<Species> getSpecies() {
+        return species;
+    }
+
+    public boolean isBinary() {
+        return binary;
+    }
+
+    public boolean isChecksum() {
+        return checksum;
+    }
+
+    public long getCreationTime() {
+        return creationTime;
+    }
+}
@@ -17,7 +17,6 @@
 package de.edgelord.saltyengine.io.serialization;
 
 import de.edgelord.saltyengine.io.FileReader;
-import de.edgelord.saltyengine.io.FileWriter;
 import de.edgelord.saltyengine.resource.OuterResource;
 import de.edgelord.saltyengine.utils.SaltySystem;
 
@@ -26,7 +25,10 @@ import java.io.IOException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 /**
@@ -46,6 +48,18 @@ public class Serializer {
      * Whether to add a checksum to the file or not
      */
     private static boolean addChecksum = true;
+    /**
+     * Whether to save in the binary format of the {@link BinaryDataWriter} instead of the text format
+     * of the {@link DataWriter}. Binary save files have the extension {@link BinaryDataWriter#BINARY_FILE_EXTENSION}.
+     */
+    private static boolean binaryFormat = false;
+    /**
+     * Makes sure that only one save file is written at a time, e.g. by the {@link AutoSaver} and on exit.
+     */
+    private static final Object writeLock = new Object();
+    /**
+     * Only used to check the separate checksum files of save files written by older versions of the engine.
+     */
     private static MessageDigest hashCreator;
 
     static {
@@ -56,56 +70,161 @@ public class Serializer {
         }
     }
 
-    private static void serialize(final DataWriter writer) throws IOException {
-        consumer.forEach(serializable -> {
-            final Species species = new Species(serializable.getDataSetName(), "");
+    /**
+     * Writes the save file with the checksum in its first line, see {@link DataWriter#syncFile(boolean)}.
+     */
+    private static void serialize(final DataWriter writer, final Iterator<Species> species, final boolean checksum) throws IOException {
+        while (species.hasNext()) {
+            writer.addSpecies(species.next());
+        }
 
-            serializable.serialize(species);
+        writer.syncFile(checksum);
+        deleteLegacyChecksumFile(writer.getFile());
+    }
 
-            writer.addSpecies(species);
-        });
+    /**
+     * Writes the {@link Species} straight to the file as soon as they are taken from the iterator,
+     * so when they are serialized lazily, only one of them is held in memory at a time.
+     * The file is written to a temporary file first, which then replaces the save file atomically.
+     * If writing fails, the temporary file is deleted.
+     */
+    private static void serializeBinary(final File file, final Iterator<Species> species, final boolean checksum) throws IOException {
+        if (!SaltySystem.writePrivilege) {
+            return;
+        }
 
-        writer.syncFile();
+        final File tempFile = SaveFiles.getTempFile(file);
 
-        if (addChecksum) {
-            final FileReader saveReader = new FileReader(writer.getFile());
-            final FileWriter checksumWriter = new FileWriter(SaltySystem.defaultHiddenOuterResource.getFileResource("checksum." + writer.getFile().getName()));
+        try {
+            try (final BinaryDataWriter writer = new BinaryDataWriter(tempFile, checksum)) {
+                while (species.hasNext()) {
+                    writer.writeSpecies(species.next());
+                }
+            }
 
-            final String checksum = new String(hashCreator.digest(prepareForChecksumCreation(saveReader.readFile())));
-            checksumWriter.writeThrough(removeSpacesAndNewLines(checksum));
+            SaveFiles.replace(tempFile, file);
+        } finally {
+            SaveFiles.deleteTempFile(tempFile);
         }
+
+        deleteLegacyChecksumFile(file);
     }
 
-    private static boolean deserialize(final DataReader reader) throws IOException {
+    /**
+     * Returns an iterator that serializes each {@link Serializable} within {@link #consumer}
+     * only when its {@link Species} is requested.
+     */
+    private static Iterator<Species> serializeLazily() {
+        final Iterator<Serializable> serializables = consumer.iterator();
 
-        final boolean isCorrupt;
-        boolean alreadySaid = false;
+        return new Iterator<Species>() {
+            @Override
+            public boolean hasNext() {
+                return serializables.hasNext();
+            }
+
+            @Override
+            public Species next() {
+                return serialize(serializables.next());
+            }
+        };
+    }
+
+    private static Species serialize(final Serializable serializable) {
+        final Species species = new Species(serializable.getDataSetName(), "");
+
+        serializable.serialize(species);
+
+        return species;
+    }
+
+    private static File getSaveFile(final String name, final boolean binary) {
+        return SaltySystem.defaultHiddenOuterResource.getFileResource(name + (binary ? BinaryDataWriter.BINARY_FILE_EXTENSION : DataReader.SDB_FILE_EXTENSION));
+    }
+
+    /**
+     * Serializes all {@link Serializable}s within {@link #consumer} into a {@link SaveSnapshot}, which can be
+     * written later and from another thread using {@link #writeSnapshot(SaveSnapshot)}.
+     * The snapshot doesn't change when the state of the <code>Serializable</code>s changes afterwards.
+     *
+     * @param name the name of the save file the snapshot is written to
+     * @return a new snapshot of all <code>Serializable</code>s
+     * @see AutoSaver
+     */
+    public static SaveSnapshot takeSnapshot(final String name) {
+        final List<Species> species = new ArrayList<>(consumer.size());
+
+        for (final Serializable serializable : consumer) {
+            species.add(serialize(serializable));
+        }
+
+        return new SaveSnapshot(name, species, binaryFormat, addChecksum);
+    }
 
-        final File checksumFile = SaltySystem.defaultHiddenOuterResource.getFileResource("checksum." + reader.getFile().getName());
+    /**
+     * Writes the given snapshot to its save file, in the format and with the checksum setting it was taken with.
+     *
+     * @param snapshot the snapshot to write
+     * @throws IOException when the I/O process with the file fails
+     */
+    public static void writeSnapshot(final SaveSnapshot snapshot) throws IOException {
+        synchronized (writeLock) {
+            final File file = getSaveFile(snapshot.getName(), snapshot.isBinary());
+
+            if (snapshot.isBinary()) {
+                serializeBinary(file, snapshot.getSpecies().iterator(), snapshot.isChecksum());
+            } else {
+                serialize(new DataWriter(file), snapshot.getSpecies().iterator(), snapshot.isChecksum());
+            }
+        }
+    }
 
-        if (!checksumFile.exists()) {
-            System.err.println("Checksum-file does not exist.");
-            alreadySaid = true;
+    /**
+     * Reads the file one {@link Species} at a time and passes each to the {@link Serializable}
+     * with its name right away.
+     */
+    private static boolean deserializeBinary(final File file) throws IOException {
+        if (!file.exists()) {
+            System.err.println("The savefile " + file.getName() + " does not exist.");
+            return true;
         }
 
-        final FileReader checksumReader = new FileReader(checksumFile);
-        final FileReader saveReader = new FileReader(reader.getFile());
+        final Map<String, Serializable> serializables = new HashMap<>();
+        for (final Serializable serializable : consumer) {
+            serializables.putIfAbsent(serializable.getDataSetName(), serializable);
+        }
 
-        final String checksum = checksumReader.readFile();
+        final boolean isCorrupt;
 
-        final byte[] saveFileBytes = prepareForChecksumCreation(saveReader.readFile());
-        final String savefileSum = new String(hashCreator.digest(saveFileBytes));
+        try (final BinaryDataReader reader = new BinaryDataReader(file)) {
+            Species species;
+            while ((species = reader.readSpecies()) != null) {
+                final Serializable serializable = serializables.remove(species.getName());
 
-        if (removeSpacesAndNewLines(checksum).equals(removeSpacesAndNewLines(savefileSum))) {
-            isCorrupt = false;
-            if (!alreadySaid) {
-                System.out.println("The savefile " + reader.getFile().getName() + " does not seem to be corrupt.");
+                if (serializable != null) {
+                    serializable.deserialize(species);
+                }
             }
+
+            isCorrupt = reportChecksum(file, reader.hasChecksum(), reader.hasChecksum() && reader.isChecksumValid());
+        }
+
+        for (final String name : serializables.keySet()) {
+            System.out.println("Never serialized something for " + name + " so cannot deserialize for it!");
+        }
+
+        return isCorrupt;
+    }
+
+    private static boolean deserialize(final DataReader reader) throws IOException {
+
+        final boolean isCorrupt;
+
+        if (reader.getChecksum() != null) {
+            isCorrupt = reportChecksum(reader.getFile(), true, reader.isChecksumValid());
         } else {
-            isCorrupt = true;
-            if (!alreadySaid) {
-                System.err.println("The savefile " + reader.getFile().getName() + " seems to be corrupt!");
-            }
+            final File checksumFile = getLegacyChecksumFile(reader.getFile());
+            isCorrupt = reportChecksum(reader.getFile(), checksumFile.exists(), checksumFile.exists() && isLegacyChecksumValid(reader, checksumFile));
         }
 
         for (final Serializable serializable : consumer) {
@@ -122,6 +241,43 @@ public class Serializer {
         return isCorrupt;
     }
 
+    /**
+     * Prints whether the save file seems to be corrupt.
+     *
+     * @return whether the save file is corrupt, which it is if it has no checksum
+     */
+    private static boolean reportChecksum(final File file, final boolean hasChecksum, final boolean checksumValid) {
+        if (!hasChecksum) {
+            System.err.println("Checksum does not exist.");
+            return true;
+        } else if (checksumValid) {
+            System.out.println("The savefile " + file.getName() + " does not seem to be corrupt.");
+            return false;
+        } else {
+            System.err.println("The savefile " + file.getName() + " seems to be corrupt!");
+            return true;
+        }
+    }
+
+    private static File getLegacyChecksumFile(final File saveFile) {
+        return SaltySystem.defaultHiddenOuterResource.getFileResource("checksum." + saveFile.getName());
+    }
+
+    private static void deleteLegacyChecksumFile(final File saveFile) {
+        final File checksumFile = getLegacyChecksumFile(saveFile);
+
+        if (checksumFile.exists() && !checksumFile.delete()) {
+            System.out.println("[WARNING] The old checksum file " + checksumFile.getName() + " could not be deleted.");
+        }
+    }
+
+    private static boolean isLegacyChecksumValid(final DataReader reader, final File checksumFile) throws IOException {
+        final String checksum = new FileReader(checksumFile).readFile();
+        final String savefileSum = new String(hashCreator.digest(prepareForChecksumCreation(reader.getFileContent())));
+
+        return removeSpacesAndNewLines(checksum).equals(removeSpacesAndNewLines(savefileSum));
+    }
+
     private static byte[] prepareForChecksumCreation(final String input) {
         return removeSpacesAndNewLines(input).getBytes();
     }
@@ -133,13 +289,20 @@ public class Serializer {
     /**
      * Serializes all {@link Serializable}s within {@link #consumer} in a file with the given name relative to a hidden
      * {@link OuterResource}.
-     * The extension of the file will be automatically added as {@link DataReader#SDB_FILE_EXTENSION}.
+     * The extension of the file will be automatically added as {@link DataReader#SDB_FILE_EXTENSION},
+     * or {@link BinaryDataWriter#BINARY_FILE_EXTENSION} when using the {@link #binaryFormat}.
      *
      * @param name the name of the save file
      * @throws IOException when the I/O process with the file fails
      */
     public static void doSerialization(final String name) throws IOException {
-        serialize(new DataWriter(SaltySystem.defaultHiddenOuterResource.getFileResource(name + DataReader.SDB_FILE_EXTENSION)));
+        synchronized (writeLock) {
+            if (binaryFormat) {
+                serializeBinary(getSaveFile(name, true), serializeLazily(), addChecksum);
+            } else {
+                serialize(new DataWriter(getSaveFile(name, false)), serializeLazily(), addChecksum);
+            }
+        }
     }
 
     /**
@@ -154,7 +317,8 @@ public class Serializer {
     /**
      * Deserialize all {@link Serializable}s within {@link #consumer} from a file with the given name relative to a
      * hidden {@link OuterResource}.
-     * The extension of the file will be automatically added as {@link DataReader#SDB_FILE_EXTENSION}.
+     * The extension of the file will be automatically added as {@link DataReader#SDB_FILE_EXTENSION},
+     * or {@link BinaryDataWriter#BINARY_FILE_EXTENSION} when using the {@link #binaryFormat}.
      *
      * @param name the name of the save file
      * @return whether the savefile is corrupt or not. True means that the savefile was changed after the last writing from Salty Engine.
@@ -163,7 +327,11 @@ public class Serializer {
      */
     public static boolean doDeserialization(final String name) throws IOException {
 
-        final File file = SaltySystem.defaultHiddenOuterResource.getFileResource(name + DataReader.SDB_FILE_EXTENSION);
+        if (binaryFormat) {
+            return deserializeBinary(getSaveFile(name, true));
+        }
+
+        final File file = getSaveFile(name, false);
 
         if (file.getTotalSpace() < 5) {
             final DataWriter writer = new DataWriter(file);
@@ -230,4 +398,12 @@ public class Serializer {
     public static void setAddChecksum(final boolean addChecksum) {
         Serializer.addChecksum = addChecksum;
     }
+
+    public static boolean isBinaryFormat() {
+        return binaryFormat;
+    }
+
+    public static void setBinaryFormat(final boolean binaryFormat) {
+        Serializer.binaryFormat = binaryFormat;
+    }
 }
@@ -16,6 +16,10 @@
 
 package de.edgelord.saltyengine.io.serialization;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -23,8 +27,36 @@ public class Species {
 
     private final String name;
     private final List<Species> subSpecies = new LinkedList<>();
+
+    /**
+     * The content this Species was created with, e.g. read from a file.
+     * For a view of a {@link SpeciesIndex}, it is only created when it is requested.
+     */
     private String content;
 
+    /**
+     * The index of the {@link #content}, or of the text this Species is a view of, and the range
+     * of the content within the text of the index. It is created when the first tag is looked up.
+     */
+    private SpeciesIndex index = null;
+    private int begin = 0;
+    private int end = 0;
+
+    /**
+     * The names and values of the tags added with {@link #addTag(String, Object)}, in the order they were added.
+     * They are kept separately instead of being prepended to the {@link #content} every time,
+     * and are written with their type by the {@link BinaryDataWriter}.
+     */
+    private final List<String> tagNames = new ArrayList<>();
+    private final List<Object> tagValues = new ArrayList<>();
+
+    /**
+     * The added tags followed by the {@link #content}, created on demand
+     * and reset whenever a tag is added.
+     */
+    private String completeContent = null;
+    private SpeciesIndex completeIndex = null;
+
     public Species(final String name, final String content) {
         this.content = content;
         this.name = name;
@@ -35,10 +67,67 @@ public class Species {
         this.name = name;
     }
 
+    /**
+     * Creates a Species whose content is the given range of the text of the given index.
+     */
+    Species(final String name, final SpeciesIndex index, final int begin, final int end) {
+        this.content = null;
+        this.name = name;
+        this.index = index;
+        this.begin = begin;
+        this.end = end;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the content of this Species, which is all added tags, the last one first,
+     * followed by the content this Species was created with.
+     *
+     * @return the content of this Species
+     */
     public String getContent() {
+        if (tagNames.isEmpty()) {
+            return getInitialContent();
+        }
+
+        if (completeContent == null) {
+            final StringBuilder builder = new StringBuilder();
+
+            for (int i = tagNames.size() - 1; i >= 0; i--) {
+                final String tag = tagNames.get(i);
+                builder.append("(").append(tag).append(")").append(tagValues.get(i)).append("(*").append(tag).append(")");
+            }
+            builder.append(getInitialContent());
+
+            completeContent = builder.toString();
+        }
+
+        return completeContent;
+    }
+
+    /**
+     * Returns the content this Species was created with, without the added tags.
+     *
+     * @return the content this Species was created with
+     */
+    String getInitialContent() {
+        if (content == null) {
+            content = index.getText().substring(begin, end);
+        }
+
         return content;
     }
 
+    void setInitialContent(final String content) {
+        this.content = content;
+        index = null;
+        completeContent = null;
+        completeIndex = null;
+    }
+
     /**
      * Returns the value of the given tag within the Species and all its subspecies
      *
@@ -46,21 +135,50 @@ public class Species {
      * @return the value of the given tag
      */
     public String getTagValue(final String tag) {
-        return splitString(content, "(" + tag + ")", "(*" + tag + ")");
+        if (tagNames.isEmpty()) {
+            return getIndex().getTagValue(tag, begin, end);
+        }
+
+        return getCompleteIndex().getTagValue(tag, 0, getContent().length());
     }
 
     /**
-     * Returns the Species with the given name within the Species
+     * Returns the Species with the given name within the Species.
+     * It is a view of the content of this Species, which is not copied.
      *
      * @param species name of the Species wich should be returned and added to the list
      * @return the Species with the given name
      */
     public Species getSubSpecies(final String species) {
-        return new Species(species, splitString(content, "{" + species + "}", "{*" + species + "}"));
+        if (tagNames.isEmpty()) {
+            return getIndex().getSpecies(species, begin, end);
+        }
+
+        return getCompleteIndex().getSpecies(species, 0, getContent().length());
+    }
+
+    /**
+     * Returns the index of the initial content, creating it if necessary.
+     */
+    private SpeciesIndex getIndex() {
+        if (index == null) {
+            index = new SpeciesIndex(content);
+            begin = 0;
+            end = content.length();
+        }
+
+        return index;
     }
 
-    private String splitString(final String base, final String start, final String end) {
-        return base.substring(base.lastIndexOf(start) + start.length(), base.lastIndexOf(end));
+    /**
+     * Returns the index of the added tags and the initial content, creating it if necessary.
+     */
+    private SpeciesIndex getCompleteIndex() {
+        if (completeIndex == null) {
+            completeIndex = new SpeciesIndex(getContent());
+        }
+
+        return completeIndex;
     }
 
     /**
@@ -72,14 +190,41 @@ public class Species {
     public String getSyntax() {
         final StringBuilder syntax = new StringBuilder();
 
-        syntax.append("{").append(name).append("}").append(content);
+        try {
+            appendSyntax(syntax);
+        } catch (final IOException e) {
+            // a StringBuilder does not throw IOExceptions
+            throw new IllegalStateException(e);
+        }
+
+        return syntax.toString();
+    }
+
+    /**
+     * Writes the complete syntax of this Species plus all its subspecies to the given writer,
+     * without creating it as one String first.
+     *
+     * @param writer the writer to write the syntax to
+     * @throws IOException when writing fails
+     * @see #getSyntax()
+     */
+    public void writeSyntax(final Writer writer) throws IOException {
+        appendSyntax(writer);
+    }
+
+    private void appendSyntax(final Appendable syntax) throws IOException {
+        syntax.append("{").append(name).append("}");
+
+        for (int i = tagNames.size() - 1; i >= 0; i--) {
+            final String tag = tagNames.get(i);
+            syntax.append("(").append(tag).append(")").append(String.valueOf(tagValues.get(i))).append("(*").append(tag).append(")");
+        }
+        syntax.append(getInitialContent());
 
         for (final Species species : subSpecies) {
-            syntax.append(species.getSyntax());
+            species.appendSyntax(syntax);
         }
         syntax.append("{*").append(name).append("}");
-
-        return syntax.toString();
     }
 
     /**
@@ -90,7 +235,17 @@ public class Species {
      * @param value the value of the tag which should be added
      */
     public void addTag(final String tag, final Object value) {
-        content = "(" + tag + ")" + value.toString() + "(*" + tag + ")" + content;
+        tagNames.add(tag);
+        // other objects could change until the Species is written, so only their current text is kept
+        tagValues.add(isImmutableValue(value) ? value : value.toString());
+        completeContent = null;
+        completeIndex = null;
+    }
+
+    private static boolean isImmutableValue(final Object value) {
+        return value instanceof String || value instanceof Integer || value instanceof Long || value instanceof Float
+                || value instanceof Double || value instanceof Boolean || value instanceof Short
+                || value instanceof Byte || value instanceof Character;
     }
 
     /**
@@ -106,4 +261,25 @@ public class Species {
         subSpecies.add(speciesToReturn);
         return speciesToReturn;
     }
+
+    /**
+     * Adds the given Species to the list of subspecies.
+     *
+     * @param species the Species to add
+     */
+    void addSubSpecies(final Species species) {
+        subSpecies.add(species);
+    }
+
+    List<String> getTagNames() {
+        return Collections.unmodifiableList(tagNames);
+    }
+
+    List<Object> getTagValues() {
+        return Collections.unmodifiableList(tagValues);
+    }
+
+    List<Species> getSubSpeciesList() {
+        return Collections.unmodifiableList(subSpecies);
+    }
 }
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2020 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.io.serialization;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index of the positions of all species and tag markers within a text in the format of the
+ * {@link DataWriter}, which is built in one pass over the text.
+ * <p>
+ * Looking up a tag or species behaves exactly like searching for the last occurrence of its start and end
+ * marker within a range of the text using <code>lastIndexOf</code>, but only needs a binary search over the
+ * positions of the markers with that name. {@link Species} use it to read their tags and to create their
+ * subspecies as views of the same text instead of copying it.
+ */
+class SpeciesIndex {
+
+    private static final int TAG_START = 0;
+    private static final int TAG_END = 1;
+    private static final int SPECIES_START = 2;
+    private static final int SPECIES_END = 3;
+
+    private final String text;
+
+    /**
+     * The ascending positions of all markers of each kind by the name within the marker.
+     */
+    @SuppressWarnings("unchecked")
+    private final Map<String, Positions>[] markers = new Map[] {new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>()};
+
+    SpeciesIndex(final String text) {
+        this.text = text;
+
+        int nextParenthesis = -1;
+        int nextBrace = -1;
+
+        for (int i = 0; i < text.length(); i++) {
+            final char character = text.charAt(i);
+
+            if (character == '(') {
+                if (nextParenthesis <= i) {
+                    nextParenthesis = indexOrEnd(')', i);
+                }
+                addMarker(i, nextParenthesis, TAG_START, TAG_END);
+            } else if (character == '{') {
+                if (nextBrace <= i) {
+                    nextBrace = indexOrEnd('}', i);
+                }
+                addMarker(i, nextBrace, SPECIES_START, SPECIES_END);
+            }
+        }
+    }
+
+    private int indexOrEnd(final char character, final int from) {
+        final int index = text.indexOf(character, from);
+        return index == -1 ? text.length() : index;
+    }
+
+    private void addMarker(final int position, final int close, final int startKind, final int endKind) {
+        if (close == text.length()) {
+            return;
+        }
+
+        final String name = text.substring(position + 1, close);
+        add(startKind, name, position);
+
+        // "(*name)" is the end of "name", but also the start of "*name"
+        if (name.startsWith("*")) {
+            add(endKind, name.substring(1), position);
+        }
+    }
+
+    private void add(final int kind, final String name, final int position) {
+        markers[kind].computeIfAbsent(name, key -> new Positions()).add(position);
+    }
+
+    /**
+     * Returns the value of the given tag within the given range of the text, like
+     * {@link Species#getTagValue(String)} does for the content of a Species.
+     */
+    String getTagValue(final String tag, final int begin, final int end) {
+        final int start = lastIndexOf(TAG_START, tag, tag.length() + 2, begin, end);
+        final int stop = lastIndexOf(TAG_END, tag, tag.length() + 3, begin, end);
+
+        if (start == -1 || stop == -1) {
+            return lexicalSplit("(" + tag + ")", "(*" + tag + ")", begin, end);
+        }
+
+        return text.substring(start + tag.length() + 2, stop);
+    }
+
+    /**
+     * Returns the Species with the given name within the given range of the text as a view of this index.
+     */
+    Species getSpecies(final String name, final int begin, final int end) {
+        final int start = lastIndexOf(SPECIES_START, name, name.length() + 2, begin, end);
+        final int stop = lastIndexOf(SPECIES_END, name, name.length() + 3, begin, end);
+
+        if (start == -1 || stop == -1) {
+            return new Species(name, lexicalSplit("{" + name + "}", "{*" + name + "}", begin, end));
+        }
+
+        final int contentStart = start + name.length() + 2;
+        if (contentStart > stop) {
+            throw new StringIndexOutOfBoundsException("The species " + name + " ends before it starts");
+        }
+
+        return new Species(name, this, contentStart, stop);
+    }
+
+    /**
+     * Returns the position of the last marker of the given kind and name that lies completely within the given range,
+     * or -1 if there is none.
+     */
+    private int lastIndexOf(final int kind, final String name, final int markerLength, final int begin, final int end) {
+        final Positions positions = markers[kind].get(name);
+
+        if (positions == null) {
+            return -1;
+        }
+
+        final int position = positions.lastAtMost(end - markerLength);
+        return position >= begin ? position : -1;
+    }
+
+    /**
+     * Splits the range of the text the way the engine always did, for markers that are not in the index,
+     * so that e.g. missing tags fail just like they used to.
+     */
+    private String lexicalSplit(final String start, final String end, final int begin, final int rangeEnd) {
+        final String base = text.substring(begin, rangeEnd);
+        return base.substring(base.lastIndexOf(start) + start.length(), base.lastIndexOf(end));
+    }
+
+    /**
+     * Returns the names of all species that have a start and an end marker in the text.
+     */
+    Set<String> getSpeciesNames() {
+        final Set<String> names = new LinkedHashSet<>(markers[SPECIES_START].keySet());
+        names.retainAll(markers[SPECIES_END].keySet());
+
+        return names;
+    }
+
+    String getText() {
+        return text;
+    }
+
+    /**
+     * A growing, ascending list of positions.
+     */
+    private static class Positions {
+
+        private int[] positions = new int[1];
+        private int size = 0;
+
+        private void add(final int position) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+
+            positions[size++] = position;
+        }
+
+        /**
+         * Returns the greatest position that is at most the given one, or -1.
+         */
+        private int lastAtMost(final int max) {
+            int low = 0;
+            int high = size - 1;
+            int result = -1;
+
+            while (low <= high) {
+                final int middle = (low + high) >>> 1;
+
+                if (positions[middle] <= max) {
+                    result = positions[middle];
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+
+            return result;
+        }
+    }
+}
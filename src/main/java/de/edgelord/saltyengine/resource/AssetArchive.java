@@ -0,0 +1,227 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.resource;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * A read-only view of a packed asset archive written by {@link AssetArchiveWriter}.
+ * <p>
+ * The whole archive is memory-mapped with {@link FileChannel#map(FileChannel.MapMode, long, long)},
+ * so uncompressed entries are served as zero-copy slices of the mapping and nothing
+ * has to be extracted to a temporary file. Compressed entries are inflated into
+ * a new heap buffer on every call to {@link #getBuffer(String)}.
+ * <p>
+ * The layout of an archive is:
+ * <pre>
+ *     magic            8 bytes  "SALTYPAK"
+ *     version          int
+ *     entry count      int
+ *     index            entry count times:
+ *                          name length   short
+ *                          name          UTF-8 bytes
+ *                          offset        long
+ *                          stored size   int
+ *                          original size int
+ *                          flags         byte
+ *     data             every entry starts at a multiple of {@link #ALIGNMENT}
+ * </pre>
+ * All numbers are big-endian.
+ */
+public class AssetArchive implements Closeable {
+
+    public static final byte[] MAGIC = "SALTYPAK".getBytes(StandardCharsets.US_ASCII);
+    public static final int VERSION = 1;
+
+    /**
+     * The alignment of the start of every entry in bytes.
+     */
+    public static final int ALIGNMENT = 16;
+
+    /**
+     * The flag of an entry that is compressed using {@link java.util.zip.Deflater}.
+     */
+    public static final byte FLAG_COMPRESSED = 1;
+
+    private final File file;
+    private final FileChannel channel;
+    private final MappedByteBuffer mapping;
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    /**
+     * Opens and maps the given archive and reads its index.
+     *
+     * @param file the archive to open
+     * @throws IOException when the file can't be read or is not a valid archive
+     */
+    public AssetArchive(final File file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+
+        try {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("The asset archive " + file + " is larger than 2GB");
+            }
+
+            mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            mapping.order(ByteOrder.BIG_ENDIAN);
+            readIndex();
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void readIndex() throws IOException {
+        final ByteBuffer header = mapping.duplicate();
+
+        final byte[] magic = new byte[MAGIC.length];
+        header.get(magic);
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (magic[i] != MAGIC[i]) {
+                throw new IOException(file + " is not an asset archive");
+            }
+        }
+
+        final int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported asset archive version " + version + " in " + file);
+        }
+
+        final int entryCount = header.getInt();
+        for (int i = 0; i < entryCount; i++) {
+            final byte[] name = new byte[header.getShort() & 0xFFFF];
+            header.get(name);
+
+            final Entry entry = new Entry(header.getLong(), header.getInt(), header.getInt(), header.get());
+            if (entry.offset + entry.storedSize > mapping.capacity()) {
+                throw new IOException("The asset archive " + file + " is truncated");
+            }
+            entries.put(new String(name, StandardCharsets.UTF_8), entry);
+        }
+    }
+
+    /**
+     * Returns the content of the entry with the given name. The returned
+     * buffer is read-only, positioned at <code>0</code> and its limit is the size of the entry.
+     * For uncompressed entries, this is a slice of the memory-mapped archive.
+     *
+     * @param name the name of the entry, which is the relative path it was packed with
+     * @return the content of the entry or <code>null</code> if there is no such entry
+     * @throws IOException when a compressed entry is corrupt
+     */
+    public ByteBuffer getBuffer(final String name) throws IOException {
+        final Entry entry = entries.get(normalize(name));
+
+        if (entry == null) {
+            return null;
+        }
+
+        final ByteBuffer stored = mapping.duplicate();
+        stored.position((int) entry.offset);
+        stored.limit((int) entry.offset + entry.storedSize);
+
+        if ((entry.flags & FLAG_COMPRESSED) == 0) {
+            return stored.slice().asReadOnlyBuffer();
+        }
+
+        final byte[] compressed = new byte[entry.storedSize];
+        stored.get(compressed);
+
+        final byte[] original = new byte[entry.originalSize];
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            final int inflated = inflater.inflate(original);
+            if (inflated != entry.originalSize) {
+                throw new IOException("The entry " + name + " of " + file + " is corrupt");
+            }
+        } catch (final DataFormatException e) {
+            throw new IOException("The entry " + name + " of " + file + " is corrupt", e);
+        } finally {
+            inflater.end();
+        }
+
+        return ByteBuffer.wrap(original).asReadOnlyBuffer();
+    }
+
+    public boolean contains(final String name) {
+        return entries.containsKey(normalize(name));
+    }
+
+    /**
+     * Returns the uncompressed size of the entry with the given name.
+     *
+     * @param name the name of the entry
+     * @return the size of the entry in bytes or <code>-1</code> if there is no such entry
+     */
+    public int getSize(final String name) {
+        final Entry entry = entries.get(normalize(name));
+        return entry == null ? -1 : entry.originalSize;
+    }
+
+    public Set<String> getEntryNames() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Removes a leading slash, so that entries can be requested
+     * the same way as with {@link InnerResource} and {@link OuterResource}.
+     */
+    static String normalize(final String name) {
+        return name.startsWith("/") ? name.substring(1) : name;
+    }
+
+    private static class Entry {
+
+        private final long offset;
+        private final int storedSize;
+        private final int originalSize;
+        private final byte flags;
+
+        private Entry(final long offset, final int storedSize, final int originalSize, final byte flags) {
+            this.offset = offset;
+            this.storedSize = storedSize;
+            this.originalSize = originalSize;
+            this.flags = flags;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.resource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+
+/**
+ * Packs files into an asset archive that can be read by {@link AssetArchive}
+ * and {@link PackedResource}.
+ * <p>
+ * This is meant to be used as part of the build of a game, e.g. like that:
+ *
+ * <pre>
+ *     {@code
+ *     AssetArchiveWriter writer = new AssetArchiveWriter();
+ *     writer.addDirectory(new File("src/main/resources"), false);
+ *     writer.write(new File("target/assets.pak"));
+ *     }
+ * </pre>
+ * <p>
+ * or from the command line:
+ * <pre>
+ *     java de.edgelord.saltyengine.resource.AssetArchiveWriter [-compress] sourceDirectory archive
+ * </pre>
+ * Already compressed formats like png or ogg gain nothing from compression,
+ * and compressed entries cannot be served zero-copy, so compression
+ * is best used for text-based assets only.
+ */
+public class AssetArchiveWriter {
+
+    private final Map<String, PendingEntry> entries = new TreeMap<>();
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("usage: AssetArchiveWriter [-compress] sourceDirectory archive");
+            return;
+        }
+
+        final boolean compress = args[0].equals("-compress");
+        final int offset = compress ? 1 : 0;
+        final AssetArchiveWriter writer = new AssetArchiveWriter();
+        writer.addDirectory(new File(args[offset]), compress);
+        writer.write(new File(args[offset + 1]));
+    }
+
+    /**
+     * Adds the given content as an entry with the given name.
+     *
+     * @param name     the name of the entry, which is the relative path it can be requested with
+     * @param content  the content of the entry
+     * @param compress whether the entry should be stored compressed. It is
+     *                 only stored compressed if that actually saves space.
+     */
+    public void add(final String name, final byte[] content, final boolean compress) {
+        final String normalizedName = AssetArchive.normalize(name.replace('\\', '/'));
+
+        if (normalizedName.getBytes(StandardCharsets.UTF_8).length > 0xFFFF) {
+            throw new IllegalArgumentException("The name of the entry " + name + " is too long");
+        }
+
+        byte[] stored = content;
+        byte flags = 0;
+
+        if (compress) {
+            final byte[] compressed = deflate(content);
+            if (compressed.length < content.length) {
+                stored = compressed;
+                flags = AssetArchive.FLAG_COMPRESSED;
+            }
+        }
+
+        entries.put(normalizedName, new PendingEntry(stored, content.length, flags));
+    }
+
+    public void add(final String name, final File file, final boolean compress) throws IOException {
+        add(name, Files.readAllBytes(file.toPath()), compress);
+    }
+
+    /**
+     * Adds all files within the given directory and its subdirectories.
+     * The name of each entry is its path relative to the given directory.
+     *
+     * @param directory the directory to pack
+     * @param compress  whether the entries should be stored compressed
+     * @throws IOException when a file can't be read
+     */
+    public void addDirectory(final File directory, final boolean compress) throws IOException {
+        final Path root = directory.toPath();
+
+        try (final Stream<Path> files = Files.walk(root)) {
+            for (final Path path : (Iterable<Path>) files::iterator) {
+                if (Files.isRegularFile(path)) {
+                    add(root.relativize(path).toString(), path.toFile(), compress);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes all added entries to the given file, replacing it if it already exists.
+     *
+     * @param archive the file to write the archive to
+     * @throws IOException when the file can't be written
+     */
+    public void write(final File archive) throws IOException {
+
+        int indexSize = AssetArchive.MAGIC.length + Integer.BYTES * 2;
+        for (final String name : entries.keySet()) {
+            indexSize += Short.BYTES + name.getBytes(StandardCharsets.UTF_8).length + Long.BYTES + Integer.BYTES * 2 + Byte.BYTES;
+        }
+
+        final ByteBuffer index = ByteBuffer.allocate(indexSize).order(ByteOrder.BIG_ENDIAN);
+        index.put(AssetArchive.MAGIC);
+        index.putInt(AssetArchive.VERSION);
+        index.putInt(entries.size());
+
+        long offset = align(indexSize);
+        for (final Map.Entry<String, PendingEntry> entry : entries.entrySet()) {
+            final byte[] name = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            final PendingEntry pendingEntry = entry.getValue();
+
+            pendingEntry.offset = offset;
+            index.putShort((short) name.length);
+            index.put(name);
+            index.putLong(offset);
+            index.putInt(pendingEntry.stored.length);
+            index.putInt(pendingEntry.originalSize);
+            index.put(pendingEntry.flags);
+
+            offset = align(offset + pendingEntry.stored.length);
+        }
+        index.flip();
+
+        try (final FileChannel channel = FileChannel.open(archive.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, index, 0);
+
+            for (final PendingEntry pendingEntry : entries.values()) {
+                writeFully(channel, ByteBuffer.wrap(pendingEntry.stored), pendingEntry.offset);
+            }
+
+            // pad the file up to the aligned end of the last entry
+            if (channel.size() < offset) {
+                writeFully(channel, ByteBuffer.allocate((int) (offset - channel.size())), channel.size());
+            }
+        }
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static long align(final long position) {
+        return (position + AssetArchive.ALIGNMENT - 1) / AssetArchive.ALIGNMENT * AssetArchive.ALIGNMENT;
+    }
+
+    private static byte[] deflate(final byte[] content) {
+        final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(content.length);
+        final byte[] buffer = new byte[4096];
+
+        try {
+            deflater.setInput(content);
+            deflater.finish();
+            while (!deflater.finished()) {
+                outputStream.write(buffer, 0, deflater.deflate(buffer));
+            }
+        } finally {
+            deflater.end();
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static class PendingEntry {
+
+        private final byte[] stored;
+        private final int originalSize;
+        private final byte flags;
+        private long offset;
+
+        private PendingEntry(final byte[] stored, final int originalSize, final byte flags) {
+            this.stored = stored;
+            this.originalSize = originalSize;
+            this.flags = flags;
+        }
+    }
+}
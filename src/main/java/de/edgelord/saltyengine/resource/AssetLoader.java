@@ -0,0 +1,291 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.resource;
+
+import de.edgelord.saltyengine.effect.Spritesheet;
+import de.edgelord.saltyengine.effect.StaticTileGrid;
+import de.edgelord.saltyengine.effect.image.SaltyImage;
+import de.edgelord.saltyengine.factory.AudioFactory;
+import de.edgelord.saltyengine.factory.FontFactory;
+import de.edgelord.saltyengine.factory.ImageFactory;
+import de.edgelord.saltyengine.factory.SpritesheetFactory;
+import de.edgelord.saltyengine.gameobject.DrawingRoutine;
+import de.edgelord.saltyengine.transform.Vector2f;
+import de.edgelord.saltyengine.utils.SaltySystem;
+
+import javax.sound.sampled.Clip;
+import java.awt.*;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Loads the assets of an {@link AssetManifest} in parallel
+ * on a bounded pool of worker threads.
+ * <p>
+ * Every asset is represented by a <code>CompletableFuture</code>
+ * that completes as soon as that asset is decoded, and the
+ * overall state can be polled using {@link #getProgress()},
+ * e.g. to draw a loading screen while the assets of a level
+ * stream in (see {@link de.edgelord.saltyengine.scene.LoadingScene}).
+ * <p>
+ * Assets that fail to load complete their future exceptionally,
+ * they still count as finished for {@link #getProgress()}.
+ */
+public class AssetLoader {
+
+    /**
+     * The default number of worker threads. One core is left
+     * for the render and the fixed tick thread.
+     */
+    public static final int DEFAULT_THREAD_COUNT = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+    private static final AtomicInteger loaderCount = new AtomicInteger();
+
+    private final ImageFactory imageFactory;
+    private final AudioFactory audioFactory;
+    private final FontFactory fontFactory;
+    private final SpritesheetFactory spritesheetFactory;
+
+    private final ExecutorService executor;
+
+    private final Map<String, CompletableFuture<?>> assets = new ConcurrentHashMap<>();
+    private final AtomicInteger requestedAssets = new AtomicInteger();
+    private final AtomicInteger finishedAssets = new AtomicInteger();
+
+    /**
+     * Creates a new loader that reads all assets from the given {@link Resource}
+     * using the given amount of worker threads.
+     *
+     * @param resource    the <code>Resource</code> to load the assets from
+     * @param threadCount the maximum number of assets that are decoded at the same time
+     */
+    public AssetLoader(final Resource resource, final int threadCount) {
+        this.imageFactory = new ImageFactory(resource);
+        this.audioFactory = new AudioFactory(resource);
+        this.fontFactory = new FontFactory(resource);
+        this.spritesheetFactory = new SpritesheetFactory(resource);
+
+        final int loaderIndex = loaderCount.getAndIncrement();
+        final AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+            final Thread thread = new Thread(runnable, "asset-loader-" + loaderIndex + "-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public AssetLoader(final Resource resource) {
+        this(resource, DEFAULT_THREAD_COUNT);
+    }
+
+    /**
+     * Creates a new loader that reads from {@link SaltySystem#defaultResource}.
+     */
+    public AssetLoader() {
+        this(SaltySystem.defaultResource);
+    }
+
+    /**
+     * Starts loading all assets of the given manifest.
+     *
+     * @param manifest the assets to load
+     * @return a future that completes when every asset of the manifest finished loading
+     * @throws RejectedExecutionException when this loader was {@link #shutdown() shut down}
+     */
+    public CompletableFuture<Void> load(final AssetManifest manifest) {
+
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[manifest.size()];
+        int index = 0;
+
+        for (final AssetManifest.Entry entry : manifest.getEntries()) {
+            switch (entry.getType()) {
+                case IMAGE:
+                    futures[index] = loadImage(entry.getName(), entry.getRelativePath());
+                    break;
+                case AUDIO:
+                    futures[index] = loadAudio(entry.getName(), entry.getRelativePath());
+                    break;
+                case FONT:
+                    futures[index] = loadFont(entry.getName(), entry.getRelativePath(), entry.getFontSize());
+                    break;
+                case SPRITESHEET:
+                    futures[index] = loadSpritesheet(entry.getName(), entry.getRelativePath(), entry.getSpriteWidth(), entry.getSpriteHeight());
+                    break;
+                case TILE_GRID:
+                    futures[index] = loadTileGrid(entry.getName(), entry.getRelativePath(), entry.getPosition(), entry.getDrawingPosition());
+                    break;
+            }
+            index++;
+        }
+
+        return CompletableFuture.allOf(futures);
+    }
+
+    public CompletableFuture<SaltyImage> loadImage(final String name, final String relativePath) {
+        return submit(name, () -> imageFactory.getPreferredImageResource(relativePath));
+    }
+
+    public CompletableFuture<Clip> loadAudio(final String name, final String relativePath) {
+        return submit(name, () -> audioFactory.getClip(relativePath));
+    }
+
+    public CompletableFuture<Font> loadFont(final String name, final String relativePath, final float size) {
+        return submit(name, () -> {
+            try {
+                return fontFactory.getFont(relativePath, size);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (final FontFormatException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    public CompletableFuture<Spritesheet> loadSpritesheet(final String name, final String relativePath, final int spriteWidth, final int spriteHeight) {
+        return submit(name, () -> spritesheetFactory.getSpritesheet(relativePath, spriteWidth, spriteHeight));
+    }
+
+    public CompletableFuture<StaticTileGrid> loadTileGrid(final String name, final String relativePath, final Vector2f position, final DrawingRoutine.DrawingPosition drawingPosition) {
+        return submit(name, () -> {
+            try {
+                return StaticTileGrid.readSTM(imageFactory.getResource().getFileResource(relativePath), position, drawingPosition);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Schedules the given task on the {@link #executor} and registers
+     * its future under the given name.
+     * If an asset with the given name was already requested, the existing future is returned.
+     * <p>
+     * The asset counts as requested before it is scheduled, so that it can't finish before it is counted.
+     * If the executor rejects the task because this loader was {@link #shutdown() shut down}, the count is
+     * taken back, so that {@link #getProgress()} and {@link #isDone()} are not affected.
+     *
+     * @throws RejectedExecutionException when this loader was shut down
+     */
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> submit(final String name, final Supplier<T> task) {
+        return (CompletableFuture<T>) assets.computeIfAbsent(name, key -> {
+            requestedAssets.incrementAndGet();
+
+            final CompletableFuture<T> future;
+            try {
+                future = CompletableFuture.supplyAsync(task, executor);
+            } catch (final RejectedExecutionException e) {
+                requestedAssets.decrementAndGet();
+                throw e;
+            }
+
+            return future.whenComplete((asset, throwable) -> {
+                finishedAssets.incrementAndGet();
+                if (throwable != null) {
+                    System.err.println("[WARNING] Could not load the asset " + key);
+                    throwable.printStackTrace();
+                }
+            });
+        });
+    }
+
+    /**
+     * Returns the future of the asset with the given name.
+     *
+     * @param name the id-name of the asset
+     * @param <T>  the type of the asset
+     * @return the future of the asset with the given name or <code>null</code> if it was never requested
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> getFuture(final String name) {
+        return (CompletableFuture<T>) assets.get(name);
+    }
+
+    /**
+     * Returns the asset with the given name, blocking until it is loaded.
+     *
+     * @param name the id-name of the asset
+     * @param <T>  the type of the asset
+     * @return the loaded asset or <code>null</code> if it was never requested
+     * @throws CompletionException when loading the asset failed
+     */
+    public <T> T get(final String name) {
+        final CompletableFuture<T> future = getFuture(name);
+        return future == null ? null : future.join();
+    }
+
+    public SaltyImage getImage(final String name) {
+        return get(name);
+    }
+
+    public Clip getAudio(final String name) {
+        return get(name);
+    }
+
+    public Font getFont(final String name) {
+        return get(name);
+    }
+
+    public Spritesheet getSpritesheet(final String name) {
+        return get(name);
+    }
+
+    public StaticTileGrid getTileGrid(final String name) {
+        return get(name);
+    }
+
+    /**
+     * Returns the fraction of all requested assets that finished loading,
+     * ranging from <code>0f</code> to <code>1f</code>.
+     * If nothing was requested yet, this returns <code>1f</code>.
+     *
+     * @return the aggregate progress of this loader
+     */
+    public float getProgress() {
+        final int requested = requestedAssets.get();
+
+        if (requested == 0) {
+            return 1f;
+        }
+
+        return (float) finishedAssets.get() / requested;
+    }
+
+    public boolean isDone() {
+        return finishedAssets.get() >= requestedAssets.get();
+    }
+
+    public int getRequestedAssetCount() {
+        return requestedAssets.get();
+    }
+
+    public int getFinishedAssetCount() {
+        return finishedAssets.get();
+    }
+
+    /**
+     * Stops the worker threads once all requested assets finished loading.
+     * Loaded assets stay accessible, requesting new ones throws a <code>RejectedExecutionException</code>.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.resource;
+
+import de.edgelord.saltyengine.gameobject.DrawingRoutine;
+import de.edgelord.saltyengine.transform.Vector2f;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A list of named assets that are to be loaded
+ * by an {@link AssetLoader}.
+ * <p>
+ * Every method that adds an asset returns this manifest,
+ * so that a manifest can be declared like that:
+ *
+ * <pre>
+ *     {@code
+ *     AssetManifest manifest = new AssetManifest()
+ *             .image("player", "res/pictures/player.png")
+ *             .spritesheet("explosion", "res/pictures/explosion.png", 64, 64)
+ *             .audio("jump", "res/audio/jump.wav")
+ *             .font("title", "res/fonts/title.ttf", 24f);
+ *     }
+ * </pre>
+ */
+public class AssetManifest {
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    public AssetManifest image(final String name, final String relativePath) {
+        entries.add(new Entry(AssetType.IMAGE, name, relativePath));
+        return this;
+    }
+
+    public AssetManifest audio(final String name, final String relativePath) {
+        entries.add(new Entry(AssetType.AUDIO, name, relativePath));
+        return this;
+    }
+
+    public AssetManifest font(final String name, final String relativePath, final float size) {
+        final Entry entry = new Entry(AssetType.FONT, name, relativePath);
+        entry.fontSize = size;
+        entries.add(entry);
+        return this;
+    }
+
+    public AssetManifest spritesheet(final String name, final String relativePath, final int spriteWidth, final int spriteHeight) {
+        final Entry entry = new Entry(AssetType.SPRITESHEET, name, relativePath);
+        entry.spriteWidth = spriteWidth;
+        entry.spriteHeight = spriteHeight;
+        entries.add(entry);
+        return this;
+    }
+
+    /**
+     * Adds a tilemap file created with Salty Tilemap Creator.
+     *
+     * @param name            the id-name of the tile grid
+     * @param relativePath    the relative path of the *.stm file
+     * @param position        the position of the tilemap in user-space
+     * @param drawingPosition either to draw it before or after the {@link de.edgelord.saltyengine.gameobject.GameObject}s etc.
+     * @return this manifest
+     * @see de.edgelord.saltyengine.effect.StaticTileGrid#readSTM(java.io.File, Vector2f, DrawingRoutine.DrawingPosition)
+     */
+    public AssetManifest tileGrid(final String name, final String relativePath, final Vector2f position, final DrawingRoutine.DrawingPosition drawingPosition) {
+        final Entry entry = new Entry(AssetType.TILE_GRID, name, relativePath);
+        entry.position = position;
+        entry.drawingPosition = drawingPosition;
+        entries.add(entry);
+        return this;
+    }
+
+    public List<Entry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public enum AssetType {
+        IMAGE,
+        AUDIO,
+        FONT,
+        SPRITESHEET,
+        TILE_GRID
+    }
+
+    /**
+     * A single asset of an {@link AssetManifest}.
+     * Only the fields that are needed for the {@link #type}
+     * of the asset are set.
+     */
+    public static class Entry {
+
+        private final AssetType type;
+        private final String name;
+        private final String relativePath;
+
+        private float fontSize;
+        private int spriteWidth;
+        private int spriteHeight;
+        private Vector2f position;
+        private DrawingRoutine.DrawingPosition drawingPosition;
+
+        private Entry(final AssetType type, final String name, final String relativePath) {
+            this.type = type;
+            this.name = name;
+            this.relativePath = relativePath;
+        }
+
+        public AssetType getType() {
+            return type;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getRelativePath() {
+            return relativePath;
+        }
+
+        public float getFontSize() {
+            return fontSize;
+        }
+
+        public int getSpriteWidth() {
+            return spriteWidth;
+        }
+
+        public int getSpriteHeight() {
+            return spriteHeight;
+        }
+
+        public Vector2f getPosition() {
+            return position;
+        }
+
+        public DrawingRoutine.DrawingPosition getDrawingPosition() {
+            return drawingPosition;
+        }
+    }
+}
@@ -28,6 +28,7 @@ import javax.sound.sampled.Clip;
 import javax.sound.sampled.UnsupportedAudioFileException;
 import java.awt.image.BufferedImage;
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
 public class InnerResource implements Resource {
@@ -83,6 +84,45 @@ public class InnerResource implements Resource {
         return null;
     }
 
+    /**
+     * Reads the resource straight from the classpath into a heap buffer,
+     * without extracting it to a temporary file first.
+     *
+     * @param relativePath the relative path of the resource
+     * @return the content of the resource or <code>null</code> if it can't be read
+     */
+    @Override
+    public ByteBuffer getBufferResource(final String relativePath) {
+
+        try (final InputStream inputStream = classLoader.getResourceAsStream(arrangePath(relativePath))) {
+
+            if (inputStream == null) {
+                return null;
+            }
+
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(Math.max(inputStream.available(), 4096));
+            final byte[] buffer = new byte[8192];
+
+            int readBytes;
+            while ((readBytes = inputStream.read(buffer)) > 0) {
+                outputStream.write(buffer, 0, readBytes);
+            }
+
+            return ByteBuffer.wrap(outputStream.toByteArray()).asReadOnlyBuffer();
+        } catch (final IOException e) {
+            e.printStackTrace();
+        }
+
+        return null;
+    }
+
+    @Override
+    public InputStream getStreamResource(final String relativePath) {
+        final InputStream inputStream = classLoader.getResourceAsStream(arrangePath(relativePath));
+
+        return inputStream == null ? null : new BufferedInputStream(inputStream);
+    }
+
     private File makeTemporaryFile(final String relativePath) throws IOException {
 
         checkTmpDir();
@@ -104,7 +144,7 @@ public class InnerResource implements Resource {
         return file;
     }
 
-    private void checkTmpDir() {
+    private synchronized void checkTmpDir() {
         if (tmpDir == null) {
             tmpDir = SystemDependentFiles.getUserFile("." + Game.gameName + "/tmp/");
 
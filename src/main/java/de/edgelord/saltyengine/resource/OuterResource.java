@@ -27,8 +27,7 @@ import javax.sound.sampled.AudioSystem;
 import javax.sound.sampled.Clip;
 import javax.sound.sampled.UnsupportedAudioFileException;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
+import java.io.*;
 
 public class OuterResource implements Resource {
 
@@ -90,6 +89,17 @@ public class OuterResource implements Resource {
         return getFile(relativePath);
     }
 
+    @Override
+    public InputStream getStreamResource(final String relativePath) {
+        try {
+            return new BufferedInputStream(new FileInputStream(getFile(relativePath)));
+        } catch (final FileNotFoundException e) {
+            e.printStackTrace();
+        }
+
+        return null;
+    }
+
     private void prepareSourceDirectory() {
 
         if (hidden) {
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.resource;
+
+import de.edgelord.saltyengine.effect.image.SaltyImage;
+import de.edgelord.saltyengine.io.ByteBufferInputStream;
+import de.edgelord.saltyengine.utils.SaltySystem;
+
+import javax.imageio.ImageIO;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.Clip;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link Resource} that reads everything from a memory-mapped {@link AssetArchive}.
+ * <p>
+ * Images, audio and fonts are decoded straight from the mapped archive.
+ * Only {@link #getFileResource(String)} has to extract an entry to a temporary file,
+ * which is done once per entry and only when it is requested.
+ *
+ * @see AssetArchiveWriter
+ */
+public class PackedResource implements Resource {
+
+    private final AssetArchive archive;
+    private final Map<String, File> extractedFiles = new ConcurrentHashMap<>();
+
+    public PackedResource(final AssetArchive archive) {
+        this.archive = archive;
+    }
+
+    public PackedResource(final File archive) throws IOException {
+        this(new AssetArchive(archive));
+    }
+
+    @Override
+    public SaltyImage getImageResource(final String relativePath) {
+
+        try (final InputStream inputStream = openStream(relativePath)) {
+
+            final BufferedImage image = ImageIO.read(inputStream);
+            return SaltySystem.createPreferredImage(image);
+        } catch (final IOException e) {
+            e.printStackTrace();
+        }
+
+        return null;
+    }
+
+    @Override
+    public Clip getAudioResource(final String relativePath) {
+
+        AudioInputStream audioInput = null;
+
+        try {
+            audioInput = AudioSystem.getAudioInputStream(openStream(relativePath));
+        } catch (final IOException | UnsupportedAudioFileException e) {
+            e.printStackTrace();
+        }
+
+        return Resource.createClip(audioInput);
+    }
+
+    @Override
+    public ByteBuffer getBufferResource(final String relativePath) {
+        try {
+            return archive.getBuffer(relativePath);
+        } catch (final IOException e) {
+            e.printStackTrace();
+        }
+
+        return null;
+    }
+
+    @Override
+    public File getFileResource(final String relativePath) {
+        if (!archive.contains(relativePath)) {
+            return null;
+        }
+
+        return extractedFiles.computeIfAbsent(AssetArchive.normalize(relativePath), name -> {
+            try {
+                return extract(name);
+            } catch (final IOException e) {
+                e.printStackTrace();
+            }
+
+            return null;
+        });
+    }
+
+    private File extract(final String name) throws IOException {
+        final String fileName = name.substring(name.lastIndexOf('/') + 1);
+        final int extensionIndex = fileName.lastIndexOf('.');
+        final File file = File.createTempFile("salty-", extensionIndex == -1 ? null : fileName.substring(extensionIndex));
+        file.deleteOnExit();
+
+        final ByteBuffer buffer = archive.getBuffer(name);
+        try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+
+        return file;
+    }
+
+    private InputStream openStream(final String relativePath) throws IOException {
+        final ByteBuffer buffer = archive.getBuffer(relativePath);
+
+        if (buffer == null) {
+            throw new IOException("The asset archive " + archive.getFile() + " does not contain " + relativePath);
+        }
+
+        return new ByteBufferInputStream(buffer);
+    }
+
+    public AssetArchive getArchive() {
+        return archive;
+    }
+}
@@ -17,6 +17,7 @@
 package de.edgelord.saltyengine.resource;
 
 import de.edgelord.saltyengine.effect.image.SaltyImage;
+import de.edgelord.saltyengine.io.ByteBufferInputStream;
 
 import javax.sound.sampled.AudioInputStream;
 import javax.sound.sampled.AudioSystem;
@@ -24,8 +25,12 @@ import javax.sound.sampled.Clip;
 import javax.sound.sampled.LineUnavailableException;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 
 public interface Resource {
 
@@ -47,6 +52,47 @@ public interface Resource {
 
     File getFileResource(String relativePath);
 
+    /**
+     * Returns the content of the resource with the given relative path as a read-only {@link ByteBuffer}.
+     * <p>
+     * By default, this maps the file returned by {@link #getFileResource(String)} into memory,
+     * implementations that don't have the resource as a file anyway should override this
+     * to avoid the creation of a temporary file.
+     *
+     * @param relativePath the relative path of the resource
+     * @return the content of the resource or <code>null</code> if it can't be read
+     */
+    default ByteBuffer getBufferResource(final String relativePath) {
+        final File file = getFileResource(relativePath);
+
+        if (file == null) {
+            return null;
+        }
+
+        try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (final IOException e) {
+            e.printStackTrace();
+        }
+
+        return null;
+    }
+
+    /**
+     * Opens a stream of the resource with the given relative path, e.g. to read
+     * a long audio track in chunks without holding all of it in memory.
+     * <p>
+     * By default, this reads from {@link #getBufferResource(String)}.
+     *
+     * @param relativePath the relative path of the resource
+     * @return a new stream of the resource or <code>null</code> if it can't be read
+     */
+    default InputStream getStreamResource(final String relativePath) {
+        final ByteBuffer buffer = getBufferResource(relativePath);
+
+        return buffer == null ? null : new ByteBufferInputStream(buffer);
+    }
+
     default URL pathToURL(final String path) throws MalformedURLException {
         return getFileResource(path).toURI().toURL();
     }
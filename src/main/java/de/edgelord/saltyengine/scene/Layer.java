@@ -17,6 +17,7 @@
 package de.edgelord.saltyengine.scene;
 
 import de.edgelord.saltyengine.collision.CollisionDetectionResult;
+import de.edgelord.saltyengine.collision.ContactBuffer;
 import de.edgelord.saltyengine.core.Game;
 import de.edgelord.saltyengine.core.event.CollisionEvent;
 import de.edgelord.saltyengine.core.graphics.SaltyGraphics;
@@ -24,6 +25,7 @@ import de.edgelord.saltyengine.gameobject.GameObject;
 import de.edgelord.saltyengine.transform.Transform;
 import de.edgelord.saltyengine.transform.Vector2f;
 import de.edgelord.saltyengine.utils.Directions;
+import de.edgelord.saltyengine.utils.Profiler;
 
 import java.awt.*;
 import java.awt.geom.AffineTransform;
@@ -31,6 +33,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * A <code>Layer</code> is a sub-unit
@@ -84,6 +87,13 @@ public class Layer extends GameObject {
      */
     private AffineTransform affineTransform = new AffineTransform();
 
+    /**
+     * The {@link Profiler} phase of the collision detection of this layer and the tag it was created for.
+     * The phase belongs to this layer only, so that layers with the same tag don't record into the same phase.
+     */
+    private Profiler.Phase collisionPhase = null;
+    private String collisionPhaseTag = null;
+
     /**
      * Constructs a new <code>Layer</code> with
      * the {@link Game#getGameTransform() transform of the game}
@@ -128,6 +138,9 @@ public class Layer extends GameObject {
     @Override
     public void onFixedTick() {
 
+        final ContactBuffer contacts = container.getContactBuffer();
+        final Profiler.Phase layerCollisionPhase = getCollisionPhase();
+
         for (int i = 0; i < gameObjects.size(); i++) {
             final GameObject gameObject = gameObjects.get(i);
 
@@ -142,6 +155,7 @@ public class Layer extends GameObject {
             }
 
 
+            final long collisionStart = Profiler.start();
             for (int i2 = i + 1; i2 < gameObjects.size(); i2++) {
                 final GameObject gameObject2 = gameObjects.get(i2);
                 if (gameObject2.isClearCollisions()) {
@@ -152,48 +166,97 @@ public class Layer extends GameObject {
                 final CollisionDetectionResult collisionDetectionResult = container.getSceneCollider().checkCollision(gameObject, gameObject2);
 
                 if (collisionDetectionResult.isCollision()) {
-                    final CollisionEvent collision = new CollisionEvent(gameObject2, collisionDetectionResult.getRootCollisionDirection());
-                    final CollisionEvent collision2 = new CollisionEvent(gameObject, Directions.mirrorDirection(collisionDetectionResult.getRootCollisionDirection()));
+                    final CollisionEvent collision = contacts.obtain(gameObject2, collisionDetectionResult.getRootCollisionDirection());
+                    final CollisionEvent collision2 = contacts.obtain(gameObject, Directions.mirrorDirection(collisionDetectionResult.getRootCollisionDirection()));
 
-                    gameObject.getCollisions().add(collision);
+                    gameObject.getCollisions().addContact(contacts, collision);
                     gameObject.onCollision(collision);
-                    gameObject.getComponents().forEach(component -> component.onCollision(collision));
+                    gameObject.doComponentOnCollision(collision);
 
                     gameObject2.onCollision(collision2);
-                    gameObject2.getCollisions().add(collision2);
-                    gameObject2.getComponents().forEach(component -> component.onCollision(collision2));
+                    gameObject2.getCollisions().addContact(contacts, collision2);
+                    gameObject2.doComponentOnCollision(collision2);
                     Game.forEachGameListener(gameListener -> gameListener.onCollision(gameObject, collision));
                 }
             }
 
-            gameObject.getComponents().forEach(component -> component.onCollisionDetectionFinish(gameObject.getCollisions()));
+            Profiler.accumulate(Profiler.COLLISION, collisionStart);
+            Profiler.accumulate(layerCollisionPhase, collisionStart);
+
+            final long componentsStart = Profiler.start();
+            gameObject.doComponentOnCollisionDetectionFinish(gameObject.getCollisions());
             gameObject.onCollisionDetectionFinish(gameObject.getCollisions());
             gameObject.doComponentOnFixedTick();
             gameObject.doFixedTick();
             gameObject.setClearCollisions(true);
+            Profiler.accumulate(Profiler.COMPONENTS, componentsStart);
         }
+        Profiler.commit(layerCollisionPhase);
+
+        final long componentsStart = Profiler.start();
         doComponentOnFixedTick();
+        Profiler.accumulate(Profiler.COMPONENTS, componentsStart);
+    }
+
+    /**
+     * Returns the {@link Profiler} phase for the collision detection of this layer, named after its tag.
+     *
+     * @return the collision phase of this layer
+     */
+    private Profiler.Phase getCollisionPhase() {
+        if (collisionPhase == null || !Objects.equals(collisionPhaseTag, getTag())) {
+            removeCollisionPhase();
+            collisionPhaseTag = getTag();
+            collisionPhase = Profiler.createPhase("tick/collision/" + collisionPhaseTag);
+        }
+
+        return collisionPhase;
+    }
+
+    /**
+     * Removes the {@link Profiler} phase of the collision detection of this layer, if there is one.
+     * It is created again with the next fixed tick of this layer.
+     * This is called by the {@link #container} when this layer is removed or the <code>Scene</code> is left.
+     */
+    public void removeCollisionPhase() {
+        if (collisionPhase != null) {
+            Profiler.removePhase(collisionPhase);
+            collisionPhase = null;
+            collisionPhaseTag = null;
+        }
     }
 
     @Override
     public void draw(final SaltyGraphics saltyGraphics) {
 
-        //TODO: use added() method from physics branche instead of this tmp
-        final Vector2f tmpVector = new Vector2f(getPosition());
-        saltyGraphics.setClip(new Transform(tmpVector.add(Game.getCamera().getPosition()), getDimensions()));
+        final Vector2f cameraPosition = Game.getCamera().getPosition();
+        saltyGraphics.setClip(getX() + cameraPosition.getX(), getY() + cameraPosition.getY(), getWidth(), getHeight());
         saltyGraphics.setTransform(affineTransform);
 
+        final Graphics2D graphics2D = saltyGraphics.getGraphics2D();
+        final float cameraRotation = Game.getCamera().getRotation().getRotationDegrees();
+
         for (int i = 0; i < gameObjects.size(); i++) {
             final GameObject gameObject = gameObjects.get(i);
+            final Transform transform = gameObject.getTransform();
 
-            final AffineTransform before = saltyGraphics.getGraphics2D().getTransform();
-            final Vector2f rotationCentre = gameObject.getTransform().getRotationCentreAbsolute();
-            saltyGraphics.setRotation(gameObject.getRotationDegrees(), rotationCentre);
+            final boolean rotated = transform.getRotationDegrees() != 0f;
+            final boolean transformed = rotated || cameraRotation != 0f;
+
+            if (rotated) {
+                // the world transform is cached within the Transform and only recomputed if it changed
+                graphics2D.transform(transform.getWorldTransform());
+            }
+            if (cameraRotation != 0f) {
+                graphics2D.rotate(Math.toRadians(cameraRotation), transform.getX() + transform.getRotationCentre().getX(), transform.getY() + transform.getRotationCentre().getY());
+            }
 
             gameObject.draw(saltyGraphics.copy());
             gameObject.doComponentDrawing(saltyGraphics.copy());
 
-            saltyGraphics.setTransform(before);
+            if (transformed) {
+                saltyGraphics.setTransform(affineTransform);
+            }
         }
         doComponentDrawing(saltyGraphics.copy());
     }
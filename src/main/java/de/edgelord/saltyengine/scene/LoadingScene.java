@@ -0,0 +1,109 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.scene;
+
+import de.edgelord.saltyengine.core.Game;
+import de.edgelord.saltyengine.core.SceneManager;
+import de.edgelord.saltyengine.core.graphics.SaltyGraphics;
+import de.edgelord.saltyengine.gameobject.DrawingRoutine;
+import de.edgelord.saltyengine.resource.AssetLoader;
+import de.edgelord.saltyengine.resource.AssetManifest;
+import de.edgelord.saltyengine.utils.ColorUtil;
+
+import java.util.function.Supplier;
+
+/**
+ * A {@link Scene} that loads all assets of an {@link AssetManifest}
+ * in the background using an {@link AssetLoader} and draws the progress
+ * until all assets are loaded. It then switches to the <code>Scene</code>
+ * supplied by {@link #nextScene}.
+ * <p>
+ * The next <code>Scene</code> can get its assets from the loader
+ * without blocking, e.g. using {@link AssetLoader#getImage(String)}.
+ * To draw a custom loading screen, override {@link #drawProgress(SaltyGraphics, float)}.
+ * <p>
+ * The worker threads of the loader are {@link AssetLoader#shutdown() shut down}
+ * once loading finished or the <code>Scene</code> is left.
+ */
+public class LoadingScene extends Scene {
+
+    private final AssetLoader loader;
+    private final AssetManifest manifest;
+    private final Supplier<Scene> nextScene;
+
+    private boolean finished = false;
+
+    public LoadingScene(final AssetLoader loader, final AssetManifest manifest, final Supplier<Scene> nextScene) {
+        this.loader = loader;
+        this.manifest = manifest;
+        this.nextScene = nextScene;
+    }
+
+    @Override
+    public void initialize() {
+        loader.load(manifest);
+
+        addDrawingRoutine(new DrawingRoutine(DrawingRoutine.DrawingPosition.LAST) {
+            @Override
+            public void draw(final SaltyGraphics saltyGraphics) {
+                drawProgress(saltyGraphics, loader.getProgress());
+            }
+        });
+    }
+
+    @Override
+    public void onFixedTick() {
+        super.onFixedTick();
+
+        if (!finished && loader.isDone()) {
+            finished = true;
+            loader.shutdown();
+            SceneManager.setCurrentScene(nextScene.get());
+        }
+    }
+
+    /**
+     * Shuts the {@link #loader} down in case this <code>Scene</code>
+     * is left before all assets finished loading.
+     */
+    @Override
+    public void onLeave() {
+        loader.shutdown();
+    }
+
+    /**
+     * Draws the loading screen. By default, this draws a simple progress bar
+     * in the centre of the screen.
+     *
+     * @param saltyGraphics the graphics to draw to
+     * @param progress      the progress of the {@link #loader}, ranging from <code>0f</code> to <code>1f</code>
+     */
+    protected void drawProgress(final SaltyGraphics saltyGraphics, final float progress) {
+        final float width = Game.getGameWidth() / 2f;
+        final float height = 20f;
+        final float x = (Game.getGameWidth() - width) / 2f;
+        final float y = (Game.getGameHeight() - height) / 2f;
+
+        saltyGraphics.setColor(ColorUtil.BLACK);
+        saltyGraphics.outlineRect(x, y, width, height);
+        saltyGraphics.drawRect(x, y, width * progress, height);
+    }
+
+    public AssetLoader getLoader() {
+        return loader;
+    }
+}
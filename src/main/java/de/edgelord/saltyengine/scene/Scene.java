@@ -16,6 +16,7 @@
 
 package de.edgelord.saltyengine.scene;
 
+import de.edgelord.saltyengine.collision.ContactBuffer;
 import de.edgelord.saltyengine.collision.PrioritySceneCollider;
 import de.edgelord.saltyengine.collision.SceneCollider;
 import de.edgelord.saltyengine.components.SimplePhysicsComponent;
@@ -31,7 +32,12 @@ import de.edgelord.saltyengine.effect.light.LightSystem;
 import de.edgelord.saltyengine.gameobject.DrawingRoutine;
 import de.edgelord.saltyengine.gameobject.FixedTask;
 import de.edgelord.saltyengine.gameobject.GameObject;
+import de.edgelord.saltyengine.input.Input;
+import de.edgelord.saltyengine.transform.Vector2f;
 import de.edgelord.saltyengine.ui.UISystem;
+import de.edgelord.saltyengine.utils.Profiler;
+import de.edgelord.saltyengine.utils.SaltySystem;
+import de.edgelord.saltyengine.utils.SpatialIndex;
 
 import java.awt.geom.AffineTransform;
 import java.util.*;
@@ -91,6 +97,34 @@ public abstract class Scene implements Drawable, FixedTickRoutine, InitializeAbl
     private UISystem ui = new UISystem();
     private SceneCollider sceneCollider = new PrioritySceneCollider();
 
+    /**
+     * The pooled {@link de.edgelord.saltyengine.core.event.CollisionEvent}s of the current fixed tick,
+     * reset at the beginning of every {@link #onFixedTick()}.
+     */
+    private final ContactBuffer contactBuffer = new ContactBuffer();
+
+    /**
+     * The index used by the {@link SaltySystem#gameObjectMouseEventsAgent} to find the
+     * {@link GameObject}s under the cursor. It is only refreshed when the cursor moved, at most once per fixed tick.
+     */
+    private final SpatialIndex<GameObject> cursorIndex = new SpatialIndex<>();
+
+    /**
+     * Whether the <code>GameObject</code>s might have moved since the {@link #cursorIndex} was refreshed.
+     * This is set at the end of every fixed tick.
+     */
+    private boolean cursorIndexStale = true;
+
+    /**
+     * The <code>GameObject</code>s under the cursor, reused for every query.
+     */
+    private final List<GameObject> cursorHits = new ArrayList<>();
+
+    /**
+     * The <code>GameObject</code>s the cursor touched at the last {@link #updateCursorTouches()}.
+     */
+    private final List<GameObject> touchedGameObjects = new ArrayList<>();
+
     public Scene() {
         layers.put(DEFAULT_LAYER, new Layer(this, DEFAULT_LAYER, 0));
         updateLayerList();
@@ -103,6 +137,28 @@ public abstract class Scene implements Drawable, FixedTickRoutine, InitializeAbl
     @Override
     public abstract void initialize();
 
+    /**
+     * Called by {@link SceneManager#setCurrentScene(Scene, boolean)} when this
+     * <code>Scene</code> is replaced by another one. Override this to release
+     * resources that should not outlive the <code>Scene</code>.
+     * The default implementation does nothing.
+     */
+    public void onLeave() {
+    }
+
+    /**
+     * Removes the {@link Profiler} phases of all {@link Layer}s of this <code>Scene</code>.
+     * Called by {@link SceneManager#setCurrentScene(Scene, boolean)} when this <code>Scene</code> is replaced by another one,
+     * so that the phases of scenes that are no longer used don't pile up.
+     */
+    public void removeProfilerPhases() {
+        synchronized (concurrentBlock) {
+            for (final Layer layer : layers.values()) {
+                layer.removeCollisionPhase();
+            }
+        }
+    }
+
     /**
      * Sorts the
      */
@@ -112,26 +168,34 @@ public abstract class Scene implements Drawable, FixedTickRoutine, InitializeAbl
     @Override
     public void draw(final SaltyGraphics saltyGraphics) {
 
+        // the phases are started within the synchronized blocks, so that waiting for the fixed tick isn't measured
+        long phaseStart;
         synchronized (concurrentBlock) {
+            phaseStart = Profiler.start();
             for (final DrawingRoutine drawingRoutine : drawingRoutines) {
                 if (drawingRoutine.getDrawingPosition() == DrawingRoutine.DrawingPosition.BEFORE_GAMEOBJECTS) {
                     drawingRoutine.draw(saltyGraphics.copy());
                 }
             }
+            Profiler.accumulate(Profiler.DRAWING_ROUTINES, phaseStart);
         }
 
         synchronized (concurrentBlock) {
+            phaseStart = Profiler.start();
             for (final Layer layer : layerList) {
                 layer.draw(saltyGraphics.copy());
             }
+            Profiler.end(Profiler.LAYERS, phaseStart);
         }
 
         synchronized (concurrentBlock) {
+            phaseStart = Profiler.start();
             for (final DrawingRoutine drawingRoutine : drawingRoutines) {
                 if (drawingRoutine.getDrawingPosition() == DrawingRoutine.DrawingPosition.AFTER_GAMEOBJECTS) {
                     drawingRoutine.draw(saltyGraphics.copy());
                 }
             }
+            Profiler.accumulate(Profiler.DRAWING_ROUTINES, phaseStart);
         }
 
         Game.forEachGameListener(gameListener -> gameListener.onGameRenderFinish(saltyGraphics));
@@ -140,45 +204,139 @@ public abstract class Scene implements Drawable, FixedTickRoutine, InitializeAbl
         saltyGraphics.setTransform(new AffineTransform());
 
         if (lightSystem != null && GraphicsConfiguration.renderLight) {
+            phaseStart = Profiler.start();
             lightSystem.draw(saltyGraphics);
+            Profiler.end(Profiler.LIGHT, phaseStart);
         }
 
         Game.forEachGameListener(gameListener -> gameListener.onPostLightRenderFinish(saltyGraphics));
 
         if (ui != null) {
+            phaseStart = Profiler.start();
             ui.drawUI(saltyGraphics.copy());
+            Profiler.end(Profiler.UI_DRAW, phaseStart);
         }
 
+        phaseStart = Profiler.start();
         Game.getDefaultGFXController().doGFXDrawing(saltyGraphics);
+        Profiler.end(Profiler.GFX_DRAW, phaseStart);
 
         synchronized (concurrentBlock) {
+            phaseStart = Profiler.start();
             for (final DrawingRoutine drawingRoutine : drawingRoutines) {
                 if (drawingRoutine.getDrawingPosition() == DrawingRoutine.DrawingPosition.LAST) {
                     drawingRoutine.draw(saltyGraphics.copy());
                 }
             }
+            Profiler.accumulate(Profiler.DRAWING_ROUTINES, phaseStart);
         }
+        Profiler.commit(Profiler.DRAWING_ROUTINES);
     }
 
     @Override
     public void onFixedTick() {
 
+        final long tickStart = Profiler.start();
+
+        long phaseStart = Profiler.start();
         doFixedTasks();
+        Profiler.end(Profiler.FIXED_TASKS, phaseStart);
 
         synchronized (concurrentBlock) {
+            contactBuffer.reset();
             for (int i = 0; i < layerList.size(); i++) {
                 final Layer layer = layerList.get(i);
                 layer.onFixedTick();
             }
         }
+        Profiler.commit(Profiler.COLLISION);
+        Profiler.commit(Profiler.COMPONENTS);
 
+        cursorIndexStale = true;
+
+        phaseStart = Profiler.start();
         Game.getDefaultGFXController().doGFXFixedTick();
+        Profiler.end(Profiler.GFX_TICK, phaseStart);
 
         if (ui != null) {
+            phaseStart = Profiler.start();
             ui.onFixedTick();
+            Profiler.end(Profiler.UI_TICK, phaseStart);
+        }
+
+        if (Game.getAudioListener() != null) {
+            Game.getAudioListener().onFixedTick();
+        }
+
+        Profiler.end(Profiler.TICK, tickStart);
+    }
+
+    /**
+     * Refreshes the {@link #cursorIndex} with the current bounds of all <code>GameObject</code>s,
+     * ordered by their {@link Layer} and their index within it.
+     */
+    private void updateCursorIndex() {
+        synchronized (concurrentBlock) {
+            int order = 0;
+            cursorIndex.beginUpdate();
+            for (int i = 0; i < layerList.size(); i++) {
+                final List<GameObject> gameObjects = layerList.get(i).getGameObjects();
+                for (int i2 = 0; i2 < gameObjects.size(); i2++) {
+                    final GameObject gameObject = gameObjects.get(i2);
+                    cursorIndex.update(gameObject, order++, gameObject.getTransform());
+                }
+            }
+            cursorIndex.endUpdate();
         }
     }
 
+    /**
+     * Calls {@link GameObject#doCursorEnters()} and {@link GameObject#doCursorExits()} on the <code>GameObject</code>s
+     * the cursor entered or left. Only the <code>GameObject</code>s under the cursor and the ones under it before are touched.
+     * This is called by the stage whenever the cursor moves, if {@link SaltySystem#gameObjectMouseEventsAgent} is enabled.
+     * The {@link #cursorIndex} is refreshed first if a fixed tick happened since it was refreshed the last time.
+     * <p>
+     * The index only finds the <code>GameObject</code>s whose bounds contain the cursor, each of which is then
+     * confirmed using {@link GameObject#mouseTouches()}, so that overridden hit tests are respected.
+     */
+    public void updateCursorTouches() {
+        if (cursorIndexStale) {
+            updateCursorIndex();
+            cursorIndexStale = false;
+        }
+
+        final Vector2f cursor = Input.getCursorPosition();
+        cursorIndex.query(cursor.getX(), cursor.getY(), cursorHits);
+
+        for (int i = cursorHits.size() - 1; i >= 0; i--) {
+            if (!cursorHits.get(i).mouseTouches()) {
+                cursorHits.remove(i);
+            }
+        }
+
+        for (int i = 0; i < touchedGameObjects.size(); i++) {
+            final GameObject gameObject = touchedGameObjects.get(i);
+
+            // GameObjects removed from the scene get no more events
+            if (gameObject.isCursorAlreadyTouching() && !cursorHits.contains(gameObject) && cursorIndex.contains(gameObject)) {
+                gameObject.setCursorAlreadyTouching(false);
+                gameObject.doCursorExits();
+            }
+        }
+
+        for (int i = 0; i < cursorHits.size(); i++) {
+            final GameObject gameObject = cursorHits.get(i);
+
+            if (!gameObject.isCursorAlreadyTouching()) {
+                gameObject.doCursorEnters();
+            }
+            gameObject.setCursorAlreadyTouching(true);
+        }
+
+        touchedGameObjects.clear();
+        touchedGameObjects.addAll(cursorHits);
+    }
+
     public void addFixedTask(final FixedTask fixedTask) {
         synchronized (concurrentBlock) {
             fixedTasks.add(fixedTask);
@@ -334,18 +492,39 @@ public abstract class Scene implements Drawable, FixedTickRoutine, InitializeAbl
     }
 
     public void removeLayer(final String name) {
-        layers.remove(name);
+        final Layer layer = layers.remove(name);
         updateLayerList();
+
+        if (layer != null) {
+            synchronized (concurrentBlock) {
+                layer.removeCollisionPhase();
+            }
+        }
     }
 
     public void removeLayer(final Layer layer) {
-        layers.remove(layer.getTag(), layer);
+        if (layers.remove(layer.getTag(), layer)) {
+            updateLayerList();
+
+            synchronized (concurrentBlock) {
+                layer.removeCollisionPhase();
+            }
+        }
     }
 
     public List<Layer> getLayerList() {
         return layerList;
     }
 
+    /**
+     * Gets {@link #contactBuffer}.
+     *
+     * @return the value of {@link #contactBuffer}
+     */
+    public ContactBuffer getContactBuffer() {
+        return contactBuffer;
+    }
+
     public SceneCollider getSceneCollider() {
         return sceneCollider;
     }
@@ -20,6 +20,18 @@ import java.util.Random;
 
 public class Dimensions {
 
+    /**
+     * Shared, read-only <code>Dimensions</code> with both values being <code>0f</code>.
+     * Unlike {@link #zero()}, this doesn't allocate; trying to modify it throws an {@link UnsupportedOperationException}.
+     */
+    public static final Dimensions ZERO = new ImmutableDimensions(0f, 0f);
+
+    /**
+     * Shared, read-only <code>Dimensions</code> with both values being <code>1f</code>.
+     * Unlike {@link #one()}, this doesn't allocate; trying to modify it throws an {@link UnsupportedOperationException}.
+     */
+    public static final Dimensions ONE = new ImmutableDimensions(1f, 1f);
+
     private float width, height;
 
     public Dimensions(final float width, final float height) {
@@ -75,6 +87,30 @@ public class Dimensions {
         this.height = height;
     }
 
+    /**
+     * Sets both values of these <code>Dimensions</code> in place.
+     *
+     * @param width  the new width
+     * @param height the new height
+     * @return these <code>Dimensions</code>
+     */
+    public Dimensions set(final float width, final float height) {
+        setWidth(width);
+        setHeight(height);
+
+        return this;
+    }
+
+    /**
+     * Copies the values of the given <code>Dimensions</code> into these.
+     *
+     * @param other the <code>Dimensions</code> to copy the values from
+     * @return these <code>Dimensions</code>
+     */
+    public Dimensions set(final Dimensions other) {
+        return set(other.getWidth(), other.getHeight());
+    }
+
     public Dimensions add(final float width1, final float height1) {
         width += width1;
         height += height1;
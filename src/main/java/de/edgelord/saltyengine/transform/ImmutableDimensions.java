@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.transform;
+
+/**
+ * Read-only {@link Dimensions}, used for the shared constants like {@link Dimensions#ZERO}.
+ * Every method that would modify them throws an {@link UnsupportedOperationException}.
+ */
+final class ImmutableDimensions extends Dimensions {
+
+    ImmutableDimensions(final float width, final float height) {
+        super(width, height);
+    }
+
+    @Override
+    public void setWidth(final float width) {
+        throw new UnsupportedOperationException("These Dimensions are read-only, use a copy instead");
+    }
+
+    @Override
+    public void setHeight(final float height) {
+        throw new UnsupportedOperationException("These Dimensions are read-only, use a copy instead");
+    }
+
+    @Override
+    public Dimensions add(final float width1, final float height1) {
+        throw new UnsupportedOperationException("These Dimensions are read-only, use a copy instead");
+    }
+
+    @Override
+    public Dimensions multiply(final float width1, final float height1) {
+        throw new UnsupportedOperationException("These Dimensions are read-only, use a copy instead");
+    }
+
+    @Override
+    public Dimensions divide(final float width1, final float height1) {
+        throw new UnsupportedOperationException("These Dimensions are read-only, use a copy instead");
+    }
+
+    @Override
+    public Dimensions subtract(final float width1, final float height1) {
+        throw new UnsupportedOperationException("These Dimensions are read-only, use a copy instead");
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.transform;
+
+/**
+ * A read-only {@link Vector2f}, used for the shared constants like {@link Vector2f#ZERO}.
+ * Every method that would modify it throws an {@link UnsupportedOperationException}.
+ */
+final class ImmutableVector2f extends Vector2f {
+
+    ImmutableVector2f(final float x, final float y) {
+        super(x, y);
+    }
+
+    @Override
+    public void setX(final float x) {
+        throw new UnsupportedOperationException("This Vector2f is read-only, use a copy instead");
+    }
+
+    @Override
+    public void setY(final float y) {
+        throw new UnsupportedOperationException("This Vector2f is read-only, use a copy instead");
+    }
+
+    @Override
+    public Vector2f add(final float x1, final float y1) {
+        throw new UnsupportedOperationException("This Vector2f is read-only, use a copy instead");
+    }
+
+    @Override
+    public Vector2f multiply(final float x1, final float y1) {
+        throw new UnsupportedOperationException("This Vector2f is read-only, use a copy instead");
+    }
+
+    @Override
+    public Vector2f divide(final float x1, final float y1) {
+        throw new UnsupportedOperationException("This Vector2f is read-only, use a copy instead");
+    }
+
+    @Override
+    public Vector2f subtract(final float x1, final float y1) {
+        throw new UnsupportedOperationException("This Vector2f is read-only, use a copy instead");
+    }
+}
@@ -98,6 +98,10 @@ public class Rotation {
         return new Vector2f(centre.getX() + parent.getX(), centre.getY() + parent.getY());
     }
 
+    public Vector2f getCentreAbsolute(final Transform parent, final Vector2f out) {
+        return out.set(centre.getX() + parent.getX(), centre.getY() + parent.getY());
+    }
+
     public Vector2f getCentre() {
         return centre;
     }
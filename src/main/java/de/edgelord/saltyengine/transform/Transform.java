@@ -19,10 +19,15 @@ package de.edgelord.saltyengine.transform;
 import de.edgelord.saltyengine.core.Game;
 import de.edgelord.saltyengine.utils.Directions;
 
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 
 /**
  * This class resembles a rectangle with a {@link #position}, {@link #dimensions} and a {@link #rotation}.
+ * <p>
+ * The {@link #getWorldTransform() world transform} used to draw a rotated <code>Transform</code> is cached
+ * and only recomputed when its position or rotation changed. It is only allocated once it is requested,
+ * so short-lived <code>Transform</code>s don't pay for it.
  */
 public class Transform {
 
@@ -41,6 +46,17 @@ public class Transform {
      */
     private Rotation rotation;
 
+    /**
+     * The cached world-space transform, see {@link #getWorldTransform()}.
+     * It is <code>null</code> until it is requested for the first time.
+     */
+    private AffineTransform worldTransform = null;
+
+    /**
+     * The values the {@link #worldTransform} was computed from.
+     */
+    private float worldX, worldY, worldDegrees, worldCentreX, worldCentreY;
+
     /**
      * The base constructor.
      *
@@ -140,11 +156,25 @@ public class Transform {
      * @see Rectangle2D#intersects(Rectangle2D)
      */
     public boolean intersects(final Transform other) {
+        return intersects(other.getX(), other.getY(), other.getWidth(), other.getHeight());
+    }
 
-        final int xOther = Math.round(other.getX());
-        final int yOther = Math.round(other.getY());
-        final int widthOther = Math.round(other.getWidth());
-        final int heightOther = Math.round(other.getHeight());
+    /**
+     * Returns whether the rectangle described by this <code>Transform</code> intersects the given one.
+     * This is the allocation-free variant of {@link #intersects(Transform)}.
+     *
+     * @param otherX      the x position of the other rectangle
+     * @param otherY      the y position of the other rectangle
+     * @param otherWidth  the width of the other rectangle
+     * @param otherHeight the height of the other rectangle
+     * @return whether this Transform intersects the given rectangle
+     */
+    public boolean intersects(final float otherX, final float otherY, final float otherWidth, final float otherHeight) {
+
+        final int xOther = Math.round(otherX);
+        final int yOther = Math.round(otherY);
+        final int widthOther = Math.round(otherWidth);
+        final int heightOther = Math.round(otherHeight);
 
         final int x = Math.round(getX());
         final int y = Math.round(getY());
@@ -167,7 +197,8 @@ public class Transform {
      * @return whether the rectangle described by this transform is inside the view of the {@link Game#getCamera() camera} or not
      */
     public boolean isVisible() {
-        return intersects(new Transform(Game.getCamera().getPosition(), Game.getGameDimensions()));
+        final Vector2f cameraPosition = Game.getCamera().getPosition();
+        return intersects(cameraPosition.getX(), cameraPosition.getY(), Game.getGameWidth(), Game.getGameHeight());
     }
 
     /**
@@ -275,6 +306,46 @@ public class Transform {
         position = new Vector2f(centre.getX() - centreShiftX, centre.getY() - centreShiftY);
     }
 
+    /**
+     * Positions this <code>Transform</code> centre at the given point by changing the current {@link #position}
+     * in place, instead of replacing it like {@link #positionByCentre(Vector2f)} does.
+     *
+     * @param centreX the x position of the next centre
+     * @param centreY the y position of the next centre
+     */
+    public void positionByCentre(final float centreX, final float centreY) {
+        position.set(centreX - getWidth() / 2f, centreY - getHeight() / 2f);
+    }
+
+    /**
+     * Writes the centre of the rectangle described by this <code>Transform</code> into the given vector.
+     * This is the allocation-free variant of {@link #getCentre()}.
+     *
+     * @param out the vector to write the centre to
+     * @return the given vector
+     */
+    public Vector2f getCentre(final Vector2f out) {
+        return out.set(getCentreX(), getCentreY());
+    }
+
+    /**
+     * Returns the x position of the centre of this <code>Transform</code>.
+     *
+     * @return <code>getX() + getWidth() / 2f</code>
+     */
+    public float getCentreX() {
+        return getX() + getWidth() / 2f;
+    }
+
+    /**
+     * Returns the y position of the centre of this <code>Transform</code>.
+     *
+     * @return <code>getY() + getHeight() / 2f</code>
+     */
+    public float getCentreY() {
+        return getY() + getHeight() / 2f;
+    }
+
     /**
      * Returns the centre of the rectangle described by this <code>Transform</code>.
      * <p>
@@ -454,6 +525,17 @@ public class Transform {
         return rotation.getCentreAbsolute(this);
     }
 
+    /**
+     * Writes the absolute rotation centre into the given vector.
+     * This is the allocation-free variant of {@link #getRotationCentreAbsolute()}.
+     *
+     * @param out the vector to write the absolute rotation centre to
+     * @return the given vector
+     */
+    public Vector2f getRotationCentreAbsolute(final Vector2f out) {
+        return rotation.getCentreAbsolute(this, out);
+    }
+
     /**
      * Returns the degrees by which this <code>Transform</code> is rotated.
      *
@@ -504,6 +586,42 @@ public class Transform {
         rotation.setCentre(new Vector2f(getWidth() / 2f, getHeight() / 2f));
     }
 
+    /**
+     * Returns the world-space transform of this <code>Transform</code>, that is its {@link #rotation} around the
+     * {@link #getRotationCentreAbsolute() absolute rotation centre}. The position is already in world coordinates,
+     * so the returned transform only contains the rotation and the translation of its centre.
+     * <p>
+     * The returned instance is cached and reused, it must not be modified.
+     *
+     * @return the cached world-space transform
+     */
+    public AffineTransform getWorldTransform() {
+        final float x = getX();
+        final float y = getY();
+        final float degrees = rotation.getRotationDegrees();
+        final float centreX = rotation.getCentre().getX();
+        final float centreY = rotation.getCentre().getY();
+
+        if (worldTransform == null) {
+            worldTransform = new AffineTransform();
+        } else if (x == worldX && y == worldY && degrees == worldDegrees && centreX == worldCentreX && centreY == worldCentreY) {
+            return worldTransform;
+        }
+
+        worldTransform.setToIdentity();
+        if (degrees != 0f) {
+            worldTransform.rotate(Math.toRadians(degrees), x + centreX, y + centreY);
+        }
+
+        worldX = x;
+        worldY = y;
+        worldDegrees = degrees;
+        worldCentreX = centreX;
+        worldCentreY = centreY;
+
+        return worldTransform;
+    }
+
     /**
      * Gets {@link #position}.
      *
@@ -558,6 +676,22 @@ public class Transform {
         this.rotation = rotation;
     }
 
+    /**
+     * Copies the position, dimensions and rotation of the given <code>Transform</code> into this one,
+     * without replacing any of the vectors of this <code>Transform</code>.
+     *
+     * @param other the <code>Transform</code> to copy the values from
+     * @return this <code>Transform</code>
+     */
+    public Transform set(final Transform other) {
+        position.set(other.getPosition());
+        dimensions.set(other.getDimensions());
+        rotation.getCentre().set(other.getRotationCentre());
+        rotation.setRotationDegrees(other.getRotationDegrees());
+
+        return this;
+    }
+
     @Override
     public String toString() {
         return "Transform{" +
@@ -20,6 +20,18 @@ import java.util.Random;
 
 public class Vector2f {
 
+    /**
+     * A shared, read-only <code>Vector2f</code> with both values being <code>0f</code>.
+     * Unlike {@link #zero()}, this doesn't allocate; trying to modify it throws an {@link UnsupportedOperationException}.
+     */
+    public static final Vector2f ZERO = new ImmutableVector2f(0f, 0f);
+
+    /**
+     * A shared, read-only <code>Vector2f</code> with both values being <code>1f</code>.
+     * Unlike {@link #one()}, this doesn't allocate; trying to modify it throws an {@link UnsupportedOperationException}.
+     */
+    public static final Vector2f ONE = new ImmutableVector2f(1f, 1f);
+
     private float x;
     private float y;
 
@@ -66,6 +78,58 @@ public class Vector2f {
         return (float) Math.hypot(ac, cb);
     }
 
+    /**
+     * Returns the distance between this vector and the given point.
+     *
+     * @param x the x position of the point
+     * @param y the y position of the point
+     * @return the distance to the given point
+     */
+    public float distance(final float x, final float y) {
+        return distance(this.x, this.y, x, y);
+    }
+
+    /**
+     * Returns the squared distance between this vector and the given point.
+     * This is cheaper than {@link #distance(float, float)} and enough to compare distances.
+     *
+     * @param x the x position of the point
+     * @param y the y position of the point
+     * @return the squared distance to the given point
+     */
+    public float distanceSquared(final float x, final float y) {
+        return distanceSquared(this.x, this.y, x, y);
+    }
+
+    /**
+     * Returns the distance between the two given points without allocating any vector.
+     *
+     * @param x1 the x position of the first point
+     * @param y1 the y position of the first point
+     * @param x2 the x position of the second point
+     * @param y2 the y position of the second point
+     * @return the distance between the two points
+     */
+    public static float distance(final float x1, final float y1, final float x2, final float y2) {
+        return (float) Math.sqrt(distanceSquared(x1, y1, x2, y2));
+    }
+
+    /**
+     * Returns the squared distance between the two given points without allocating any vector.
+     *
+     * @param x1 the x position of the first point
+     * @param y1 the y position of the first point
+     * @param x2 the x position of the second point
+     * @param y2 the y position of the second point
+     * @return the squared distance between the two points
+     */
+    public static float distanceSquared(final float x1, final float y1, final float x2, final float y2) {
+        final float dx = x2 - x1;
+        final float dy = y2 - y1;
+
+        return dx * dx + dy * dy;
+    }
+
     public float getX() {
         return x;
     }
@@ -82,6 +146,30 @@ public class Vector2f {
         this.y = y;
     }
 
+    /**
+     * Sets both values of this vector in place.
+     *
+     * @param x the new x value
+     * @param y the new y value
+     * @return this vector
+     */
+    public Vector2f set(final float x, final float y) {
+        setX(x);
+        setY(y);
+
+        return this;
+    }
+
+    /**
+     * Copies the values of the given vector into this one.
+     *
+     * @param other the vector to copy the values from
+     * @return this vector
+     */
+    public Vector2f set(final Vector2f other) {
+        return set(other.getX(), other.getY());
+    }
+
     public Vector2f add(final float x1, final float y1) {
         x += x1;
         y += y1;
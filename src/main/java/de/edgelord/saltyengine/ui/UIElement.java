@@ -22,6 +22,10 @@ import de.edgelord.saltyengine.core.graphics.SaltyGraphics;
 import de.edgelord.saltyengine.core.interfaces.Drawable;
 import de.edgelord.saltyengine.core.interfaces.FixedTickRoutine;
 import de.edgelord.saltyengine.core.stereotypes.ComponentContainer;
+import de.edgelord.saltyengine.core.stereotypes.ComponentIndex;
+import de.edgelord.saltyengine.core.stereotypes.ComponentStore;
+import de.edgelord.saltyengine.effect.image.SaltyBufferedImage;
+import de.edgelord.saltyengine.effect.image.SaltyImage;
 import de.edgelord.saltyengine.input.KeyboardInputHandler;
 import de.edgelord.saltyengine.input.MouseInputHandler;
 import de.edgelord.saltyengine.transform.Coordinates;
@@ -34,7 +38,6 @@ import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 @DefaultPlacement(method = DefaultPlacement.Method.TOP_LEFT_CORNER)
 public abstract class UIElement extends ComponentContainer implements Drawable, FixedTickRoutine, MouseInputHandler, KeyboardInputHandler {
@@ -46,7 +49,8 @@ public abstract class UIElement extends ComponentContainer implements Drawable,
     public static final String STATE_DISPLAY_ELEMENT = "de.edgelord.saltyengine.uiElements.stateDisplayElement";
     public static final String SETTINGS_ELEMENT = "de.edgelord.saltyengine.uiElements.settingsElement";
     public static final String SWING_ELEMENT = "de.edgelord.saltyengine.uiElements.swingElement";
-    private final List<Component> components = new CopyOnWriteArrayList<>();
+    private final ComponentStore components = new ComponentStore();
+    private final ComponentIndex componentIndex = new ComponentIndex(components);
     private Font font = SaltySystem.defaultFont;
     private Color backgroundColor = Color.DARK_GRAY;
     private Color foregroundColor = Color.WHITE;
@@ -54,6 +58,44 @@ public abstract class UIElement extends ComponentContainer implements Drawable,
     private boolean suppressClipping = false;
     private boolean focused = false;
 
+    /**
+     * If this is <code>true</code>, the appearance of this element is cached in an offscreen {@link #surface}
+     * that is only redrawn when the appearance changed.
+     *
+     * @see #setRetained(boolean)
+     */
+    private boolean retained = false;
+
+    /**
+     * The number of pixels the {@link #surface} exceeds the bounds of this element on every side,
+     * so that e.g. anti-aliased outlines aren't cut off.
+     */
+    private int retainedPadding = 2;
+
+    /**
+     * The cached appearance of this element if it is {@link #retained}.
+     */
+    private SaltyImage surface = null;
+
+    /**
+     * Stores whether {@link #invalidate()} was called since the last time the appearance was drawn.
+     */
+    private volatile boolean invalidated = true;
+
+    /*
+    The state this element was drawn with the last time
+     */
+    private float drawnWidth;
+    private float drawnHeight;
+    private float drawnFractionX;
+    private float drawnFractionY;
+    private boolean drawnMouseHoversOver;
+    private boolean drawnFocused;
+    private Font drawnFont;
+    private Color drawnBackgroundColor;
+    private Color drawnForegroundColor;
+    private int drawnComponentCount;
+
     public UIElement(final Vector2f position, final float width, final float height, final String tag) {
         super(tag);
 
@@ -82,6 +124,115 @@ public abstract class UIElement extends ComponentContainer implements Drawable,
         drawForeground(saltyGraphics);
     }
 
+    /**
+     * Draws this element and its components to the given graphics,
+     * either directly or, if this element is {@link #isRetained() retained}, from its cached surface.
+     * This is called by the {@link UISystem}.
+     *
+     * @param saltyGraphics the graphics to draw to
+     */
+    public void drawWithComponents(final SaltyGraphics saltyGraphics) {
+
+        if (!retained) {
+            draw(saltyGraphics.copy());
+            doComponentDrawing(saltyGraphics);
+            return;
+        }
+
+        final int originX = (int) Math.floor(getX()) - retainedPadding;
+        final int originY = (int) Math.floor(getY()) - retainedPadding;
+
+        if (surface == null || isAppearanceChanged()) {
+            drawSurface(originX, originY);
+        }
+
+        saltyGraphics.getGraphics2D().drawImage(surface.getImage(), originX, originY, null);
+    }
+
+    /**
+     * Redraws the cached {@link #surface} of this element.
+     * A move by whole pixels doesn't need a redraw, the surface is just drawn at another position.
+     *
+     * @param originX the x position of the surface
+     * @param originY the y position of the surface
+     */
+    private void drawSurface(final int originX, final int originY) {
+        final int width = Math.max((int) Math.ceil(getX() + getWidth()) + retainedPadding - originX, 1);
+        final int height = Math.max((int) Math.ceil(getY() + getHeight()) + retainedPadding - originY, 1);
+
+        if (surface == null || surface.getWidth() != width || surface.getHeight() != height) {
+            if (surface != null) {
+                surface.flush();
+            }
+            surface = new SaltyBufferedImage(width, height);
+        } else {
+            surface.erase();
+        }
+
+        // mark as drawn first, so that changes made while drawing cause another redraw
+        markAppearanceDrawn();
+
+        final Graphics2D graphics2D = surface.createGraphics();
+        graphics2D.translate(-originX, -originY);
+        final SaltyGraphics graphics = new SaltyGraphics(graphics2D);
+
+        draw(graphics.copy());
+        doComponentDrawing(graphics);
+        graphics2D.dispose();
+    }
+
+    /**
+     * Marks the appearance of this element as changed, so that its cached surface is redrawn
+     * the next time it is drawn.
+     * <p>
+     * Changes of the size, the font, the colors, the hover and focus state and the number of components are detected automatically.
+     * Subclasses call this whenever other state they draw changes, e.g. a text or a value.
+     */
+    public void invalidate() {
+        invalidated = true;
+    }
+
+    /**
+     * Returns whether the appearance of this element changed since it was drawn the last time.
+     *
+     * @return whether the appearance of this element changed
+     * @see #invalidate()
+     */
+    public boolean isAppearanceChanged() {
+        return invalidated
+                || drawnWidth != getWidth()
+                || drawnHeight != getHeight()
+                || drawnFractionX != fraction(getX())
+                || drawnFractionY != fraction(getY())
+                || drawnMouseHoversOver != mouseHoversOver
+                || drawnFocused != focused
+                || drawnFont != font
+                || drawnBackgroundColor != backgroundColor
+                || drawnForegroundColor != foregroundColor
+                || drawnComponentCount != components.size();
+    }
+
+    /**
+     * Stores the current state of this element as the one it was drawn with.
+     */
+    public void markAppearanceDrawn() {
+        invalidated = false;
+        drawnWidth = getWidth();
+        drawnHeight = getHeight();
+        drawnFractionX = fraction(getX());
+        drawnFractionY = fraction(getY());
+        drawnMouseHoversOver = mouseHoversOver;
+        drawnFocused = focused;
+        drawnFont = font;
+        drawnBackgroundColor = backgroundColor;
+        drawnForegroundColor = foregroundColor;
+        drawnComponentCount = components.size();
+    }
+
+    private static float fraction(final float value) {
+        return value - (float) Math.floor(value);
+    }
+
     /**
      * Draws the background of the ui element.
      *
@@ -151,17 +302,17 @@ public abstract class UIElement extends ComponentContainer implements Drawable,
 
     @Override
     public void addComponent(final Component component) {
-        components.add(component);
+        componentIndex.add(component);
     }
 
     @Override
     public void removeComponent(final String identifier) {
-        components.removeIf(component -> component.getName().equals(identifier));
+        componentIndex.remove(identifier);
     }
 
     @Override
     public void removeComponent(final Component component) {
-        components.remove(component);
+        componentIndex.remove(component);
     }
 
     @Override
@@ -171,14 +322,12 @@ public abstract class UIElement extends ComponentContainer implements Drawable,
 
     @Override
     public Component getComponent(final String identifier) {
+        return componentIndex.get(identifier);
+    }
 
-        for (final Component component : components) {
-            if (component.getName().equals(identifier)) {
-                return component;
-            }
-        }
-
-        return null;
+    @Override
+    public <C extends Component> C getComponent(final Class<C> type) {
+        return componentIndex.get(type);
     }
 
     private void prepareGraphics(final SaltyGraphics graphics) {
@@ -201,6 +350,53 @@ public abstract class UIElement extends ComponentContainer implements Drawable,
         this.font = font;
     }
 
+    /**
+     * Gets {@link #retained}.
+     *
+     * @return the value of {@link #retained}
+     */
+    public boolean isRetained() {
+        return retained;
+    }
+
+    /**
+     * Sets {@link #retained}.
+     * A retained element is drawn once into an offscreen image, which is then drawn every frame until
+     * the appearance of the element changes. This makes static elements like labels and panels nearly free to draw,
+     * but everything the element draws has to stay within its bounds plus the {@link #retainedPadding}
+     * and every change that isn't detected automatically has to be reported using {@link #invalidate()}.
+     *
+     * @param retained the new value of {@link #retained}
+     */
+    public void setRetained(final boolean retained) {
+        this.retained = retained;
+        invalidate();
+
+        if (!retained && surface != null) {
+            surface.flush();
+            surface = null;
+        }
+    }
+
+    /**
+     * Gets {@link #retainedPadding}.
+     *
+     * @return the value of {@link #retainedPadding}
+     */
+    public int getRetainedPadding() {
+        return retainedPadding;
+    }
+
+    /**
+     * Sets {@link #retainedPadding}.
+     *
+     * @param retainedPadding the new value of {@link #retainedPadding}
+     */
+    public void setRetainedPadding(final int retainedPadding) {
+        this.retainedPadding = retainedPadding;
+        invalidate();
+    }
+
     public Coordinates getCoordinates() {
         return getPosition().convertToCoordinates();
     }
@@ -19,9 +19,12 @@ package de.edgelord.saltyengine.ui;
 import de.edgelord.saltyengine.core.graphics.SaltyGraphics;
 import de.edgelord.saltyengine.input.Input;
 import de.edgelord.saltyengine.transform.Transform;
+import de.edgelord.saltyengine.transform.Vector2f;
+import de.edgelord.saltyengine.utils.SpatialIndex;
 
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -30,44 +33,134 @@ public class UISystem {
     private final List<UIElement> elements = new CopyOnWriteArrayList<>();
     private UIElement currentlyFocused = null;
 
+    /**
+     * The index used to find the elements under the cursor, ordered by their index in {@link #elements}.
+     * It is only refreshed when it is queried, see {@link #queryHits(float, float)}.
+     */
+    private final SpatialIndex<UIElement> hitIndex = new SpatialIndex<>();
+
+    /**
+     * The elements under the cursor at the last query, reused for every query.
+     */
+    private final List<UIElement> hits = new ArrayList<>();
+
+    /**
+     * The elements the cursor hovered over in the last tick.
+     */
+    private final List<UIElement> hoveredElements = new ArrayList<>();
+
+    /**
+     * Whether the elements might have moved since the {@link #hitIndex} was refreshed.
+     * This is set at the end of every tick and whenever an element is added or removed.
+     */
+    private boolean hitIndexStale = true;
+
+    /**
+     * The cursor position of the last query.
+     */
+    private float queryX = Float.NaN;
+    private float queryY = Float.NaN;
+
     public void drawUI(final SaltyGraphics saltyGraphics) {
         for (final UIElement element : elements) {
-            element.draw(saltyGraphics.copy());
-            element.doComponentDrawing(saltyGraphics);
+            element.drawWithComponents(saltyGraphics);
         }
     }
 
+    /**
+     * Updates which elements the cursor hovers over and ticks all elements.
+     * <p>
+     * The {@link #hitIndex} is refreshed once per tick, which only compares the cached bounds of the elements.
+     * The elements under the cursor are only searched again when the cursor moved or the refresh found elements
+     * that were added, removed or moved, e.g. under a resting cursor.
+     */
     public void onFixedTick() {
         final Transform cursor = Input.getAbsoluteCursor();
-        for (final UIElement element : elements) {
 
-            if (element.getTransform().contains(cursor)) {
+        if (refreshHitIndex() || cursor.getX() != queryX || cursor.getY() != queryY) {
+            queryHits(cursor.getX(), cursor.getY());
+        }
 
-                if (!element.mouseHoversOver()) {
-                    element.mouseEntered(cursor);
-                    element.doComponentCursorEntersParent();
-                }
+        for (int i = 0; i < hoveredElements.size(); i++) {
+            final UIElement element = hoveredElements.get(i);
 
-                element.mouseHover(cursor);
-                element.setMouseHoversOver(true);
-            } else if (element.mouseHoversOver()) {
+            // elements removed from the system get no more events
+            if (element.mouseHoversOver() && !hits.contains(element) && hitIndex.contains(element)) {
                 element.setMouseHoversOver(false);
                 element.mouseExited(cursor);
                 element.doComponentCursorExitsParent();
             }
+        }
+
+        for (int i = 0; i < hits.size(); i++) {
+            final UIElement element = hits.get(i);
+
+            if (!element.mouseHoversOver()) {
+                element.mouseEntered(cursor);
+                element.doComponentCursorEntersParent();
+            }
 
+            element.mouseHover(cursor);
+            element.setMouseHoversOver(true);
+        }
+
+        hoveredElements.clear();
+        hoveredElements.addAll(hits);
+
+        for (final UIElement element : elements) {
             element.onFixedTick();
             element.doComponentOnFixedTick();
         }
+
+        hitIndexStale = true;
+    }
+
+    /**
+     * Fills {@link #hits} with the elements at the given position, refreshing the {@link #hitIndex} first
+     * if the elements might have moved since it was refreshed the last time.
+     *
+     * @param x the x position of the cursor
+     * @param y the y position of the cursor
+     */
+    private void queryHits(final float x, final float y) {
+        refreshHitIndex();
+
+        hitIndex.query(x, y, hits);
+        queryX = x;
+        queryY = y;
+    }
+
+    /**
+     * Refreshes the bounds of all elements within the {@link #hitIndex} and adds and removes
+     * the elements that were added to or removed from {@link #elements}, if the elements might have changed
+     * since the last refresh, which happens at most once per tick.
+     * This only compares the cached bounds, so it's cheap compared to testing every element against the cursor.
+     *
+     * @return <code>true</code> if an element was added, removed or moved since the last refresh
+     */
+    private boolean refreshHitIndex() {
+        if (!hitIndexStale) {
+            return false;
+        }
+
+        hitIndex.beginUpdate();
+        for (int i = 0; i < elements.size(); i++) {
+            hitIndex.update(elements.get(i), i, elements.get(i).getTransform());
+        }
+        hitIndexStale = false;
+
+        return hitIndex.endUpdate();
     }
 
     public void addElement(final UIElement element) {
         this.elements.add(element);
+        hitIndexStale = true;
     }
 
     public void removeElement(final UIElement element) {
 
         elements.remove(element);
+        hitIndexStale = true;
     }
 
     public void keyPressed(final KeyEvent e) {
@@ -104,12 +197,16 @@ public class UISystem {
             currentlyFocused.setFocused(false);
         }
 
-        for (final UIElement element : elements) {
+        final Vector2f cursor = Input.getAbsoluteCursorPosition();
+        queryHits(cursor.getX(), cursor.getY());
 
-            if (element.getTransform().contains(Input.getAbsoluteCursor())) {
-                element.setFocused(true);
-                currentlyFocused = element;
-            }
+        for (int i = 0; i < hits.size(); i++) {
+            final UIElement element = hits.get(i);
+            element.setFocused(true);
+            currentlyFocused = element;
+        }
+
+        for (final UIElement element : elements) {
             element.mousePressed(e);
         }
     }
@@ -75,9 +75,9 @@ public abstract class Button extends UIElement {
 
         if (enabled) {
             if (mouseHoversOver()) {
-                currentBackgroundColor = hoverColor;
+                setCurrentBackgroundColor(hoverColor);
             } else {
-                currentBackgroundColor = getBackgroundColor();
+                setCurrentBackgroundColor(getBackgroundColor());
             }
         }
     }
@@ -86,7 +86,7 @@ public abstract class Button extends UIElement {
     public void mousePressed(final MouseEvent e) {
 
         if (mouseHoversOver() && enabled) {
-            currentBackgroundColor = clickColor;
+            setCurrentBackgroundColor(clickColor);
         }
     }
 
@@ -94,7 +94,7 @@ public abstract class Button extends UIElement {
     public void mouseReleased(final MouseEvent e) {
 
         if (enabled) {
-            currentBackgroundColor = getBackgroundColor();
+            setCurrentBackgroundColor(getBackgroundColor());
 
             if (mouseHoversOver()) {
                 onClick(e);
@@ -108,6 +108,7 @@ public abstract class Button extends UIElement {
 
     public void setText(final String text) {
         this.text = text;
+        invalidate();
     }
 
     @Override
@@ -125,6 +126,7 @@ public abstract class Button extends UIElement {
 
     public void setArc(final int arc) {
         this.arc = arc;
+        invalidate();
     }
 
     public boolean isEnabled() {
@@ -140,12 +142,19 @@ public abstract class Button extends UIElement {
     }
 
     public void disable() {
-        currentBackgroundColor = disabledColor;
+        setCurrentBackgroundColor(disabledColor);
         enabled = false;
     }
 
     public void enable() {
-        currentBackgroundColor = getBackgroundColor();
+        setCurrentBackgroundColor(getBackgroundColor());
         enabled = true;
     }
+
+    private void setCurrentBackgroundColor(final Color color) {
+        if (currentBackgroundColor != color) {
+            currentBackgroundColor = color;
+            invalidate();
+        }
+    }
 }
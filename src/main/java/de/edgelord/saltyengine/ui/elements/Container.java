@@ -29,6 +29,11 @@ public abstract class Container extends UIElement {
 
     private List<UIElement> childElements = new CopyOnWriteArrayList<>();
 
+    /**
+     * The number of child elements when this container was drawn the last time.
+     */
+    private int drawnChildCount = 0;
+
     public Container(final Vector2f position, final float width, final float height) {
         super(position, width, height, UIElement.CONTAINER);
     }
@@ -56,6 +61,41 @@ public abstract class Container extends UIElement {
         }
     }
 
+    /**
+     * Returns whether the appearance of this container or of any of its child elements changed,
+     * as a container that draws its children has to be redrawn whenever they change.
+     *
+     * @return whether the appearance of this container or of its children changed
+     */
+    @Override
+    public boolean isAppearanceChanged() {
+
+        if (super.isAppearanceChanged() || drawnChildCount != childElements.size()) {
+            return true;
+        }
+
+        for (final UIElement element : childElements) {
+            if (element.isAppearanceChanged()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public void markAppearanceDrawn() {
+        super.markAppearanceDrawn();
+        drawnChildCount = childElements.size();
+
+        // retained children keep their own surface up to date
+        for (final UIElement element : childElements) {
+            if (!element.isRetained()) {
+                element.markAppearanceDrawn();
+            }
+        }
+    }
+
     public List<UIElement> getChildElements() {
         return childElements;
     }
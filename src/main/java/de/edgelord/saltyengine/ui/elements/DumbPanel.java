@@ -134,5 +134,6 @@ public class DumbPanel extends Container {
 
     public void setArc(final float arc) {
         this.arc = arc;
+        invalidate();
     }
 }
@@ -103,6 +103,7 @@ public class ProgressBar extends UIElement {
     public void recalculateBar() {
         currentBar.setHeight(getHeight());
         currentBar.setWidth(getWidth() / (maxValue / currentValue));
+        invalidate();
     }
 
     /**
@@ -159,6 +160,7 @@ public class ProgressBar extends UIElement {
      */
     public void setCornerArc(final float cornerArc) {
         this.cornerArc = cornerArc;
+        invalidate();
     }
 
     /**
@@ -177,5 +179,6 @@ public class ProgressBar extends UIElement {
      */
     public void setOutlineStroke(final Stroke outlineStroke) {
         this.outlineStroke = outlineStroke;
+        invalidate();
     }
 }
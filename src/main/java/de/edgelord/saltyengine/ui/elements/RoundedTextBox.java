@@ -45,5 +45,6 @@ public class RoundedTextBox extends TextBox {
 
     public void setArc(final float arc) {
         this.arc = arc;
+        invalidate();
     }
 }
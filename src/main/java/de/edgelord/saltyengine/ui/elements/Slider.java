@@ -94,6 +94,7 @@ public class Slider extends UIElement {
 
             if (cursorX <= getTransform().getMaxX() && cursorX >= getX()) {
                 indicatorPositionX = cursorX - getX();
+                invalidate();
                 stateChanged();
             }
         }
@@ -105,5 +106,6 @@ public class Slider extends UIElement {
 
     private void createIndicator(final Color color) {
         indicatorImage = ImageUtils.createShapeImage(indicatorShape, color, GraphicsConfiguration.renderingHints);
+        invalidate();
     }
 }
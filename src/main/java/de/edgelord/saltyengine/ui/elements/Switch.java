@@ -180,5 +180,6 @@ public class Switch extends UIElement {
             setBackgroundColor(deactivatedColor);
             indicatorPosition = new Vector2f(getX(), getY());
         }
+        invalidate();
     }
 }
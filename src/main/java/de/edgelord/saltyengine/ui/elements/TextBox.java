@@ -32,6 +32,12 @@ public abstract class TextBox extends TextElement {
     private float cursor = 1f;
     private float speed = 0.075f;
 
+    /**
+     * The text and the number of its characters the {@link #textRenderComponent} was set to the last time.
+     */
+    private String shownText = null;
+    private int shownLength = -1;
+
     public TextBox(final String text, final Vector2f position, final float width, final float height, final float offsetX, final float offsetY) {
         this(text, new Transform(position, new Dimensions(width, height)), offsetX, offsetY);
     }
@@ -46,7 +52,13 @@ public abstract class TextBox extends TextElement {
     @Override
     public void onFixedTick() {
         if (cursor < getText().length()) {
-            textRenderComponent.setText(getText().substring(0, Math.round(cursor)));
+            final int length = Math.round(cursor);
+            if (length != shownLength || getText() != shownText) {
+                shownText = getText();
+                shownLength = length;
+                textRenderComponent.setText(shownText.substring(0, length));
+                invalidate();
+            }
         }
         cursor += speed;
     }
@@ -43,5 +43,6 @@ public abstract class TextElement extends UIElement {
 
     public void setText(final String text) {
         this.text = text;
+        invalidate();
     }
 }
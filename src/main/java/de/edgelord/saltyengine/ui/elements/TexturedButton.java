@@ -55,6 +55,7 @@ public abstract class TexturedButton extends Button {
 
     public void setDrawText(final boolean drawText) {
         this.drawText = drawText;
+        invalidate();
     }
 
     public SaltyImage getTexture() {
@@ -63,5 +64,6 @@ public abstract class TexturedButton extends Button {
 
     public void setTexture(final SaltyImage texture) {
         this.texture = texture;
+        invalidate();
     }
 }
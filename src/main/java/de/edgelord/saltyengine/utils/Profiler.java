@@ -0,0 +1,453 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.utils;
+
+import de.edgelord.saltyengine.core.graphics.SaltyGraphics;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * An engine-wide profiler that measures how long the phases of a fixed tick and of a frame take, using
+ * {@link System#nanoTime()}. For every {@link Phase}, the last {@link #WINDOW_SIZE} samples are kept,
+ * from which {@link Phase#getPercentile(double) percentiles}, the {@link Phase#getAverage() average} and the
+ * {@link Phase#getMax() maximum} are computed.
+ * <p>
+ * The engine measures the following phases:
+ * <ul>
+ *     <li>of {@link de.edgelord.saltyengine.scene.Scene#onFixedTick()}: {@link #FIXED_TASKS}, {@link #COLLISION}
+ *     (and one phase per layer, named <code>"tick/collision/" + layerTag</code>, which is removed again with the
+ *     layer or when its scene is left), {@link #COMPONENTS} (the fixed ticks of the <code>GameObject</code>s and their components), {@link #GFX_TICK},
+ *     {@link #UI_TICK} and the whole {@link #TICK}</li>
+ *     <li>of {@link de.edgelord.saltyengine.scene.Scene#draw(SaltyGraphics)}: {@link #DRAWING_ROUTINES}, {@link #LAYERS},
+ *     {@link #LIGHT}, {@link #UI_DRAW} and {@link #GFX_DRAW}</li>
+ *     <li>of the {@link de.edgelord.saltyengine.displaymanager.stage.Stage}: {@link #CAMERA_RENDER} (which contains the
+ *     drawing of the scene), {@link #STAGE_BLIT} and the whole {@link #FRAME}</li>
+ * </ul>
+ * The profiler is disabled by default. When it is disabled, measuring a phase costs a read of a volatile field.
+ * An overview of all phases can be drawn on top of the game using {@link #setOverlayEnabled(boolean)}.
+ * <p>
+ * Own phases can be measured like this:
+ * <pre>
+ *     {@code
+ *     final Profiler.Phase phase = Profiler.getPhase("pathfinding");
+ *     ...
+ *     final long start = Profiler.start();
+ *     findPath();
+ *     Profiler.end(phase, start);
+ *     }
+ * </pre>
+ */
+public class Profiler {
+
+    /**
+     * The number of samples per phase the statistics are computed from.
+     */
+    public static final int WINDOW_SIZE = 240;
+
+    private static final Map<String, Phase> phasesByName = new ConcurrentHashMap<>();
+    private static final List<Phase> phases = new CopyOnWriteArrayList<>();
+
+    public static final Phase TICK = getPhase("tick");
+    public static final Phase FIXED_TASKS = getPhase("tick/fixed tasks");
+    public static final Phase COLLISION = getPhase("tick/collision");
+    public static final Phase COMPONENTS = getPhase("tick/components");
+    public static final Phase GFX_TICK = getPhase("tick/gfx");
+    public static final Phase UI_TICK = getPhase("tick/ui");
+
+    public static final Phase FRAME = getPhase("frame");
+    public static final Phase CAMERA_RENDER = getPhase("frame/camera render");
+    public static final Phase DRAWING_ROUTINES = getPhase("frame/drawing routines");
+    public static final Phase LAYERS = getPhase("frame/layers");
+    public static final Phase LIGHT = getPhase("frame/light");
+    public static final Phase UI_DRAW = getPhase("frame/ui");
+    public static final Phase GFX_DRAW = getPhase("frame/gfx");
+    public static final Phase STAGE_BLIT = getPhase("frame/stage blit");
+
+    private static final Font OVERLAY_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 11);
+    private static final Color OVERLAY_BACKGROUND = new Color(0, 0, 0, 160);
+    private static final String OVERLAY_HEADER = String.format("%-28s %7s %7s %7s %7s %7s", "phase [ms]", "avg", "p50", "p95", "p99", "max");
+
+    /**
+     * How often the statistics shown by the {@link #drawOverlay(SaltyGraphics) overlay} are computed, in nanoseconds.
+     */
+    private static final long OVERLAY_REFRESH_INTERVAL = 250_000_000L;
+    private static final double[] OVERLAY_PERCENTILES = {50, 95, 99};
+
+    /**
+     * The lines of the overlay from the last refresh, only touched by the thread that draws the overlay.
+     */
+    private static String[] overlayLines = new String[0];
+    private static long overlayRefreshTime = 0L;
+    private static final long[] overlayPercentiles = new long[OVERLAY_PERCENTILES.length];
+
+    private static volatile boolean enabled = false;
+    private static volatile boolean overlayEnabled = false;
+
+    /**
+     * Returns the phase with the given name, creating it if it doesn't exist yet.
+     * The returned instance should be kept instead of calling this for every measurement.
+     *
+     * @param name the name of the phase
+     * @return the phase with the given name
+     */
+    public static Phase getPhase(final String name) {
+        Phase phase = phasesByName.get(name);
+
+        if (phase == null) {
+            synchronized (phases) {
+                phase = phasesByName.get(name);
+                if (phase == null) {
+                    phase = new Phase(name);
+                    phasesByName.put(name, phase);
+                    phases.add(phase);
+                }
+            }
+        }
+
+        return phase;
+    }
+
+    /**
+     * Creates a new phase with the given name that is not shared with other callers of this method or
+     * {@link #getPhase(String)}, even if they use the same name. This is used for phases that belong to an
+     * object and should be {@link #removePhase(Phase) removed} with it, like the collision phases of the layers.
+     *
+     * @param name the name of the phase
+     * @return a new phase with the given name
+     */
+    public static Phase createPhase(final String name) {
+        final Phase phase = new Phase(name);
+        phases.add(phase);
+
+        return phase;
+    }
+
+    /**
+     * Removes the given phase, so that it is no longer listed by {@link #getPhases()} and the overlay.
+     * Measuring it afterwards is still possible, but the samples are not shown anymore.
+     *
+     * @param phase the phase to remove
+     */
+    public static void removePhase(final Phase phase) {
+        synchronized (phases) {
+            phasesByName.remove(phase.getName(), phase);
+            phases.remove(phase);
+        }
+    }
+
+    /**
+     * Returns all phases in the order they were created.
+     *
+     * @return an unmodifiable list of all phases
+     */
+    public static List<Phase> getPhases() {
+        return Collections.unmodifiableList(phases);
+    }
+
+    /**
+     * Returns the start time for a measurement, or <code>0</code> if the profiler is disabled,
+     * in which case the matching {@link #end(Phase, long)} or {@link #accumulate(Phase, long)} does nothing.
+     *
+     * @return the current {@link System#nanoTime()} or <code>0</code>
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records the time since the given start as a sample of the given phase, together with everything
+     * {@link #accumulate(Phase, long) accumulated} for it since the last sample.
+     *
+     * @param phase the phase to record
+     * @param start the value returned by {@link #start()}
+     */
+    public static void end(final Phase phase, final long start) {
+        if (start != 0L) {
+            phase.add(phase.pending + System.nanoTime() - start);
+            phase.pending = 0L;
+        }
+    }
+
+    /**
+     * Adds the time since the given start to the given phase without recording a sample yet.
+     * This is used for phases that are measured in several parts, like the collision detection of every
+     * <code>GameObject</code>. The sum is recorded with the next {@link #commit(Phase)}.
+     *
+     * @param phase the phase to add the time to
+     * @param start the value returned by {@link #start()}
+     */
+    public static void accumulate(final Phase phase, final long start) {
+        if (start != 0L) {
+            phase.pending += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Records everything {@link #accumulate(Phase, long) accumulated} for the given phase as one sample.
+     *
+     * @param phase the phase to record
+     */
+    public static void commit(final Phase phase) {
+        if (enabled) {
+            phase.add(phase.pending);
+            phase.pending = 0L;
+        }
+    }
+
+    /**
+     * Removes all samples of all phases.
+     */
+    public static void reset() {
+        for (final Phase phase : phases) {
+            phase.reset();
+        }
+    }
+
+    /**
+     * Draws the statistics of all phases that have samples, in milliseconds, to the top left corner of the given graphics.
+     * The statistics are computed again every {@link #OVERLAY_REFRESH_INTERVAL} nanoseconds, in between the same
+     * lines are drawn.
+     *
+     * @param saltyGraphics the graphics to draw to
+     */
+    public static void drawOverlay(final SaltyGraphics saltyGraphics) {
+        final long now = System.nanoTime();
+        if (now - overlayRefreshTime >= OVERLAY_REFRESH_INTERVAL) {
+            refreshOverlay();
+            overlayRefreshTime = now;
+        }
+
+        saltyGraphics.setFont(OVERLAY_FONT);
+
+        final FontMetrics metrics = saltyGraphics.getFontMetrics();
+        final float lineHeight = metrics.getHeight();
+        final float y = 14f;
+        final String[] lines = overlayLines;
+
+        saltyGraphics.setColor(OVERLAY_BACKGROUND);
+        saltyGraphics.drawRect(0f, y, metrics.stringWidth(OVERLAY_HEADER) + 45f, (lines.length + 1) * lineHeight + 4f);
+        saltyGraphics.setColor(Color.WHITE);
+        saltyGraphics.drawText(OVERLAY_HEADER, 2f, y + 2f, SaltyGraphics.TextAnchor.TOP_LEFT_CORNER);
+
+        for (int i = 0; i < lines.length; i++) {
+            saltyGraphics.drawText(lines[i], 2f, y + 2f + (i + 1) * lineHeight, SaltyGraphics.TextAnchor.TOP_LEFT_CORNER);
+        }
+    }
+
+    /**
+     * Computes the {@link #overlayLines} from the current samples of all phases that have samples,
+     * sorting the samples of every phase once for all percentiles.
+     */
+    private static void refreshOverlay() {
+        final List<String> lines = new ArrayList<>(phases.size());
+
+        for (final Phase phase : phases) {
+            if (phase.getSampleCount() > 0) {
+                phase.getPercentiles(OVERLAY_PERCENTILES, overlayPercentiles);
+                lines.add(formatLine(phase.getName(), phase.getAverage(), overlayPercentiles[0], overlayPercentiles[1], overlayPercentiles[2], phase.getMax()));
+            }
+        }
+
+        overlayLines = lines.toArray(new String[0]);
+    }
+
+    private static String formatLine(final String name, final double average, final long p50, final long p95, final long p99, final long max) {
+        return String.format("%-28s %7.3f %7.3f %7.3f %7.3f %7.3f", name, average / 1_000_000d, p50 / 1_000_000d, p95 / 1_000_000d, p99 / 1_000_000d, max / 1_000_000d);
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables the profiler. Enabling it discards the samples from before.
+     *
+     * @param enabled whether the profiler should measure the phases
+     */
+    public static void setEnabled(final boolean enabled) {
+        if (enabled && !Profiler.enabled) {
+            reset();
+        }
+        Profiler.enabled = enabled;
+    }
+
+    public static boolean isOverlayEnabled() {
+        return overlayEnabled;
+    }
+
+    /**
+     * Sets whether the {@link #drawOverlay(SaltyGraphics) overlay} is drawn by the stage.
+     * Enabling the overlay also enables the profiler.
+     *
+     * @param overlayEnabled whether the overlay should be drawn
+     */
+    public static void setOverlayEnabled(final boolean overlayEnabled) {
+        if (overlayEnabled) {
+            setEnabled(true);
+        }
+        Profiler.overlayEnabled = overlayEnabled;
+    }
+
+    /**
+     * A measured phase, keeping the last {@link #WINDOW_SIZE} samples in a ring buffer.
+     */
+    public static class Phase {
+
+        private final String name;
+        private final long[] samples = new long[WINDOW_SIZE];
+
+        /**
+         * A reused copy of the {@link #samples} for computing percentiles.
+         */
+        private final long[] sorted = new long[WINDOW_SIZE];
+
+        private int next = 0;
+        private int count = 0;
+
+        /**
+         * The time accumulated since the last sample, only touched by the thread measuring this phase.
+         */
+        private long pending = 0L;
+
+        private Phase(final String name) {
+            this.name = name;
+        }
+
+        private synchronized void add(final long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % WINDOW_SIZE;
+
+            if (count < WINDOW_SIZE) {
+                count++;
+            }
+        }
+
+        private synchronized void reset() {
+            next = 0;
+            count = 0;
+            pending = 0L;
+        }
+
+        /**
+         * Returns the given percentile of the samples in nanoseconds, using the nearest-rank method.
+         *
+         * @param percentile the percentile, between <code>0</code> and <code>100</code>
+         * @return the given percentile or <code>0</code> if there are no samples
+         */
+        public synchronized long getPercentile(final double percentile) {
+            if (count == 0) {
+                return 0L;
+            }
+
+            sortSamples();
+            return rank(percentile);
+        }
+
+        /**
+         * Writes the given percentiles of the samples in nanoseconds into the given array, sorting the samples only once.
+         * The percentiles are <code>0</code> if there are no samples.
+         *
+         * @param percentiles the percentiles, each between <code>0</code> and <code>100</code>
+         * @param out         the array to write the percentiles to, at least as long as <code>percentiles</code>
+         */
+        public synchronized void getPercentiles(final double[] percentiles, final long[] out) {
+            if (count == 0) {
+                Arrays.fill(out, 0, percentiles.length, 0L);
+                return;
+            }
+
+            sortSamples();
+            for (int i = 0; i < percentiles.length; i++) {
+                out[i] = rank(percentiles[i]);
+            }
+        }
+
+        private void sortSamples() {
+            System.arraycopy(samples, 0, sorted, 0, count);
+            Arrays.sort(sorted, 0, count);
+        }
+
+        /**
+         * Returns the given percentile of the {@link #sorted} samples, using the nearest-rank method.
+         */
+        private long rank(final double percentile) {
+            final int rank = (int) Math.ceil(percentile / 100d * count);
+            return sorted[Math.min(Math.max(rank, 1), count) - 1];
+        }
+
+        /**
+         * Returns the average of the samples in nanoseconds.
+         *
+         * @return the average or <code>0</code> if there are no samples
+         */
+        public synchronized double getAverage() {
+            if (count == 0) {
+                return 0d;
+            }
+
+            long sum = 0L;
+            for (int i = 0; i < count; i++) {
+                sum += samples[i];
+            }
+
+            return sum / (double) count;
+        }
+
+        /**
+         * Returns the longest sample in nanoseconds.
+         *
+         * @return the maximum or <code>0</code> if there are no samples
+         */
+        public synchronized long getMax() {
+            long max = 0L;
+            for (int i = 0; i < count; i++) {
+                max = Math.max(max, samples[i]);
+            }
+
+            return max;
+        }
+
+        /**
+         * Returns the most recent sample in nanoseconds.
+         *
+         * @return the last sample or <code>0</code> if there are no samples
+         */
+        public synchronized long getLast() {
+            return count == 0 ? 0L : samples[(next + WINDOW_SIZE - 1) % WINDOW_SIZE];
+        }
+
+        public synchronized int getSampleCount() {
+            return count;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            return name + "{avg=" + getAverage() + "ns, p50=" + getPercentile(50) + "ns, p95=" + getPercentile(95) + "ns, p99=" + getPercentile(99) + "ns, max=" + getMax() + "ns}";
+        }
+    }
+}
@@ -20,6 +20,7 @@ import de.edgelord.saltyengine.components.rendering.PrimitiveRenderComponent;
 import de.edgelord.saltyengine.core.SceneManager;
 import de.edgelord.saltyengine.effect.image.SaltyBufferedImage;
 import de.edgelord.saltyengine.effect.image.SaltyImage;
+import de.edgelord.saltyengine.effect.image.SaltyManagedImage;
 import de.edgelord.saltyengine.effect.image.SaltyVolatileImage;
 import de.edgelord.saltyengine.factory.FontFactory;
 import de.edgelord.saltyengine.factory.ImageFactory;
@@ -100,6 +101,8 @@ public class SaltySystem {
                 return new SaltyBufferedImage(imageWidth, imageHeight);
             case VOLATILE:
                 return new SaltyVolatileImage(width, height);
+            case MANAGED:
+                return new SaltyManagedImage(imageWidth, imageHeight);
         }
 
         return null;
@@ -111,6 +114,8 @@ public class SaltySystem {
                 return new SaltyBufferedImage(path);
             case VOLATILE:
                 return new SaltyVolatileImage(path);
+            case MANAGED:
+                return new SaltyManagedImage(path);
         }
 
         return null;
@@ -122,6 +127,8 @@ public class SaltySystem {
                 return new SaltyBufferedImage(source);
             case VOLATILE:
                 return new SaltyVolatileImage(source);
+            case MANAGED:
+                return new SaltyManagedImage(source);
         }
 
         return null;
@@ -133,6 +140,8 @@ public class SaltySystem {
                 return new SaltyBufferedImage(source);
             case VOLATILE:
                 return new SaltyVolatileImage(source);
+            case MANAGED:
+                return new SaltyManagedImage(source);
         }
 
         return null;
@@ -162,6 +171,13 @@ public class SaltySystem {
          * A {@link de.edgelord.saltyengine.effect.image.SaltyVolatileImage volatile image} should be used <br>
          * While volatile images can potentially be a lot faster, they are volatile and therefore can be unloaded at any time.
          */
-        VOLATILE
+        VOLATILE,
+
+        /**
+         * A {@link de.edgelord.saltyengine.effect.image.SaltyManagedImage managed image} should be used. <br>
+         * Managed images are drawn from video memory like volatile images, but keep a copy in system memory
+         * to restore their content and are limited by the {@link de.edgelord.saltyengine.effect.image.VideoMemoryBudget}.
+         */
+        MANAGED
     }
 }
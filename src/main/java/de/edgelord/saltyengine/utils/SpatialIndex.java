@@ -0,0 +1,412 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.edgelord.saltyengine.utils;
+
+import de.edgelord.saltyengine.transform.Transform;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A z-ordered spatial index for hit testing, based on a hashed uniform grid.
+ * <p>
+ * Every item is stored with a copy of its bounds and an order (e.g. its index in the list it is drawn from)
+ * in the buckets of all grid cells it overlaps. A point query therefore only tests the items of one bucket
+ * instead of all items. Items that span more than {@link #MAX_CELLS_PER_ITEM} cells are kept in a separate list
+ * that is tested on every query.
+ * <p>
+ * Because a {@link Transform} doesn't notify about changes, the owner of an index refreshes it before querying it
+ * whenever the items might have moved, using {@link #beginUpdate()}, {@link #update(Object, int, Transform)}
+ * for every item and {@link #endUpdate()}.
+ * Only items whose bounds changed are moved within the grid; items that weren't updated are removed.
+ * {@link #endUpdate()} reports whether anything changed, so that the owner only has to query the index again
+ * if either the items or the queried point moved.
+ * <p>
+ * The hit test matches the one of {@link Transform#contains(Transform)} with a <code>1x1</code> cursor.
+ * This class is not thread-safe, it is meant to be used on the fixed tick thread only.
+ *
+ * @param <T> the type of the indexed items
+ */
+public class SpatialIndex<T> {
+
+    /**
+     * The default width and height of a grid cell.
+     */
+    public static final float DEFAULT_CELL_SIZE = 64f;
+
+    /**
+     * The maximum number of cells an item is stored in before it is tested on every query instead.
+     */
+    public static final int MAX_CELLS_PER_ITEM = 64;
+
+    private static final int BUCKET_COUNT = 4096;
+    private static final int BUCKET_MASK = BUCKET_COUNT - 1;
+
+    private static final Comparator<Entry<?>> ORDER_SORTER = Comparator.comparingInt(entry -> entry.order);
+
+    private final float cellSize;
+
+    private final Map<T, Entry<T>> entries = new IdentityHashMap<>();
+
+    private final List<Entry<T>>[] buckets = createBuckets();
+
+    /**
+     * The items that span too many cells to be stored in the {@link #buckets}.
+     */
+    private final List<Entry<T>> largeEntries = new ArrayList<>();
+
+    /**
+     * The hits of the last query, reused to not allocate per query.
+     */
+    private final List<Entry<T>> hits = new ArrayList<>();
+
+    /**
+     * The stamp of the current {@link #beginUpdate() update}, used to find the items that weren't updated.
+     */
+    private int stamp = 0;
+
+    private int updatedCount = 0;
+
+    /**
+     * Whether an item was added or its bounds or order changed since the last {@link #beginUpdate()}.
+     */
+    private boolean changed = false;
+
+    /**
+     * The constructor.
+     *
+     * @param cellSize the width and height of a grid cell
+     */
+    public SpatialIndex(final float cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * A constructor that uses the {@link #DEFAULT_CELL_SIZE}.
+     */
+    public SpatialIndex() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<Entry<T>>[] createBuckets() {
+        return (List<Entry<T>>[]) new List<?>[BUCKET_COUNT];
+    }
+
+    /**
+     * Starts a refresh of all items.
+     */
+    public void beginUpdate() {
+        stamp++;
+        updatedCount = 0;
+        changed = false;
+    }
+
+    /**
+     * Adds the given item or updates its bounds and order.
+     *
+     * @param item   the item
+     * @param order  the z-order of the item, items with a higher order are above those with a lower one
+     * @param bounds the current bounds of the item
+     * @return <code>true</code> if the item was added or its bounds or order changed
+     */
+    public boolean update(final T item, final int order, final Transform bounds) {
+        return update(item, order, bounds.getX(), bounds.getY(), bounds.getWidth(), bounds.getHeight());
+    }
+
+    /**
+     * Adds the given item or updates its bounds and order.
+     *
+     * @param item   the item
+     * @param order  the z-order of the item, items with a higher order are above those with a lower one
+     * @param x      the x position of the item
+     * @param y      the y position of the item
+     * @param width  the width of the item
+     * @param height the height of the item
+     * @return <code>true</code> if the item was added or its bounds or order changed
+     */
+    public boolean update(final T item, final int order, final float x, final float y, final float width, final float height) {
+        Entry<T> entry = entries.get(item);
+
+        if (entry == null) {
+            entry = new Entry<>(item);
+            entries.put(item, entry);
+        } else if (entry.x == x && entry.y == y && entry.width == width && entry.height == height) {
+            final boolean reordered = entry.order != order;
+            entry.order = order;
+            changed |= reordered;
+            markUpdated(entry);
+            return reordered;
+        } else {
+            unlink(entry);
+        }
+
+        entry.order = order;
+        entry.x = x;
+        entry.y = y;
+        entry.width = width;
+        entry.height = height;
+        link(entry);
+        markUpdated(entry);
+        changed = true;
+
+        return true;
+    }
+
+    private void markUpdated(final Entry<T> entry) {
+        if (entry.stamp != stamp) {
+            entry.stamp = stamp;
+            updatedCount++;
+        }
+    }
+
+    /**
+     * Finishes a refresh that was started with {@link #beginUpdate()} by removing all items
+     * that weren't updated since.
+     *
+     * @return <code>true</code> if any item was added, moved, reordered or removed since {@link #beginUpdate()},
+     * i.e. if a query might return something else than before
+     */
+    public boolean endUpdate() {
+        if (updatedCount == entries.size()) {
+            return changed;
+        }
+
+        entries.values().removeIf(entry -> {
+            if (entry.stamp != stamp) {
+                unlink(entry);
+                return true;
+            }
+            return false;
+        });
+
+        return true;
+    }
+
+    /**
+     * Removes the given item.
+     *
+     * @param item the item to remove
+     * @return <code>true</code> if the item was indexed
+     */
+    public boolean remove(final T item) {
+        final Entry<T> entry = entries.remove(item);
+
+        if (entry == null) {
+            return false;
+        }
+
+        unlink(entry);
+        return true;
+    }
+
+    /**
+     * Removes all items.
+     */
+    public void clear() {
+        for (final List<Entry<T>> bucket : buckets) {
+            if (bucket != null) {
+                bucket.clear();
+            }
+        }
+        largeEntries.clear();
+        entries.clear();
+    }
+
+    /**
+     * Returns whether the given item is indexed.
+     *
+     * @param item the item
+     * @return whether the item is indexed
+     */
+    public boolean contains(final T item) {
+        return entries.containsKey(item);
+    }
+
+    /**
+     * Returns the number of indexed items.
+     *
+     * @return the number of items
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Fills the given list with all items that contain the given point, ordered from the lowest to the highest order.
+     * The list is cleared first.
+     *
+     * @param x      the x position of the point
+     * @param y      the y position of the point
+     * @param result the list to fill
+     */
+    public void query(final float x, final float y, final List<T> result) {
+        result.clear();
+        collectHits(x, y);
+
+        for (int i = 0; i < hits.size(); i++) {
+            result.add(hits.get(i).item);
+        }
+        hits.clear();
+    }
+
+    /**
+     * Returns the item with the highest order that contains the given point.
+     *
+     * @param x the x position of the point
+     * @param y the y position of the point
+     * @return the topmost item at the point or <code>null</code> if there is none
+     */
+    public T getTopmost(final float x, final float y) {
+        collectHits(x, y);
+        final T topmost = hits.isEmpty() ? null : hits.get(hits.size() - 1).item;
+        hits.clear();
+
+        return topmost;
+    }
+
+    private void collectHits(final float x, final float y) {
+        hits.clear();
+
+        final List<Entry<T>> bucket = buckets[bucketIndex(cell(x), cell(y))];
+        if (bucket != null) {
+            for (int i = 0; i < bucket.size(); i++) {
+                final Entry<T> entry = bucket.get(i);
+                if (entry.contains(x, y)) {
+                    hits.add(entry);
+                }
+            }
+        }
+
+        for (int i = 0; i < largeEntries.size(); i++) {
+            final Entry<T> entry = largeEntries.get(i);
+            if (entry.contains(x, y)) {
+                hits.add(entry);
+            }
+        }
+
+        if (hits.size() > 1) {
+            hits.sort(ORDER_SORTER);
+        }
+    }
+
+    private void link(final Entry<T> entry) {
+        final int minX = cell(entry.x);
+        final int minY = cell(entry.y);
+        final int maxX = cell(entry.x + entry.width);
+        final int maxY = cell(entry.y + entry.height);
+
+        if (entry.width <= 0 || entry.height <= 0) {
+            // empty bounds never contain a point
+            entry.large = false;
+            entry.linked = false;
+            return;
+        }
+
+        entry.linked = true;
+        if ((long) (maxX - minX + 1) * (maxY - minY + 1) > MAX_CELLS_PER_ITEM) {
+            entry.large = true;
+            largeEntries.add(entry);
+            return;
+        }
+
+        entry.large = false;
+        for (int cellX = minX; cellX <= maxX; cellX++) {
+            for (int cellY = minY; cellY <= maxY; cellY++) {
+                final int index = bucketIndex(cellX, cellY);
+                List<Entry<T>> bucket = buckets[index];
+
+                if (bucket == null) {
+                    bucket = new ArrayList<>();
+                    buckets[index] = bucket;
+                }
+
+                // different cells may share a bucket
+                if (!bucket.contains(entry)) {
+                    bucket.add(entry);
+                }
+            }
+        }
+    }
+
+    private void unlink(final Entry<T> entry) {
+        if (!entry.linked) {
+            return;
+        }
+
+        entry.linked = false;
+        if (entry.large) {
+            largeEntries.remove(entry);
+            return;
+        }
+
+        final int minX = cell(entry.x);
+        final int minY = cell(entry.y);
+        final int maxX = cell(entry.x + entry.width);
+        final int maxY = cell(entry.y + entry.height);
+
+        for (int cellX = minX; cellX <= maxX; cellX++) {
+            for (int cellY = minY; cellY <= maxY; cellY++) {
+                final List<Entry<T>> bucket = buckets[bucketIndex(cellX, cellY)];
+                if (bucket != null) {
+                    bucket.remove(entry);
+                }
+            }
+        }
+    }
+
+    private int cell(final float coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static int bucketIndex(final int cellX, final int cellY) {
+        return ((cellX * 73856093) ^ (cellY * 19349663)) & BUCKET_MASK;
+    }
+
+    /**
+     * An indexed item with a copy of the bounds it is stored with.
+     *
+     * @param <T> the type of the item
+     */
+    private static final class Entry<T> {
+
+        private final T item;
+        private int order;
+        private float x;
+        private float y;
+        private float width;
+        private float height;
+        private int stamp;
+        private boolean linked = false;
+        private boolean large = false;
+
+        private Entry(final T item) {
+            this.item = item;
+        }
+
+        /**
+         * Returns whether these bounds contain a <code>1x1</code> rectangle at the given point,
+         * exactly like {@link java.awt.geom.Rectangle2D#contains(double, double, double, double)}.
+         */
+        private boolean contains(final float pointX, final float pointY) {
+            return pointX >= x && pointY >= y && (double) pointX + 1 <= (double) x + width && (double) pointY + 1 <= (double) y + height;
+        }
+    }
+}
@@ -62,19 +62,19 @@ public class TransformRelationUtil {
 
                 break;
             case CENTRE_X:
-                final float centreX = superTransform.getCentre().getX();
+                final float centreX = superTransform.getCentreX();
 
                 for (final Transform transform : transforms) {
-                    transform.positionByCentre(new Vector2f(centreX, transform.getCentre().getY()));
+                    transform.positionByCentre(centreX, transform.getCentreY());
                 }
 
                 break;
             case CENTRE_Y:
 
-                final float centreY = superTransform.getCentre().getY();
+                final float centreY = superTransform.getCentreY();
 
                 for (final Transform transform : transforms) {
-                    transform.positionByCentre(new Vector2f(transform.getCentre().getX(), centreY));
+                    transform.positionByCentre(transform.getCentreX(), centreY);
                 }
 
                 break;
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package testing.allocation;
+
+import de.edgelord.saltyengine.core.Game;
+import de.edgelord.saltyengine.core.GameConfig;
+import de.edgelord.saltyengine.core.SceneManager;
+
+/**
+ * Measures the bytes allocated per fixed tick and per frame in a scene with many moving and colliding
+ * <code>GameObject</code>s, to check that the hot paths of the engine don't allocate.
+ * <p>
+ * The number of <code>GameObject</code>s can be passed as the first argument and defaults to 200.
+ * Run it with <code>-XX:-DoEscapeAnalysis</code> to also see the allocations that the JIT would otherwise remove.
+ */
+public class AllocationBenchmarkMain extends Game {
+
+    public static void main(String[] args) {
+        int gameObjectCount = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+
+        init(GameConfig.config(1280, 720, "Allocation Benchmark", 1));
+        start(60);
+
+        SceneManager.setCurrentScene(new AllocationBenchmarkScene(gameObjectCount));
+    }
+}
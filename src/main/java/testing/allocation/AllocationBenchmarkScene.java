@@ -0,0 +1,70 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package testing.allocation;
+
+import de.edgelord.saltyengine.core.Game;
+import de.edgelord.saltyengine.core.graphics.SaltyGraphics;
+import de.edgelord.saltyengine.gameobject.DrawingRoutine;
+import de.edgelord.saltyengine.gameobject.FixedTask;
+import de.edgelord.saltyengine.scene.Scene;
+
+import java.util.Random;
+
+/**
+ * A <code>Scene</code> with many moving and colliding <code>GameObject</code>s that prints how many bytes
+ * the fixed tick thread allocates per tick and the rendering thread per frame.
+ */
+public class AllocationBenchmarkScene extends Scene {
+
+    private final int gameObjectCount;
+
+    public AllocationBenchmarkScene(int gameObjectCount) {
+        this.gameObjectCount = gameObjectCount;
+    }
+
+    @Override
+    public void initialize() {
+        // a fixed seed, so that every run measures the same scene
+        Random random = new Random(42);
+
+        for (int i = 0; i < gameObjectCount; i++) {
+            float size = 10 + random.nextFloat() * 30;
+            float x = random.nextFloat() * (Game.getGameWidth() - size);
+            float y = random.nextFloat() * (Game.getGameHeight() - size);
+            float speedX = random.nextFloat() * 4 - 2;
+            float speedY = random.nextFloat() * 4 - 2;
+
+            addGameObject(new BouncingGameObject(x, y, size, speedX, speedY, i % 2 == 0));
+        }
+
+        AllocationMeter tickMeter = new AllocationMeter("tick", 1000);
+        addFixedTask(new FixedTask() {
+            @Override
+            public void onFixedTick() {
+                tickMeter.sample();
+            }
+        });
+
+        AllocationMeter frameMeter = new AllocationMeter("frame", 120);
+        addDrawingRoutine(new DrawingRoutine(DrawingRoutine.DrawingPosition.LAST) {
+            @Override
+            public void draw(SaltyGraphics saltyGraphics) {
+                frameMeter.sample();
+            }
+        });
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package testing.allocation;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measures the bytes allocated by the thread that calls {@link #sample()} between two calls,
+ * using the allocation counter of HotSpot's <code>com.sun.management.ThreadMXBean</code>.
+ * After every {@link #window} samples, the average number of bytes per sample is printed.
+ */
+public class AllocationMeter {
+
+    private final String name;
+    private final int window;
+    private final com.sun.management.ThreadMXBean threadMXBean;
+
+    private long lastBytes = -1;
+    private long bytesInWindow = 0;
+    private int samples = 0;
+
+    public AllocationMeter(String name, int window) {
+        this.name = name;
+        this.window = window;
+
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            threadMXBean = (com.sun.management.ThreadMXBean) bean;
+            threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            threadMXBean = null;
+            System.out.println("[WARNING] This JVM can't measure allocated bytes per thread, the " + name + " allocations are not measured");
+        }
+    }
+
+    /**
+     * Adds the bytes allocated by the current thread since the last call to the current window.
+     */
+    public void sample() {
+        if (threadMXBean == null) {
+            return;
+        }
+
+        long bytes = threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+
+        if (lastBytes != -1) {
+            bytesInWindow += bytes - lastBytes;
+            samples++;
+
+            if (samples == window) {
+                System.out.println("[allocation] " + name + ": " + bytesInWindow / samples + " bytes per " + name);
+                bytesInWindow = 0;
+                samples = 0;
+            }
+        }
+
+        // read the counter again to exclude the bytes allocated for the output
+        lastBytes = threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
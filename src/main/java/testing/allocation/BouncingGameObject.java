@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 Malte Dostal
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package testing.allocation;
+
+import de.edgelord.saltyengine.collision.collider.CircleCollider;
+import de.edgelord.saltyengine.core.Game;
+import de.edgelord.saltyengine.core.event.CollisionEvent;
+import de.edgelord.saltyengine.core.graphics.SaltyGraphics;
+import de.edgelord.saltyengine.gameobject.GameObject;
+import de.edgelord.saltyengine.utils.ColorUtil;
+
+/**
+ * A <code>GameObject</code> that moves with a constant speed and bounces off the borders of the game,
+ * drawn red while it collides with another one.
+ */
+public class BouncingGameObject extends GameObject {
+
+    private final boolean circle;
+    private float speedX;
+    private float speedY;
+
+    public BouncingGameObject(float xPos, float yPos, float size, float speedX, float speedY, boolean circle) {
+        super(xPos, yPos, size, size, "bouncing-game-object");
+
+        this.circle = circle;
+        this.speedX = speedX;
+        this.speedY = speedY;
+
+        if (circle) {
+            setCollider(new CircleCollider(getTransform()));
+        }
+    }
+
+    @Override
+    public void initialize() {
+
+    }
+
+    @Override
+    public void onCollision(CollisionEvent event) {
+
+    }
+
+    @Override
+    public void onFixedTick() {
+        if (getX() + speedX < 0 || getX() + getWidth() + speedX > Game.getGameWidth()) {
+            speedX = -speedX;
+        }
+        if (getY() + speedY < 0 || getY() + getHeight() + speedY > Game.getGameHeight()) {
+            speedY = -speedY;
+        }
+
+        getTransform().setX(getX() + speedX);
+        getTransform().setY(getY() + speedY);
+    }
+
+    @Override
+    public void draw(SaltyGraphics saltyGraphics) {
+        saltyGraphics.setColor(getCollisions().isEmpty() ? ColorUtil.ACTIVE_GREEN : ColorUtil.FIREBRICK_RED);
+
+        if (circle) {
+            saltyGraphics.drawOval(this);
+        } else {
+            saltyGraphics.drawRect(this);
+        }
+    }
+}